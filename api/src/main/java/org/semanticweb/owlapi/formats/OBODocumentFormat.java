@@ -25,6 +25,13 @@ public class OBODocumentFormat extends OWLDocumentFormatImpl {
      * Boolean.FALSE. No parameter is interpreted as TRUE.
      */
     public static final String VALIDATION = "obo.validation";
+    /**
+     * Key for streaming parameter. Currently supports Boolean.TRUE and
+     * Boolean.FALSE. No parameter is interpreted as FALSE. If TRUE, term
+     * frames are translated and written in batches, and are never all held
+     * in memory; translation takes about twice as long.
+     */
+    public static final String STREAMING = "obo.streaming";
 
     @Override
     public String getKey() {
@@ -8,6 +8,16 @@ import org.semanticweb.owlapi.model.OWLDocumentFormat;
  */
 public interface RDFDocumentFormat extends OWLDocumentFormat {
 
+    /**
+     * Key for streaming parameter. Currently supports Boolean.TRUE and Boolean.FALSE. No parameter
+     * is interpreted as FALSE. If TRUE, entities and general axioms are written in the order the
+     * ontology returns them rather than sorted, and the renderer only keeps the state of the entity
+     * being written; an axiom reachable from more than one entity, or the type of an undeclared
+     * entity, may then be written more than once, which does not change the ontology that is read
+     * back.
+     */
+    String STREAMING = "rdf.streaming";
+
     /**
      * @param error error to add to the error set
      */
@@ -0,0 +1,90 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.io;
+
+import java.util.Arrays;
+
+/**
+ * Compact codes for the kinds of OWL objects written by {@link BinaryOWLObjectWriter}. The code of
+ * an object is the position of its type index in a dense table, so that a code fits in one byte.
+ */
+public final class BinaryOWLObjectCodes {
+
+    /** Type index of every object kind, in code order; the code of an object is its position. */
+    private static final int[] TYPES = {
+        // IRI
+        0,
+        // entities and property expressions
+        1001, 1002, 1003, 1004, 1005, 1006, 1007,
+        // axioms
+        2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2012, 2013, 2014,
+        2015, 2016, 2017, 2018, 2019, 2020, 2021, 2022, 2023, 2024, 2025, 2026, 2027, 2028, 2029,
+        2030, 2031, 2032, 2033, 2034, 2035, 2036, 2037, 2038,
+        // class expressions
+        3001, 3002, 3003, 3004, 3005, 3006, 3007, 3008, 3009, 3010, 3011, 3012, 3013, 3014, 3015,
+        3016, 3017,
+        // data ranges, facet restrictions and literals
+        4001, 4002, 4003, 4004, 4005, 4006, 4007, 4008,
+        // annotations
+        5001,
+        // SWRL atoms and arguments
+        6001, 6002, 6003, 6004, 6005, 6006, 6007, 6008, 6009, 6010};
+    private static final int[] CODES = new int[TYPES[TYPES.length - 1] + 1];
+    static {
+        Arrays.fill(CODES, -1);
+        for (int i = 0; i < TYPES.length; i++) {
+            CODES[TYPES[i]] = i;
+        }
+    }
+
+    private BinaryOWLObjectCodes() {}
+
+    /**
+     * @return number of codes
+     */
+    public static int size() {
+        return TYPES.length;
+    }
+
+    /**
+     * @param typeIndex type index of an object, as in {@code OWLObject::typeIndex}
+     * @return code of the object type
+     */
+    public static int code(int typeIndex) {
+        int code = typeIndex >= 0 && typeIndex < CODES.length ? CODES[typeIndex] : -1;
+        if (code < 0) {
+            throw new IllegalArgumentException("No binary code for type index " + typeIndex);
+        }
+        return code;
+    }
+
+    /**
+     * @param code number read as the code of an object type
+     * @return true if the number is the code of an object type
+     */
+    public static boolean isCode(int code) {
+        return code >= 0 && code < TYPES.length;
+    }
+
+    /**
+     * @param code code of an object type
+     * @return type index of the object type
+     * @throws OWLParserException if the code is unknown
+     */
+    public static int typeIndex(int code) {
+        if (code < 0 || code >= TYPES.length) {
+            throw new OWLParserException("Unknown object code: " + code);
+        }
+        return TYPES[code];
+    }
+}
@@ -0,0 +1,549 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAnnotationValue;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataPropertyExpression;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLFacetRestriction;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLPropertyExpression;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLDArgument;
+import org.semanticweb.owlapi.model.SWRLIArgument;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+/**
+ * Decodes OWL objects written by {@link BinaryOWLObjectWriter}. Subclasses provide the bytes and
+ * the dictionary; objects are built with the data factory. Malformed data, such as unknown codes,
+ * negative lengths or objects of the wrong kind, is reported with an {@link OWLParserException}
+ * built by {@link #error(String)}.
+ */
+public abstract class BinaryOWLObjectReader {
+
+    // lists are not presized beyond this, so that a corrupted length cannot exhaust memory
+    private static final int MAX_PRESIZE = 1024;
+    protected final OWLDataFactory df;
+
+    /**
+     * @param df data factory to build objects with
+     */
+    protected BinaryOWLObjectReader(OWLDataFactory df) {
+        this.df = df;
+    }
+
+    /**
+     * @return the next byte, as an unsigned value
+     * @throws IOException if no more bytes can be read
+     */
+    protected abstract int readByte() throws IOException;
+
+    /**
+     * @param id string id
+     * @return the string with the id
+     * @throws IOException if the dictionary cannot be read
+     */
+    protected abstract String string(int id) throws IOException;
+
+    /**
+     * @param id IRI id
+     * @return the IRI with the id
+     * @throws IOException if the dictionary cannot be read
+     */
+    protected abstract IRI iri(int id) throws IOException;
+
+    /**
+     * @param typeIndex type index of the entity
+     * @param type entity type
+     * @param iri IRI id of the entity
+     * @return the entity; subclasses can override this to reuse instances
+     * @throws IOException if the dictionary cannot be read
+     */
+    protected OWLEntity entity(int typeIndex, EntityType<?> type, int iri) throws IOException {
+        return df.getOWLEntity(type, iri(iri));
+    }
+
+    /**
+     * @param id node id
+     * @return the anonymous individual; subclasses can override this to remap node ids
+     */
+    protected OWLAnonymousIndividual anonymousIndividual(String id) {
+        return df.getOWLAnonymousIndividual(id);
+    }
+
+    /**
+     * @param message description of the problem
+     * @return exception to throw for malformed data; subclasses can override this to add the
+     *         position of the problem
+     */
+    protected OWLParserException error(String message) {
+        return new OWLParserException(message);
+    }
+
+    /**
+     * @return the next number
+     * @throws IOException if the bytes cannot be read
+     */
+    public int varint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw error("Malformed number in binary data");
+    }
+
+    /**
+     * @param what what the number is, for error messages
+     * @return the next number, checked not to be negative
+     * @throws IOException if the bytes cannot be read
+     */
+    public int length(String what) throws IOException {
+        int value = varint();
+        if (value < 0) {
+            throw error("Negative " + what + " in binary data: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * @param type type of the objects
+     * @param <T> type of the objects
+     * @return the objects of a list
+     * @throws IOException if the bytes cannot be read
+     */
+    public <T> List<T> list(Class<T> type) throws IOException {
+        int size = length("list length");
+        List<T> list = new ArrayList<>(Math.min(size, MAX_PRESIZE));
+        for (int i = 0; i < size; i++) {
+            list.add(object(type));
+        }
+        return list;
+    }
+
+    /**
+     * @param type type of the object
+     * @param <T> type of the object
+     * @return the next object, read with its code
+     * @throws IOException if the bytes cannot be read
+     */
+    public <T> T object(Class<T> type) throws IOException {
+        int code = varint();
+        if (!BinaryOWLObjectCodes.isCode(code)) {
+            throw error("Unknown object code in binary data: " + code);
+        }
+        OWLObject o = build(BinaryOWLObjectCodes.typeIndex(code));
+        if (!type.isInstance(o)) {
+            throw error("Expected " + type.getSimpleName() + " in binary data, found " + o);
+        }
+        return type.cast(o);
+    }
+
+    /**
+     * @param axiomType index of the axiom type, as in {@code AxiomType::getIndex}
+     * @return an axiom of the type, written without its code
+     * @throws IOException if the bytes cannot be read
+     */
+    public OWLAxiom axiom(int axiomType) throws IOException {
+        if (axiomType < 0 || axiomType >= 1000) {
+            throw error("Unknown axiom type in binary data: " + axiomType);
+        }
+        return (OWLAxiom) build(2000 + axiomType);
+    }
+
+    private OWLObject build(int typeIndex) throws IOException {
+        try {
+            return components(typeIndex);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // the data factory checks the components of the objects it builds, e.g., that lists
+            // are not empty
+            OWLParserException error = error("Invalid object in binary data: " + e.getMessage());
+            error.initCause(e);
+            throw error;
+        }
+    }
+
+    private OWLClassExpression classExpression() throws IOException {
+        return object(OWLClassExpression.class);
+    }
+
+    private OWLObjectPropertyExpression objectProperty() throws IOException {
+        return object(OWLObjectPropertyExpression.class);
+    }
+
+    private OWLDataPropertyExpression dataProperty() throws IOException {
+        return object(OWLDataPropertyExpression.class);
+    }
+
+    private OWLAnnotationProperty annotationProperty() throws IOException {
+        return object(OWLAnnotationProperty.class);
+    }
+
+    private OWLIndividual individual() throws IOException {
+        return object(OWLIndividual.class);
+    }
+
+    private OWLLiteral literalObject() throws IOException {
+        return object(OWLLiteral.class);
+    }
+
+    private SWRLIArgument iArgument() throws IOException {
+        return object(SWRLIArgument.class);
+    }
+
+    private OWLDataRange dataRange() throws IOException {
+        return object(OWLDataRange.class);
+    }
+
+    private List<OWLAnnotation> annotations() throws IOException {
+        return list(OWLAnnotation.class);
+    }
+
+    private String string() throws IOException {
+        return string(varint());
+    }
+
+    private IRI iri() throws IOException {
+        return iri(varint());
+    }
+
+    /**
+     * @param typeIndex type index of the object to read
+     * @return the object, read without its code
+     * @throws IOException if the bytes cannot be read
+     */
+    public OWLObject components(int typeIndex) throws IOException {
+        switch (typeIndex) {
+            case 0:
+                return iri();
+            case 1001:
+                return entity(typeIndex, EntityType.CLASS, varint());
+            case 1002:
+                return entity(typeIndex, EntityType.OBJECT_PROPERTY, varint());
+            case 1003:
+                return df.getOWLObjectInverseOf(objectProperty().getNamedProperty());
+            case 1004:
+                return entity(typeIndex, EntityType.DATA_PROPERTY, varint());
+            case 1005:
+                return entity(typeIndex, EntityType.NAMED_INDIVIDUAL, varint());
+            case 1006:
+                return entity(typeIndex, EntityType.ANNOTATION_PROPERTY, varint());
+            case 1007:
+                return anonymousIndividual(string());
+            case 4001:
+                return entity(typeIndex, EntityType.DATATYPE, varint());
+            default:
+                if (typeIndex >= 2000 && typeIndex < 3000) {
+                    return axiomComponents(typeIndex - 2000);
+                }
+                return expressionComponents(typeIndex);
+        }
+    }
+
+    private OWLObject expressionComponents(int typeIndex) throws IOException {
+        switch (typeIndex) {
+            case 3001:
+                return df.getOWLObjectIntersectionOf(list(OWLClassExpression.class));
+            case 3002:
+                return df.getOWLObjectUnionOf(list(OWLClassExpression.class));
+            case 3003:
+                return df.getOWLObjectComplementOf(classExpression());
+            case 3004:
+                return df.getOWLObjectOneOf(list(OWLIndividual.class));
+            case 3005:
+                return df.getOWLObjectSomeValuesFrom(objectProperty(), classExpression());
+            case 3006:
+                return df.getOWLObjectAllValuesFrom(objectProperty(), classExpression());
+            case 3007:
+                return df.getOWLObjectHasValue(objectProperty(), individual());
+            case 3011:
+                return df.getOWLObjectHasSelf(objectProperty());
+            case 3012:
+                return df.getOWLDataSomeValuesFrom(dataProperty(), dataRange());
+            case 3013:
+                return df.getOWLDataAllValuesFrom(dataProperty(), dataRange());
+            case 3014:
+                return df.getOWLDataHasValue(dataProperty(), literalObject());
+            case 3008:
+            case 3009:
+            case 3010:
+            case 3015:
+            case 3016:
+            case 3017:
+                return cardinality(typeIndex);
+            case 4002:
+                return df.getOWLDataComplementOf(dataRange());
+            case 4003:
+                return df.getOWLDataOneOf(list(OWLLiteral.class));
+            case 4004:
+                return df.getOWLDataIntersectionOf(list(OWLDataRange.class));
+            case 4005:
+                return df.getOWLDataUnionOf(list(OWLDataRange.class));
+            case 4006:
+                return df.getOWLDatatypeRestriction(object(OWLDatatype.class),
+                    list(OWLFacetRestriction.class));
+            case 4007:
+                return df.getOWLFacetRestriction(facet(), literalObject());
+            case 4008:
+                return literal();
+            case 5001:
+                return df.getOWLAnnotation(annotationProperty(), object(OWLAnnotationValue.class),
+                    annotations());
+            default:
+                return swrlComponents(typeIndex);
+        }
+    }
+
+    private OWLFacet facet() throws IOException {
+        IRI iri = iri();
+        OWLFacet facet = OWLFacet.FACET_IRIS.get(iri);
+        if (facet == null) {
+            throw error("Unknown facet in binary data: " + iri);
+        }
+        return facet;
+    }
+
+    private OWLObject cardinality(int typeIndex) throws IOException {
+        if (typeIndex <= 3010) {
+            OWLObjectPropertyExpression property = objectProperty();
+            int cardinality = length("cardinality");
+            switch (typeIndex) {
+                case 3008:
+                    return df.getOWLObjectMinCardinality(cardinality, property, classExpression());
+                case 3009:
+                    return df.getOWLObjectExactCardinality(cardinality, property,
+                        classExpression());
+                default:
+                    return df.getOWLObjectMaxCardinality(cardinality, property, classExpression());
+            }
+        }
+        OWLDataPropertyExpression property = dataProperty();
+        int cardinality = length("cardinality");
+        switch (typeIndex) {
+            case 3015:
+                return df.getOWLDataMinCardinality(cardinality, property, dataRange());
+            case 3016:
+                return df.getOWLDataExactCardinality(cardinality, property, dataRange());
+            default:
+                return df.getOWLDataMaxCardinality(cardinality, property, dataRange());
+        }
+    }
+
+    private OWLLiteral literal() throws IOException {
+        OWLDatatype datatype = object(OWLDatatype.class);
+        String literal = string();
+        String lang = string();
+        if (lang.isEmpty()) {
+            return df.getOWLLiteral(literal, datatype);
+        }
+        return df.getOWLLiteral(literal, lang);
+    }
+
+    private OWLObject swrlComponents(int typeIndex) throws IOException {
+        switch (typeIndex) {
+            case 6001: {
+                SWRLIArgument argument = iArgument();
+                return df.getSWRLClassAtom(classExpression(), argument);
+            }
+            case 6002: {
+                SWRLDArgument argument = object(SWRLDArgument.class);
+                return df.getSWRLDataRangeAtom(dataRange(), argument);
+            }
+            case 6003: {
+                SWRLIArgument first = iArgument();
+                SWRLIArgument second = iArgument();
+                return df.getSWRLObjectPropertyAtom(objectProperty(), first, second);
+            }
+            case 6004: {
+                SWRLIArgument first = iArgument();
+                SWRLDArgument second = object(SWRLDArgument.class);
+                return df.getSWRLDataPropertyAtom(dataProperty(), first, second);
+            }
+            case 6005: {
+                List<SWRLDArgument> arguments = list(SWRLDArgument.class);
+                return df.getSWRLBuiltInAtom(object(IRI.class), arguments);
+            }
+            case 6006:
+                return df.getSWRLVariable(object(IRI.class));
+            case 6007:
+                return df.getSWRLIndividualArgument(individual());
+            case 6008:
+                return df.getSWRLLiteralArgument(literalObject());
+            case 6009:
+            case 6010: {
+                SWRLIArgument first = iArgument();
+                SWRLIArgument second = iArgument();
+                // the predicate is implied by the atom type
+                object(OWLObject.class);
+                return typeIndex == 6009 ? df.getSWRLSameIndividualAtom(first, second)
+                    : df.getSWRLDifferentIndividualsAtom(first, second);
+            }
+            default:
+                throw error("Unknown object type in binary data: " + typeIndex);
+        }
+    }
+
+    private OWLAxiom axiomComponents(int axiomType) throws IOException {
+        switch (axiomType) {
+            case 0:
+                return df.getOWLDeclarationAxiom(object(OWLEntity.class), annotations());
+            case 1:
+                return df.getOWLEquivalentClassesAxiom(list(OWLClassExpression.class),
+                    annotations());
+            case 2:
+                return df.getOWLSubClassOfAxiom(classExpression(), classExpression(),
+                    annotations());
+            case 3:
+                return df.getOWLDisjointClassesAxiom(list(OWLClassExpression.class),
+                    annotations());
+            case 4:
+                return df.getOWLDisjointUnionAxiom(object(OWLClass.class),
+                    list(OWLClassExpression.class), annotations());
+            case 5: {
+                OWLIndividual individual = individual();
+                return df.getOWLClassAssertionAxiom(classExpression(), individual, annotations());
+            }
+            case 6:
+                return df.getOWLSameIndividualAxiom(list(OWLIndividual.class), annotations());
+            case 7:
+                return df.getOWLDifferentIndividualsAxiom(list(OWLIndividual.class),
+                    annotations());
+            case 8: {
+                OWLIndividual subject = individual();
+                return df.getOWLObjectPropertyAssertionAxiom(objectProperty(), subject,
+                    individual(), annotations());
+            }
+            case 9: {
+                OWLIndividual subject = individual();
+                return df.getOWLNegativeObjectPropertyAssertionAxiom(objectProperty(), subject,
+                    individual(), annotations());
+            }
+            case 10: {
+                OWLIndividual subject = individual();
+                return df.getOWLDataPropertyAssertionAxiom(dataProperty(), subject,
+                    literalObject(), annotations());
+            }
+            case 11: {
+                OWLIndividual subject = individual();
+                return df.getOWLNegativeDataPropertyAssertionAxiom(dataProperty(), subject,
+                    literalObject(), annotations());
+            }
+            case 12:
+                return df.getOWLEquivalentObjectPropertiesAxiom(
+                    list(OWLObjectPropertyExpression.class), annotations());
+            case 13:
+                return df.getOWLSubObjectPropertyOfAxiom(objectProperty(), objectProperty(),
+                    annotations());
+            case 14: {
+                List<OWLObjectPropertyExpression> properties =
+                    list(OWLObjectPropertyExpression.class);
+                if (properties.isEmpty()) {
+                    throw error("Inverse properties axiom without properties in binary data");
+                }
+                // inverse properties of themselves are stored once
+                return df.getOWLInverseObjectPropertiesAxiom(properties.get(0),
+                    properties.get(properties.size() - 1), annotations());
+            }
+            case 15:
+                return df.getOWLFunctionalObjectPropertyAxiom(objectProperty(), annotations());
+            case 16:
+                return df.getOWLInverseFunctionalObjectPropertyAxiom(objectProperty(),
+                    annotations());
+            case 17:
+                return df.getOWLSymmetricObjectPropertyAxiom(objectProperty(), annotations());
+            case 18:
+                return df.getOWLAsymmetricObjectPropertyAxiom(objectProperty(), annotations());
+            case 19:
+                return df.getOWLTransitiveObjectPropertyAxiom(objectProperty(), annotations());
+            case 20:
+                return df.getOWLReflexiveObjectPropertyAxiom(objectProperty(), annotations());
+            case 21:
+                return df.getOWLIrreflexiveObjectPropertyAxiom(objectProperty(), annotations());
+            case 22:
+                return df.getOWLObjectPropertyDomainAxiom(objectProperty(), classExpression(),
+                    annotations());
+            case 23:
+                return df.getOWLObjectPropertyRangeAxiom(objectProperty(), classExpression(),
+                    annotations());
+            case 24:
+                return df.getOWLDisjointObjectPropertiesAxiom(
+                    list(OWLObjectPropertyExpression.class), annotations());
+            case 25:
+                return df.getOWLSubPropertyChainOfAxiom(list(OWLObjectPropertyExpression.class),
+                    objectProperty(), annotations());
+            case 26:
+                return df.getOWLEquivalentDataPropertiesAxiom(
+                    list(OWLDataPropertyExpression.class), annotations());
+            case 27:
+                return df.getOWLSubDataPropertyOfAxiom(dataProperty(), dataProperty(),
+                    annotations());
+            case 28:
+                return df.getOWLFunctionalDataPropertyAxiom(dataProperty(), annotations());
+            case 29:
+                return df.getOWLDataPropertyDomainAxiom(dataProperty(), classExpression(),
+                    annotations());
+            case 30:
+                return df.getOWLDataPropertyRangeAxiom(dataProperty(), dataRange(),
+                    annotations());
+            case 31:
+                return df.getOWLDisjointDataPropertiesAxiom(list(OWLDataPropertyExpression.class),
+                    annotations());
+            case 32:
+                return df.getOWLHasKeyAxiom(classExpression(), list(OWLPropertyExpression.class),
+                    annotations());
+            case 33:
+                return df.getSWRLRule(list(SWRLAtom.class), list(SWRLAtom.class), annotations());
+            case 34: {
+                OWLAnnotationSubject subject = object(OWLAnnotationSubject.class);
+                return df.getOWLAnnotationAssertionAxiom(annotationProperty(), subject,
+                    object(OWLAnnotationValue.class), annotations());
+            }
+            case 35:
+                return df.getOWLSubAnnotationPropertyOfAxiom(annotationProperty(),
+                    annotationProperty(), annotations());
+            case 36:
+                return df.getOWLAnnotationPropertyRangeAxiom(annotationProperty(),
+                    object(IRI.class), annotations());
+            case 37:
+                return df.getOWLAnnotationPropertyDomainAxiom(annotationProperty(),
+                    object(IRI.class), annotations());
+            case 38:
+                return df.getOWLDatatypeDefinitionAxiom(object(OWLDatatype.class), dataRange(),
+                    annotations());
+            default:
+                throw error("Unknown axiom type in binary data: " + axiomType);
+        }
+    }
+}
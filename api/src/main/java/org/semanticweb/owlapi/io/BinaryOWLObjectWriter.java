@@ -0,0 +1,213 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.vocab.OWLFacet;
+
+/**
+ * Encodes OWL objects in a compact binary form, building a dictionary of strings and IRIs as it
+ * goes. An object is written as its code, from {@link BinaryOWLObjectCodes}, followed by its
+ * components in the order given by {@code components()}; entities and IRIs are written as an IRI
+ * id, anonymous individuals as the string id of their node id and facets as the IRI id of the
+ * facet. Every number is an unsigned variable length integer, seven bits per byte, least
+ * significant group first. How the dictionary is stored is left to the callers; an IRI is made of
+ * the string ids of its namespace and remainder. The encoded bytes are kept in memory until
+ * {@link #writeTo(OutputStream)} is called.
+ */
+public class BinaryOWLObjectWriter {
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final Map<IRI, Integer> iriIds = new HashMap<>();
+    private int[] iriParts = new int[128];
+    private int iriCount = 0;
+    private byte[] buffer = new byte[1024];
+    private int length = 0;
+
+    /**
+     * @param o object to write, with its code
+     */
+    public void object(OWLObject o) {
+        varint(BinaryOWLObjectCodes.code(o.typeIndex()));
+        components(o);
+    }
+
+    /**
+     * @param o object to write, without its code; the reader must know the object type
+     */
+    public void components(OWLObject o) {
+        if (o instanceof IRI) {
+            varint(iriId((IRI) o));
+        } else if (o instanceof OWLEntity) {
+            varint(iriId(((OWLEntity) o).getIRI()));
+        } else if (o instanceof OWLAnonymousIndividual) {
+            varint(stringId(((OWLAnonymousIndividual) o).getID().getID()));
+        } else {
+            o.components().forEach(this::component);
+        }
+    }
+
+    /**
+     * @param c component to write: an object, a collection or stream of components, a string, an
+     *        integer or a facet
+     */
+    public void component(Object c) {
+        if (c instanceof OWLObject) {
+            object((OWLObject) c);
+        } else if (c instanceof Collection) {
+            Collection<?> objects = (Collection<?>) c;
+            varint(objects.size());
+            objects.forEach(this::component);
+        } else if (c instanceof Stream) {
+            component(((Stream<?>) c).collect(Collectors.toList()));
+        } else if (c instanceof String) {
+            varint(stringId((String) c));
+        } else if (c instanceof Integer) {
+            varint(((Integer) c).intValue());
+        } else if (c instanceof OWLFacet) {
+            varint(iriId(((OWLFacet) c).getIRI()));
+        } else {
+            throw new OWLRuntimeException("Cannot write component in binary form: " + c);
+        }
+    }
+
+    /**
+     * @param s string
+     * @return id of the string, added to the dictionary if not already present
+     */
+    public int stringId(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = Integer.valueOf(strings.size());
+            stringIds.put(s, id);
+            strings.add(s);
+        }
+        return id.intValue();
+    }
+
+    /**
+     * @param iri IRI
+     * @return id of the IRI, added to the dictionary if not already present
+     */
+    public int iriId(IRI iri) {
+        Integer id = iriIds.get(iri);
+        if (id == null) {
+            id = Integer.valueOf(iriCount);
+            iriIds.put(iri, id);
+            if (iriParts.length < 2 * iriCount + 2) {
+                iriParts = Arrays.copyOf(iriParts, iriParts.length * 2);
+            }
+            iriParts[2 * iriCount] = stringId(iri.getNamespace());
+            iriParts[2 * iriCount + 1] = stringId(iri.getRemainder().orElse(""));
+            iriCount++;
+        }
+        return id.intValue();
+    }
+
+    /**
+     * @return the strings in the dictionary, in id order
+     */
+    public List<String> getStrings() {
+        return Collections.unmodifiableList(strings);
+    }
+
+    /**
+     * @return number of IRIs in the dictionary
+     */
+    public int getIRICount() {
+        return iriCount;
+    }
+
+    /**
+     * @param iri id of an IRI
+     * @return string id of the namespace of the IRI
+     */
+    public int getNamespaceId(int iri) {
+        return iriParts[2 * iri];
+    }
+
+    /**
+     * @param iri id of an IRI
+     * @return string id of the remainder of the IRI; the empty string if the IRI has no remainder
+     */
+    public int getRemainderId(int iri) {
+        return iriParts[2 * iri + 1];
+    }
+
+    /**
+     * @param value number to write
+     */
+    public void varint(int value) {
+        ensure(5);
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            buffer[length++] = (byte) (v & 0x7F | 0x80);
+            v >>>= 7;
+        }
+        buffer[length++] = (byte) v;
+    }
+
+    /**
+     * @param b bytes to write
+     */
+    public void bytes(byte[] b) {
+        ensure(b.length);
+        System.arraycopy(b, 0, buffer, length, b.length);
+        length += b.length;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    /**
+     * @return number of bytes written since the last {@link #clear()}
+     */
+    public int size() {
+        return length;
+    }
+
+    /**
+     * Discards the bytes written so far; the dictionary is kept.
+     */
+    public void clear() {
+        length = 0;
+    }
+
+    /**
+     * @param out stream to copy the bytes written so far to; not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, length);
+    }
+}
@@ -0,0 +1,62 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.model;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk loader for ontologies without their own bulk loading support: buffered axioms are added
+ * through the ontology manager, one list of changes per block.
+ */
+public class BufferingBulkLoader implements OWLOntologyBulkLoader {
+
+    private static final int BLOCK_SIZE = 4096;
+    private final OWLOntology ontology;
+    private final List<OWLAxiom> buffer = new ArrayList<>();
+    private boolean closed = false;
+
+    /**
+     * @param ontology ontology to add axioms to
+     */
+    public BufferingBulkLoader(OWLOntology ontology) {
+        this.ontology = checkNotNull(ontology, "ontology cannot be null");
+    }
+
+    @Override
+    public void add(OWLAxiom axiom) {
+        if (closed) {
+            throw new IllegalStateException("Bulk loader already closed");
+        }
+        buffer.add(checkNotNull(axiom, "axiom cannot be null"));
+        if (buffer.size() == BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (!buffer.isEmpty()) {
+            ontology.addAxioms(buffer);
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        closed = true;
+    }
+}
@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 
 import org.semanticweb.owlapi.io.XMLUtils;
 import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+import org.semanticweb.owlapi.util.IRIDictionary;
 import org.semanticweb.owlapi.vocab.Namespaces;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
@@ -54,11 +55,25 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             .longValue();
     }
 
+    // True if all IRIs should be stored in the dictionary
+    private static final boolean USE_DICTIONARY = ConfigurationOptions.IRI_DICTIONARY
+        .getValue(Boolean.class, Collections.emptyMap()).booleanValue();
+
+    private static final class Dictionary {
+
+        static final IRIDictionary INSTANCE = new IRIDictionary();
+    }
+
     private static final AtomicLong COUNTER = new AtomicLong(System.nanoTime());
     // Impl - All constructors are private - factory methods are used for
     // public creation
+    // id is not negative for IRIs stored in the dictionary; their namespace and remainder are
+    // always null, and are decoded from the dictionary on each use
+    @Nullable
     private final String remainder;
+    @Nullable
     private final String namespace;
+    private final int id;
 
     /**
      * Constructs an IRI which is built from the concatenation of the specified prefix and suffix.
@@ -67,8 +82,29 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @param suffix The suffix.
      */
     protected IRI(String prefix, @Nullable String suffix) {
-        namespace = CACHE.get(XMLUtils.getNCNamePrefix(prefix));
-        remainder = suffix == null ? "" : suffix;
+        String ns = CACHE.get(XMLUtils.getNCNamePrefix(prefix));
+        String rem = suffix == null ? "" : suffix;
+        if (USE_DICTIONARY) {
+            namespace = null;
+            remainder = null;
+            id = Dictionary.INSTANCE.intern(ns, rem);
+        } else {
+            namespace = ns;
+            remainder = rem;
+            id = -1;
+        }
+    }
+
+    private IRI(int id) {
+        namespace = null;
+        remainder = null;
+        this.id = id;
+    }
+
+    private IRI(IRI iri) {
+        namespace = iri.namespace();
+        remainder = iri.remainder();
+        id = -1;
     }
 
     protected IRI(String s) {
@@ -165,6 +201,55 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         }
     }
 
+    /**
+     * @param iri IRI to look up
+     * @return an IRI equal to the input, stored in the shared IRI dictionary; if the input is
+     *         already stored in the dictionary, the input itself
+     * @see ConfigurationOptions#IRI_DICTIONARY
+     */
+    public static IRI intern(IRI iri) {
+        checkNotNull(iri, "iri cannot be null");
+        if (iri.id >= 0) {
+            return iri;
+        }
+        return new IRI(Dictionary.INSTANCE.intern(iri.namespace(), iri.remainder()));
+    }
+
+    /**
+     * @return the dictionary that stores the IRIs created when
+     *         {@link ConfigurationOptions#IRI_DICTIONARY} is set, and those returned by
+     *         {@link #intern(IRI)}
+     */
+    public static IRIDictionary getDictionary() {
+        return Dictionary.INSTANCE;
+    }
+
+    private String namespace() {
+        String ns = namespace;
+        if (ns == null) {
+            // namespaces are shared by the dictionary, so this does not copy
+            return Dictionary.INSTANCE.namespace(id);
+        }
+        return ns;
+    }
+
+    private String remainder() {
+        String rem = remainder;
+        if (rem == null) {
+            // not kept: keeping the decoded string would undo the saving of the dictionary
+            return Dictionary.INSTANCE.remainder(id);
+        }
+        return rem;
+    }
+
+    private boolean isRemainderEmpty() {
+        String rem = remainder;
+        if (rem == null) {
+            return Dictionary.INSTANCE.isRemainderEmpty(id);
+        }
+        return rem.isEmpty();
+    }
+
     /**
      * Gets an auto-generated ontology document IRI.
      *
@@ -200,7 +285,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @return The URI
      */
     public URI toURI() {
-        return URI.create(namespace + remainder);
+        return URI.create(getIRIString());
     }
 
     /**
@@ -209,12 +294,13 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @return {@code true} if this IRI is absolute or {@code false} if this IRI is not absolute
      */
     public boolean isAbsolute() {
-        int colonIndex = namespace.indexOf(':');
+        String ns = namespace();
+        int colonIndex = ns.indexOf(':');
         if (colonIndex == -1) {
             return false;
         }
         for (int i = 0; i < colonIndex; i++) {
-            char ch = namespace.charAt(i);
+            char ch = ns.charAt(i);
             if (disallowed(ch)) {
                 return false;
             }
@@ -232,18 +318,19 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     @Nullable
     public String getScheme() {
-        int colonIndex = namespace.indexOf(':');
+        String ns = namespace();
+        int colonIndex = ns.indexOf(':');
         if (colonIndex == -1) {
             return null;
         }
-        return namespace.substring(0, colonIndex);
+        return ns.substring(0, colonIndex);
     }
 
     /**
      * @return the prefix
      */
     public String getNamespace() {
-        return namespace;
+        return namespace();
     }
 
     /**
@@ -270,8 +357,9 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @return {@code true} if the IRI is in the reserved vocabulary, otherwise {@code false}.
      */
     public boolean isReservedVocabulary() {
-        return Namespaces.OWL.inNamespace(namespace) || Namespaces.RDF.inNamespace(namespace)
-            || Namespaces.RDFS.inNamespace(namespace) || Namespaces.XSD.inNamespace(namespace);
+        String ns = namespace();
+        return Namespaces.OWL.inNamespace(ns) || Namespaces.RDF.inNamespace(ns)
+            || Namespaces.RDFS.inNamespace(ns) || Namespaces.XSD.inNamespace(ns);
     }
 
     /**
@@ -314,7 +402,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      *         {@code false}
      */
     public boolean isPlainLiteral() {
-        return "PlainLiteral".equals(remainder) && Namespaces.RDF.inNamespace(namespace);
+        return "PlainLiteral".equals(remainder()) && Namespaces.RDF.inNamespace(namespace());
     }
 
     /**
@@ -324,17 +412,17 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      * @return The IRI fragment, or empty string if the IRI does not have a fragment
      */
     public String getFragment() {
-        return remainder;
+        return remainder();
     }
 
     /**
      * @return the remainder (coincident with NCName usually) for this IRI.
      */
     public Optional<String> getRemainder() {
-        if (remainder.isEmpty()) {
+        if (isRemainderEmpty()) {
             return emptyOptional();
         }
-        return optional(remainder);
+        return optional(remainder());
     }
 
     /**
@@ -359,7 +447,7 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
 
     @Override
     public int length() {
-        return namespace.length() + remainder.length();
+        return namespace().length() + remainder().length();
     }
 
     @Override
@@ -367,16 +455,17 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         if (index < 0) {
             throw new IndexOutOfBoundsException(Integer.toString(index));
         }
-        if (index < namespace.length()) {
-            return namespace.charAt(index);
+        String ns = namespace();
+        if (index < ns.length()) {
+            return ns.charAt(index);
         }
-        return remainder.charAt(index - namespace.length());
+        return remainder().charAt(index - ns.length());
     }
 
     @Override
     public CharSequence subSequence(int start, int end) {
-        StringBuilder sb = new StringBuilder(namespace);
-        sb.append(remainder);
+        StringBuilder sb = new StringBuilder(namespace());
+        sb.append(remainder());
         return sb.subSequence(start, end);
     }
 
@@ -386,20 +475,21 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
      */
     public String prefixedBy(String prefix) {
         checkNotNull(prefix, "prefix cannot be null");
-        if (remainder.isEmpty()) {
+        if (isRemainderEmpty()) {
             return prefix;
         }
-        return prefix + remainder;
+        return prefix + remainder();
     }
 
     @Override
     public String getShortForm() {
-        if (!remainder.isEmpty()) {
-            return remainder;
+        if (!isRemainderEmpty()) {
+            return remainder();
         }
-        int lastSlashIndex = namespace.lastIndexOf('/');
-        if (lastSlashIndex != -1 && lastSlashIndex != namespace.length() - 1) {
-            return namespace.substring(lastSlashIndex + 1);
+        String ns = namespace();
+        int lastSlashIndex = ns.lastIndexOf('/');
+        if (lastSlashIndex != -1 && lastSlashIndex != ns.length() - 1) {
+            return ns.substring(lastSlashIndex + 1);
         }
         return toQuotedString();
     }
@@ -435,11 +525,14 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
             return -1;
         }
         IRI other = (IRI) o;
-        int diff = namespace.compareTo(other.namespace);
+        int diff = namespace().compareTo(other.namespace());
         if (diff != 0) {
             return diff;
         }
-        return remainder.compareTo(other.remainder);
+        if (id >= 0 && other.id >= 0) {
+            return Dictionary.INSTANCE.compareRemainders(id, other.id);
+        }
+        return remainder().compareTo(other.remainder());
     }
 
     @Override
@@ -449,7 +542,10 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
 
     @Override
     public int hashCode() {
-        return namespace.hashCode() + remainder.hashCode();
+        if (id >= 0) {
+            return Dictionary.INSTANCE.hash(id);
+        }
+        return IRIDictionary.hash(verifyNotNull(namespace), verifyNotNull(remainder));
     }
 
     @Override
@@ -482,7 +578,11 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
         }
         if (obj instanceof IRI) {
             IRI other = (IRI) obj;
-            return remainder.equals(other.remainder) && other.namespace.equals(namespace);
+            if (id >= 0 && other.id >= 0) {
+                return id == other.id;
+            }
+            return hashCode() == other.hashCode() && remainder().equals(other.remainder())
+                && other.namespace().equals(namespace());
         }
         // Commons RDF IRI equals() contract
         if (obj instanceof org.apache.commons.rdf.api.IRI) {
@@ -494,15 +594,18 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
 
     @Override
     public String ntriplesString() {
-        return '<' + namespace + remainder + '>';
+        return '<' + namespace() + remainder() + '>';
     }
 
     @Override
     public String getIRIString() {
-        if (remainder.isEmpty()) {
-            return namespace;
+        if (isRemainderEmpty()) {
+            return namespace();
+        }
+        if (id >= 0) {
+            return Dictionary.INSTANCE.iriString(id);
         }
-        return namespace + remainder;
+        return namespace() + remainder();
     }
 
     @Override
@@ -514,4 +617,27 @@ public class IRI implements OWLAnnotationSubject, OWLAnnotationValue, SWRLPredic
     public int hashIndex() {
         return 863;
     }
+
+    /**
+     * IRIs stored in the dictionary are written as plain IRIs, since ids are only valid in the
+     * dictionary that assigned them.
+     *
+     * @return object to serialize
+     */
+    protected Object writeReplace() {
+        if (id >= 0) {
+            return new IRI(this);
+        }
+        return this;
+    }
+
+    /**
+     * @return object to use after deserialization
+     */
+    protected Object readResolve() {
+        if (USE_DICTIONARY && id < 0) {
+            return intern(this);
+        }
+        return this;
+    }
 }
@@ -82,6 +82,22 @@ public interface OWLDataFactory extends SWRLProvider, EntityProvider, EntityByTy
      */
     void purge();
 
+    /**
+     * @return a data factory that creates a new class expression, data range or axiom on every
+     *         call; this factory, unless it returns shared instances for equal objects
+     */
+    default OWLDataFactory withoutInterning() {
+        return this;
+    }
+
+    /**
+     * @return true if this factory returns shared instances for equal class expressions, data
+     *         ranges and axioms
+     */
+    default boolean isInterning() {
+        return false;
+    }
+
     /**
      * Shorthand for
      * {@code getOWLAnnotation(getRDFSLabel(), getOWLLiteral(value))}
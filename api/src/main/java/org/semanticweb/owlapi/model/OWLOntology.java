@@ -142,6 +142,14 @@ public interface OWLOntology extends OWLObject, HasAnnotations, HasDirectImports
         return removeAxioms(Arrays.asList(axioms));
     }
 
+    /**
+     * @return a loader that adds axioms to this ontology in bulk; the default implementation adds
+     *         blocks of axioms through the ontology manager
+     */
+    default OWLOntologyBulkLoader bulkLoader() {
+        return new BufferingBulkLoader(this);
+    }
+
     /**
      * accept for named object visitor
      *
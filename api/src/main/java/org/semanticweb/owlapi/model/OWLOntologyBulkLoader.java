@@ -0,0 +1,54 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.model;
+
+import java.util.stream.Stream;
+
+/**
+ * Receives the axioms of an ontology in bulk, typically from a parser. Axioms are buffered and
+ * added to the ontology in blocks, so that indexes are updated once per block rather than once per
+ * axiom; the additions are reported to ontology change listeners as one list of changes when the
+ * loader is closed. Axioms added to a loader might not be visible in the ontology until
+ * {@link #flush()} or {@link #close()} is called.
+ * <p>
+ * Progress listeners and change listeners are notified in the same order as for
+ * {@link OWLOntologyManager#applyChanges(java.util.List)}. If there are impending change listeners
+ * when the loader is created, each block is applied as a list of changes, so that the listeners can
+ * veto it, and is broadcast when added. A loader is meant to be used by a single thread.
+ */
+public interface OWLOntologyBulkLoader extends AutoCloseable {
+
+    /**
+     * @param axiom axiom to add
+     */
+    void add(OWLAxiom axiom);
+
+    /**
+     * @param axioms axioms to add
+     */
+    default void add(Stream<? extends OWLAxiom> axioms) {
+        axioms.forEach(this::add);
+    }
+
+    /**
+     * Adds all buffered axioms to the ontology.
+     */
+    void flush();
+
+    /**
+     * Adds all buffered axioms to the ontology and reports the axioms added by this loader to
+     * ontology change listeners. Axioms cannot be added after this call.
+     */
+    @Override
+    void close();
+}
@@ -19,9 +19,14 @@ import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.BANNE
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNECTION_TIMEOUT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.ENTITY_EXPANSION_LIMIT;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INTERN_OBJECTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.IRI_DICTIONARY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LITERAL_POOL;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_IMPORTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_PARSING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REPAIR_ILLEGAL_PUNNINGS;
@@ -547,4 +552,116 @@ public class OWLOntologyLoaderConfiguration implements Serializable {
         configuration.overrides.put(ALLOW_DUPLICATES_IN_CONSTRUCT_SETS, Boolean.valueOf(value));
         return configuration;
     }
+
+    /**
+     * @return true if entities should be created with IRIs stored in the shared IRI dictionary
+     * @see IRI#intern(IRI)
+     */
+    public boolean shouldUseIRIDictionary() {
+        return IRI_DICTIONARY.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if entities should be created with IRIs stored in the shared IRI
+     *        dictionary
+     * @return A {@code OWLOntologyLoaderConfiguration} with the IRI dictionary flag set to the new
+     *         value.
+     */
+    public OWLOntologyLoaderConfiguration withIRIDictionary(boolean value) {
+        if (shouldUseIRIDictionary() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(IRI_DICTIONARY, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @return true if the documents in an imports closure should be parsed concurrently. Each
+     *         import is still added to the manager once, and missing imports are handled as
+     *         specified by {@link #getMissingImportHandlingStrategy()}.
+     */
+    public boolean shouldLoadImportsInParallel() {
+        return PARALLEL_IMPORTS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if the documents in an imports closure should be parsed concurrently
+     * @return A {@code OWLOntologyLoaderConfiguration} with the parallel imports flag set to the
+     *         new value.
+     */
+    public OWLOntologyLoaderConfiguration withParallelImports(boolean value) {
+        if (shouldLoadImportsInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(PARALLEL_IMPORTS, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @return true if parsers that support it should split large documents and parse the parts
+     *         concurrently. The axioms loaded are the same as for sequential parsing.
+     */
+    public boolean shouldParseInParallel() {
+        return PARALLEL_PARSING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if parsers that support it should parse large documents concurrently
+     * @return A {@code OWLOntologyLoaderConfiguration} with the parallel parsing flag set to the
+     *         new value.
+     */
+    public OWLOntologyLoaderConfiguration withParallelParsing(boolean value) {
+        if (shouldParseInParallel() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(PARALLEL_PARSING, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @return true if data factories created or used with this configuration should create
+     *         literals that store long lexical forms once, in a pool of the data factory
+     */
+    public boolean shouldUseLiteralPool() {
+        return LITERAL_POOL.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if literals should store long lexical forms in the pool of the data factory
+     * @return A {@code OWLOntologyLoaderConfiguration} with the literal pool flag set to the new
+     *         value.
+     */
+    public OWLOntologyLoaderConfiguration withLiteralPool(boolean value) {
+        if (shouldUseLiteralPool() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(LITERAL_POOL, Boolean.valueOf(value));
+        return configuration;
+    }
+
+    /**
+     * @return true if data factories created with this configuration should return a shared
+     *         instance for equal class expressions, data ranges and axioms
+     */
+    public boolean shouldInternObjects() {
+        return INTERN_OBJECTS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if equal class expressions, data ranges and axioms should be shared
+     * @return A {@code OWLOntologyLoaderConfiguration} with the interning flag set to the new
+     *         value.
+     */
+    public OWLOntologyLoaderConfiguration withInternedObjects(boolean value) {
+        if (shouldInternObjects() == value) {
+            return this;
+        }
+        OWLOntologyLoaderConfiguration configuration = copyConfiguration();
+        configuration.overrides.put(INTERN_OBJECTS, Boolean.valueOf(value));
+        return configuration;
+    }
 }
@@ -29,6 +29,7 @@ public class OWLOntologyWriterConfiguration implements Serializable {
     private boolean labelsAsBanner = false;
     private boolean bannersEnabled = true;
     private int indentSize = 4;
+    private boolean parallelRendering = false;
 
     private OWLOntologyWriterConfiguration copy() {
         OWLOntologyWriterConfiguration toReturn = new OWLOntologyWriterConfiguration();
@@ -37,6 +38,9 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         toReturn.useNamespaceEntities = useNamespaceEntities;
         toReturn.remapIds = remapIds;
         toReturn.saveIds = saveIds;
+        toReturn.bannersEnabled = bannersEnabled;
+        toReturn.indentSize = indentSize;
+        toReturn.parallelRendering = parallelRendering;
         return toReturn;
     }
 
@@ -89,6 +93,14 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         return labelsAsBanner;
     }
 
+    /**
+     * @return true if renderers that support it should translate or render parts of an ontology
+     *         concurrently. The output is the same as for sequential rendering.
+     */
+    public boolean shouldRenderInParallel() {
+        return parallelRendering;
+    }
+
     /**
      * @param banners True if banner comments should be enabled.
      * @return new config object
@@ -179,4 +191,17 @@ public class OWLOntologyWriterConfiguration implements Serializable {
         copy.labelsAsBanner = label;
         return copy;
     }
+
+    /**
+     * @param value true if renderers that support it should render in parallel
+     * @return new config object
+     */
+    public OWLOntologyWriterConfiguration withParallelRendering(boolean value) {
+        if (parallelRendering == value) {
+            return this;
+        }
+        OWLOntologyWriterConfiguration copy = copy();
+        copy.parallelRendering = value;
+        return copy;
+    }
 }
@@ -19,10 +19,14 @@ import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.CONNE
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.FOLLOW_REDIRECTS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INDENTING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INDENT_SIZE;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.INTERN_OBJECTS;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.IRI_DICTIONARY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LABELS_AS_BANNER;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LITERAL_POOL;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.LOAD_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_IMPORT_HANDLING_STRATEGY;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.MISSING_ONTOLOGY_HEADER_STRATEGY;
+import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARALLEL_RENDERING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PARSE_WITH_STRICT_CONFIGURATION;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.PRIORITY_COLLECTION_SORTING;
 import static org.semanticweb.owlapi.model.parameters.ConfigurationOptions.REMAP_IDS;
@@ -327,6 +331,59 @@ public class OntologyConfigurator implements Serializable {
         return this;
     }
 
+    /**
+     * @param value true if entities should be created with IRIs stored in the shared IRI
+     *        dictionary
+     * @return new config object
+     */
+    public OntologyConfigurator withIRIDictionary(boolean value) {
+        overrides.put(IRI_DICTIONARY, Boolean.valueOf(value));
+        return this;
+    }
+
+    /**
+     * @return true if entities should be created with IRIs stored in the shared IRI dictionary
+     */
+    public boolean shouldUseIRIDictionary() {
+        return IRI_DICTIONARY.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if literals should store long lexical forms in the literal pool of the
+     *        data factory
+     * @return new config object
+     */
+    public OntologyConfigurator withLiteralPool(boolean value) {
+        overrides.put(LITERAL_POOL, Boolean.valueOf(value));
+        return this;
+    }
+
+    /**
+     * @return true if literals should store long lexical forms in the literal pool of the data
+     *         factory
+     */
+    public boolean shouldUseLiteralPool() {
+        return LITERAL_POOL.getValue(Boolean.class, overrides).booleanValue();
+    }
+
+    /**
+     * @param value true if data factories should return the same instance for equal class
+     *        expressions, data ranges and axioms
+     * @return new config object
+     */
+    public OntologyConfigurator withInternedObjects(boolean value) {
+        overrides.put(INTERN_OBJECTS, Boolean.valueOf(value));
+        return this;
+    }
+
+    /**
+     * @return true if data factories should return the same instance for equal class expressions,
+     *         data ranges and axioms
+     */
+    public boolean shouldInternObjects() {
+        return INTERN_OBJECTS.getValue(Boolean.class, overrides).booleanValue();
+    }
+
     /**
      * @return a new OWLOntologyLoaderConfiguration from the builder current settings
      */
@@ -344,7 +401,10 @@ public class OntologyConfigurator implements Serializable {
             .setStrict(shouldParseWithStrictConfiguration())
             .setTreatDublinCoreAsBuiltIn(shouldTreatDublinCoreAsBuiltin())
             .setBannedParsers(getBannedParsers())
-            .setRepairIllegalPunnings(shouldRepairIllegalPunnings());
+            .setRepairIllegalPunnings(shouldRepairIllegalPunnings())
+            .withIRIDictionary(shouldUseIRIDictionary())
+            .withLiteralPool(shouldUseLiteralPool())
+            .withInternedObjects(shouldInternObjects());
     }
 
     /**
@@ -460,6 +520,22 @@ public class OntologyConfigurator implements Serializable {
         return BANNERS_ENABLED.getValue(Boolean.class, overrides).booleanValue();
     }
 
+    /**
+     * @param value True if renderers that support it should render in parallel.
+     * @return new config object
+     */
+    public OntologyConfigurator withParallelRendering(boolean value) {
+        overrides.put(PARALLEL_RENDERING, Boolean.valueOf(value));
+        return this;
+    }
+
+    /**
+     * @return should render in parallel
+     */
+    public boolean shouldRenderInParallel() {
+        return PARALLEL_RENDERING.getValue(Boolean.class, overrides).booleanValue();
+    }
+
     /**
      * @return a new OWLOntologyWriterConfiguration from the builder current settings
      */
@@ -469,6 +545,7 @@ public class OntologyConfigurator implements Serializable {
             .withRemapAllAnonymousIndividualsIds(shouldRemapIds())
             .withSaveIdsForAllAnonymousIndividuals(shouldSaveIds())
             .withUseNamespaceEntities(shouldUseNamespaceEntities())
-            .withBannersEnabled(shouldUseBanners());
+            .withBannersEnabled(shouldUseBanners())
+            .withParallelRendering(shouldRenderInParallel());
     }
 }
@@ -90,7 +90,41 @@ public enum ConfigurationOptions {
      * {@code Equivalent(A, A)}.*/
     ALLOW_DUPLICATES_IN_CONSTRUCT_SETS  (Boolean.FALSE),
     /**Max number of elements for caches.*/
-    CACHE_SIZE                        (Integer.valueOf(2048));
+    CACHE_SIZE                        (Integer.valueOf(2048)),
+    /** True if IRIs should be stored
+     * in a shared dictionary, with int
+     * ids and remainders encoded as
+     * UTF-8 bytes. The system property
+     * or config file value is read once,
+     * when IRI is loaded, and applies to
+     * all IRIs; a loader configuration
+     * value applies to the entities
+     * created by a data factory.*/
+    IRI_DICTIONARY                    (Boolean.FALSE),
+    /** True if the documents in an
+     * imports closure should be parsed
+     * concurrently.*/
+    PARALLEL_IMPORTS                  (Boolean.FALSE),
+    /** True if parsers that support it
+     * should split large documents and
+     * parse the parts concurrently.*/
+    PARALLEL_PARSING                  (Boolean.FALSE),
+    /** True if renderers that support
+     * it should translate or render
+     * parts of an ontology concurrently.
+     * The output is the same as for
+     * sequential rendering.*/
+    PARALLEL_RENDERING                (Boolean.FALSE),
+    /** True if the literals created
+     * by a data factory should store
+     * long lexical forms once, in a
+     * pool of the data factory.*/
+    LITERAL_POOL                      (Boolean.FALSE),
+    /** True if a data factory should
+     * return the same instance for equal
+     * class expressions, data ranges and
+     * axioms.*/
+    INTERN_OBJECTS                    (Boolean.FALSE);
     //@formatter:on
     private static final String PREFIX =
         "org.semanticweb.owlapi.model.parameters.ConfigurationOptions.";
@@ -0,0 +1,286 @@
+package org.semanticweb.owlapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Distinct strings stored once as UTF-8 bytes in shared arenas, with dense int ids and an open
+ * addressing hash table to find them. Each entry also has a group, an int that is part of its key:
+ * equal bytes in different groups are different entries. Entries are never removed.
+ * <p>
+ * Lookups do not lock; adding an entry is synchronized. All state that lookups read is in an
+ * immutable {@link Snapshot}, and a new snapshot is published after each entry is written. Arrays
+ * are shared between snapshots and only written past the size of the published one, so a reader
+ * only has to ignore ids at or above the size of the snapshot it holds.
+ */
+final class EncodedStringTable {
+
+    private static final int CHUNK_BITS = 20;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int INITIAL_CAPACITY = 1024;
+    // slots holding no id
+    static final int EMPTY = -1;
+    private volatile Snapshot snapshot = new Snapshot(new int[INITIAL_CAPACITY],
+        new int[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], new int[INITIAL_CAPACITY],
+        new byte[4][], emptySlots(INITIAL_CAPACITY * 2), 0);
+    // arena state, only used while adding
+    private int chunkCount = 0;
+    private int chunkUsed = CHUNK_SIZE;
+    private long bytes = 0;
+
+    private static final class Snapshot {
+
+        final int[] hash;
+        final int[] group;
+        final long[] location;
+        final int[] length;
+        final byte[][] chunks;
+        final int[] slots;
+        final int size;
+
+        Snapshot(int[] hash, int[] group, long[] location, int[] length, byte[][] chunks,
+            int[] slots, int size) {
+            this.hash = hash;
+            this.group = group;
+            this.location = location;
+            this.length = length;
+            this.chunks = chunks;
+            this.slots = slots;
+            this.size = size;
+        }
+
+        byte[] chunk(int id) {
+            return chunks[(int) (location[id] >>> 32)];
+        }
+
+        int offset(int id) {
+            return (int) location[id];
+        }
+    }
+
+    private static int[] emptySlots(int n) {
+        int[] toReturn = new int[n];
+        Arrays.fill(toReturn, EMPTY);
+        return toReturn;
+    }
+
+    /**
+     * @param h hash code of the entry
+     * @param group group of the entry
+     * @param encoded UTF-8 bytes of the entry
+     * @return id of the entry, or {@link #EMPTY} if it is not in the table
+     */
+    int find(int h, int group, byte[] encoded) {
+        return find(snapshot, h, group, encoded);
+    }
+
+    private static int find(Snapshot st, int h, int group, byte[] encoded) {
+        int mask = st.slots.length - 1;
+        for (int slot = mix(h) & mask;; slot = (slot + 1) & mask) {
+            int id = st.slots[slot];
+            if (id == EMPTY || id >= st.size) {
+                // not found, or added after st was published
+                return EMPTY;
+            }
+            if (st.hash[id] == h && st.group[id] == group && equalBytes(st, id, encoded)) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @param h hash code of the entry
+     * @param group group of the entry
+     * @param encoded UTF-8 bytes of the entry
+     * @return id of the entry, added if it is not already in the table
+     */
+    synchronized int add(int h, int group, byte[] encoded) {
+        Snapshot st = snapshot;
+        int id = find(st, h, group, encoded);
+        if (id != EMPTY) {
+            return id;
+        }
+        id = st.size;
+        int[] hash = st.hash;
+        int[] groups = st.group;
+        long[] location = st.location;
+        int[] length = st.length;
+        if (id == hash.length) {
+            hash = Arrays.copyOf(hash, id * 2);
+            groups = Arrays.copyOf(groups, id * 2);
+            location = Arrays.copyOf(location, id * 2);
+            length = Arrays.copyOf(length, id * 2);
+        }
+        byte[][] chunks = st.chunks;
+        if (encoded.length > CHUNK_SIZE - chunkUsed) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            // entries longer than a chunk get a chunk of their own
+            chunks[chunkCount++] = new byte[Math.max(CHUNK_SIZE, encoded.length)];
+            chunkUsed = 0;
+        }
+        hash[id] = h;
+        groups[id] = group;
+        length[id] = encoded.length;
+        if (encoded.length > 0) {
+            int chunk = chunkCount - 1;
+            System.arraycopy(encoded, 0, chunks[chunk], chunkUsed, encoded.length);
+            location[id] = ((long) chunk << 32) | chunkUsed;
+            chunkUsed = encoded.length > CHUNK_SIZE ? CHUNK_SIZE : chunkUsed + encoded.length;
+        }
+        bytes += encoded.length;
+        int[] slots = st.slots;
+        if ((id + 1) * 2 > slots.length) {
+            slots = rehash(hash, id + 1, slots.length * 2);
+        } else {
+            int mask = slots.length - 1;
+            int slot = mix(h) & mask;
+            while (slots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = id;
+        }
+        snapshot = new Snapshot(hash, groups, location, length, chunks, slots, id + 1);
+        return id;
+    }
+
+    private static int[] rehash(int[] hash, int size, int n) {
+        int[] newSlots = emptySlots(n);
+        int mask = n - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(hash[id]) & mask;
+            while (newSlots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id;
+        }
+        return newSlots;
+    }
+
+    private static int mix(int h) {
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    private static boolean equalBytes(Snapshot s, int id, byte[] encoded) {
+        if (s.length[id] != encoded.length) {
+            return false;
+        }
+        byte[] chunk = s.chunk(id);
+        int offset = s.offset(id);
+        for (int i = 0; i < encoded.length; i++) {
+            if (chunk[offset + i] != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param id entry id
+     * @return the entry, decoded into a new string
+     */
+    String decode(int id) {
+        Snapshot s = snapshot;
+        int length = s.length[id];
+        if (length == 0) {
+            return "";
+        }
+        return new String(s.chunk(id), s.offset(id), length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends an entry without decoding it into a string of its own while it is ASCII.
+     *
+     * @param id entry id
+     * @param b builder to append to
+     * @return the builder
+     */
+    StringBuilder appendTo(int id, StringBuilder b) {
+        Snapshot s = snapshot;
+        byte[] chunk = s.chunk(id);
+        int offset = s.offset(id);
+        int end = offset + s.length[id];
+        for (int i = offset; i < end; i++) {
+            if (chunk[i] < 0) {
+                // not ASCII: decode the rest
+                return b.append(new String(chunk, i, end - i, StandardCharsets.UTF_8));
+            }
+            b.append((char) chunk[i]);
+        }
+        return b;
+    }
+
+    /**
+     * Compares two entries as {@link String#compareTo(String)} would, without decoding them unless
+     * they differ at a character that is not ASCII.
+     *
+     * @param id entry id
+     * @param other other entry id
+     * @return negative, zero or positive as id sorts before, with or after other
+     */
+    int compare(int id, int other) {
+        Snapshot s = snapshot;
+        int l1 = s.length[id];
+        int l2 = s.length[other];
+        int n = Math.min(l1, l2);
+        if (n > 0) {
+            byte[] c1 = s.chunk(id);
+            byte[] c2 = s.chunk(other);
+            int o1 = s.offset(id);
+            int o2 = s.offset(other);
+            for (int i = 0; i < n; i++) {
+                byte b1 = c1[o1 + i];
+                byte b2 = c2[o2 + i];
+                if (b1 != b2) {
+                    if (b1 < 0 || b2 < 0) {
+                        // UTF-8 order is code point order, not the UTF-16 order of strings
+                        return decode(id).compareTo(decode(other));
+                    }
+                    return b1 - b2;
+                }
+            }
+        }
+        // an entry whose bytes are a prefix of the other's is a prefix of it as a string
+        return Integer.compare(l1, l2);
+    }
+
+    /**
+     * @param id entry id
+     * @return number of UTF-8 bytes of the entry
+     */
+    int length(int id) {
+        return snapshot.length[id];
+    }
+
+    /**
+     * @param id entry id
+     * @return hash code the entry was added with
+     */
+    int hash(int id) {
+        return snapshot.hash[id];
+    }
+
+    /**
+     * @param id entry id
+     * @return group the entry was added with
+     */
+    int group(int id) {
+        return snapshot.group[id];
+    }
+
+    /**
+     * @return number of entries
+     */
+    int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * @return number of bytes used by encoded entries
+     */
+    synchronized long bytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,147 @@
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dictionary that assigns dense int ids to IRIs, given as namespace and remainder. Namespaces are
+ * kept once as strings; remainders are stored as UTF-8 bytes in shared arenas, so an entry costs a
+ * few ints plus the encoded remainder, rather than a String and its character array. Entries are
+ * never removed.
+ * <p>
+ * Lookups by id do not lock. Interning an IRI that is already present does not lock either, so
+ * concurrent parsers only contend when they add new entries; adding an entry is synchronized.
+ */
+public final class IRIDictionary {
+
+    private final Map<String, Integer> namespaceIds = new ConcurrentHashMap<>();
+    // written before the entries that use a namespace are added to the table, so a reader that
+    // finds an entry also finds its namespace
+    private volatile String[] namespaces = new String[16];
+    private int namespaceCount = 0;
+    // remainders, grouped by namespace id
+    private final EncodedStringTable table = new EncodedStringTable();
+
+    /**
+     * @param namespace namespace
+     * @param remainder remainder
+     * @return hash code of the IRI namespace + remainder; this is the hash code of
+     *         {@code org.semanticweb.owlapi.model.IRI} as well
+     */
+    public static int hash(String namespace, String remainder) {
+        return namespace.hashCode() + remainder.hashCode();
+    }
+
+    /**
+     * @param namespace namespace of the IRI
+     * @param remainder remainder of the IRI, possibly empty
+     * @return the id for the IRI; the same id is returned for equal arguments
+     */
+    public int intern(String namespace, String remainder) {
+        checkNotNull(namespace, "namespace cannot be null");
+        checkNotNull(remainder, "remainder cannot be null");
+        int h = hash(namespace, remainder);
+        byte[] bytes = remainder.getBytes(StandardCharsets.UTF_8);
+        Integer ns = namespaceIds.get(namespace);
+        if (ns != null) {
+            int id = table.find(h, ns.intValue(), bytes);
+            if (id != EncodedStringTable.EMPTY) {
+                return id;
+            }
+            return table.add(h, ns.intValue(), bytes);
+        }
+        return table.add(h, addNamespace(namespace), bytes);
+    }
+
+    private synchronized int addNamespace(String namespace) {
+        Integer ns = namespaceIds.get(namespace);
+        if (ns != null) {
+            return ns.intValue();
+        }
+        String[] copy = namespaces;
+        if (namespaceCount == copy.length) {
+            copy = Arrays.copyOf(copy, copy.length * 2);
+        }
+        copy[namespaceCount] = namespace;
+        namespaces = copy;
+        namespaceIds.put(namespace, Integer.valueOf(namespaceCount));
+        return namespaceCount++;
+    }
+
+    /**
+     * @param id IRI id
+     * @return namespace for the IRI; namespaces are shared between all IRIs that have them
+     */
+    public String namespace(int id) {
+        int ns = table.group(id);
+        return namespaces[ns];
+    }
+
+    /**
+     * @param id IRI id
+     * @return remainder for the IRI, decoded into a new string
+     */
+    public String remainder(int id) {
+        return table.decode(id);
+    }
+
+    /**
+     * @param id IRI id
+     * @return namespace and remainder of the IRI, decoded into one new string
+     */
+    public String iriString(int id) {
+        String ns = namespace(id);
+        if (table.length(id) == 0) {
+            return ns;
+        }
+        return table.appendTo(id, new StringBuilder(ns.length() + table.length(id)).append(ns))
+            .toString();
+    }
+
+    /**
+     * Compares the remainders of two IRIs as {@link String#compareTo(String)} would, without
+     * decoding them unless they differ at a character that is not ASCII.
+     *
+     * @param id IRI id
+     * @param other other IRI id
+     * @return negative, zero or positive as the remainder of id sorts before, with or after the
+     *         remainder of other
+     */
+    public int compareRemainders(int id, int other) {
+        return table.compare(id, other);
+    }
+
+    /**
+     * @param id IRI id
+     * @return true if the IRI has an empty remainder
+     */
+    public boolean isRemainderEmpty(int id) {
+        return table.length(id) == 0;
+    }
+
+    /**
+     * @param id IRI id
+     * @return the hash code of the IRI, as computed by {@link #hash(String, String)}
+     */
+    public int hash(int id) {
+        return table.hash(id);
+    }
+
+    /**
+     * @return number of IRIs in the dictionary
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * @return number of bytes used by encoded remainders
+     */
+    public long remainderBytes() {
+        return table.bytes();
+    }
+}
@@ -37,6 +37,20 @@ public interface InferredAxiomGenerator<A extends OWLAxiom> {
      */
     Set<A> createAxioms(OWLDataFactory df, OWLReasoner reasoner);
 
+    /**
+     * Generates the same axioms as {@link #createAxioms(OWLDataFactory, OWLReasoner)}, querying the
+     * reasoner from several threads at once where the generator supports it. Only call this with
+     * a reasoner that is safe to query concurrently; callers should precompute its inferences
+     * first, as {@link InferredOntologyGenerator#fillOntologyInParallel} does.
+     *
+     * @param df data factory
+     * @param reasoner the reasoner to use
+     * @return the set of axioms generated
+     */
+    default Set<A> createAxiomsInParallel(OWLDataFactory df, OWLReasoner reasoner) {
+        return createAxioms(df, reasoner);
+    }
+
     /**
      * @return the label
      */
@@ -12,7 +12,10 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.util;
 
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 import org.semanticweb.owlapi.model.OWLAxiom;
@@ -40,6 +43,18 @@ public abstract class InferredEntityAxiomGenerator<E extends OWLEntity, A extend
         return result;
     }
 
+    /**
+     * Partitions the entities over the common fork join pool; each worker collects the axioms for
+     * its entities in a set of its own, and the sets are merged at the end. The entities are
+     * listed on the calling thread; only the per entity queries run on the workers.
+     */
+    @Override
+    public Set<A> createAxiomsInParallel(OWLDataFactory df, OWLReasoner reasoner) {
+        List<E> entities = asList(getAllEntities(reasoner));
+        return entities.parallelStream().collect(HashSet::new,
+            (result, e) -> addAxioms(e, reasoner, df, result), Set::addAll);
+    }
+
     /**
      * Adds inferred axioms to a results set. The inferred axioms are generated
      * for the specific entity.
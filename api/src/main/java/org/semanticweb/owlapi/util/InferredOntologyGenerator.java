@@ -15,16 +15,21 @@ package org.semanticweb.owlapi.util;
 import static org.semanticweb.owlapi.model.parameters.AxiomAnnotations.IGNORE_AXIOM_ANNOTATIONS;
 import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.empty;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChangeException;
+import org.semanticweb.owlapi.reasoner.InferenceType;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,7 +112,7 @@ public class InferredOntologyGenerator {
 
     /**
      * Adds 'inferred axioms' to an ontology using the generators that have been registered with
-     * this {@code InferredAxiomGenerator}.
+     * this {@code InferredAxiomGenerator}. The axioms are added in a single change.
      *
      * @param df data factory.
      * @param ontology The ontology which the inferred axioms will be added to
@@ -117,15 +122,50 @@ public class InferredOntologyGenerator {
     public void fillOntology(OWLDataFactory df, OWLOntology ontology) {
         checkNotNull(df, "df cannot be null");
         checkNotNull(ontology, "ontology cannot be null");
-        axiomGenerators.stream().flatMap(g -> generate(df, g))
-            .filter(ax -> !ontology.containsAxiom(ax, INCLUDED, IGNORE_AXIOM_ANNOTATIONS))
-            .forEach(ontology::add);
+        add(ontology, asList(axiomGenerators.stream().flatMap(g -> generate(df, g)).distinct()));
+    }
+
+    /**
+     * Adds 'inferred axioms' to an ontology as {@link #fillOntology(OWLDataFactory, OWLOntology)}
+     * does, running the generators concurrently on the common fork join pool; generators that
+     * support it also query the reasoner concurrently. The precomputable inferences of the
+     * reasoner are computed on the calling thread first, so that the workers only query. This is
+     * opt in: once its inferences are precomputed, the reasoner must be safe to query from several
+     * threads at once, and its ontologies must not change until this method returns. The
+     * structural reasoner meets this, since it computes its hierarchies before the first query and
+     * only reads them afterwards; other reasoners may not.
+     *
+     * @param df data factory.
+     * @param ontology The ontology which the inferred axioms will be added to
+     * @throws OWLOntologyChangeException If there was a problem adding the inferred axioms to the
+     *         specified ontology.
+     */
+    public void fillOntologyInParallel(OWLDataFactory df, OWLOntology ontology) {
+        checkNotNull(df, "df cannot be null");
+        checkNotNull(ontology, "ontology cannot be null");
+        reasoner.precomputeInferences(
+            reasoner.getPrecomputableInferenceTypes().toArray(new InferenceType[0]));
+        add(ontology, axiomGenerators.parallelStream().flatMap(g -> generate(df, g, true))
+            .collect(Collectors.toSet()));
+    }
+
+    private static void add(OWLOntology ontology, Collection<OWLAxiom> axioms) {
+        // a single change for all axioms, so that listeners are notified once
+        ontology.add(asList(axioms.stream()
+            .filter(ax -> !ontology.containsAxiom(ax, INCLUDED, IGNORE_AXIOM_ANNOTATIONS))));
     }
 
     protected Stream<OWLAxiom> generate(OWLDataFactory df,
         InferredAxiomGenerator<? extends OWLAxiom> g) {
+        return generate(df, g, false);
+    }
+
+    private Stream<OWLAxiom> generate(OWLDataFactory df,
+        InferredAxiomGenerator<? extends OWLAxiom> g, boolean parallel) {
         try {
-            return g.createAxioms(df, reasoner).stream().map(x -> x);
+            Set<? extends OWLAxiom> axioms = parallel ? g.createAxiomsInParallel(df, reasoner)
+                : g.createAxioms(df, reasoner);
+            return axioms.stream().map(x -> x);
         } catch (Exception e) {
             logger.warn("Error generating {} axioms using {}, version {}", g.getLabel(),
                 reasoner.getReasonerName(), reasoner.getReasonerVersion(), e);
@@ -20,8 +20,10 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.Spliterators;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -379,6 +381,65 @@ public class OWLAPIStreamUtils {
         return compareIterators(set1.iterator(), set2.iterator());
     }
 
+    /**
+     * Minimum number of elements in a part for {@link #mapPartsInParallel(List, Function)}.
+     */
+    public static final int MIN_PART_SIZE = 256;
+    /**
+     * Number of parts per thread of the common fork join pool that a list is split into.
+     */
+    public static final int PARTS_PER_THREAD = 4;
+
+    /**
+     * @return the maximum number of parts that a list is split into
+     */
+    public static int maxParts() {
+        return PARTS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism();
+    }
+
+    /**
+     * @param size number of elements
+     * @return true if that many elements can be split into at least two parts
+     */
+    public static boolean canSplit(int size) {
+        return size >= 2 * MIN_PART_SIZE;
+    }
+
+    /**
+     * @param list list to split
+     * @param <T> type
+     * @return consecutive sublists of the list, each large enough for the maximum number of parts;
+     *         processing a list one batch at a time bounds the results held in memory
+     */
+    public static <T> Stream<List<T>> batches(List<T> list) {
+        int batchSize = MIN_PART_SIZE * maxParts();
+        return IntStream.range(0, (list.size() + batchSize - 1) / batchSize).mapToObj(
+            i -> list.subList(i * batchSize, Math.min(list.size(), (i + 1) * batchSize)));
+    }
+
+    /**
+     * Splits a list in consecutive parts of at least {@link #MIN_PART_SIZE} elements, and maps
+     * the parts on the common fork join pool.
+     *
+     * @param list list to split
+     * @param mapper function to apply to each part
+     * @param <T> element type
+     * @param <R> result type
+     * @return the results, in the order of the parts; a list too small to split is mapped as one
+     *         part, on the caller thread
+     */
+    public static <T, R> List<R> mapPartsInParallel(List<T> list,
+        Function<? super List<T>, R> mapper) {
+        int parts = Math.min(list.size() / MIN_PART_SIZE, maxParts());
+        if (parts < 2) {
+            return Collections.singletonList(mapper.apply(list));
+        }
+        return IntStream.range(0, parts).parallel()
+            .mapToObj(i -> mapper
+                .apply(list.subList(i * list.size() / parts, (i + 1) * list.size() / parts)))
+            .collect(Collectors.toList());
+    }
+
     /**
      * Annotated wrapper for Stream.empty()
      *
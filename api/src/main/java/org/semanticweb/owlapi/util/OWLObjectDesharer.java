@@ -126,7 +126,8 @@ public class OWLObjectDesharer implements OWLObjectVisitorEx<OWLObject> {
      * @param m The manager providing data factory and config to be used for the duplication.
      */
     public OWLObjectDesharer(OWLOntologyManager m) {
-        df = m.getOWLDataFactory();
+        // an interning factory would share the objects again
+        df = m.getOWLDataFactory().withoutInterning();
     }
 
     /**
@@ -0,0 +1,64 @@
+package org.semanticweb.owlapi.util;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A pool that stores each distinct string once, as UTF-8 bytes in shared arenas, and assigns it a
+ * dense int id. Equal strings get the same id, so pooled strings can be compared by id; the hash
+ * code of each string is kept with its id, so it is available without decoding. Entries are never
+ * removed; the memory is released when the pool is no longer referenced.
+ * <p>
+ * Lookups, including interning a string that is already in the pool, do not lock; adding an entry
+ * is synchronized.
+ */
+public final class StringPool {
+
+    private final EncodedStringTable table = new EncodedStringTable();
+
+    /**
+     * @param s string to store
+     * @return the id for the string; the same id is returned for equal arguments
+     */
+    public int intern(String s) {
+        checkNotNull(s, "s cannot be null");
+        int h = s.hashCode();
+        byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+        int id = table.find(h, 0, encoded);
+        if (id != EncodedStringTable.EMPTY) {
+            return id;
+        }
+        return table.add(h, 0, encoded);
+    }
+
+    /**
+     * @param id string id
+     * @return the string, decoded into a new string
+     */
+    public String get(int id) {
+        return table.decode(id);
+    }
+
+    /**
+     * @param id string id
+     * @return the hash code of the string, as computed by {@link String#hashCode()}
+     */
+    public int hash(int id) {
+        return table.hash(id);
+    }
+
+    /**
+     * @return number of strings in the pool
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * @return number of bytes used by encoded strings
+     */
+    public long bytes() {
+        return table.bytes();
+    }
+}
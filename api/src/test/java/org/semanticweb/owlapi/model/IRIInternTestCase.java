@@ -0,0 +1,81 @@
+package org.semanticweb.owlapi.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.Optional;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IRIInternTestCase {
+
+    private final IRI plain = IRI.create("http://example.com/ontology#", "Thing_1");
+    private final IRI interned = IRI.intern(plain);
+
+    @Test
+    public void shouldBeEqualToPlainIRI() {
+        assertEquals(plain, interned);
+        assertEquals(interned, plain);
+        assertEquals(plain.hashCode(), interned.hashCode());
+        assertEquals(0, plain.compareTo(interned));
+        assertEquals(interned, IRI.intern(IRI.create("http://example.com/ontology#Thing_1")));
+        assertSame(interned, IRI.intern(interned));
+        assertTrue(IRI.create("http://example.com/ontology#Thing_2").compareTo(interned) > 0);
+    }
+
+    @Test
+    public void shouldBehaveLikePlainIRI() {
+        assertEquals(plain.getNamespace(), interned.getNamespace());
+        assertEquals(Optional.of("Thing_1"), interned.getRemainder());
+        assertEquals(plain.getShortForm(), interned.getShortForm());
+        assertEquals(plain.toString(), interned.toString());
+        assertEquals(plain.toQuotedString(), interned.toQuotedString());
+        assertEquals(plain.toURI(), interned.toURI());
+        assertEquals(plain.length(), interned.length());
+        assertEquals('T', interned.charAt(plain.getNamespace().length()));
+        assertEquals("ex:Thing_1", interned.prefixedBy("ex:"));
+        IRI noRemainder = IRI.intern(IRI.create("http://example.com/ontology/"));
+        assertEquals(Optional.empty(), noRemainder.getRemainder());
+        assertEquals("http://example.com/ontology/", noRemainder.toString());
+    }
+
+    @Test
+    public void shouldNotKeepDecodedStrings() throws ReflectiveOperationException {
+        IRI other = IRI.intern(IRI.create("http://example.com/ontology#", "Th\u00e9ing"));
+        IRI supplementary =
+            IRI.intern(IRI.create("http://example.com/ontology#", "Th\ud83d\ude00"));
+        assertTrue(interned.compareTo(other) < 0);
+        assertEquals(Integer.signum("Th\u00e9ing".compareTo("Th\ud83d\ude00")),
+            Integer.signum(other.compareTo(supplementary)));
+        assertEquals("http://example.com/ontology#Th\u00e9ing", other.toString());
+        assertEquals("<http://example.com/ontology#Thing_1>", interned.toQuotedString());
+        for (IRI iri : new IRI[] {interned, other, supplementary}) {
+            for (String name : new String[] {"namespace", "remainder"}) {
+                Field field = IRI.class.getDeclaredField(name);
+                field.setAccessible(true);
+                assertNull(name, field.get(iri));
+            }
+        }
+    }
+
+    @Test
+    public void shouldSerializeAsPlainIRI() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(interned);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(plain, in.readObject());
+        }
+    }
+}
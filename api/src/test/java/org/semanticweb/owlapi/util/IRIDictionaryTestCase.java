@@ -0,0 +1,76 @@
+package org.semanticweb.owlapi.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IRIDictionaryTestCase {
+
+    private static final String NS = "http://example.com/ontology#";
+
+    @Test
+    public void shouldReturnSameIdForSameIRI() {
+        IRIDictionary d = new IRIDictionary();
+        int a = d.intern(NS, "A");
+        assertEquals(a, d.intern(NS, new String("A")));
+        assertNotEquals(a, d.intern(NS, "B"));
+        assertNotEquals(a, d.intern("urn:test#", "A"));
+        assertEquals(3, d.size());
+    }
+
+    @Test
+    public void shouldDecodeIRIs() {
+        IRIDictionary d = new IRIDictionary();
+        String unicode = "élève_中文";
+        int a = d.intern(NS, unicode);
+        int b = d.intern("urn:test:", "");
+        assertEquals(NS, d.namespace(a));
+        assertEquals(unicode, d.remainder(a));
+        assertEquals(IRIDictionary.hash(NS, unicode), d.hash(a));
+        assertEquals("urn:test:", d.namespace(b));
+        assertEquals("", d.remainder(b));
+        assertTrue(d.isRemainderEmpty(b));
+    }
+
+    @Test
+    public void shouldGrowWithoutLosingEntries() {
+        IRIDictionary d = new IRIDictionary();
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, d.intern(NS + i % 7, "C" + i));
+        }
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 1 << 21) {
+            sb.append("long_remainder_");
+        }
+        String longRemainder = sb.toString();
+        int big = d.intern(NS, longRemainder);
+        int after = d.intern(NS, "after");
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, d.intern(NS + i % 7, "C" + i));
+            assertEquals("C" + i, d.remainder(i));
+            assertEquals(NS + i % 7, d.namespace(i));
+        }
+        assertEquals(longRemainder, d.remainder(big));
+        assertEquals("after", d.remainder(after));
+        assertEquals(n + 2, d.size());
+    }
+
+    @Test
+    public void shouldInternConcurrently() {
+        IRIDictionary d = new IRIDictionary();
+        int n = 20000;
+        int[] ids = IntStream.range(0, 4 * n).parallel().map(i -> d.intern(NS, "C" + i % n))
+            .toArray();
+        assertEquals(n, d.size());
+        for (int i = 0; i < 4 * n; i++) {
+            assertEquals(ids[i % n], ids[i]);
+            assertEquals("C" + i % n, d.remainder(ids[i]));
+        }
+    }
+}
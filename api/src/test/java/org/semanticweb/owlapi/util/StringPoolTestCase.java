@@ -0,0 +1,77 @@
+package org.semanticweb.owlapi.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class StringPoolTestCase {
+
+    @Test
+    public void shouldReturnSameIdForSameString() {
+        StringPool p = new StringPool();
+        int a = p.intern("A definition");
+        assertEquals(a, p.intern(new String("A definition")));
+        assertNotEquals(a, p.intern("Another definition"));
+        assertEquals(2, p.size());
+        assertEquals("A definitionAnother definition".length(), p.bytes());
+    }
+
+    @Test
+    public void shouldDecodeStrings() {
+        StringPool p = new StringPool();
+        String unicode = "élève 中文 😀";
+        int a = p.intern(unicode);
+        int empty = p.intern("");
+        assertEquals(unicode, p.get(a));
+        assertEquals(unicode.hashCode(), p.hash(a));
+        assertEquals("", p.get(empty));
+        assertEquals(0, p.hash(empty));
+    }
+
+    @Test
+    public void shouldGrowWithoutLosingEntries() {
+        StringPool p = new StringPool();
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, p.intern("comment " + i));
+        }
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 1 << 21) {
+            sb.append("long_definition_");
+        }
+        String longString = sb.toString();
+        int big = p.intern(longString);
+        int after = p.intern("after");
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, p.intern("comment " + i));
+            assertEquals("comment " + i, p.get(i));
+        }
+        assertEquals(longString, p.get(big));
+        assertEquals(big, p.intern(longString));
+        assertEquals("after", p.get(after));
+        assertEquals(n + 2, p.size());
+    }
+
+    @Test
+    public void shouldAssignOneIdPerStringAcrossThreads() {
+        StringPool p = new StringPool();
+        int n = 20000;
+        List<int[]> ids = IntStream.range(0, 4).parallel()
+            .mapToObj(t -> IntStream.range(0, n).map(i -> p.intern("comment " + i)).toArray())
+            .collect(Collectors.toList());
+        for (int[] threadIds : ids) {
+            assertArrayEquals(ids.get(0), threadIds);
+        }
+        assertEquals(n, p.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals("comment " + i, p.get(ids.get(0)[i]));
+        }
+    }
+}
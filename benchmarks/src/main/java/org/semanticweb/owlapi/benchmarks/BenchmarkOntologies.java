@@ -0,0 +1,108 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.GZipFileDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * Resolves the ontology parameters shared by all benchmarks. An ontology name can be:
+ * <ul>
+ * <li>{@code generated}: a synthetic ontology built by {@link OntologyGenerator}, whose size is
+ * controlled by the {@code size} parameter;</li>
+ * <li>the name of an ontology bundled with this module, e.g. {@code pizza}, which the build copies
+ * from the contract test resources;</li>
+ * <li>a path to a local file, optionally gzipped, e.g. {@code -p ontology=/data/go.ofn.gz}.</li>
+ * </ul>
+ */
+public final class BenchmarkOntologies {
+
+    /** Name of the generated ontology source. */
+    public static final String GENERATED = "generated";
+
+    private BenchmarkOntologies() {}
+
+    /**
+     * @param m manager to load the ontology into
+     * @param name ontology name, see class documentation
+     * @param size number of classes for generated ontologies
+     * @return loaded or generated ontology
+     * @throws OWLOntologyCreationException if loading fails
+     */
+    public static OWLOntology load(OWLOntologyManager m, String name, int size)
+        throws OWLOntologyCreationException {
+        if (GENERATED.equals(name)) {
+            return OntologyGenerator.generate(m, size);
+        }
+        OWLOntologyLoaderConfiguration config =
+            m.getOntologyLoaderConfiguration().setStrict(false);
+        InputStream bundled = BenchmarkOntologies.class.getResourceAsStream("/" + name + ".owl");
+        if (bundled != null) {
+            return m.loadOntologyFromOntologyDocument(new StreamDocumentSource(bundled), config);
+        }
+        File file = new File(name);
+        if (!file.exists()) {
+            throw new IllegalArgumentException("Not a bundled ontology or an existing file: "
+                + name);
+        }
+        OWLOntologyDocumentSource source = file.getName().endsWith(".gz")
+            ? new GZipFileDocumentSource(file) : new FileDocumentSource(file);
+        return m.loadOntologyFromOntologyDocument(source, config);
+    }
+
+    /**
+     * @param name short format name: rdfxml, turtle, owlxml, functional, manchester, obo or
+     *        snapshot
+     * @return matching document format
+     */
+    public static OWLDocumentFormat format(String name) {
+        switch (name) {
+            case "rdfxml":
+                return new RDFXMLDocumentFormat();
+            case "turtle":
+                return new TurtleDocumentFormat();
+            case "owlxml":
+                return new OWLXMLDocumentFormat();
+            case "functional":
+                return new FunctionalSyntaxDocumentFormat();
+            case "manchester":
+                return new ManchesterSyntaxDocumentFormat();
+            case "obo":
+                return new OBODocumentFormat();
+            case "snapshot":
+                return new BinarySnapshotDocumentFormat();
+            default:
+                throw new IllegalArgumentException("Unknown format: " + name);
+        }
+    }
+
+    /**
+     * @param o ontology to save
+     * @param format format to save in
+     * @return serialized ontology
+     * @throws OWLOntologyStorageException if saving fails
+     */
+    public static byte[] save(OWLOntology o, OWLDocumentFormat format)
+        throws OWLOntologyStorageException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        o.getOWLOntologyManager().saveOntology(o, format, out);
+        return out.toByteArray();
+    }
+}
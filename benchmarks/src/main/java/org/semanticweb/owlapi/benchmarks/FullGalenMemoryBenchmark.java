@@ -2,12 +2,19 @@ package org.semanticweb.owlapi.benchmarks;
 
 import java.nio.file.FileSystems;
 
+/**
+ * Convenience for the Full Galen memory benchmark; the only argument is the path to full-galen.owl
+ */
 @SuppressWarnings("javadoc")
 public class FullGalenMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(
-            "/Users/ignazio/full-galen.owl"), FileSystems.getDefault().getPath(
-            "fullgalen.hprof"));
+        if (args.length != 1) {
+            System.err.println("usage: " + FullGalenMemoryBenchmark.class.getCanonicalName()
+                + " <full-galen.owl>");
+            System.exit(1);
+        }
+        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(args[0]),
+            FileSystems.getDefault().getPath("fullgalen.hprof"));
     }
 }
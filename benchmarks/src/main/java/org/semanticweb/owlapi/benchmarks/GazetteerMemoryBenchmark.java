@@ -10,7 +10,12 @@ import org.obolibrary.oboformat.parser.OBOFormatParser;
 public class GazetteerMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        memoryProfile(FileSystems.getDefault().getPath("/Users/ignazio/gaz-fixed.obo"),
+        if (args.length != 1) {
+            System.err.println("usage: " + GazetteerMemoryBenchmark.class.getCanonicalName()
+                + " <gaz.obo>");
+            System.exit(1);
+        }
+        memoryProfile(FileSystems.getDefault().getPath(args[0]),
             FileSystems.getDefault()
                 .getPath("gazetteer" + new Date() + ".hprof"));
     }
@@ -0,0 +1,85 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.search.EntitySearcher;
+
+/**
+ * Lookups on a hub class, i.e., a class with a very large number of direct subclasses, as found in
+ * large taxonomies. The cost of these lookups is dominated by how index values are handed out, so
+ * run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, the bytes allocated per call:
+ * it should not grow with {@code subclasses}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HubLookupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Hub {
+
+        @Param({"1000", "50000"})
+        public int subclasses;
+        OWLOntology o;
+        OWLClass hub;
+
+        @Setup(Level.Trial)
+        public void setUp() throws OWLOntologyCreationException {
+            OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+            OWLDataFactory df = m.getOWLDataFactory();
+            hub = df.getOWLClass(OntologyGenerator.NS, "Hub");
+            List<OWLAxiom> axioms = new ArrayList<>(subclasses + 1);
+            axioms.add(df.getOWLDeclarationAxiom(hub));
+            for (int i = 0; i < subclasses; i++) {
+                axioms.add(df.getOWLSubClassOfAxiom(df.getOWLClass(OntologyGenerator.NS, "C" + i),
+                    hub));
+            }
+            o = m.createOntology(axioms.stream());
+            // build the indexes outside of the measurement
+            o.subClassAxiomsForSuperClass(hub).count();
+            o.subClassAxiomsForSubClass(hub).count();
+        }
+    }
+
+    /**
+     * Only the first value is used, so the cost of handing out the values dominates.
+     */
+    @Benchmark
+    public boolean anySubClassAxiom(Hub h) {
+        return h.o.subClassAxiomsForSuperClass(h.hub).findAny().isPresent();
+    }
+
+    @Benchmark
+    public long getSubClasses(Hub h) {
+        return EntitySearcher.getSubClasses(h.hub, h.o).count();
+    }
+
+    @Benchmark
+    public long axiomsByType(Hub h) {
+        return h.o.axioms(AxiomType.SUBCLASS_OF).count();
+    }
+}
@@ -0,0 +1,99 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Signature queries over a large imports closure. The generated axioms are spread over
+ * {@code ontologies} ontologies, all imported by an empty root ontology. {@code signature} and
+ * {@code classesInSignature} query the closure of the root; {@code unionOfMembers} computes the
+ * same signature from the members of the closure, as done before the closure signature was kept
+ * by the manager. {@code editAndQuery} adds an axiom to one of the members, queries the closure
+ * and removes the axiom again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImportsClosureBenchmark {
+
+    private static final String NS = "urn:owlapi:benchmark:closure#";
+    @Param({"100000"})
+    public int size;
+    @Param({"40"})
+    public int ontologies;
+    private OWLOntology root;
+    private OWLOntology member;
+    private OWLAxiom edit;
+    private OWLClass added;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        OWLDataFactory df = m.getOWLDataFactory();
+        List<OWLAxiom> axioms = new OntologyGenerator(df).axioms(size);
+        root = m.createOntology(IRI.create(NS, "root"));
+        int partSize = (axioms.size() + ontologies - 1) / ontologies;
+        for (int i = 0; i < ontologies; i++) {
+            IRI iri = IRI.create(NS, "member" + i);
+            member = m.createOntology(iri);
+            member.add(axioms.subList(Math.min(axioms.size(), i * partSize),
+                Math.min(axioms.size(), (i + 1) * partSize)));
+            m.applyChange(new AddImport(root, df.getOWLImportsDeclaration(iri)));
+        }
+        added = df.getOWLClass(NS, "Added");
+        edit = df.getOWLSubClassOfAxiom(added, df.getOWLClass(OntologyGenerator.NS, "C0"));
+    }
+
+    @Benchmark
+    public long signature() {
+        return root.signature(INCLUDED).count();
+    }
+
+    @Benchmark
+    public long classesInSignature() {
+        return root.classesInSignature(INCLUDED).count();
+    }
+
+    @Benchmark
+    public long unionOfMembers() {
+        return root.importsClosure().flatMap(OWLOntology::signature).distinct().sorted().count();
+    }
+
+    @Benchmark
+    public long editAndQuery() {
+        member.add(edit);
+        long count = root.classesInSignature(INCLUDED).count();
+        if (root.containsClassInSignature(added.getIRI(), INCLUDED)) {
+            count++;
+        }
+        member.remove(edit);
+        return count;
+    }
+}
@@ -0,0 +1,133 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.util.OWLAPIStreamUtils;
+
+import uk.ac.manchester.cs.owl.owlapi.HasMaterializeIndexes;
+
+/**
+ * Index build time. {@link #addAxioms()} measures adding all axioms to an empty ontology, which
+ * updates the eagerly maintained indexes; {@link #buildLazyIndexes()} measures the first query
+ * sweep over a populated ontology, which builds every lazily initialized index, one scan per
+ * index; {@link #materializeIndexes(Unindexed, Executor)} builds the same indexes in bulk, with one
+ * scan per axiom type, optionally in parallel.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IndexBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Axioms {
+
+        @Param({BenchmarkOntologies.GENERATED, "pizza"})
+        public String ontology;
+        @Param({"10000"})
+        public int size;
+        List<OWLAxiom> axioms;
+
+        @Setup(Level.Trial)
+        public void setUp() throws OWLOntologyCreationException {
+            axioms = OWLAPIStreamUtils.asList(BenchmarkOntologies
+                .load(OWLManager.createOWLOntologyManager(), ontology, size).axioms());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EmptyOntology {
+
+        OWLOntology target;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws OWLOntologyCreationException {
+            target = OWLManager.createOWLOntologyManager().createOntology();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PopulatedOntology {
+
+        OWLOntology target;
+        IndexSweep sweep;
+
+        @Setup(Level.Invocation)
+        public void setUp(Axioms a) throws OWLOntologyCreationException {
+            target = OWLManager.createOWLOntologyManager().createOntology(a.axioms.stream());
+            sweep = new IndexSweep(target);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Unindexed {
+
+        OWLOntology target;
+
+        @Setup(Level.Invocation)
+        public void setUp(Axioms a) throws OWLOntologyCreationException {
+            target = OWLManager.createOWLOntologyManager().createOntology(a.axioms.stream());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Executor {
+
+        @Param({"false", "true"})
+        public boolean parallel;
+        ExecutorService executor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if (parallel) {
+                executor =
+                    Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Benchmark
+    public OWLOntology addAxioms(Axioms a, EmptyOntology o) {
+        o.target.add(a.axioms);
+        return o.target;
+    }
+
+    @Benchmark
+    public long buildLazyIndexes(PopulatedOntology o) {
+        return o.sweep.touchAll(o.target);
+    }
+
+    @Benchmark
+    public Map<String, Long> materializeIndexes(Unindexed o, Executor e) {
+        return ((HasMaterializeIndexes) o.target).materializeIndexes(e.executor);
+    }
+}
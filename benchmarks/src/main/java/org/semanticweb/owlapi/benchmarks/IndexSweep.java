@@ -0,0 +1,68 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+/**
+ * A query sweep that touches every axiom index of an ontology once. On a freshly loaded ontology
+ * this forces all lazily built indexes to be built, so timing it measures index construction.
+ */
+public final class IndexSweep {
+
+    private final OWLClass c;
+    private final OWLObjectProperty p;
+    private final OWLDataProperty d;
+    private final OWLNamedIndividual i;
+
+    /**
+     * @param o ontology to pick sample entities from; entities not present are replaced with fresh
+     *        ones, which still trigger index initialization
+     */
+    public IndexSweep(OWLOntology o) {
+        c = o.classesInSignature().findFirst()
+            .orElse(o.getOWLOntologyManager().getOWLDataFactory().getOWLThing());
+        p = o.objectPropertiesInSignature().findFirst()
+            .orElse(o.getOWLOntologyManager().getOWLDataFactory().getOWLTopObjectProperty());
+        d = o.dataPropertiesInSignature().findFirst()
+            .orElse(o.getOWLOntologyManager().getOWLDataFactory().getOWLTopDataProperty());
+        i = o.individualsInSignature().findFirst().orElse(
+            o.getOWLOntologyManager().getOWLDataFactory().getOWLNamedIndividual("urn:test:i"));
+    }
+
+    /**
+     * @param o ontology to query
+     * @return total number of axioms returned, to be consumed by the caller
+     */
+    public long touchAll(OWLOntology o) {
+        return count(o.subClassAxiomsForSubClass(c), o.subClassAxiomsForSuperClass(c),
+            o.equivalentClassesAxioms(c), o.disjointClassesAxioms(c), o.disjointUnionAxioms(c),
+            o.hasKeyAxioms(c), o.axioms(c), o.classAssertionAxioms(c), o.classAssertionAxioms(i),
+            o.annotationAssertionAxioms(c.getIRI()), o.objectSubPropertyAxiomsForSubProperty(p),
+            o.objectSubPropertyAxiomsForSuperProperty(p), o.objectPropertyDomainAxioms(p),
+            o.objectPropertyRangeAxioms(p), o.inverseObjectPropertyAxioms(p),
+            o.equivalentObjectPropertiesAxioms(p), o.disjointObjectPropertiesAxioms(p),
+            o.functionalObjectPropertyAxioms(p), o.inverseFunctionalObjectPropertyAxioms(p),
+            o.symmetricObjectPropertyAxioms(p), o.asymmetricObjectPropertyAxioms(p),
+            o.reflexiveObjectPropertyAxioms(p), o.irreflexiveObjectPropertyAxioms(p),
+            o.transitiveObjectPropertyAxioms(p), o.dataSubPropertyAxiomsForSubProperty(d),
+            o.dataSubPropertyAxiomsForSuperProperty(d), o.dataPropertyDomainAxioms(d),
+            o.dataPropertyRangeAxioms(d), o.equivalentDataPropertiesAxioms(d),
+            o.disjointDataPropertiesAxioms(d), o.functionalDataPropertyAxioms(d),
+            o.dataPropertyAssertionAxioms(i), o.objectPropertyAssertionAxioms(i),
+            o.negativeObjectPropertyAssertionAxioms(i), o.negativeDataPropertyAssertionAxioms(i),
+            o.sameIndividualAxioms(i), o.differentIndividualAxioms(i));
+    }
+
+    private static long count(Stream<?>... streams) {
+        long total = 0;
+        for (Stream<?> s : streams) {
+            total += s.count();
+        }
+        return total;
+    }
+}
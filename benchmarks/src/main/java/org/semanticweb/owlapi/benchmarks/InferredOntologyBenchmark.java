@@ -0,0 +1,72 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+import org.semanticweb.owlapi.util.InferredOntologyGenerator;
+
+/**
+ * Materialization of the inferences of a
+ * {@link org.semanticweb.owlapi.reasoner.structural.StructuralReasoner} with all the default
+ * inferred axiom generators. The source ontology is held by a concurrent manager; the reasoner
+ * computes its hierarchies before the first query, so in the parallel mode it is queried from
+ * several threads at once. {@code fill} adds the inferred axioms to a new ontology, with the
+ * generators run one after another or in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class InferredOntologyBenchmark {
+
+    @Param({BenchmarkOntologies.GENERATED})
+    public String ontology;
+    @Param({"10000"})
+    public int size;
+    @Param({"false", "true"})
+    public boolean parallel;
+    private OWLOntologyManager m;
+    private InferredOntologyGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        m = OWLManager.createConcurrentOWLOntologyManager();
+        OWLOntology o = BenchmarkOntologies.load(m, ontology, size);
+        OWLReasoner reasoner = new StructuralReasonerFactory().createNonBufferingReasoner(o);
+        reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY,
+            InferenceType.OBJECT_PROPERTY_HIERARCHY, InferenceType.DATA_PROPERTY_HIERARCHY);
+        generator = new InferredOntologyGenerator(reasoner);
+    }
+
+    @Benchmark
+    public OWLOntology fill() throws OWLOntologyCreationException {
+        OWLOntology inferred = m.createOntology();
+        if (parallel) {
+            generator.fillOntologyInParallel(m.getOWLDataFactory(), inferred);
+        } else {
+            generator.fillOntology(m.getOWLDataFactory(), inferred);
+        }
+        m.removeOntology(inferred);
+        return inferred;
+    }
+}
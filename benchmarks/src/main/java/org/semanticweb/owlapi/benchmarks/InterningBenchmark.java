@@ -0,0 +1,120 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+
+/**
+ * Heap and lookup cost of axioms with and without interning in the data factory. Interning pays
+ * off when the same restrictions are repeated many times, as in anatomy ontologies; Uberon or
+ * GO-plus sized inputs are passed as files, e.g.
+ * {@code java -jar benchmarks.jar InterningBenchmark -p ontology=/data/uberon.owl}. The source
+ * ontology is serialized once per trial in functional syntax; {@code load} parses it after a full
+ * collection and reports the heap retained by the loaded ontology as {@code retainedHeapBytes}.
+ * {@code containsAxioms} looks up the axioms of a second parse of the document in the first one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InterningBenchmark {
+
+    private static final IRI DOCUMENT_IRI = IRI.create("urn:owlapi:benchmark:document");
+    private static final String INTERN_OBJECTS_PROPERTY =
+        ConfigurationOptions.class.getName() + '.' + ConfigurationOptions.INTERN_OBJECTS.name();
+    @Param({BenchmarkOntologies.GENERATED})
+    public String ontology;
+    @Param({"100000"})
+    public int size;
+    @Param({"false", "true"})
+    public boolean intern;
+    private byte[] document = new byte[0];
+
+    /**
+     * Heap figures for the load.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        /** Heap retained after loading the ontology. */
+        public long retainedHeapBytes;
+    }
+
+    /**
+     * Two parses of the document, only created for the lookup benchmark so that they do not
+     * share objects with the ontology parsed by {@code load}.
+     */
+    @State(Scope.Benchmark)
+    public static class Parsed {
+
+        OWLOntology loaded;
+        List<OWLAxiom> probes;
+
+        @Setup(Level.Trial)
+        public void setUp(InterningBenchmark benchmark) throws OWLOntologyCreationException {
+            loaded = benchmark.parse();
+            probes = benchmark.parse().axioms().collect(Collectors.toList());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        // data factories created from now on read the option from the system properties
+        System.setProperty(INTERN_OBJECTS_PROPERTY, Boolean.toString(intern));
+        document = BenchmarkOntologies.save(BenchmarkOntologies
+            .load(OWLManager.createOWLOntologyManager(), ontology, size),
+            new FunctionalSyntaxDocumentFormat());
+    }
+
+    OWLOntology parse() throws OWLOntologyCreationException {
+        return OWLManager.createOWLOntologyManager()
+            .loadOntologyFromOntologyDocument(new StreamDocumentSource(
+                new ByteArrayInputStream(document), DOCUMENT_IRI,
+                new FunctionalSyntaxDocumentFormat(), null));
+    }
+
+    @Benchmark
+    public OWLOntology load(HeapUsage usage) throws OWLOntologyCreationException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        OWLOntology o = parse();
+        System.gc();
+        usage.retainedHeapBytes = memory.getHeapMemoryUsage().getUsed() - before;
+        return o;
+    }
+
+    @Benchmark
+    public long containsAxioms(Parsed parsed) {
+        return parsed.probes.stream().filter(parsed.loaded::containsAxiom).count();
+    }
+}
@@ -0,0 +1,135 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.model.parameters.ConfigurationOptions;
+import org.semanticweb.owlapi.util.StringPool;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+
+/**
+ * Heap and access cost of literals with and without the shared literal pool. Only lexical forms
+ * longer than 160 characters are pooled, so annotation heavy ontologies such as GO or ChEBI are
+ * the intended input, e.g.
+ * {@code java -jar benchmarks.jar LiteralPoolBenchmark -p ontology=/data/go.obo}. The source
+ * ontology is serialized once per trial in functional syntax; {@code load} parses it after a full
+ * collection and reports the heap retained by the loaded ontology as {@code retainedHeapBytes}
+ * and the bytes held by the pool as {@code poolBytes}. Each manager has its own data factory and
+ * pool, so the retained heap includes the pooled strings. {@code readLexicalForms} and {@code hashLiterals} read the lexical forms of all
+ * annotation values and add the literals to a hash set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LiteralPoolBenchmark {
+
+    private static final IRI DOCUMENT_IRI = IRI.create("urn:owlapi:benchmark:document");
+    private static final String LITERAL_POOL_PROPERTY =
+        ConfigurationOptions.class.getName() + '.' + ConfigurationOptions.LITERAL_POOL.name();
+    @Param({BenchmarkOntologies.GENERATED})
+    public String ontology;
+    @Param({"10000"})
+    public int size;
+    @Param({"false", "true"})
+    public boolean pool;
+    private byte[] document = new byte[0];
+    private List<OWLLiteral> literals;
+
+    /**
+     * Heap figures for the load.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        /** Heap retained after loading the ontology. */
+        public long retainedHeapBytes;
+        /** Bytes of the lexical forms stored in the literal pool. */
+        public long poolBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        // data factories created from now on read the option from the system properties
+        System.setProperty(LITERAL_POOL_PROPERTY, Boolean.toString(pool));
+        document = BenchmarkOntologies.save(BenchmarkOntologies
+            .load(OWLManager.createOWLOntologyManager(), ontology, size),
+            new FunctionalSyntaxDocumentFormat());
+        literals = parse().axioms(AxiomType.ANNOTATION_ASSERTION)
+            .map(ax -> ax.getValue().asLiteral()).filter(Optional::isPresent)
+            .map(Optional::get).collect(Collectors.toList());
+    }
+
+    private OWLOntology parse() throws OWLOntologyCreationException {
+        return parse(OWLManager.createOWLOntologyManager());
+    }
+
+    private OWLOntology parse(OWLOntologyManager manager) throws OWLOntologyCreationException {
+        return manager.loadOntologyFromOntologyDocument(new StreamDocumentSource(
+                new ByteArrayInputStream(document), DOCUMENT_IRI,
+                new FunctionalSyntaxDocumentFormat(), null));
+    }
+
+    @Benchmark
+    public OWLOntology load(HeapUsage usage) throws OWLOntologyCreationException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology o = parse(manager);
+        System.gc();
+        usage.retainedHeapBytes = memory.getHeapMemoryUsage().getUsed() - before;
+        StringPool literalPool =
+            ((OWLDataFactoryImpl) manager.getOWLDataFactory()).getLiteralPool();
+        usage.poolBytes = literalPool == null ? 0 : literalPool.bytes();
+        return o;
+    }
+
+    @Benchmark
+    public long readLexicalForms() {
+        long length = 0;
+        for (OWLLiteral l : literals) {
+            length += l.getLiteral().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public Set<OWLLiteral> hashLiterals() {
+        return new HashSet<>(literals);
+    }
+}
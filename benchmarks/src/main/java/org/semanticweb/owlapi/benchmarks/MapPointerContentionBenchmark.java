@@ -0,0 +1,108 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+/**
+ * Throughput of concurrent readers hitting the same {@code MapPointer} instances of one ontology
+ * managed by a concurrent manager. All reader threads share the ontology, so this measures how
+ * well index lookups scale with the number of threads ({@code -t N}); the {@code readWrite} group
+ * adds a thread that keeps adding and removing an axiom while seven threads read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@Threads(8)
+public class MapPointerContentionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+
+        @Param({BenchmarkOntologies.GENERATED})
+        public String ontology;
+        @Param({"10000"})
+        public int size;
+        OWLOntology o;
+        OWLClass[] classes;
+        OWLAxiom toggled;
+
+        @Setup(Level.Trial)
+        public void setUp() throws OWLOntologyCreationException {
+            o = BenchmarkOntologies.load(OWLManager.createConcurrentOWLOntologyManager(),
+                ontology, size);
+            classes = o.classesInSignature().toArray(OWLClass[]::new);
+            toggled = o.getOWLOntologyManager().getOWLDataFactory()
+                .getOWLSubClassOfAxiom(classes[classes.length - 1], classes[0]);
+            new IndexSweep(o).touchAll(o);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        OWLClass next(Shared s) {
+            next = (next + 7) % s.classes.length;
+            return s.classes[next];
+        }
+    }
+
+    @Benchmark
+    public long getValues(Shared s, Cursor c) {
+        return s.o.subClassAxiomsForSuperClass(c.next(s)).count();
+    }
+
+    @Benchmark
+    public boolean containsKey(Shared s, Cursor c) {
+        return s.o.isDeclared(c.next(s));
+    }
+
+    @Benchmark
+    public int countValues(Shared s) {
+        return s.o.getAxiomCount(AxiomType.SUBCLASS_OF);
+    }
+
+    @Benchmark
+    public boolean containsReference(Shared s, Cursor c) {
+        return s.o.containsClassInSignature(c.next(s).getIRI());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(7)
+    public long reader(Shared s, Cursor c) {
+        return s.o.subClassAxiomsForSubClass(c.next(s)).count();
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Object writer(Shared s) {
+        s.o.add(s.toggled);
+        return s.o.remove(s.toggled);
+    }
+}
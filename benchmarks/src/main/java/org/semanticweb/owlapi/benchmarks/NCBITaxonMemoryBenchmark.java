@@ -3,15 +3,18 @@ package org.semanticweb.owlapi.benchmarks;
 import java.nio.file.FileSystems;
 
 /**
- * Convenience for NCBI memory benchmark
+ * Convenience for NCBI memory benchmark; the only argument is the path to ncbitaxon.rdf.ofn.gz
  */
 @SuppressWarnings("javadoc")
 public class NCBITaxonMemoryBenchmark {
 
     public static void main(String[] args) throws Exception {
-        MemoryBenchmark.memoryProfile(
-            FileSystems.getDefault().getPath(
-                "/Users/ignazio/workspace/benchmarks/ncbitaxon/src/main/resources/ncbitaxon.rdf.ofn.gz"),
+        if (args.length != 1) {
+            System.err.println("usage: " + NCBITaxonMemoryBenchmark.class.getCanonicalName()
+                + " <ncbitaxon.rdf.ofn.gz>");
+            System.exit(1);
+        }
+        MemoryBenchmark.memoryProfile(FileSystems.getDefault().getPath(args[0]),
             FileSystems.getDefault().getPath("ncbitaxon.hprof"));
     }
 }
@@ -0,0 +1,127 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Generates synthetic ontologies whose shape resembles large biomedical ontologies: a deep, mostly
+ * tree shaped class hierarchy with some multiple inheritance, existential restrictions over a small
+ * set of object properties, a few defined classes, labels and definitions on every class, and a
+ * layer of individuals. Generation is deterministic for a given size, so results of different runs
+ * are comparable.
+ */
+public class OntologyGenerator {
+
+    /** Namespace used for all generated entities. */
+    public static final String NS = "http://owlapi.sourceforge.net/benchmarks/generated#";
+    private static final long SEED = 42L;
+    private final OWLDataFactory df;
+    private final Random random = new Random(SEED);
+
+    /**
+     * @param df data factory to use
+     */
+    public OntologyGenerator(OWLDataFactory df) {
+        this.df = df;
+    }
+
+    /**
+     * @param m manager that will own the new ontology
+     * @param classCount number of classes to generate
+     * @return a new ontology with roughly {@code 6 * classCount} axioms
+     * @throws OWLOntologyCreationException if the ontology cannot be created
+     */
+    public static OWLOntology generate(OWLOntologyManager m, int classCount)
+        throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology(IRI.create(NS.substring(0, NS.length() - 1) + classCount));
+        o.add(new OntologyGenerator(m.getOWLDataFactory()).axioms(classCount));
+        return o;
+    }
+
+    /**
+     * @param classCount number of classes to generate
+     * @return list of generated axioms
+     */
+    public List<OWLAxiom> axioms(int classCount) {
+        List<OWLAxiom> axioms = new ArrayList<>(classCount * 7);
+        OWLAnnotationProperty label = df.getRDFSLabel();
+        OWLAnnotationProperty definition = df.getRDFSComment();
+        int propertyCount = Math.max(4, classCount / 1000);
+        OWLObjectProperty[] properties = new OWLObjectProperty[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            properties[i] = df.getOWLObjectProperty(NS, "p" + i);
+            axioms.add(df.getOWLDeclarationAxiom(properties[i]));
+            if (i > 0) {
+                axioms.add(df.getOWLSubObjectPropertyOfAxiom(properties[i],
+                    properties[random.nextInt(i)]));
+            }
+        }
+        axioms.add(df.getOWLTransitiveObjectPropertyAxiom(properties[0]));
+        OWLDataProperty weight = df.getOWLDataProperty(NS, "weight");
+        axioms.add(df.getOWLDeclarationAxiom(weight));
+        axioms.add(df.getOWLFunctionalDataPropertyAxiom(weight));
+        OWLClass[] classes = new OWLClass[classCount];
+        for (int i = 0; i < classCount; i++) {
+            OWLClass c = df.getOWLClass(NS, "C" + i);
+            classes[i] = c;
+            axioms.add(df.getOWLDeclarationAxiom(c));
+            axioms.add(df.getOWLAnnotationAssertionAxiom(label, c.getIRI(),
+                df.getOWLLiteral("class " + i, "en")));
+            if (random.nextInt(10) < 3) {
+                axioms.add(df.getOWLAnnotationAssertionAxiom(definition, c.getIRI(), df
+                    .getOWLLiteral("A generated class that is a kind of class " + (i / 2)
+                        + " and takes part in " + random.nextInt(classCount) + " processes.")));
+            }
+            if (i == 0) {
+                continue;
+            }
+            OWLClass parent = classes[random.nextInt(i)];
+            axioms.add(df.getOWLSubClassOfAxiom(c, parent));
+            if (random.nextInt(10) == 0) {
+                axioms.add(df.getOWLSubClassOfAxiom(c, classes[random.nextInt(i)]));
+            }
+            if (random.nextInt(5) == 0) {
+                axioms.add(df.getOWLSubClassOfAxiom(c, someValuesFrom(properties, classes, i)));
+            }
+            if (random.nextInt(50) == 0) {
+                axioms.add(df.getOWLEquivalentClassesAxiom(c,
+                    df.getOWLObjectIntersectionOf(parent, someValuesFrom(properties, classes, i))));
+            }
+            if (random.nextInt(100) == 0) {
+                axioms.add(df.getOWLDisjointClassesAxiom(c, classes[random.nextInt(i)]));
+            }
+        }
+        for (int i = 0; i < classCount / 10; i++) {
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(NS, "i" + i);
+            axioms.add(df.getOWLDeclarationAxiom(ind));
+            axioms.add(df.getOWLClassAssertionAxiom(classes[random.nextInt(classCount)], ind));
+            axioms.add(df.getOWLDataPropertyAssertionAxiom(weight, ind, random.nextInt(1000)));
+            if (i > 0) {
+                axioms.add(df.getOWLObjectPropertyAssertionAxiom(
+                    properties[random.nextInt(propertyCount)], ind,
+                    df.getOWLNamedIndividual(NS, "i" + random.nextInt(i))));
+            }
+        }
+        return axioms;
+    }
+
+    private OWLClassExpression someValuesFrom(OWLObjectProperty[] properties, OWLClass[] classes,
+        int bound) {
+        return df.getOWLObjectSomeValuesFrom(properties[random.nextInt(properties.length)],
+            classes[random.nextInt(bound)]);
+    }
+}
@@ -0,0 +1,94 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * Parse throughput per format. The source ontology is serialized once per trial in the format
+ * under test; each invocation parses the in-memory document into a fresh manager, with the format
+ * specified on the document source so that only the matching parser runs. With {@code parallel}
+ * set, parsers that support it split the document and parse the parts concurrently. With
+ * {@code source} set to {@code file}, the document is written to a temporary file once per trial
+ * and parsed from there, so that parsers can read local files directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParseBenchmark {
+
+    private static final IRI DOCUMENT_IRI = IRI.create("urn:owlapi:benchmark:document");
+    @Param({BenchmarkOntologies.GENERATED, "pizza"})
+    public String ontology;
+    @Param({"10000"})
+    public int size;
+    @Param({"rdfxml", "turtle", "owlxml", "functional", "manchester", "snapshot"})
+    public String format;
+    @Param({"false"})
+    public boolean parallel;
+    @Param({"memory", "file"})
+    public String source;
+    private byte[] document = new byte[0];
+    private File file;
+    private OWLDocumentFormat documentFormat;
+
+    @Setup(Level.Trial)
+    public void setUp()
+        throws OWLOntologyCreationException, OWLOntologyStorageException, IOException {
+        documentFormat = BenchmarkOntologies.format(format);
+        document = BenchmarkOntologies.save(BenchmarkOntologies
+            .load(OWLManager.createOWLOntologyManager(), ontology, size), documentFormat);
+        if ("file".equals(source)) {
+            file = File.createTempFile("parse", ".benchmark");
+            file.deleteOnExit();
+            Files.write(file.toPath(), document);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (file != null) {
+            Files.delete(file.toPath());
+            file = null;
+        }
+    }
+
+    @Benchmark
+    public OWLOntology parse() throws OWLOntologyCreationException {
+        OWLOntologyDocumentSource documentSource = file == null
+            ? new StreamDocumentSource(new ByteArrayInputStream(document), DOCUMENT_IRI,
+                documentFormat, null)
+            : new FileDocumentSource(file, documentFormat);
+        return OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(
+            documentSource, new OWLOntologyLoaderConfiguration().withParallelParsing(parallel));
+    }
+}
@@ -0,0 +1,97 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.search.EntitySearcher;
+
+/**
+ * Query latency of {@link org.semanticweb.owlapi.model.OWLAxiomIndex} and {@link EntitySearcher}
+ * lookups, cycling over all classes of the ontology. Run with {@code -t N} to measure N concurrent
+ * readers; {@code concurrent=true} uses a manager with locking enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Ontology {
+
+        @Param({BenchmarkOntologies.GENERATED, "pizza"})
+        public String ontology;
+        @Param({"10000"})
+        public int size;
+        @Param({"false"})
+        public boolean concurrent;
+        OWLOntology o;
+        OWLClass[] classes;
+
+        @Setup(Level.Trial)
+        public void setUp() throws OWLOntologyCreationException {
+            o = BenchmarkOntologies.load(concurrent ? OWLManager.createConcurrentOWLOntologyManager()
+                : OWLManager.createOWLOntologyManager(), ontology, size);
+            classes = o.classesInSignature().toArray(OWLClass[]::new);
+            // build all indexes up front; their construction is measured by IndexBenchmark
+            new IndexSweep(o).touchAll(o);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next;
+
+        OWLClass next(Ontology s) {
+            next = (next + 1) % s.classes.length;
+            return s.classes[next];
+        }
+    }
+
+    @Benchmark
+    public long subClasses(Ontology s, Cursor c) {
+        return EntitySearcher.getSubClasses(c.next(s), s.o).count();
+    }
+
+    @Benchmark
+    public long superClasses(Ontology s, Cursor c) {
+        return EntitySearcher.getSuperClasses(c.next(s), s.o).count();
+    }
+
+    @Benchmark
+    public long annotationAssertions(Ontology s, Cursor c) {
+        return EntitySearcher.getAnnotationAssertionAxioms(c.next(s), s.o).count();
+    }
+
+    @Benchmark
+    public long subClassAxiomsForSuperClass(Ontology s, Cursor c) {
+        return s.o.subClassAxiomsForSuperClass(c.next(s)).count();
+    }
+
+    @Benchmark
+    public long referencingAxioms(Ontology s, Cursor c) {
+        return s.o.referencingAxioms(c.next(s)).count();
+    }
+
+    @Benchmark
+    public boolean containsClassInSignature(Ontology s, Cursor c) {
+        return s.o.containsClassInSignature(c.next(s).getIRI());
+    }
+}
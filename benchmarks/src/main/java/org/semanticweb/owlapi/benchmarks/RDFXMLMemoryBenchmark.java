@@ -0,0 +1,90 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * Peak heap while parsing a large RDF/XML document. The RDF consumer holds the triples it has not
+ * consumed yet, so its triple tables dominate the peak. The source ontology is serialized once per
+ * trial; each parse starts after a full collection, and the sum of the peak usage of the heap
+ * memory pools is reported as {@code peakHeapBytes}. A parse takes longer than the one second
+ * iterations, so each iteration runs a single parse; single shot mode would not report the
+ * counter. Run with {@code -prof gc} to see the allocation rate as well, e.g.
+ * {@code java -jar benchmarks.jar RDFXMLMemoryBenchmark -prof gc -p size=200000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RDFXMLMemoryBenchmark {
+
+    private static final IRI DOCUMENT_IRI = IRI.create("urn:owlapi:benchmark:document");
+    @Param({BenchmarkOntologies.GENERATED})
+    public String ontology;
+    @Param({"50000"})
+    public int size;
+    private byte[] document = new byte[0];
+
+    /**
+     * Heap figures for the parse.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapUsage {
+
+        /** Sum of the peak usage of the heap memory pools during the parse. */
+        public long peakHeapBytes;
+        /** Size of the parsed document. */
+        public long documentBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException, OWLOntologyStorageException {
+        document = BenchmarkOntologies.save(BenchmarkOntologies
+            .load(OWLManager.createOWLOntologyManager(), ontology, size),
+            new RDFXMLDocumentFormat());
+    }
+
+    @Benchmark
+    public OWLOntology parse(HeapUsage usage) throws OWLOntologyCreationException {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+        System.gc();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        OWLOntology o = OWLManager.createOWLOntologyManager()
+            .loadOntologyFromOntologyDocument(new StreamDocumentSource(
+                new ByteArrayInputStream(document), DOCUMENT_IRI, new RDFXMLDocumentFormat(),
+                null));
+        usage.peakHeapBytes = Math.max(usage.peakHeapBytes,
+            pools.stream().filter(p -> p.getType() == MemoryType.HEAP)
+                .mapToLong(p -> p.getPeakUsage().getUsed()).sum());
+        usage.documentBytes = document.length;
+        return o;
+    }
+}
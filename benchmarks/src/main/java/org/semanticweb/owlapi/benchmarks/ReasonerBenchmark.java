@@ -0,0 +1,72 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerConfiguration;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+/**
+ * {@link org.semanticweb.owlapi.reasoner.structural.StructuralReasoner} precomputation of the
+ * class, object property and data property hierarchies, and of descendant queries, with the
+ * default told hierarchy walk and with materialized hierarchies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReasonerBenchmark {
+
+    @Param({BenchmarkOntologies.GENERATED, "pizza"})
+    public String ontology;
+    @Param({"10000"})
+    public int size;
+    @Param({"false", "true"})
+    public boolean materialized;
+    private OWLOntology o;
+    private OWLReasoner prepared;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        o = BenchmarkOntologies.load(OWLManager.createOWLOntologyManager(), ontology, size);
+        new IndexSweep(o).touchAll(o);
+        prepared = createReasoner();
+    }
+
+    private OWLReasoner createReasoner() {
+        return new StructuralReasonerFactory().createNonBufferingReasoner(o,
+            new StructuralReasonerConfiguration(materialized));
+    }
+
+    @Benchmark
+    public OWLReasoner precomputeInferences() {
+        OWLReasoner reasoner = createReasoner();
+        reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY,
+            InferenceType.OBJECT_PROPERTY_HIERARCHY, InferenceType.DATA_PROPERTY_HIERARCHY);
+        return reasoner;
+    }
+
+    @Benchmark
+    public long descendantsOfAllClasses() {
+        return o.classesInSignature().mapToLong(c -> prepared.getSubClasses(c, false).nodes()
+            .count()).sum();
+    }
+}
@@ -0,0 +1,99 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerConfiguration;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+
+/**
+ * {@link org.semanticweb.owlapi.reasoner.structural.StructuralReasoner} queries interleaved with
+ * edits, as in an editor that keeps a non buffering reasoner on the ontology being edited. Each
+ * invocation of {@code subClassEdit} adds a subclass axiom between two generated classes, asks for
+ * the ancestors of the subclass and the direct children of the superclass, and removes the axiom
+ * again; {@code labelEdit} does the same with a label, which does not change the hierarchy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReasonerEditBenchmark {
+
+    private static final int EDITS = 1024;
+    @Param({"20000"})
+    public int size;
+    @Param({"false", "true"})
+    public boolean materialized;
+    private OWLOntology o;
+    private OWLReasoner reasoner;
+    private final List<OWLSubClassOfAxiom> subClassEdits = new ArrayList<>();
+    private final List<OWLAxiom> labelEdits = new ArrayList<>();
+    private int next = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        OWLOntologyManager m = OWLManager.createOWLOntologyManager();
+        OWLDataFactory df = m.getOWLDataFactory();
+        o = OntologyGenerator.generate(m, size);
+        reasoner = new StructuralReasonerFactory().createNonBufferingReasoner(o,
+            new StructuralReasonerConfiguration(materialized));
+        reasoner.precomputeInferences(InferenceType.CLASS_HIERARCHY);
+        Random random = new Random(24);
+        for (int i = 0; i < EDITS; i++) {
+            // superclasses have lower numbers, as in the generated hierarchy
+            int sub = 1 + random.nextInt(size - 1);
+            OWLClass c = df.getOWLClass(OntologyGenerator.NS, "C" + sub);
+            subClassEdits.add(df.getOWLSubClassOfAxiom(c,
+                df.getOWLClass(OntologyGenerator.NS, "C" + random.nextInt(sub))));
+            labelEdits.add(df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), c.getIRI(),
+                df.getOWLLiteral("edited " + i)));
+        }
+    }
+
+    @Benchmark
+    public long subClassEdit() {
+        OWLSubClassOfAxiom edit = subClassEdits.get(next++ % EDITS);
+        o.add(edit);
+        long count = reasoner.getSuperClasses(edit.getSubClass(), false).nodes().count()
+            + reasoner.getSubClasses(edit.getSuperClass(), true).nodes().count();
+        o.remove(edit);
+        return count;
+    }
+
+    @Benchmark
+    public long labelEdit() {
+        int i = next++ % EDITS;
+        OWLSubClassOfAxiom query = subClassEdits.get(i);
+        o.add(labelEdits.get(i));
+        long count = reasoner.getSuperClasses(query.getSubClass(), false).nodes().count()
+            + reasoner.getSubClasses(query.getSuperClass(), true).nodes().count();
+        o.remove(labelEdits.get(i));
+        return count;
+    }
+}
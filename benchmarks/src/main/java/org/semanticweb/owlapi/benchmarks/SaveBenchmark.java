@@ -0,0 +1,56 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+/**
+ * Save throughput per format. Output goes to a null stream, so the measure covers rendering and
+ * encoding but not I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({BenchmarkOntologies.GENERATED, "pizza"})
+    public String ontology;
+    @Param({"10000"})
+    public int size;
+    @Param({"rdfxml", "turtle", "owlxml", "functional", "manchester", "snapshot"})
+    public String format;
+    private OWLOntology source;
+    private OWLDocumentFormat documentFormat;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        documentFormat = BenchmarkOntologies.format(format);
+        source = BenchmarkOntologies.load(OWLManager.createOWLOntologyManager(), ontology, size);
+    }
+
+    @Benchmark
+    public void save() throws OWLOntologyStorageException {
+        source.getOWLOntologyManager().saveOntology(source, documentFormat,
+            NullOutputStream.NULL_OUTPUT_STREAM);
+    }
+}
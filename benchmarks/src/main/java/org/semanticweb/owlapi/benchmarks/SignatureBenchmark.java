@@ -0,0 +1,81 @@
+package org.semanticweb.owlapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.util.OWLAPIStreamUtils;
+
+/**
+ * Signature queries over every axiom of an ontology, as done by module extraction and entity
+ * usage lookups. Each invocation is one pass over all axioms; the first pass builds the signature
+ * of each axiom, later passes query the signatures the axioms keep.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SignatureBenchmark {
+
+    @Param({BenchmarkOntologies.GENERATED, "pizza"})
+    public String ontology;
+    @Param({"100000"})
+    public int size;
+    private List<OWLAxiom> axioms;
+    private OWLClass absent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws OWLOntologyCreationException {
+        axioms = OWLAPIStreamUtils.asList(BenchmarkOntologies
+            .load(OWLManager.createOWLOntologyManager(), ontology, size).axioms());
+        OWLDataFactory df = OWLManager.getOWLDataFactory();
+        absent = df.getOWLClass(OntologyGenerator.NS, "NotInAnyAxiom");
+    }
+
+    @Benchmark
+    public long signature() {
+        long count = 0;
+        for (OWLAxiom ax : axioms) {
+            count += ax.signature().count();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long classesInSignature() {
+        long count = 0;
+        for (OWLAxiom ax : axioms) {
+            count += ax.classesInSignature().count();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long containsEntityInSignature() {
+        long count = 0;
+        for (OWLAxiom ax : axioms) {
+            if (ax.containsEntityInSignature(absent)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
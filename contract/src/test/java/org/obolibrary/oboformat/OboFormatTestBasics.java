@@ -43,6 +43,40 @@ import org.semanticweb.owlapi.model.OWLRuntimeException;
 @SuppressWarnings({"javadoc"})
 public class OboFormatTestBasics extends TestBase {
 
+    /**
+     * @param terms number of terms
+     * @return an OBO document with the terms TEST:0 to TEST:(terms - 1), each a subclass of
+     *         TEST:(i / 2) and part of TEST:(i - 1) or defined by an intersection, with qualifiers
+     *         on definitions, synonyms and relations
+     */
+    protected static String oboDocument(int terms) {
+        StringBuilder b = new StringBuilder();
+        b.append("format-version: 1.2\nontology: test\ndefault-namespace: test_ns\n")
+            .append("synonymtypedef: ABBREVIATION \"abbreviation\"\n\n");
+        for (int i = 0; i < terms; i++) {
+            b.append("[Term]\nid: TEST:").append(i).append('\n');
+            if (i % 7 != 0) {
+                b.append("name: term ").append(i).append('\n');
+            }
+            b.append("def: \"Definition of term ").append(i).append(".\" [PMID:").append(i)
+                .append(" \"source ").append(i).append("\"]\nsynonym: \"synonym ").append(i)
+                .append("\" EXACT ABBREVIATION [] {comment=\"from ").append(i).append("\"}\n");
+            if (i % 10 == 3) {
+                b.append("alt_id: TEST:alt").append(i).append('\n');
+                b.append("intersection_of: TEST:").append(i / 2)
+                    .append("\nintersection_of: part_of TEST:").append(i - 1).append('\n');
+                b.append("disjoint_from: TEST:").append(i - 2).append('\n');
+            } else if (i > 0) {
+                b.append("is_a: TEST:").append(i / 2).append(" {source=\"PMID:").append(i)
+                    .append("\"} ! term ").append(i / 2).append("\nrelationship: part_of TEST:")
+                    .append(i - 1).append(" {cardinality=\"1\", is_inferred=\"true\"}\n");
+            }
+            b.append('\n');
+        }
+        b.append("[Typedef]\nid: part_of\nname: part of\nis_transitive: true\n");
+        return b.toString();
+    }
+
     protected static String renderOboToString(OBODoc oboDoc) throws IOException {
         OBOFormatWriter writer = new OBOFormatWriter();
         writer.setCheckStructure(true);
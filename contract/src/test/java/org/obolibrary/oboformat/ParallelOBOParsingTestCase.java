@@ -0,0 +1,102 @@
+package org.obolibrary.oboformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.junit.Test;
+import org.obolibrary.oboformat.model.Frame;
+import org.obolibrary.oboformat.model.OBODoc;
+import org.obolibrary.oboformat.parser.OBOFormatParser;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.UnparsableOntologyException;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+@SuppressWarnings("javadoc")
+public class ParallelOBOParsingTestCase extends OboFormatTestBasics {
+
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().withParallelParsing(true);
+
+    private static String document(int terms) {
+        // frames for the same term in different parts are merged
+        return oboDocument(terms) + "\n[Term]\nid: TEST:1\ncomment: merged with the first frame\n"
+            + "\n[Typedef]\nid: has_part\nname: has part\ninverse_of: part_of\n";
+    }
+
+    private OWLOntology load(String text, OWLOntologyLoaderConfiguration configuration)
+        throws OWLOntologyCreationException {
+        return setupManager().loadOntologyFromOntologyDocument(new StringDocumentSource(text,
+            "urn:test:doc", new OBODocumentFormat(), null), configuration);
+    }
+
+    private static OBODoc parse(String text, boolean inParallel) throws IOException {
+        OBOFormatParser parser = new OBOFormatParser();
+        parser.setParseInParallel(inParallel);
+        return parser.parse(new StringReader(text));
+    }
+
+    private static void assertSameFrames(Collection<Frame> expected, Collection<Frame> actual) {
+        assertEquals(expected.size(), actual.size());
+        Iterator<Frame> i = actual.iterator();
+        for (Frame f : expected) {
+            Frame g = i.next();
+            assertEquals(f.getId(), g.getId());
+            assertEquals(f.getId(), f.getClauses(), g.getClauses());
+        }
+    }
+
+    @Test
+    public void shouldParseFramesAsSequentialParser() throws IOException {
+        String text = document(3000);
+        OBODoc expected = parse(text, false);
+        OBODoc actual = parse(text, true);
+        assertSameFrames(Collections.singleton(expected.getHeaderFrame()),
+            Collections.singleton(actual.getHeaderFrame()));
+        assertSameFrames(expected.getTermFrames(), actual.getTermFrames());
+        assertSameFrames(expected.getTypedefFrames(), actual.getTypedefFrames());
+        assertEquals(1, actual.getTermFrame("TEST:1").getClauses("comment").size());
+    }
+
+    @Test
+    public void shouldLoadAxiomsAsSequentialParser() throws OWLOntologyCreationException {
+        String text = document(3000);
+        OWLOntology expected = load(text, config);
+        OWLOntology actual = load(text, parallel);
+        assertTrue(equal(expected, actual));
+        // qualifiers become axiom annotations
+        assertTrue(actual.axioms(AxiomType.SUBCLASS_OF).anyMatch(OWLAxiom::isAnnotated));
+    }
+
+    @Test
+    public void shouldReportErrorsAsSequentialParser() {
+        String text = document(3000).replace("id: TEST:2000\n", "id: TEST:2000\nis_a\n");
+        String expected = errorMessage(text, config);
+        assertTrue(expected, expected.contains("is_a"));
+        assertEquals(expected, errorMessage(text, parallel));
+    }
+
+    private String errorMessage(String text, OWLOntologyLoaderConfiguration configuration) {
+        try {
+            load(text, configuration);
+        } catch (UnparsableOntologyException e) {
+            Throwable cause = e.getExceptions().values().iterator().next();
+            assertTrue(cause instanceof OWLParserException);
+            return cause.getMessage();
+        } catch (OWLOntologyCreationException e) {
+            throw new AssertionError(e);
+        }
+        throw new AssertionError("Error expected");
+    }
+}
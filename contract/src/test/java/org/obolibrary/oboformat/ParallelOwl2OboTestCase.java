@@ -0,0 +1,73 @@
+package org.obolibrary.oboformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.obolibrary.obo2owl.OWLAPIOwl2Obo;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+@SuppressWarnings("javadoc")
+public class ParallelOwl2OboTestCase extends OboFormatTestBasics {
+
+    private static final String OBO = "http://purl.obolibrary.org/obo/";
+
+    private OWLOntology ontology(int terms) throws OWLOntologyCreationException {
+        OWLOntology o = m.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            oboDocument(terms), "urn:test:doc", new OBODocumentFormat(), null));
+        // untranslatable axioms are written in the header
+        OWLClass c = df.getOWLClass(OBO, "TEST_5");
+        o.add(df.getOWLSubClassOfAxiom(c,
+            df.getOWLObjectUnionOf(df.getOWLClass(OBO, "TEST_6"), df.getOWLClass(OBO, "TEST_7"))));
+        return o;
+    }
+
+    private static String translate(OWLOntology o, boolean inParallel) throws IOException {
+        OWLAPIOwl2Obo translator = new OWLAPIOwl2Obo(o.getOWLOntologyManager());
+        translator.setMuteUntranslatableAxioms(true);
+        translator.setTranslateInParallel(inParallel);
+        return renderOboToString(translator.convert(o));
+    }
+
+    private String save(OWLOntology o, boolean inParallel, boolean streaming)
+        throws OWLOntologyStorageException {
+        m.setOntologyWriterConfiguration(
+            m.getOntologyWriterConfiguration().withParallelRendering(inParallel));
+        OBODocumentFormat format = new OBODocumentFormat();
+        format.setParameter(OBODocumentFormat.STREAMING, Boolean.valueOf(streaming));
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.saveOntology(format, target);
+        return target.toString();
+    }
+
+    @Test
+    public void shouldTranslateFramesAsSequentialTranslator()
+        throws OWLOntologyCreationException, IOException {
+        OWLOntology o = ontology(3000);
+        String expected = translate(o, false);
+        assertTrue(expected.contains("owl-axioms: "));
+        assertTrue(expected.contains("alt_id: TEST:alt13"));
+        assertEquals(expected, translate(o, true));
+    }
+
+    @Test
+    public void shouldStreamFramesAsDocumentWriter()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(3000);
+        String expected = save(o, false, false);
+        // qualifiers are written with the relations they annotate
+        assertTrue(expected.contains(
+            "relationship: part_of TEST:999 {cardinality=\"1\", is_inferred=\"true\"} ! term 999"));
+        assertEquals(expected, save(o, false, true));
+        assertEquals(expected, save(o, true, true));
+        assertEquals(expected, save(o, true, false));
+    }
+}
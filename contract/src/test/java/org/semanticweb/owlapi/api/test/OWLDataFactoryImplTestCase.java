@@ -13,11 +13,21 @@
 package org.semanticweb.owlapi.api.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.vocab.OWLFacet.MAX_EXCLUSIVE;
 import static org.semanticweb.owlapi.vocab.OWLFacet.MIN_INCLUSIVE;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -27,6 +37,7 @@ import java.util.function.Supplier;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLClassExpression;
 import org.semanticweb.owlapi.model.OWLDataFactory;
@@ -36,10 +47,14 @@ import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.OntologyConfigurator;
 import org.semanticweb.owlapi.model.SWRLVariable;
+import org.semanticweb.owlapi.util.StringPool;
 
 import uk.ac.manchester.cs.owl.owlapi.OWLDataFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLLiteralImpl;
 
 /**
  * A test case to ensure that the reference implementation data factories do not create duplicate
@@ -373,4 +388,123 @@ public class OWLDataFactoryImplTestCase {
         assertSameFromSupplier(testSubject::getRDFSSeeAlso);
         assertSameFromSupplier(testSubject::getTopDatatype);
     }
+
+    @Test
+    public void shouldCreateEntitiesWithDictionaryIRIs() {
+        OWLDataFactory dictionaryFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withIRIDictionary(true));
+        IRI iri = IRI.create(URN_TEST, "dictionary");
+        OWLClass c = dictionaryFactory.getOWLClass(iri);
+        assertEquals(iri, c.getIRI());
+        assertSame(c.getIRI(), IRI.intern(c.getIRI()));
+        assertEquals(testSubject.getOWLClass(iri), c);
+        assertEquals(testSubject.getOWLClass(iri).hashCode(), c.hashCode());
+    }
+
+    @Test
+    public void shouldCreateLiteralsWithPooledLexicalForms()
+        throws IOException, ClassNotFoundException {
+        OWLDataFactoryImpl poolFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withLiteralPool(true));
+        String definition = longDefinition();
+        OWLLiteral pooled = poolFactory.getOWLLiteral(definition);
+        StringPool pool = verifyNotNull(poolFactory.getLiteralPool());
+        assertEquals(1, pool.size());
+        OWLLiteral again = poolFactory.getOWLLiteral(new String(definition));
+        assertEquals(1, pool.size());
+        assertEquals(definition, pooled.getLiteral());
+        assertEquals(pooled, again);
+        OWLLiteral plain = testSubject.getOWLLiteral(definition);
+        assertEquals(plain, pooled);
+        assertEquals(pooled, plain);
+        assertEquals(plain.hashCode(), pooled.hashCode());
+        assertNotEquals(pooled, poolFactory.getOWLLiteral(definition, "en"));
+        assertNotEquals(pooled, poolFactory.getOWLLiteral(definition + '.'));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(pooled);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            Object read = in.readObject();
+            assertTrue(read instanceof OWLLiteralImpl);
+            assertEquals(pooled, read);
+        }
+    }
+
+    @Test
+    public void shouldKeepLiteralPoolsPerFactory() {
+        OWLDataFactoryImpl poolFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withLiteralPool(true));
+        OWLDataFactoryImpl otherFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withLiteralPool(true));
+        String definition = longDefinition();
+        OWLLiteral pooled = poolFactory.getOWLLiteral(definition);
+        OWLLiteral other = otherFactory.getOWLLiteral(definition);
+        assertNotSame(poolFactory.getLiteralPool(), otherFactory.getLiteralPool());
+        assertEquals(pooled, other);
+        assertEquals(pooled.hashCode(), other.hashCode());
+        StringPool pool = poolFactory.getLiteralPool();
+        poolFactory.purge();
+        assertNotSame(pool, poolFactory.getLiteralPool());
+        assertEquals(0, verifyNotNull(poolFactory.getLiteralPool()).size());
+        assertEquals(definition, pooled.getLiteral());
+        assertEquals(pooled, poolFactory.getOWLLiteral(definition));
+        OWLDataFactoryImpl plainFactory = new OWLDataFactoryImpl();
+        assertNull(plainFactory.getLiteralPool());
+        plainFactory.setLiteralPool(true);
+        assertEquals(pooled, plainFactory.getOWLLiteral(definition));
+        assertEquals(1, verifyNotNull(plainFactory.getLiteralPool()).size());
+        plainFactory.setLiteralPool(false);
+        assertNull(plainFactory.getLiteralPool());
+    }
+
+    @Test
+    public void shouldCarryLiteralPoolOptionToLoaderConfiguration() {
+        assertTrue(new OntologyConfigurator().withLiteralPool(true).buildLoaderConfiguration()
+            .shouldUseLiteralPool());
+    }
+
+    private static String longDefinition() {
+        StringBuilder b = new StringBuilder("A definition shared by many terms: ");
+        while (b.length() < 500) {
+            b.append("élève ").append(b.length());
+        }
+        return b.toString();
+    }
+
+    @Test
+    public void shouldShareEqualObjectsWhenInterning() {
+        OWLDataFactory internFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withInternedObjects(true));
+        OWLObjectProperty partOf = internFactory.getOWLObjectProperty(URN_TEST, "part_of");
+        OWLClass c = internFactory.getOWLClass(URN_TEST, "C");
+        OWLClass d = internFactory.getOWLClass(URN_TEST, "D");
+        OWLClassExpression some = internFactory.getOWLObjectSomeValuesFrom(partOf, c);
+        assertSame(some, internFactory.getOWLObjectSomeValuesFrom(partOf, c));
+        assertSame(internFactory.getOWLObjectIntersectionOf(c, d),
+            internFactory.getOWLObjectIntersectionOf(d, c));
+        OWLAxiom axiom = internFactory.getOWLSubClassOfAxiom(d, some);
+        assertSame(axiom, internFactory.getOWLSubClassOfAxiom(d,
+            internFactory.getOWLObjectSomeValuesFrom(partOf, c)));
+        // objects from factories that do not intern are equal, but not shared
+        OWLDataFactory plainFactory = internFactory.withoutInterning();
+        assertTrue(internFactory.isInterning());
+        assertFalse(plainFactory.isInterning());
+        assertSame(plainFactory, internFactory.withoutInterning());
+        assertSame(plainFactory, plainFactory.withoutInterning());
+        OWLAxiom plain = plainFactory.getOWLSubClassOfAxiom(d, some);
+        assertEquals(plain, axiom);
+        assertNotSame(plain, plainFactory.getOWLSubClassOfAxiom(d, some));
+        assertNotEquals(axiom, internFactory.getOWLSubClassOfAxiom(d, some,
+            Arrays.asList(internFactory.getRDFSComment("annotated"))));
+        // each factory shares its own objects
+        OWLDataFactory otherFactory =
+            new OWLDataFactoryImpl(new OWLOntologyLoaderConfiguration().withInternedObjects(true));
+        OWLAxiom other = otherFactory.getOWLSubClassOfAxiom(d, some);
+        assertEquals(axiom, other);
+        assertNotSame(axiom, other);
+        assertTrue(new OntologyConfigurator().withInternedObjects(true)
+            .buildLoaderConfiguration().shouldInternObjects());
+    }
 }
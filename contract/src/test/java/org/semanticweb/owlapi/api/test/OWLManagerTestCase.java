@@ -2,6 +2,7 @@ package org.semanticweb.owlapi.api.test;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.lang.reflect.Field;
@@ -9,6 +10,8 @@ import java.lang.reflect.Field;
 import org.junit.Before;
 import org.junit.Test;
 import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 
@@ -52,4 +55,15 @@ public class OWLManagerTestCase {
         ontologyManagerField.setAccessible(true);
         assertThat(ontologyLockField.get(ontology), is(ontologyManagerField.get(manager)));
     }
+
+    @Test
+    public void shouldPassIRIDictionaryOptionToDataFactory() throws Exception {
+        manager.getOntologyConfigurator().withIRIDictionary(true);
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(new StringDocumentSource(
+            "Ontology(<urn:test:dictionary> Declaration(Class(<urn:test:dictionary#A>)))"));
+        IRI loaded = o.classesInSignature().findAny().get().getIRI();
+        assertThat(IRI.intern(loaded), is(sameInstance(loaded)));
+        IRI created = manager.getOWLDataFactory().getOWLClass("urn:test:dictionary#B").getIRI();
+        assertThat(IRI.intern(created), is(sameInstance(created)));
+    }
 }
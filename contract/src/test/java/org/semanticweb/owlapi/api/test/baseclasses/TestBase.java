@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -61,6 +62,7 @@ import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
@@ -70,6 +72,8 @@ import org.semanticweb.owlapi.model.OWLEquivalentClassesAxiom;
 import org.semanticweb.owlapi.model.OWLEquivalentDataPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLEquivalentObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyID;
@@ -79,6 +83,7 @@ import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.OntologyConfigurator;
+import org.semanticweb.owlapi.search.EntitySearcher;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -455,6 +460,66 @@ public abstract class TestBase {
         }
     }
 
+    /**
+     * @param ns namespace of the entities
+     * @param size number of classes
+     * @return declarations of the classes C0 to C(size - 1), each a labelled subclass of C(i / 2),
+     *         and of the individuals i0 to i(size - 1), each an instance of Ci related by p to
+     *         i(i / 2)
+     */
+    protected static List<OWLAxiom> classHierarchy(String ns, int size) {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        OWLObjectProperty p = df.getOWLObjectProperty(ns, "p");
+        axioms.add(df.getOWLDeclarationAxiom(p));
+        for (int i = 0; i < size; i++) {
+            OWLClass c = df.getOWLClass(ns, "C" + i);
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(ns, "i" + i);
+            axioms.add(df.getOWLDeclarationAxiom(c));
+            axioms.add(df.getOWLDeclarationAxiom(ind));
+            axioms.add(df.getOWLSubClassOfAxiom(c, df.getOWLClass(ns, "C" + i / 2)));
+            axioms.add(df.getOWLAnnotationAssertionAxiom(c.getIRI(), df.getRDFSLabel("C" + i)));
+            axioms.add(df.getOWLClassAssertionAxiom(c, ind));
+            axioms.add(df.getOWLObjectPropertyAssertionAxiom(p, ind,
+                df.getOWLNamedIndividual(ns, "i" + i / 2)));
+        }
+        return axioms;
+    }
+
+    /**
+     * Checks that an ontology answers the queries answered from the indexes of another ontology
+     * with the same axioms.
+     */
+    protected static void assertSameIndexes(OWLOntology expected, OWLOntology actual) {
+        assertEquals(expected.getAxiomCount(), actual.getAxiomCount());
+        assertEquals(expected.getLogicalAxiomCount(), actual.getLogicalAxiomCount());
+        assertEquals(asSet(expected.axioms()), asSet(actual.axioms()));
+        assertEquals(asSet(expected.signature()), asSet(actual.signature()));
+        assertEquals(asSet(expected.generalClassAxioms()), asSet(actual.generalClassAxioms()));
+        expected.axioms().forEach(ax -> assertTrue(ax.toString(), actual.containsAxiom(ax)));
+        expected.signature().forEach(e -> {
+            assertTrue(e.toString(), actual.containsEntityInSignature(e));
+            assertEquals(e.toString(), expected.isDeclared(e), actual.isDeclared(e));
+            assertEquals(e.toString(), asSet(expected.referencingAxioms(e)),
+                asSet(actual.referencingAxioms(e)));
+            assertEquals(e.toString(),
+                asSet(EntitySearcher.getAnnotationAssertionAxioms(e, expected)),
+                asSet(EntitySearcher.getAnnotationAssertionAxioms(e, actual)));
+        });
+        expected.classesInSignature().forEach(c -> {
+            assertEquals(c.toString(), asSet(expected.axioms(c)), asSet(actual.axioms(c)));
+            assertEquals(c.toString(), asSet(EntitySearcher.getSuperClasses(c, expected)),
+                asSet(EntitySearcher.getSuperClasses(c, actual)));
+            assertEquals(c.toString(), asSet(EntitySearcher.getSubClasses(c, expected)),
+                asSet(EntitySearcher.getSubClasses(c, actual)));
+            assertEquals(c.toString(), asSet(EntitySearcher.getInstances(c, expected)),
+                asSet(EntitySearcher.getInstances(c, actual)));
+        });
+        expected.individualsInSignature().forEach(i -> assertEquals(i.toString(),
+            asSet(EntitySearcher.getTypes(i, expected)), asSet(EntitySearcher.getTypes(i, actual))));
+        expected.anonymousIndividuals().forEach(i -> assertEquals(i.toString(),
+            asSet(expected.referencingAxioms(i)), asSet(actual.referencingAxioms(i))));
+    }
+
     public OWLOntology roundTripOntology(OWLOntology ont)
         throws OWLOntologyStorageException, OWLOntologyCreationException {
         return roundTripOntology(ont, new RDFXMLDocumentFormat());
@@ -0,0 +1,162 @@
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLPrimitive;
+import org.semanticweb.owlapi.model.RemoveImport;
+import org.semanticweb.owlapi.model.SetOntologyID;
+import org.semanticweb.owlapi.model.parameters.ChangeApplied;
+
+@SuppressWarnings("javadoc")
+public class ImportsClosureViewTestCase extends TestBase {
+
+    private static final String NS = "urn:test:view#";
+    private final Random random = new Random(23);
+
+    private OWLAxiom randomAxiom() {
+        OWLClass c = df.getOWLClass(NS, "C" + random.nextInt(5));
+        OWLNamedIndividual i = df.getOWLNamedIndividual(NS, "i" + random.nextInt(5));
+        switch (random.nextInt(5)) {
+            case 0:
+                return df.getOWLSubClassOfAxiom(c, df.getOWLClass(NS, "C" + random.nextInt(5)));
+            case 1:
+                return df.getOWLClassAssertionAxiom(c, i);
+            case 2:
+                return df.getOWLDataPropertyAssertionAxiom(
+                    df.getOWLDataProperty(NS, "d" + random.nextInt(3)), i, random.nextInt(3));
+            case 3:
+                return df.getOWLObjectPropertyAssertionAxiom(
+                    df.getOWLObjectProperty(NS, "p" + random.nextInt(3)), i, i);
+            default:
+                return df.getOWLAnnotationAssertionAxiom(
+                    df.getOWLAnnotationProperty(NS, "a" + random.nextInt(3)), c.getIRI(),
+                    df.getOWLLiteral("label", "en"));
+        }
+    }
+
+    private static <T extends OWLPrimitive> List<T> union(OWLOntology o,
+        Function<OWLOntology, Stream<T>> signature) {
+        return asList(o.importsClosure().flatMap(signature).distinct().sorted());
+    }
+
+    private static void assertSameSignature(OWLOntology o) {
+        assertEquals(union(o, OWLOntology::signature), asList(o.signature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::classesInSignature),
+            asList(o.classesInSignature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::objectPropertiesInSignature),
+            asList(o.objectPropertiesInSignature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::dataPropertiesInSignature),
+            asList(o.dataPropertiesInSignature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::individualsInSignature),
+            asList(o.individualsInSignature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::datatypesInSignature),
+            asList(o.datatypesInSignature(INCLUDED)));
+        assertEquals(union(o, OWLOntology::annotationPropertiesInSignature),
+            asList(o.annotationPropertiesInSignature(INCLUDED)));
+        for (int i = 0; i < 5; i++) {
+            IRI iri = IRI.create(NS, "C" + i);
+            boolean expected = o.importsClosure().anyMatch(x -> x.containsClassInSignature(iri));
+            assertEquals(Boolean.valueOf(expected),
+                Boolean.valueOf(o.containsClassInSignature(iri, INCLUDED)));
+        }
+        assertEquals(o.importsClosure().mapToInt(OWLOntology::getAxiomCount).sum(),
+            o.getAxiomCount(INCLUDED));
+    }
+
+    @Test
+    public void shouldKeepClosureSignatureInSyncWithEdits() throws OWLOntologyCreationException {
+        OWLOntology root = m.createOntology(IRI.create(NS, "root"));
+        OWLOntology a = m.createOntology(IRI.create(NS, "a"));
+        OWLOntology b = m.createOntology(IRI.create(NS, "b"));
+        OWLOntology c = m.createOntology(IRI.create(NS, "c"));
+        OWLImportsDeclaration importC = df.getOWLImportsDeclaration(IRI.create(NS, "c"));
+        m.applyChange(new AddImport(root, df.getOWLImportsDeclaration(IRI.create(NS, "a"))));
+        m.applyChange(new AddImport(root, df.getOWLImportsDeclaration(IRI.create(NS, "b"))));
+        m.applyChange(new AddImport(a, importC));
+        List<OWLOntology> ontologies = Arrays.asList(root, a, b, c);
+        assertSameSignature(root);
+        for (int step = 0; step < 2000; step++) {
+            OWLOntology target = ontologies.get(random.nextInt(ontologies.size()));
+            int action = random.nextInt(100);
+            if (action < 50) {
+                target.add(randomAxiom());
+            } else if (action < 90) {
+                target.remove(randomAxiom());
+            } else if (action < 95) {
+                // moves c in and out of the closure of b
+                if (b.importsDeclarations().anyMatch(importC::equals)) {
+                    assertEquals(ChangeApplied.SUCCESSFULLY,
+                        m.applyChange(new RemoveImport(b, importC)));
+                } else {
+                    m.applyChange(new AddImport(b, importC));
+                }
+            } else {
+                target.applyChange(new AddOntologyAnnotation(target, df.getOWLAnnotation(
+                    df.getOWLAnnotationProperty(NS, "o" + step), df.getOWLLiteral(step))));
+            }
+            if (step % 10 == 0) {
+                assertSameSignature(root);
+                assertSameSignature(b);
+            }
+        }
+        assertSameSignature(root);
+        assertSameSignature(a);
+        assertSameSignature(b);
+        // entities leave the signature when their last reference is removed
+        for (OWLOntology o : ontologies) {
+            for (OWLAxiom ax : asList(o.axioms())) {
+                o.remove(ax);
+                assertSameSignature(root);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFollowOntologyIdChanges() throws OWLOntologyCreationException {
+        OWLOntology root = m.createOntology(IRI.create(NS, "root"));
+        OWLOntology a = m.createOntology(IRI.create(NS, "a"));
+        m.applyChange(new AddImport(root, df.getOWLImportsDeclaration(IRI.create(NS, "a"))));
+        a.add(randomAxiom());
+        root.add(randomAxiom());
+        assertSameSignature(root);
+        assertEquals(2, root.importsClosure().count());
+        m.applyChange(new SetOntologyID(root, new OWLOntologyID(IRI.create(NS, "renamed"))));
+        for (int i = 0; i < 20; i++) {
+            root.add(randomAxiom());
+            a.add(randomAxiom());
+            assertSameSignature(root);
+        }
+        // a keeps its IRI, so the import still resolves to it
+        m.applyChange(new SetOntologyID(a,
+            new OWLOntologyID(IRI.create(NS, "a"), IRI.create(NS, "a/v2"))));
+        assertEquals(2, root.importsClosure().count());
+        OWLClass onlyInA = df.getOWLClass(NS, "OnlyInA");
+        a.add(df.getOWLDeclarationAxiom(onlyInA));
+        assertTrue(root.containsClassInSignature(onlyInA.getIRI(), INCLUDED));
+        a.remove(df.getOWLDeclarationAxiom(onlyInA));
+        assertFalse(root.containsClassInSignature(onlyInA.getIRI(), INCLUDED));
+        assertSameSignature(root);
+    }
+}
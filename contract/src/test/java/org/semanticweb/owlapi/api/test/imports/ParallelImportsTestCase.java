@@ -0,0 +1,246 @@
+package org.semanticweb.owlapi.api.test.imports;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.MissingImportEvent;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyFactory.OWLOntologyCreationHandler;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.util.AutoIRIMapper;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyFactoryImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyManagerImpl;
+import uk.ac.manchester.cs.owl.owlapi.concurrent.ConcurrentOWLOntologyImpl;
+
+@SuppressWarnings("javadoc")
+public class ParallelImportsTestCase extends TestBase {
+
+    private static final String NS = "urn:test:";
+    private File root;
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().withParallelImports(true);
+
+    @Before
+    public void setUpFiles() throws IOException {
+        root = write("root.ofn", "Ontology(<urn:test:root>\nImport(<urn:test:a>)\n"
+            + "Import(<urn:test:b>)\nSubClassOf(<urn:test:R> <urn:test:A>))");
+        write("a.ofn", "Ontology(<urn:test:a>\nImport(<urn:test:c>)\n"
+            + "Declaration(Class(<urn:test:A>)))");
+        // the type of the property assertion depends on the declaration in c
+        write("b.ttl",
+            "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+                + "<urn:test:b> a owl:Ontology ; owl:imports <urn:test:c> .\n"
+                + "<urn:test:x> <urn:test:p> <urn:test:y> .");
+        write("c.ofn", "Ontology(<urn:test:c>\nDeclaration(ObjectProperty(<urn:test:p>)))");
+    }
+
+    private File write(String name, String content) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private OWLOntologyManager manager(String... names) {
+        OWLOntologyManager manager = setupManager();
+        for (String name : names) {
+            manager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(NS, name.substring(0, 1)),
+                IRI.create(new File(folder.getRoot(), name))));
+        }
+        return manager;
+    }
+
+    @Test
+    public void shouldLoadSameClosureAsSequentialLoading() throws OWLOntologyCreationException {
+        OWLOntologyManager sequential = manager("a.ofn", "b.ttl", "c.ofn");
+        OWLOntology expected = sequential.loadOntologyFromOntologyDocument(
+            new FileDocumentSource(root), new OWLOntologyLoaderConfiguration());
+        OWLOntologyManager manager = manager("a.ofn", "b.ttl", "c.ofn");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ((OWLOntologyManagerImpl) manager).setImportsExecutor(executor);
+            OWLOntology actual =
+                manager.loadOntologyFromOntologyDocument(new FileDocumentSource(root), parallel);
+            assertEquals(4L, manager.ontologies().count());
+            assertEquals(asUnorderedSet(expected.importsClosure().map(OWLOntology::getOntologyID)),
+                asUnorderedSet(actual.importsClosure().map(OWLOntology::getOntologyID)));
+            for (OWLOntology o : asUnorderedSet(sequential.ontologies())) {
+                OWLOntology loaded = manager.getOntology(o.getOntologyID());
+                assertEquals(asUnorderedSet(o.axioms()), asUnorderedSet(loaded.axioms()));
+                assertEquals(sequential.getOntologyDocumentIRI(o),
+                    manager.getOntologyDocumentIRI(loaded));
+                assertEquals(manager, loaded.getOWLOntologyManager());
+            }
+            OWLOntology b = manager.getOntology(IRI.create(NS, "b"));
+            assertEquals(1, b.getAxiomCount(AxiomType.OBJECT_PROPERTY_ASSERTION));
+            assertEquals(3L, actual.imports().count());
+            assertTrue(actual.getAxiomCount(Imports.INCLUDED) > actual.getAxiomCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldThrowForMissingImport() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager("a.ofn", "b.ttl");
+        manager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(NS, "c"),
+            IRI.create(new File(folder.getRoot(), "missing.ofn"))));
+        try {
+            manager.loadOntologyFromOntologyDocument(new FileDocumentSource(root), parallel);
+            throw new AssertionError("expected an UnloadableImportException");
+        } catch (UnloadableImportException e) {
+            assertEquals(IRI.create(NS, "c"), e.getImportsDeclaration().getIRI());
+        }
+        assertFalse(manager.contains(IRI.create(NS, "root")));
+    }
+
+    @Test
+    public void shouldReportMissingImportSilently() throws OWLOntologyCreationException {
+        OWLOntologyManager manager = manager("a.ofn", "b.ttl");
+        manager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(NS, "c"),
+            IRI.create(new File(folder.getRoot(), "missing.ofn"))));
+        List<MissingImportEvent> events = new ArrayList<>();
+        manager.addMissingImportListener(events::add);
+        OWLOntology o = manager.loadOntologyFromOntologyDocument(new FileDocumentSource(root),
+            parallel.setMissingImportHandlingStrategy(MissingImportHandlingStrategy.SILENT));
+        assertEquals(1, events.size());
+        assertEquals(IRI.create(NS, "c"), events.get(0).getImportedOntologyURI());
+        assertEquals(3L, manager.ontologies().count());
+        assertEquals(2L, o.imports().count());
+    }
+
+    @Test
+    public void shouldLoadRDFRootSequentially() throws Exception {
+        File ttl = write("root.ttl",
+            "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+                + "<urn:test:root> a owl:Ontology ; owl:imports <urn:test:a>, <urn:test:c> .\n"
+                + "<urn:test:x> <urn:test:p> <urn:test:y> .");
+        OWLOntologyManager sequential = manager("a.ofn", "c.ofn");
+        OWLOntology expected = sequential.loadOntologyFromOntologyDocument(
+            new FileDocumentSource(ttl), new OWLOntologyLoaderConfiguration());
+        OWLOntologyManager manager = manager("a.ofn", "c.ofn");
+        OWLOntology actual =
+            manager.loadOntologyFromOntologyDocument(new FileDocumentSource(ttl), parallel);
+        assertEquals(asUnorderedSet(expected.axioms()), asUnorderedSet(actual.axioms()));
+        assertEquals(1, actual.getAxiomCount(AxiomType.OBJECT_PROPERTY_ASSERTION));
+        assertEquals(3L, manager.ontologies().count());
+    }
+
+    @Test
+    public void shouldParseOBOImportsInParallel() throws Exception {
+        String obo = "http://purl.obolibrary.org/obo/";
+        File oboRoot = write("root.obo", "format-version: 1.2\nontology: root\nimport: " + obo
+            + "a.obo\nimport: " + obo + "b.obo\n\n[Term]\nid: R:1\nis_a: A:1\n");
+        write("a.obo", "format-version: 1.2\nontology: a\nimport: " + obo
+            + "c.obo\n\n[Term]\nid: A:1\nname: a\n");
+        write("b.obo", "format-version: 1.2\nontology: b\nimport: " + obo
+            + "c.obo\n\n[Term]\nid: B:1\nis_a: C:1\nrelationship: part_of A:1\n");
+        // no .obo extension: recognized by its header
+        File c = write("c.txt", "format-version: 1.2\nontology: c\n\n[Term]\nid: C:1\n"
+            + "name: c\ndef: \"a term\" [C:ref]\n");
+        OWLOntology expected = oboManager(c, null).loadOntologyFromOntologyDocument(
+            new FileDocumentSource(oboRoot), new OWLOntologyLoaderConfiguration());
+        Set<IRI> parsedInParallel = ConcurrentHashMap.newKeySet();
+        OWLOntologyManager manager = oboManager(c, parsedInParallel);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ((OWLOntologyManagerImpl) manager).setImportsExecutor(executor);
+            OWLOntology actual =
+                manager.loadOntologyFromOntologyDocument(new FileDocumentSource(oboRoot), parallel);
+            assertEquals(asUnorderedSet(
+                Stream.of("root.obo", "a.obo", "b.obo", "c.txt")
+                    .map(name -> IRI.create(new File(folder.getRoot(), name)))),
+                parsedInParallel);
+            assertEquals(4L, manager.ontologies().count());
+            assertEquals(2L, actual.directImports().count());
+            assertEquals(3L, actual.imports().count());
+            for (OWLOntology o : asUnorderedSet(expected.importsClosure())) {
+                OWLOntology loaded = manager.getOntology(o.getOntologyID());
+                assertEquals(asUnorderedSet(o.axioms()), asUnorderedSet(loaded.axioms()));
+                assertEquals(manager, loaded.getOWLOntologyManager());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param c document for the OBO ontology c
+     * @param parsedInParallel if not null, collects the documents parsed by private managers
+     */
+    private OWLOntologyManager oboManager(File c, @Nullable Set<IRI> parsedInParallel) {
+        OWLOntologyManager manager = setupManager();
+        manager.getIRIMappers().set(new AutoIRIMapper(folder.getRoot(), false),
+            new SimpleIRIMapper(IRI.create("http://purl.obolibrary.org/obo/c.obo"), IRI.create(c)));
+        if (parsedInParallel != null) {
+            manager.getOntologyFactories()
+                .set(new OWLOntologyFactoryImpl((om, id) -> new OWLOntologyImpl(om, id)) {
+
+                    @Override
+                    public OWLOntology loadOWLOntology(OWLOntologyManager m,
+                        OWLOntologyDocumentSource source, OWLOntologyCreationHandler handler,
+                        OWLOntologyLoaderConfiguration config)
+                        throws OWLOntologyCreationException {
+                        if (m != manager) {
+                            parsedInParallel.add(source.getDocumentIRI());
+                        }
+                        return super.loadOWLOntology(m, source, handler, config);
+                    }
+                });
+        }
+        return manager;
+    }
+
+    @Test
+    public void shouldGiveOntologiesTheManagerLock() throws Exception {
+        OWLOntologyManager manager = OWLManager.createConcurrentOWLOntologyManager();
+        for (String name : new String[] {"a.ofn", "b.ttl", "c.ofn"}) {
+            manager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(NS, name.substring(0, 1)),
+                IRI.create(new File(folder.getRoot(), name))));
+        }
+        manager.loadOntologyFromOntologyDocument(new FileDocumentSource(root), parallel);
+        OWLOntology created = manager.createOntology(IRI.create(NS, "created"));
+        Field ontologyLock = ConcurrentOWLOntologyImpl.class.getDeclaredField("lock");
+        ontologyLock.setAccessible(true);
+        Field managerLock = OWLOntologyManagerImpl.class.getDeclaredField("lock");
+        managerLock.setAccessible(true);
+        assertEquals(5L, manager.ontologies().count());
+        for (OWLOntology o : asUnorderedSet(manager.ontologies())) {
+            assertSame(managerLock.get(manager), ontologyLock.get(o));
+        }
+        assertSame(managerLock.get(manager), ontologyLock.get(created));
+    }
+}
@@ -0,0 +1,142 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeProgressListener;
+import org.semanticweb.owlapi.model.OWLOntologyChangeVetoException;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+@SuppressWarnings("javadoc")
+public class BulkLoaderTestCase extends TestBase {
+
+    private static final String NS = "urn:test:";
+
+    @Test
+    public void shouldIndexAxiomsAsAddedOneByOne() throws OWLOntologyCreationException {
+        // more axioms than fit in one block
+        List<OWLAxiom> axioms = classHierarchy(NS, 2000);
+        OWLOntology expected = getOWLOntology();
+        axioms.forEach(expected::addAxiom);
+        OWLOntology actual = getOWLOntology();
+        // query the ontology first, so that lazy indexes are initialized before loading
+        assertEquals(0, actual.referencingAxioms(df.getOWLClass(NS, "C1")).count());
+        try (OWLOntologyBulkLoader loader = actual.bulkLoader()) {
+            loader.add(axioms.stream());
+            // duplicates are ignored
+            loader.add(axioms.get(0));
+        }
+        assertSameIndexes(expected, actual);
+    }
+
+    @Test
+    public void shouldBroadcastOneSummarizedChange() throws OWLOntologyCreationException {
+        List<OWLAxiom> axioms = classHierarchy(NS, 10);
+        OWLOntology o = getOWLOntology();
+        o.addAxiom(axioms.get(0));
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        m.addOntologyChangeListener(events::add);
+        try (OWLOntologyBulkLoader loader = o.bulkLoader()) {
+            loader.add(axioms.stream());
+            assertTrue(events.isEmpty());
+        }
+        assertEquals(1, events.size());
+        Set<OWLAxiom> added = new HashSet<>();
+        for (OWLOntologyChange change : events.get(0)) {
+            assertTrue(change instanceof AddAxiom);
+            assertEquals(o, change.getOntology());
+            added.add(change.getAxiom());
+        }
+        // the axiom already in the ontology is not reported
+        assertEquals(new HashSet<>(axioms.subList(1, axioms.size())), added);
+        assertEquals(events.get(0).size(), added.size());
+    }
+
+    @Test
+    public void shouldLoadFunctionalSyntaxInBulk() throws OWLOntologyCreationException {
+        List<OWLAxiom> axioms = classHierarchy(NS, 1000);
+        OWLOntology expected = getOWLOntology();
+        axioms.forEach(expected::addAxiom);
+        StringBuilder text = new StringBuilder("Ontology(<urn:test:o>\n");
+        axioms.forEach(ax -> text.append(ax).append('\n'));
+        text.append(')');
+        OWLOntology actual = setupManager()
+            .loadOntologyFromOntologyDocument(new StringDocumentSource(text.toString()));
+        assertEquals(axioms.size(), actual.getAxiomCount(Imports.EXCLUDED));
+        assertSameIndexes(expected, actual);
+    }
+
+    private void recordNotifications(List<String> events) {
+        m.addOntologyChangeProgessListener(new OWLOntologyChangeProgressListener() {
+
+            @Override
+            public void begin(int size) {
+                events.add("begin " + size);
+            }
+
+            @Override
+            public void appliedChange(OWLOntologyChange change) {
+                events.add("applied " + change.getAxiom());
+            }
+
+            @Override
+            public void end() {
+                events.add("end");
+            }
+        });
+        m.addOntologyChangeListener(changes -> events.add("changed " + changes.size()));
+    }
+
+    @Test
+    public void shouldNotifyListenersAsApplyChangesDoes() throws OWLOntologyCreationException {
+        List<OWLAxiom> axioms = classHierarchy(NS, 10);
+        List<String> expected = new ArrayList<>();
+        recordNotifications(expected);
+        getOWLOntology().addAxioms(axioms);
+        m = setupManager();
+        List<String> actual = new ArrayList<>();
+        recordNotifications(actual);
+        try (OWLOntologyBulkLoader loader = getOWLOntology().bulkLoader()) {
+            loader.add(axioms.stream());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void shouldLetImpendingChangeListenersVeto() throws OWLOntologyCreationException {
+        List<OWLAxiom> axioms = classHierarchy(NS, 10);
+        OWLOntology o = getOWLOntology();
+        List<OWLOntologyChange> impending = new ArrayList<>();
+        m.addImpendingOntologyChangeListener(changes -> {
+            impending.addAll(changes);
+            changes.forEach(c -> assertFalse(o.containsAxiom(c.getAxiom())));
+            throw new OWLOntologyChangeVetoException(changes.get(0).getChangeData(), "vetoed");
+        });
+        List<OWLOntologyChange> vetoed = new ArrayList<>();
+        m.addOntologyChangesVetoedListener((changes, veto) -> vetoed.addAll(changes));
+        List<List<? extends OWLOntologyChange>> events = new ArrayList<>();
+        m.addOntologyChangeListener(events::add);
+        try (OWLOntologyBulkLoader loader = o.bulkLoader()) {
+            loader.add(axioms.stream());
+        }
+        assertEquals(axioms.size(), impending.size());
+        assertEquals(impending, vetoed);
+        assertEquals(0, o.getAxiomCount());
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package org.semanticweb.owlapi.api.test.ontology;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.MappedIndexDocumentFormat;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.search.Filters;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+import uk.ac.manchester.cs.owl.owlapi.MappedOWLOntologyFactory;
+import uk.ac.manchester.cs.owl.owlapi.MappedOntologyIndexWriter;
+
+@SuppressWarnings("javadoc")
+public class MappedOntologyTestCase extends TestBase {
+
+    private static final String NS = "urn:test:";
+
+    private OWLOntology map(OWLOntology source) throws IOException, OWLOntologyCreationException {
+        File file = folder.newFile("ontology.index");
+        MappedOntologyIndexWriter.write(source, file);
+        OWLOntologyManager manager = setupManager();
+        manager.getOntologyFactories().add(new MappedOWLOntologyFactory());
+        OWLOntology mapped = manager.loadOntologyFromOntologyDocument(file);
+        assertTrue(manager.getOntologyFormat(mapped) instanceof MappedIndexDocumentFormat);
+        return mapped;
+    }
+
+    private static void assertSameContent(OWLOntology expected, OWLOntology actual) {
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(asList(expected.annotations()), asList(actual.annotations()));
+        assertSameIndexes(expected, actual);
+        // the index keeps signatures sorted
+        assertEquals(asList(expected.signature()), asList(actual.signature()));
+        assertEquals(asList(expected.anonymousIndividuals()),
+            asList(actual.anonymousIndividuals()));
+        assertEquals(expected.getPunnedIRIs(Imports.EXCLUDED),
+            actual.getPunnedIRIs(Imports.EXCLUDED));
+        expected.signature().forEach(e -> assertSameFilterResults(expected, actual, e));
+    }
+
+    private static void assertSameFilterResults(OWLOntology expected, OWLOntology actual,
+        Object key) {
+        for (OWLAxiomSearchFilter filter : Arrays.asList(Filters.subClassWithSub,
+            Filters.subClassWithSuper, Filters.subObjectPropertyWithSub,
+            Filters.subObjectPropertyWithSuper, Filters.subDataPropertyWithSub,
+            Filters.subDataPropertyWithSuper, Filters.subAnnotationWithSub,
+            Filters.subAnnotationWithSuper, Filters.datatypeDefFilter, Filters.apDomainFilter,
+            Filters.apRangeFilter, Filters.axiomsFromTBoxAndRBox)) {
+            assertEquals(key.toString(), asUnorderedSet(expected.axioms(filter, key)),
+                asUnorderedSet(actual.axioms(filter, key)));
+        }
+    }
+
+    @Test
+    public void shouldAnswerQueriesLikeTheIndexedOntology() throws Exception {
+        OWLOntology source = getOWLOntology(IRI.create(NS, "o"));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        OWLClassExpression some = df.getOWLObjectSomeValuesFrom(p, df.getOWLClass(NS, "C0"));
+        OWLAnonymousIndividual blank = df.getOWLAnonymousIndividual();
+        source.add(classHierarchy(NS, 50));
+        source.addAxiom(df.getOWLAnnotationAssertionAxiom(df.getRDFSComment(),
+            IRI.create(NS, "C1"), df.getOWLLiteral("C1"),
+            singleton(df.getRDFSComment("annotated"))));
+        source.addAxiom(df.getOWLClassAssertionAxiom(some, df.getOWLNamedIndividual(NS, "i0")));
+        source.addAxiom(df.getOWLSubClassOfAxiom(some, df.getOWLClass(NS, "C1")));
+        source.addAxiom(df.getOWLObjectPropertyAssertionAxiom(p.getInverseProperty(), blank,
+            df.getOWLNamedIndividual(NS, "i1")));
+        source.addAxiom(df.getOWLDeclarationAxiom(df.getOWLNamedIndividual(NS, "C3")));
+        source.applyChange(new AddOntologyAnnotation(source, df.getRDFSLabel("ontology")));
+        OWLOntology mapped = map(source);
+        assertSameContent(source, mapped);
+        assertEquals(asUnorderedSet(source.classAssertionAxioms(some)),
+            asUnorderedSet(mapped.classAssertionAxioms(some)));
+        assertSameFilterResults(source, mapped, some);
+        assertSameFilterResults(source, mapped, IRI.create(NS, "C1"));
+        assertFalse(mapped.containsAxiom(df.getOWLSubClassOfAxiom(df.getOWLClass(NS, "C1"),
+            df.getOWLClass(NS, "C2"))));
+        assertFalse(mapped.containsClassInSignature(IRI.create(NS, "missing")));
+        assertEquals(0, mapped.referencingAxioms(df.getOWLClass(NS, "missing")).count());
+    }
+
+    @Test
+    public void shouldMapParsedOntology() throws Exception {
+        OWLOntology source = ontologyFromClasspathFile("koala.owl");
+        OWLOntology mapped = map(source);
+        assertSameContent(source, mapped);
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            assertEquals(source.getAxiomCount(type), mapped.getAxiomCount(type));
+        }
+    }
+}
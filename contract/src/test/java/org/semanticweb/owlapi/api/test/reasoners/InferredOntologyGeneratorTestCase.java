@@ -0,0 +1,147 @@
+package org.semanticweb.owlapi.api.test.reasoners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerConfiguration;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
+import org.semanticweb.owlapi.util.InferredOntologyGenerator;
+
+@SuppressWarnings("javadoc")
+public class InferredOntologyGeneratorTestCase extends TestBase {
+
+    @Test
+    public void shouldGenerateTheSameAxiomsInParallel() throws Exception {
+        assertSameAxiomsInParallel(
+            o -> new StructuralReasonerFactory().createNonBufferingReasoner(o));
+    }
+
+    @Test
+    public void shouldGenerateTheSameAxiomsInParallelFromMaterializedHierarchies()
+        throws Exception {
+        assertSameAxiomsInParallel(o -> new StructuralReasonerFactory()
+            .createNonBufferingReasoner(o, new StructuralReasonerConfiguration(true)));
+    }
+
+    private void assertSameAxiomsInParallel(Function<OWLOntology, OWLReasoner> reasoners)
+        throws Exception {
+        OWLOntologyManager manager = OWLManager.createConcurrentOWLOntologyManager();
+        OWLOntology o = manager.createOntology(iri("source"));
+        Random random = new Random(25);
+        OWLClass[] classes = new OWLClass[200];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = df.getOWLClass(iri("C" + i));
+            if (i > 0) {
+                o.add(df.getOWLSubClassOfAxiom(classes[i], classes[random.nextInt(i)]));
+            }
+            if (i > 1 && random.nextInt(20) == 0) {
+                o.add(df.getOWLEquivalentClassesAxiom(classes[i], classes[random.nextInt(i)]));
+            }
+        }
+        OWLObjectProperty[] properties = new OWLObjectProperty[10];
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = df.getOWLObjectProperty(iri("p" + i));
+            if (i > 0) {
+                o.add(df.getOWLSubObjectPropertyOfAxiom(properties[i],
+                    properties[random.nextInt(i)]));
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(iri("i" + i));
+            o.add(df.getOWLClassAssertionAxiom(classes[random.nextInt(classes.length)], ind));
+            o.add(df.getOWLObjectPropertyAssertionAxiom(
+                properties[random.nextInt(properties.length)], ind,
+                df.getOWLNamedIndividual(iri("i" + random.nextInt(100)))));
+        }
+        OWLReasoner reasoner = reasoners.apply(o);
+        List<Integer> changeBatches = new ArrayList<>();
+        manager.addOntologyChangeListener(changes -> changeBatches.add(changes.size()));
+        OWLOntology sequential = manager.createOntology(iri("sequential"));
+        new InferredOntologyGenerator(reasoner).fillOntology(df, sequential);
+        // no lock around the reasoner: its queries run concurrently
+        List<Thread> precomputing = new CopyOnWriteArrayList<>();
+        AtomicInteger maxConcurrentQueries = new AtomicInteger();
+        InferredOntologyGenerator generator = new InferredOntologyGenerator(
+            concurrentReasoner(reasoner, precomputing, maxConcurrentQueries));
+        OWLOntology parallel = manager.createOntology(iri("parallel"));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Thread caller;
+        try {
+            caller = pool.submit(() -> {
+                generator.fillOntologyInParallel(df, parallel);
+                return Thread.currentThread();
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        Set<OWLAxiom> expected = asUnorderedSet(sequential.axioms());
+        assertTrue(sequential.getAxiomCount(AxiomType.SUBCLASS_OF) > 0);
+        assertTrue(sequential.getAxiomCount(AxiomType.CLASS_ASSERTION) > 0);
+        assertEquals(expected, asUnorderedSet(parallel.axioms()));
+        assertTrue(maxConcurrentQueries.get() > 1);
+        // inferences are precomputed on the calling thread before the parallel queries
+        assertEquals(Collections.singletonList(caller), precomputing);
+        // each fill is applied as one change
+        assertEquals(2, changeBatches.size());
+        assertEquals(expected.size(), changeBatches.get(0).intValue());
+    }
+
+    /**
+     * Delegates without synchronization. The first query for nodes waits for a second one to start,
+     * so that at least two queries overlap.
+     */
+    private static OWLReasoner concurrentReasoner(OWLReasoner delegate, List<Thread> precomputing,
+        AtomicInteger maxConcurrentQueries) {
+        CountDownLatch overlap = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        return (OWLReasoner) Proxy.newProxyInstance(OWLReasoner.class.getClassLoader(),
+            new Class<?>[] {OWLReasoner.class}, (proxy, method, args) -> {
+                boolean query = Node.class.isAssignableFrom(method.getReturnType())
+                    || NodeSet.class.isAssignableFrom(method.getReturnType());
+                if ("precomputeInferences".equals(method.getName())) {
+                    precomputing.add(Thread.currentThread());
+                } else if (query) {
+                    maxConcurrentQueries.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    overlap.countDown();
+                    overlap.await(10, TimeUnit.SECONDS);
+                }
+                try {
+                    return method.invoke(delegate, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if (query) {
+                        running.decrementAndGet();
+                    }
+                }
+            });
+    }
+}
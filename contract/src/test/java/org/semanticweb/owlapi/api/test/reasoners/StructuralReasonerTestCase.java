@@ -15,14 +15,31 @@ package org.semanticweb.owlapi.api.test.reasoners;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataProperty;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.EquivalentClasses;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.EquivalentObjectProperties;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.InverseObjectProperties;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectIntersectionOf;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.OWLNothing;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.OWLThing;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubDataPropertyOf;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubObjectPropertyOf;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.reasoner.BufferingMode;
@@ -30,6 +47,7 @@ import org.semanticweb.owlapi.reasoner.Node;
 import org.semanticweb.owlapi.reasoner.NodeSet;
 import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
 import org.semanticweb.owlapi.reasoner.structural.StructuralReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerConfiguration;
 
 /**
  * @author Matthew Horridge, The University of Manchester, Bio-Health Informatics Group
@@ -90,4 +108,169 @@ public class StructuralReasonerTestCase extends TestBase {
         ont.remove(SubClassOf(clsA, OWLThing()));
         testClassHierarchy(reasoner);
     }
+
+    @Test
+    public void testMaterializedClassHierarchy() {
+        OWLClass clsX = Class(iri("X"));
+        OWLClass clsA = Class(iri("A"));
+        OWLClass clsAp = Class(iri("Ap"));
+        OWLClass clsB = Class(iri("B"));
+        OWLOntology ont = getOWLOntology();
+        ont.add(EquivalentClasses(OWLThing(), clsX), SubClassOf(clsB, clsA),
+            EquivalentClasses(clsA, clsAp));
+        StructuralReasoner reasoner = new StructuralReasoner(ont,
+            new StructuralReasonerConfiguration(true), BufferingMode.NON_BUFFERING);
+        testClassHierarchy(reasoner);
+        ont.add(SubClassOf(clsA, OWLThing()));
+        testClassHierarchy(reasoner);
+        ont.remove(SubClassOf(clsA, OWLThing()));
+        testClassHierarchy(reasoner);
+    }
+
+    @Test
+    public void shouldAnswerAsWalkingTheHierarchyWhenMaterialized() {
+        OWLClass a = Class(iri("A"));
+        OWLClass b = Class(iri("B"));
+        OWLClass c = Class(iri("C"));
+        OWLClass d = Class(iri("D"));
+        OWLClass e = Class(iri("E"));
+        OWLClass f = Class(iri("F"));
+        OWLClass g = Class(iri("G"));
+        OWLClass h = Class(iri("H"));
+        OWLObjectProperty p = ObjectProperty(iri("p"));
+        OWLObjectProperty q = ObjectProperty(iri("q"));
+        OWLObjectProperty r = ObjectProperty(iri("r"));
+        OWLObjectProperty s = ObjectProperty(iri("s"));
+        OWLObjectProperty t = ObjectProperty(iri("t"));
+        OWLDataProperty dp = DataProperty(iri("dp"));
+        OWLDataProperty dq = DataProperty(iri("dq"));
+        OWLDataProperty dr = DataProperty(iri("dr"));
+        OWLOntology ont = getOWLOntology();
+        // a chain, a cycle below it, a cycle with no other parents, an intersection and a class
+        // equivalent to nothing
+        ont.add(SubClassOf(b, a), SubClassOf(c, b), SubClassOf(d, c), SubClassOf(c, d),
+            SubClassOf(e, d), SubClassOf(f, g), SubClassOf(g, f),
+            SubClassOf(h, ObjectIntersectionOf(a, f)), EquivalentClasses(e, OWLNothing()),
+            SubObjectPropertyOf(p, q), InverseObjectProperties(q, r),
+            EquivalentObjectProperties(r, s), SubDataPropertyOf(dp, dq));
+        StructuralReasoner walking =
+            new StructuralReasoner(ont, new SimpleConfiguration(), BufferingMode.NON_BUFFERING);
+        StructuralReasoner materialized = new StructuralReasoner(ont,
+            new StructuralReasonerConfiguration(true), BufferingMode.NON_BUFFERING);
+        assertSameHierarchies(ont, walking, materialized);
+        ont.add(SubClassOf(a, h), SubObjectPropertyOf(t, p), SubDataPropertyOf(dq, dr));
+        // the materialized hierarchies are rebuilt on changes; compare with a fresh reasoner
+        assertSameHierarchies(ont,
+            new StructuralReasoner(ont, new SimpleConfiguration(), BufferingMode.NON_BUFFERING),
+            materialized);
+    }
+
+    private OWLAxiom randomEdit(Random random) {
+        OWLClass a = Class(iri("C" + random.nextInt(12)));
+        OWLClass b = Class(iri("C" + random.nextInt(12)));
+        OWLObjectProperty p = ObjectProperty(iri("p" + random.nextInt(5)));
+        OWLObjectProperty q = ObjectProperty(iri("p" + random.nextInt(5)));
+        switch (random.nextInt(10)) {
+            case 0:
+                return EquivalentClasses(a, b);
+            case 1:
+                return SubClassOf(a, OWLThing());
+            case 2:
+                return SubClassOf(a, ObjectIntersectionOf(b, Class(iri("C0"))));
+            case 3:
+                return SubObjectPropertyOf(p, q);
+            case 4:
+                return InverseObjectProperties(p, q);
+            case 5:
+                return SubDataPropertyOf(DataProperty(iri("d" + random.nextInt(4))),
+                    DataProperty(iri("d" + random.nextInt(4))));
+            case 6:
+                // entities that only appear in axioms outside the hierarchy
+                return df.getOWLClassAssertionAxiom(a, df.getOWLNamedIndividual(iri("i")));
+            case 7:
+                return df.getOWLObjectPropertyDomainAxiom(p, a);
+            default:
+                return SubClassOf(a, b);
+        }
+    }
+
+    @Test
+    public void shouldApplyEditsAsRecomputingTheHierarchy() {
+        Random random = new Random(24);
+        OWLOntology ont = getOWLOntology();
+        StructuralReasoner incremental =
+            new StructuralReasoner(ont, new SimpleConfiguration(), BufferingMode.NON_BUFFERING);
+        StructuralReasoner materialized = new StructuralReasoner(ont,
+            new StructuralReasonerConfiguration(true), BufferingMode.BUFFERING);
+        for (int step = 0; step < 600; step++) {
+            OWLAxiom ax = randomEdit(random);
+            if (random.nextInt(3) == 0) {
+                ont.remove(ax);
+            } else {
+                ont.add(ax);
+            }
+            if (step % 5 == 0) {
+                StructuralReasoner recomputed = new StructuralReasoner(ont,
+                    new SimpleConfiguration(), BufferingMode.NON_BUFFERING);
+                assertSameHierarchies(ont, recomputed, incremental);
+                materialized.flush();
+                assertSameHierarchies(ont, recomputed, materialized);
+            }
+        }
+        // entities leave the hierarchy with their last axiom
+        ont.remove(asList(ont.axioms()));
+        StructuralReasoner recomputed =
+            new StructuralReasoner(ont, new SimpleConfiguration(), BufferingMode.NON_BUFFERING);
+        assertSameHierarchies(ont, recomputed, incremental);
+    }
+
+    private static void assertSameHierarchies(OWLOntology ont, StructuralReasoner expected,
+        StructuralReasoner actual) {
+        ont.classesInSignature().forEach(cls -> {
+            for (boolean direct : new boolean[] {true, false}) {
+                assertEquals(cls.toString(), nodes(expected.getSubClasses(cls, direct)),
+                    nodes(actual.getSubClasses(cls, direct)));
+                assertEquals(cls.toString(), nodes(expected.getSuperClasses(cls, direct)),
+                    nodes(actual.getSuperClasses(cls, direct)));
+            }
+            assertEquals(expected.getEquivalentClasses(cls), actual.getEquivalentClasses(cls));
+        });
+        ont.objectPropertiesInSignature().forEach(prop -> {
+            for (OWLObjectPropertyExpression pe : new OWLObjectPropertyExpression[] {prop,
+                prop.getInverseProperty()}) {
+                for (boolean direct : new boolean[] {true, false}) {
+                    assertEquals(pe.toString(), nodes(expected.getSubObjectProperties(pe, direct)),
+                        nodes(actual.getSubObjectProperties(pe, direct)));
+                    assertEquals(pe.toString(),
+                        nodes(expected.getSuperObjectProperties(pe, direct)),
+                        nodes(actual.getSuperObjectProperties(pe, direct)));
+                }
+                assertEquals(expected.getEquivalentObjectProperties(pe),
+                    actual.getEquivalentObjectProperties(pe));
+            }
+        });
+        ont.dataPropertiesInSignature().forEach(prop -> {
+            for (boolean direct : new boolean[] {true, false}) {
+                assertEquals(nodes(expected.getSubDataProperties(prop, direct)),
+                    nodes(actual.getSubDataProperties(prop, direct)));
+                assertEquals(nodes(expected.getSuperDataProperties(prop, direct)),
+                    nodes(actual.getSuperDataProperties(prop, direct)));
+            }
+        });
+        assertEquals(expected.getTopClassNode(), actual.getTopClassNode());
+        assertEquals(expected.getBottomClassNode(), actual.getBottomClassNode());
+        assertEquals(nodes(expected.getSubClasses(OWLThing(), true)),
+            nodes(actual.getSubClasses(OWLThing(), true)));
+        assertEquals(nodes(expected.getSuperClasses(OWLNothing(), true)),
+            nodes(actual.getSuperClasses(OWLNothing(), true)));
+        OWLObjectPropertyExpression top =
+            expected.getTopObjectPropertyNode().getRepresentativeElement();
+        assertEquals(nodes(expected.getSubObjectProperties(top, true)),
+            nodes(actual.getSubObjectProperties(top, true)));
+    }
+
+    private static <T extends OWLObject> Set<Set<T>> nodes(NodeSet<T> ns) {
+        return ns.nodes().map(n -> n.entities().collect(Collectors.toSet()))
+            .collect(Collectors.toSet());
+    }
 }
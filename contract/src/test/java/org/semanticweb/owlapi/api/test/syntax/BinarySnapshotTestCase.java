@@ -0,0 +1,132 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.Builder;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+import org.semanticweb.owlapi.snapshot.BinarySnapshotParser;
+
+@SuppressWarnings("javadoc")
+public class BinarySnapshotTestCase extends TestBase {
+
+    private OWLOntology ontology() throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology(new OWLOntologyID(IRI.create("urn:test:snapshot"),
+            IRI.create("urn:test:snapshot/1")));
+        o.applyChange(new AddOntologyAnnotation(o, df.getOWLAnnotation(df.getRDFSComment(),
+            df.getOWLLiteral("caf\u00e9", "fr"), df.getRDFSLabel("nested"))));
+        o.add(new Builder().all());
+        return o;
+    }
+
+    private static byte[] save(OWLOntology o) throws OWLOntologyStorageException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        o.getOWLOntologyManager().saveOntology(o, new BinarySnapshotDocumentFormat(), out);
+        return out.toByteArray();
+    }
+
+    private void assertSameContent(OWLOntology expected, OWLOntology actual) {
+        assertEquals(expected.getOntologyID(), actual.getOntologyID());
+        assertEquals(asUnorderedSet(expected.annotations()), asUnorderedSet(actual.annotations()));
+        assertTrue(equal(expected, actual));
+        assertTrue(actual.getNonnullFormat() instanceof BinarySnapshotDocumentFormat);
+    }
+
+    @Test
+    public void shouldRoundTripEveryAxiomType() throws Exception {
+        OWLOntology expected = ontology();
+        OWLOntology actual = setupManager().loadOntologyFromOntologyDocument(
+            new StreamDocumentSource(new ByteArrayInputStream(save(expected))));
+        assertSameContent(expected, actual);
+    }
+
+    @Test
+    public void shouldRoundTripThroughFile() throws Exception {
+        OWLOntology expected = ontology();
+        File file = folder.newFile("snapshot.owls");
+        m.saveOntology(expected, new BinarySnapshotDocumentFormat(), IRI.create(file));
+        OWLOntology actual =
+            setupManager().loadOntologyFromOntologyDocument(new FileDocumentSource(file));
+        assertSameContent(expected, actual);
+    }
+
+    @Test
+    public void shouldLoadImports() throws Exception {
+        OWLOntology o = getOWLOntology();
+        IRI imported = IRI.create("urn:test:imported");
+        o.applyChange(new AddImport(o, df.getOWLImportsDeclaration(imported)));
+        OWLOntologyManager manager = setupManager();
+        OWLOntology importedOntology = manager.createOntology(imported);
+        OWLOntology actual = manager.loadOntologyFromOntologyDocument(
+            new StreamDocumentSource(new ByteArrayInputStream(save(o))));
+        assertEquals(asUnorderedSet(o.importsDeclarations()),
+            asUnorderedSet(actual.importsDeclarations()));
+        assertTrue(actual.imports().anyMatch(importedOntology::equals));
+    }
+
+    @Test(expected = OWLParserException.class)
+    public void shouldRejectOtherDocuments() throws OWLOntologyCreationException {
+        new BinarySnapshotParser().parse(new StringDocumentSource("Ontology()"),
+            m.createOntology(), config);
+    }
+
+    @Test
+    public void shouldReportCorruptionWithOffset() throws Exception {
+        byte[] snapshot = save(ontology());
+        OWLOntologyManager manager = setupManager();
+        int failures = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            byte[] corrupted = snapshot.clone();
+            corrupted[i] ^= 0x55;
+            failures += parseCorrupted(manager, corrupted);
+            failures += parseCorrupted(manager, Arrays.copyOf(snapshot, i));
+        }
+        assertTrue(failures > snapshot.length);
+    }
+
+    /**
+     * @return 1 if the snapshot was rejected, 0 if it could still be read
+     */
+    private int parseCorrupted(OWLOntologyManager manager, byte[] snapshot)
+        throws OWLOntologyCreationException {
+        OWLOntology o = manager.createOntology();
+        try {
+            new BinarySnapshotParser().parse(
+                new StreamDocumentSource(new ByteArrayInputStream(snapshot)), o, config);
+            return 0;
+        } catch (OWLParserException e) {
+            String message = String.valueOf(e.getMessage());
+            assertTrue(message, message.contains("offset") || message.contains("Not an ontology"));
+            return 1;
+        } finally {
+            manager.removeOntology(o);
+        }
+    }
+
+    @Test
+    public void shouldStillLoadTextDocuments() throws OWLOntologyCreationException {
+        OWLOntology o = m.loadOntologyFromOntologyDocument(
+            new StringDocumentSource("Ontology(<urn:test:text> SubClassOf(<urn:a> <urn:b>))"));
+        assertEquals(1, o.getLogicalAxiomCount());
+    }
+}
@@ -0,0 +1,59 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+@SuppressWarnings("javadoc")
+public class FunctionalSyntaxFileTestCase extends TestBase {
+
+    private static String document(int classes) {
+        StringBuilder b = new StringBuilder("\uFEFFPrefix(:=<urn:test#>)\n")
+            .append("Ontology(<urn:test:o>\nAnnotation(rdfs:comment \"caf\u00e9\")\n");
+        classHierarchy("urn:test#", classes).forEach(ax -> b.append(ax).append('\n'));
+        for (int i = 0; i < classes; i++) {
+            b.append("AnnotationAssertion(rdfs:comment :C").append(i).append(" \"\u00e9t\u00e9 ")
+                .append(i).append(" \\\"q\\\"\"@fr)\n");
+        }
+        return b.append(")\n").toString();
+    }
+
+    private OWLOntology loadFile(String text) throws IOException, OWLOntologyCreationException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+        return setupManager().loadOntologyFromOntologyDocument(
+            new FileDocumentSource(file, new FunctionalSyntaxDocumentFormat()));
+    }
+
+    private void assertSameAsFromString(String text)
+        throws IOException, OWLOntologyCreationException {
+        OWLOntology expected = setupManager().loadOntologyFromOntologyDocument(
+            new StringDocumentSource(text.substring(1)));
+        OWLOntology actual = loadFile(text);
+        assertTrue(equal(expected, actual));
+        assertTrue(actual.getNonnullFormat() instanceof FunctionalSyntaxDocumentFormat);
+    }
+
+    @Test
+    public void shouldLoadSmallFile() throws IOException, OWLOntologyCreationException {
+        assertSameAsFromString(document(10));
+    }
+
+    @Test
+    public void shouldLoadMappedFile() throws IOException, OWLOntologyCreationException {
+        String text = document(6000);
+        assertTrue(text.length() > 1 << 20);
+        assertSameAsFromString(text);
+    }
+}
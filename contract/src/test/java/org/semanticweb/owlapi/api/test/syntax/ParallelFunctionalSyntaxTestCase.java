@@ -0,0 +1,114 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.io.UnparsableOntologyException;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+
+@SuppressWarnings("javadoc")
+public class ParallelFunctionalSyntaxTestCase extends TestBase {
+
+    private final OWLOntologyLoaderConfiguration parallel =
+        new OWLOntologyLoaderConfiguration().withParallelParsing(true);
+
+    /**
+     * @return a document several times longer than the parts it is split into, with parentheses,
+     *         quotes and comment characters in literals and IRIs, comments between axioms, and a
+     *         blank node used at both ends of the document
+     */
+    private static String document(int classes) {
+        StringBuilder b = new StringBuilder();
+        b.append("Prefix(:=<urn:test#>)\n").append("# a comment ( with a parenthesis\n")
+            .append("Ontology(<urn:test:o> <urn:test:o:1>\n")
+            .append("Annotation(rdfs:comment \"header (\")\n")
+            .append("ClassAssertion(:A _:b)\n");
+        List<OWLAxiom> axioms = classHierarchy("urn:test#", classes);
+        for (int i = 0; i < axioms.size(); i++) {
+            b.append(axioms.get(i)).append(i % 7 == 0 ? " # closing ) comment\n" : "\n");
+        }
+        for (int i = 0; i < classes; i++) {
+            b.append("AnnotationAssertion(rdfs:comment :C").append(i).append(" \"C(")
+                .append(i).append(") \\\"#quoted)\\\" \\\\\"@en)\n");
+            b.append("AnnotationAssertion(rdfs:seeAlso :C").append(i)
+                .append(" <urn:test:see(also)#").append(i).append(">)\n");
+        }
+        b.append("ObjectPropertyAssertion(:p _:b :i)\n").append(")\n# trailing comment\n");
+        return b.toString();
+    }
+
+    private OWLOntology load(String text, OWLOntologyLoaderConfiguration configuration)
+        throws OWLOntologyCreationException {
+        return setupManager().loadOntologyFromOntologyDocument(new StringDocumentSource(text),
+            configuration);
+    }
+
+    @Test
+    public void shouldParseSameAxiomsAsSequentialParser() throws OWLOntologyCreationException {
+        String text = document(3000);
+        OWLOntology expected = load(text, config);
+        OWLOntology actual = load(text, parallel);
+        assertTrue(equal(expected, actual));
+        // the blank node is the same individual in the first and in the last axiom
+        Set<OWLAnonymousIndividual> anonymous = asUnorderedSet(actual.anonymousIndividuals());
+        assertEquals(1, anonymous.size());
+        assertEquals(2, actual.referencingAxioms(anonymous.iterator().next()).count());
+        assertTrue(actual.getNonnullFormat() instanceof FunctionalSyntaxDocumentFormat);
+        assertEquals("urn:test#",
+            actual.getNonnullFormat().asPrefixOWLDocumentFormat().getDefaultPrefix());
+    }
+
+    @Test
+    public void shouldParseSmallDocumentsSequentially() throws OWLOntologyCreationException {
+        String text = document(10);
+        assertEquals(asUnorderedSet(load(text, config).axioms(AxiomType.SUBCLASS_OF)),
+            asUnorderedSet(load(text, parallel).axioms(AxiomType.SUBCLASS_OF)));
+    }
+
+    @Test
+    public void shouldReportErrorsAsSequentialParser() {
+        String text = document(3000).replace("SubClassOf(<urn:test#C2000> ",
+            "SubClassOf(<urn:test#C2000> <urn:test#C1> ");
+        String expected = errorMessage(text, config);
+        assertTrue(expected, expected.contains("<urn:test#C1000>"));
+        assertEquals(expected, errorMessage(text, parallel));
+    }
+
+    @Test
+    public void shouldReportLexicalErrorsAsSequentialParser() {
+        // an unterminated literal and a character no token starts with, inside a part
+        for (String broken : new String[] {"\"C(2000) \\\"#quoted)", "\u0001"}) {
+            String literal = "AnnotationAssertion(rdfs:comment :C2000 ";
+            String text = document(3000).replace(literal, literal + broken);
+            assertEquals(errorMessage(text, config), errorMessage(text, parallel));
+        }
+    }
+
+    private String errorMessage(String text, OWLOntologyLoaderConfiguration configuration) {
+        try {
+            setupManager().loadOntologyFromOntologyDocument(new StringDocumentSource(text,
+                "urn:test:doc", new FunctionalSyntaxDocumentFormat(), null), configuration);
+        } catch (UnparsableOntologyException e) {
+            Throwable cause = e.getExceptions().values().iterator().next();
+            assertTrue(cause instanceof OWLParserException);
+            return cause.getMessage();
+        } catch (OWLOntologyCreationException e) {
+            throw new AssertionError(e);
+        }
+        throw new AssertionError("Error expected");
+    }
+}
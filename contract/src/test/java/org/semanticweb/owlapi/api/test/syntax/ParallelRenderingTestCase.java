@@ -0,0 +1,85 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentTarget;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+@SuppressWarnings("javadoc")
+public class ParallelRenderingTestCase extends TestBase {
+
+    private static final String NS = "urn:test:parallel#";
+
+    private OWLOntology ontology(int size) throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology(IRI.create(NS, "ontology"));
+        // created as C0, C1, C2... but sorted as C0, C1, C10, C100, C1000, C1001...
+        o.add(classHierarchy(NS, size));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        OWLAnonymousIndividual shared = df.getOWLAnonymousIndividual();
+        for (int i = 0; i < size; i++) {
+            OWLClass c = df.getOWLClass(NS, "C" + i);
+            OWLClass sup = df.getOWLClass(NS, "C" + i / 2);
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(NS, "i" + i);
+            OWLAnnotation comment =
+                df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("axiom " + i));
+            // axioms shared by two entities that fall into different parts, and general axioms
+            o.add(df.getOWLDisjointClassesAxiom(Arrays.asList(c,
+                df.getOWLClass(NS, "C" + (size - 1 - i / 2))), Collections.singleton(comment)),
+                df.getOWLObjectPropertyAssertionAxiom(p, ind, shared),
+                df.getOWLSubClassOfAxiom(df.getOWLObjectSomeValuesFrom(p, c),
+                    df.getOWLObjectAllValuesFrom(p, sup)));
+            if (i % 4 == 0) {
+                // a second section large enough to be split
+                OWLDataProperty d = df.getOWLDataProperty(NS, "d" + i);
+                o.add(df.getOWLDeclarationAxiom(d), df.getOWLDataPropertyDomainAxiom(d, c),
+                    df.getOWLDataPropertyAssertionAxiom(d, ind, df.getOWLLiteral(i)));
+            }
+        }
+        return o;
+    }
+
+    private String save(OWLOntology o, OWLDocumentFormat format, boolean inParallel)
+        throws OWLOntologyStorageException {
+        m.setOntologyWriterConfiguration(
+            m.getOntologyWriterConfiguration().withParallelRendering(inParallel));
+        StringDocumentTarget target = new StringDocumentTarget();
+        o.saveOntology(format, target);
+        return target.toString();
+    }
+
+    @Test
+    public void shouldRenderFunctionalSyntaxAsSequentialRenderer()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(3000);
+        String expected = save(o, new FunctionalSyntaxDocumentFormat(), false);
+        assertTrue(expected.contains("#   Classes"));
+        assertEquals(expected, save(o, new FunctionalSyntaxDocumentFormat(), true));
+    }
+
+    @Test
+    public void shouldRenderOWLXMLAsSequentialRenderer()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(3000);
+        String expected = save(o, new OWLXMLDocumentFormat(), false);
+        assertEquals(expected, save(o, new OWLXMLDocumentFormat(), true));
+        assertTrue(equal(o, loadOntologyFromString(expected, new OWLXMLDocumentFormat())));
+    }
+}
@@ -0,0 +1,70 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.ManchesterSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RioTurtleDocumentFormat;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import uk.ac.manchester.cs.owl.owlapi.DocumentFormatSniffer;
+
+@SuppressWarnings("javadoc")
+public class ParserSelectionTestCase extends TestBase {
+
+    private static final String RDFXML = "<?xml version=\"1.0\"?>\n"
+        + "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\"\n"
+        + "     xmlns:owl=\"http://www.w3.org/2002/07/owl#\">\n"
+        + "    <owl:Ontology rdf:about=\"urn:test:o\"/>\n"
+        + "    <owl:Class rdf:about=\"urn:test:A\"/>\n" + "</rdf:RDF>";
+    private static final String OWLXML = "<?xml version=\"1.0\"?>\n"
+        + "<Ontology xmlns=\"http://www.w3.org/2002/07/owl#\" ontologyIRI=\"urn:test:o\">\n"
+        + "    <Declaration><Class IRI=\"urn:test:A\"/></Declaration>\n" + "</Ontology>";
+    private static final String TURTLE = "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+        + "<urn:test:o> a owl:Ontology .\n" + "<urn:test:A> a owl:Class .";
+    private static final String FUNCTIONAL =
+        "Ontology(<urn:test:o>\n" + "Declaration(Class(<urn:test:A>))\n" + ")";
+    private static final String MANCHESTER = "Ontology: <urn:test:o>\n" + "Class: <urn:test:A>";
+    private static final String OBO =
+        "format-version: 1.2\n" + "ontology: test\n\n" + "[Term]\n" + "id: X:1\n" + "name: x";
+
+    private void assertFirstParser(String input, OWLDocumentFormat expected) {
+        OWLParserFactory first = DocumentFormatSniffer
+            .rank(new StringDocumentSource(input), m.getOntologyParsers()).iterator().next();
+        assertEquals(expected.getKey(), first.getSupportedFormat().getKey());
+    }
+
+    @Test
+    public void shouldTryMatchingParserFirst() {
+        assertFirstParser(RDFXML, new RDFXMLDocumentFormat());
+        assertFirstParser(OWLXML, new OWLXMLDocumentFormat());
+        assertFirstParser(TURTLE, new RioTurtleDocumentFormat());
+        assertFirstParser(FUNCTIONAL, new FunctionalSyntaxDocumentFormat());
+        assertFirstParser(MANCHESTER, new ManchesterSyntaxDocumentFormat());
+        assertFirstParser(OBO, new OBODocumentFormat());
+    }
+
+    @Test
+    public void shouldKeepAllParsersAsFallback() {
+        assertEquals(m.getOntologyParsers().size(), DocumentFormatSniffer
+            .rank(new StringDocumentSource(TURTLE), m.getOntologyParsers()).size());
+    }
+
+    @Test
+    public void shouldLoadWithSniffedFormat() throws OWLOntologyCreationException {
+        OWLOntology o = loadOntologyFromString(MANCHESTER);
+        assertTrue(o.getOWLOntologyManager().getOntologyFormat(o)
+            instanceof ManchesterSyntaxDocumentFormat);
+        assertTrue(o.containsClassInSignature(df.getOWLClass("urn:test:A").getIRI()));
+    }
+}
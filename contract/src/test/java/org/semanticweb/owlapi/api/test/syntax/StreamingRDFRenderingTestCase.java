@@ -0,0 +1,111 @@
+package org.semanticweb.owlapi.api.test.syntax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RioRDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RioTurtleDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+@SuppressWarnings("javadoc")
+public class StreamingRDFRenderingTestCase extends TestBase {
+
+    private static final String NS = "urn:test:streaming#";
+
+    private OWLOntology ontology(int size) throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology(IRI.create(NS, "ontology"));
+        o.add(classHierarchy(NS, size));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        // an anonymous individual used by many entities must keep its blank node
+        OWLAnonymousIndividual shared = df.getOWLAnonymousIndividual();
+        OWLClass sharedType = df.getOWLClass(NS, "Shared");
+        // undeclared entities are typed again in every object that refers to them
+        o.add(df.getOWLDeclarationAxiom(sharedType),
+            df.getOWLClassAssertionAxiom(sharedType, shared));
+        OWLAnonymousIndividual previous = shared;
+        for (int i = 0; i < size; i++) {
+            OWLClass c = df.getOWLClass(NS, "C" + i);
+            OWLClass sup = df.getOWLClass(NS, "C" + i / 2);
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(NS, "i" + i);
+            OWLAnonymousIndividual own = df.getOWLAnonymousIndividual();
+            OWLAnnotation comment =
+                df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("axiom " + i));
+            o.add(df.getOWLEquivalentClassesAxiom(c,
+                df.getOWLObjectIntersectionOf(sup, df.getOWLObjectSomeValuesFrom(p, sup)),
+                Collections.singleton(comment)),
+                df.getOWLObjectPropertyAssertionAxiom(p, ind, shared),
+                // a chain of anonymous individuals, each described by two objects
+                df.getOWLClassAssertionAxiom(c, own),
+                df.getOWLObjectPropertyAssertionAxiom(p, own, previous),
+                df.getOWLObjectPropertyAssertionAxiom(p, ind, own),
+                // anonymous individuals as annotation values and subjects
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSSeeAlso(), c.getIRI(), own),
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSLabel(), own,
+                    df.getOWLLiteral("blank " + i)));
+            previous = own;
+        }
+        // punned and untyped annotation subjects
+        o.add(df.getOWLClassAssertionAxiom(df.getOWLClass(NS, "C1"),
+            df.getOWLNamedIndividual(NS, "C2")));
+        o.add(df.getOWLAnnotationAssertionAxiom(df.getRDFSComment(), IRI.create(NS, "untyped"),
+            df.getOWLLiteral("untyped")));
+        return o;
+    }
+
+    private static <T extends OWLDocumentFormat> T streaming(T format) {
+        format.setParameter(RDFDocumentFormat.STREAMING, Boolean.TRUE);
+        return format;
+    }
+
+    @Test
+    public void shouldRoundTripStreamingFormats()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(300);
+        List<OWLDocumentFormat> formats = Arrays.asList(streaming(new TurtleDocumentFormat()),
+            streaming(new RDFXMLDocumentFormat()), streaming(new NTriplesDocumentFormat()),
+            streaming(new RioTurtleDocumentFormat()), streaming(new RioRDFXMLDocumentFormat()));
+        for (OWLDocumentFormat format : formats) {
+            assertTrue(format.getKey(), equal(o, roundTrip(o, format)));
+        }
+    }
+
+    @Test
+    public void shouldWriteSameTriplesAsSortedRendering()
+        throws OWLOntologyCreationException, OWLOntologyStorageException, IOException {
+        OWLOntology o = ontology(100);
+        String sorted = saveOntology(o, new NTriplesDocumentFormat()).toString();
+        String streamed = saveOntology(o, streaming(new NTriplesDocumentFormat())).toString();
+        Model sortedTriples = Rio.parse(new StringReader(sorted), NS, RDFFormat.NTRIPLES);
+        Model streamedTriples = Rio.parse(new StringReader(streamed), NS, RDFFormat.NTRIPLES);
+        assertEquals(sortedTriples.size(), streamedTriples.size());
+        // blank node labels differ, so the graphs are compared up to renaming of blank nodes
+        assertTrue(Models.isomorphic(sortedTriples, streamedTriples));
+        assertTrue(equal(loadOntologyFromString(sorted, new NTriplesDocumentFormat()),
+            loadOntologyFromString(streamed, new NTriplesDocumentFormat())));
+    }
+}
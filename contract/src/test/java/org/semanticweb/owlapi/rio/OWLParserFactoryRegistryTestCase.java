@@ -14,6 +14,7 @@ import org.semanticweb.owlapi.oboformat.OBOFormatOWLAPIParserFactory;
 import org.semanticweb.owlapi.owlxml.parser.OWLXMLParserFactory;
 import org.semanticweb.owlapi.rdf.rdfxml.parser.RDFXMLParserFactory;
 import org.semanticweb.owlapi.rdf.turtle.parser.TurtleOntologyParserFactory;
+import org.semanticweb.owlapi.snapshot.BinarySnapshotParserFactory;
 import org.semanticweb.owlapi.util.PriorityCollection;
 
 /**
@@ -48,6 +49,7 @@ public class OWLParserFactoryRegistryTestCase {
         factories.add(RioRDFXMLParserFactory.class);
         factories.add(RioTrixParserFactory.class);
         factories.add(RioRDFaParserFactory.class);
+        factories.add(BinarySnapshotParserFactory.class);
         PriorityCollection<OWLParserFactory> ontologyParsers = OWLManager
             .createOWLOntologyManager().getOntologyParsers();
         Set<Class<? extends OWLParserFactory>> found = new HashSet<>();
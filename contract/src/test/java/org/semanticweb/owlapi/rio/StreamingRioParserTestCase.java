@@ -0,0 +1,132 @@
+package org.semanticweb.owlapi.rio;
+
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Test;
+import org.semanticweb.owlapi.api.test.baseclasses.TestBase;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLOntologyStorageException;
+
+@SuppressWarnings("javadoc")
+public class StreamingRioParserTestCase extends TestBase {
+
+    private static final String NS = "urn:test:streaming#";
+
+    private OWLOntology ontology(int size) throws OWLOntologyCreationException {
+        OWLOntology o = m.createOntology(IRI.create(NS, "ontology"));
+        o.applyChange(new AddOntologyAnnotation(o,
+            df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("streamed"))));
+        o.add(classHierarchy(NS, size));
+        OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+        OWLDataProperty d = df.getOWLDataProperty(NS, "d");
+        OWLAnnotationProperty a = df.getOWLAnnotationProperty(NS, "a");
+        o.add(df.getOWLDeclarationAxiom(d), df.getOWLDeclarationAxiom(a));
+        for (int i = 0; i < size; i++) {
+            OWLClass c = df.getOWLClass(NS, "C" + i);
+            OWLClass sup = df.getOWLClass(NS, "C" + i / 2);
+            OWLNamedIndividual ind = df.getOWLNamedIndividual(NS, "i" + i);
+            IRI untyped = IRI.create(NS, "untyped" + i);
+            o.add(df.getOWLAnnotationAssertionAxiom(a, c.getIRI(), df.getOWLLiteral(i)),
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSSeeAlso(), c.getIRI(), sup.getIRI()),
+                // IRI values of declared properties wait for the end of the document
+                df.getOWLAnnotationAssertionAxiom(a, ind.getIRI(), untyped),
+                // subjects that are never typed are not streamed
+                df.getOWLAnnotationAssertionAxiom(df.getRDFSComment(), untyped,
+                    df.getOWLLiteral("untyped " + i, "en")),
+                df.getOWLDataPropertyAssertionAxiom(d, ind, df.getOWLLiteral(i)));
+            if (i % 10 == 0) {
+                // reified axioms and blank node structures must still be buffered
+                o.add(df.getOWLSubClassOfAxiom(c, df.getOWLObjectSomeValuesFrom(p, sup),
+                    Collections.singleton(df.getOWLAnnotation(df.getRDFSComment(),
+                        df.getOWLLiteral("axiom " + i)))));
+                o.add(df.getOWLAnnotationAssertionAxiom(c.getIRI(),
+                    df.getOWLAnnotation(df.getRDFSComment(), df.getOWLLiteral("comment " + i),
+                        Collections.singleton(df.getOWLAnnotation(df.getRDFSLabel(),
+                            df.getOWLLiteral("nested " + i))))));
+            }
+        }
+        return o;
+    }
+
+    private static String reorder(String triples, long seed) {
+        List<String> lines = new ArrayList<>(Arrays.asList(triples.split("\n")));
+        if (seed < 0) {
+            Collections.reverse(lines);
+        } else {
+            Collections.shuffle(lines, new Random(seed));
+        }
+        return String.join("\n", lines) + '\n';
+    }
+
+    @Test
+    public void shouldLoadTriplesInAnyOrder()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(500);
+        String triples = saveOntology(o, new NTriplesDocumentFormat()).toString();
+        assertTrue(equal(o, loadOntologyFromString(triples, new NTriplesDocumentFormat())));
+        for (long seed : new long[] {-1, 1, 2}) {
+            assertTrue(equal(o,
+                loadOntologyFromString(reorder(triples, seed), new NTriplesDocumentFormat())));
+        }
+    }
+
+    @Test
+    public void shouldLoadTheSameAnnotationsWithStrictParsing()
+        throws OWLOntologyCreationException, OWLOntologyStorageException {
+        OWLOntology o = ontology(200);
+        String triples = reorder(saveOntology(o, new NTriplesDocumentFormat()).toString(), 3);
+        OWLOntology lax = loadOntologyFromString(triples, new NTriplesDocumentFormat());
+        OWLOntologyManager manager = setupManager();
+        manager.setOntologyLoaderConfiguration(
+            manager.getOntologyLoaderConfiguration().setStrict(true));
+        OWLOntology strict = manager.loadOntologyFromOntologyDocument(
+            new StringDocumentSource(triples, "urn:test:strict", new NTriplesDocumentFormat(),
+                null));
+        assertTrue(equal(o, lax));
+        // strict parsing drops the annotations of reified axioms, but must find every plain
+        // annotation the lax parser streamed
+        assertTrue(plainAnnotations(strict).containsAll(plainAnnotations(lax)));
+    }
+
+    private static Set<OWLAnnotationAssertionAxiom> plainAnnotations(OWLOntology o) {
+        return asUnorderedSet(o.axioms(AxiomType.ANNOTATION_ASSERTION)
+            .filter(ax -> ax.getSubject().isIRI() && !ax.isAnnotated()));
+    }
+
+    @Test
+    public void shouldLoadStatementsFromIterator()
+        throws OWLOntologyCreationException, OWLOntologyStorageException, IOException {
+        OWLOntology o = ontology(500);
+        String triples = saveOntology(o, new NTriplesDocumentFormat()).toString();
+        Model model = Rio.parse(new StringReader(reorder(triples, -1)), "", RDFFormat.NTRIPLES);
+        OWLOntology loaded =
+            setupManager().loadOntologyFromOntologyDocument(new RioMemoryTripleSource(model));
+        assertTrue(equal(o, loaded));
+    }
+}
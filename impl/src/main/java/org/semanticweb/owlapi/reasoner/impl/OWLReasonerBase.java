@@ -139,7 +139,9 @@ public abstract class OWLReasonerBase implements OWLReasoner {
      * Computes a diff of what axioms have been added and what axioms have been
      * removed from the list of pending changes. Note that even if the list of
      * pending changes is non-empty then there may be no changes for the
-     * reasoner to deal with.
+     * reasoner to deal with. If the pending changes only add and remove axioms,
+     * only those axioms are compared with the imports closure; other changes,
+     * such as import changes, cause the whole imports closure to be compared.
      *
      * @param added The logical axioms that have been added to the imports closure of the reasoner
      * root ontology
@@ -150,6 +152,27 @@ public abstract class OWLReasonerBase implements OWLReasoner {
         if (rawChanges.isEmpty()) {
             return;
         }
+        if (rawChanges.stream().allMatch(OWLOntologyChange::isAxiomChange)) {
+            // only the axioms in the changes can have been added or removed
+            Set<OWLAxiom> changed = new HashSet<>();
+            for (OWLOntologyChange change : rawChanges) {
+                OWLAxiom ax = change.getAxiom();
+                if (ax.isLogicalAxiom() || ax.isOfType(AxiomType.DECLARATION)) {
+                    changed.add(ax);
+                    changed.add(ax.getAxiomWithoutAnnotations());
+                }
+            }
+            for (OWLAxiom ax : changed) {
+                boolean present = rootOntology.containsAxiom(ax, Imports.INCLUDED,
+                    AxiomAnnotations.CONSIDER_AXIOM_ANNOTATIONS);
+                if (present && !reasonerAxioms.contains(ax.getAxiomWithoutAnnotations())) {
+                    added.add(ax);
+                } else if (!present && reasonerAxioms.contains(ax)) {
+                    removed.add(ax);
+                }
+            }
+            return;
+        }
         rootOntology.importsClosure().flatMap(o -> o.logicalAxioms())
             .filter(ax -> !reasonerAxioms.contains(ax
                 .getAxiomWithoutAnnotations())).forEach(added::add);
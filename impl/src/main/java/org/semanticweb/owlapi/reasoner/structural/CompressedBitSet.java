@@ -0,0 +1,98 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.reasoner.structural;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable set of ints in {@code [0, universe)}. Small sets are kept as sorted int arrays; sets
+ * holding more than one in 32 of the universe are kept as bitmaps, which are then smaller.
+ */
+final class CompressedBitSet {
+
+    static final CompressedBitSet EMPTY = new CompressedBitSet(new int[0], null, 0);
+    @Nullable
+    private final int[] values;
+    @Nullable
+    private final long[] words;
+    private final int size;
+
+    private CompressedBitSet(@Nullable int[] values, @Nullable long[] words, int size) {
+        this.values = values;
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * @param sorted sorted, distinct values; only the first {@code length} are used
+     * @param length number of values
+     * @param universe upper bound, exclusive, of the values
+     * @return set of the values
+     */
+    static CompressedBitSet of(int[] sorted, int length, int universe) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        if (length < universe / 32) {
+            return new CompressedBitSet(Arrays.copyOf(sorted, length), null, length);
+        }
+        long[] words = new long[(universe + 63) >>> 6];
+        for (int i = 0; i < length; i++) {
+            words[sorted[i] >>> 6] |= 1L << sorted[i];
+        }
+        return new CompressedBitSet(null, words, length);
+    }
+
+    /**
+     * @return number of values in the set
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param value value to check
+     * @return true if the set contains the value
+     */
+    boolean contains(int value) {
+        if (words != null) {
+            int w = value >>> 6;
+            return w < words.length && (words[w] & 1L << value) != 0;
+        }
+        return Arrays.binarySearch(verifyNotNull(values), value) >= 0;
+    }
+
+    /**
+     * @param consumer consumer for the values, in ascending order
+     */
+    void forEach(IntConsumer consumer) {
+        if (words == null) {
+            for (int v : verifyNotNull(values)) {
+                consumer.accept(v);
+            }
+            return;
+        }
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                consumer.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,518 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.reasoner.structural;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.NodeSet;
+import org.semanticweb.owlapi.reasoner.impl.DefaultNode;
+import org.semanticweb.owlapi.reasoner.impl.DefaultNodeSet;
+import org.semanticweb.owlapi.util.CollectionFactory;
+
+/**
+ * A told hierarchy with its transitive closure materialized. Entities get dense int ids; their
+ * raw parents become int arrays, cycles are collapsed into components with an iterative Tarjan
+ * search, and the ancestors and descendants of each component are kept as compressed bitsets over
+ * component ids. The answers are the same as those computed by walking the raw hierarchy, including
+ * the treatment of entities without parents or children as children of the top entity or parents
+ * of the bottom entity; a hierarchy is immutable and is rebuilt when the ontology changes.
+ *
+ * @param <T> entity type
+ */
+final class DenseHierarchy<T extends OWLObject> {
+
+    private static final int INTERRUPT_CHECK_INTERVAL = 4096;
+    private final Function<Set<T>, DefaultNode<T>> nodeFactory;
+    private final Map<T, Integer> ids;
+    private final List<T> entities;
+    private final int[] component;
+    private final int[][] members;
+    private final int topComponent;
+    private final int bottomComponent;
+    private final int[][] childComponents;
+    private final int[][] parentComponents;
+    private final CompressedBitSet[] descendants;
+    private final CompressedBitSet[] ancestors;
+    // nodes for the top and bottom components and for cycles; other nodes are created on request
+    private final Object[] nodes;
+
+    /**
+     * @param signature entities to classify
+     * @param top top entity
+     * @param bottom bottom entity
+     * @param rawParents raw parents of an entity
+     * @param nodeFactory factory for nodes
+     * @param interruptCheck called regularly; throws to abandon the computation
+     */
+    DenseHierarchy(Collection<T> signature, T top, T bottom,
+        Function<T, Collection<T>> rawParents, Function<Set<T>, DefaultNode<T>> nodeFactory,
+        Runnable interruptCheck) {
+        this.nodeFactory = nodeFactory;
+        ids = new HashMap<>(signature.size() * 2);
+        entities = new ArrayList<>(signature.size() + 2);
+        int topId = id(top);
+        int bottomId = id(bottom);
+        // raw parents of all entities reachable from the signature through raw parents
+        int[][] parents = new int[signature.size() + 2][];
+        BitSet childrenOfTop = new BitSet();
+        BitSet processed = new BitSet();
+        int[] queue = new int[signature.size() + 2];
+        int queued = 0;
+        for (T e : signature) {
+            int id = id(e);
+            if (!processed.get(id)) {
+                processed.set(id);
+                queue = grow(queue, queued);
+                queue[queued++] = id;
+            }
+        }
+        for (int i = 0; i < queued; i++) {
+            if (i % INTERRUPT_CHECK_INTERVAL == 0) {
+                interruptCheck.run();
+            }
+            int v = queue[i];
+            Collection<T> raw = rawParents.apply(entities.get(v));
+            int[] p = new int[raw.size()];
+            int k = 0;
+            for (T parent : raw) {
+                int id = id(parent);
+                p[k++] = id;
+                if (!processed.get(id)) {
+                    processed.set(id);
+                    queue = grow(queue, queued);
+                    queue[queued++] = id;
+                }
+            }
+            if (v >= parents.length) {
+                parents = Arrays.copyOf(parents, Math.max(parents.length * 2, v + 1));
+            }
+            parents[v] = p;
+            if (raw.isEmpty() || raw.contains(top)) {
+                childrenOfTop.set(v);
+            }
+        }
+        int n = entities.size();
+        parents = Arrays.copyOf(parents, n);
+        for (int v = 0; v < n; v++) {
+            if (parents[v] == null) {
+                parents[v] = new int[0];
+            }
+        }
+        int[][] children = invert(parents);
+        BitSet parentsOfBottom = new BitSet();
+        processed.stream().filter(v -> children[v].length == 0 || contains(children[v], bottomId))
+            .forEach(parentsOfBottom::set);
+        // collapse cycles
+        component = new int[n];
+        int componentCount = scc(parents, component, interruptCheck);
+        members = membersOf(component, componentCount);
+        topComponent = component[topId];
+        bottomComponent = component[bottomId];
+        BitSet directChildrenOfTop =
+            directNeighbours(childrenOfTop, topComponent, bottomComponent, parents);
+        BitSet directParentsOfBottom =
+            directNeighbours(parentsOfBottom, bottomComponent, topComponent, children);
+        childComponents = new int[componentCount][];
+        parentComponents = new int[componentCount][];
+        Collector collector = new Collector(componentCount);
+        for (int c = 0; c < componentCount; c++) {
+            if (c % INTERRUPT_CHECK_INTERVAL == 0) {
+                interruptCheck.run();
+            }
+            childComponents[c] = c == bottomComponent ? new int[0]
+                : adjacent(c, children, directParentsOfBottom, bottomComponent, topComponent,
+                    directChildrenOfTop, collector);
+            parentComponents[c] = c == topComponent ? new int[0]
+                : adjacent(c, parents, directChildrenOfTop, topComponent, bottomComponent,
+                    directParentsOfBottom, collector);
+        }
+        descendants = closure(childComponents, collector, interruptCheck);
+        ancestors = closure(parentComponents, collector, interruptCheck);
+        nodes = new Object[componentCount];
+        for (int c = 0; c < componentCount; c++) {
+            if (members[c].length > 1 || c == topComponent || c == bottomComponent) {
+                nodes[c] = nodeFactory.apply(entitiesOf(members[c]));
+            }
+        }
+    }
+
+    private int id(T e) {
+        Integer id = ids.get(e);
+        if (id == null) {
+            id = Integer.valueOf(entities.size());
+            ids.put(e, id);
+            entities.add(e);
+        }
+        return id.intValue();
+    }
+
+    private static int[] grow(int[] a, int size) {
+        return size < a.length ? a : Arrays.copyOf(a, a.length * 2 + 1);
+    }
+
+    private static boolean contains(int[] a, int value) {
+        for (int v : a) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[][] invert(int[][] edges) {
+        int[] counts = new int[edges.length];
+        for (int[] e : edges) {
+            for (int w : e) {
+                counts[w]++;
+            }
+        }
+        int[][] inverse = new int[edges.length][];
+        for (int v = 0; v < edges.length; v++) {
+            inverse[v] = new int[counts[v]];
+            counts[v] = 0;
+        }
+        for (int v = 0; v < edges.length; v++) {
+            for (int w : edges[v]) {
+                inverse[w][counts[w]++] = v;
+            }
+        }
+        return inverse;
+    }
+
+    private static int[][] membersOf(int[] component, int componentCount) {
+        int[] counts = new int[componentCount];
+        for (int c : component) {
+            counts[c]++;
+        }
+        int[][] members = new int[componentCount][];
+        for (int c = 0; c < componentCount; c++) {
+            members[c] = new int[counts[c]];
+            counts[c] = 0;
+        }
+        for (int v = 0; v < component.length; v++) {
+            int c = component[v];
+            members[c][counts[c]++] = v;
+        }
+        return members;
+    }
+
+    /**
+     * @param candidates entities with no raw neighbours, or with the extreme entity as one
+     * @param extreme component of the extreme entity, i.e., top for parents
+     * @param opposite component of the opposite extreme entity
+     * @param edges raw edges towards the extreme entity
+     * @return the candidates outside the extreme component, plus the members of cycles whose only
+     *         neighbours are in the cycle or in the extreme component
+     */
+    private BitSet directNeighbours(BitSet candidates, int extreme, int opposite, int[][] edges) {
+        BitSet result = new BitSet();
+        candidates.stream().filter(v -> component[v] != extreme).forEach(result::set);
+        for (int c = 0; c < members.length; c++) {
+            if (members[c].length > 1 && c != extreme && c != opposite
+                && onlyNeighbours(members[c], c, extreme, edges)) {
+                for (int v : members[c]) {
+                    result.set(v);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean onlyNeighbours(int[] cycle, int c, int extreme, int[][] edges) {
+        for (int v : cycle) {
+            for (int w : edges[v]) {
+                if (component[w] != c && component[w] != extreme) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param c component
+     * @param edges raw edges in the direction to follow
+     * @param extremeNeighbours entities whose node is adjacent to the extreme node in the direction
+     *        to follow
+     * @param extreme extreme component in the direction to follow, e.g., bottom for children
+     * @param opposite extreme component in the opposite direction
+     * @param oppositeNeighbours entities whose node is adjacent to the opposite extreme node
+     * @param collector collector for the result
+     * @return sorted components adjacent to c
+     */
+    private int[] adjacent(int c, int[][] edges, BitSet extremeNeighbours, int extreme,
+        int opposite, BitSet oppositeNeighbours, Collector collector) {
+        collector.reset();
+        for (int v : members[c]) {
+            for (int w : edges[v]) {
+                if (component[w] != c) {
+                    collector.accept(component[w]);
+                }
+            }
+            if (extremeNeighbours.get(v) && extreme != c) {
+                collector.accept(extreme);
+            }
+        }
+        if (c == opposite) {
+            oppositeNeighbours.stream().filter(v -> component[v] != c)
+                .forEach(v -> collector.accept(component[v]));
+        }
+        return collector.sorted();
+    }
+
+    /**
+     * Tarjan's strongly connected components algorithm, without recursion. Components are numbered
+     * in the order they are completed, so every edge between components goes from a component to
+     * one with a smaller number.
+     *
+     * @param edges edges
+     * @param component array to fill with the component of each vertex
+     * @param interruptCheck interrupt check
+     * @return number of components
+     */
+    static int scc(int[][] edges, int[] component, Runnable interruptCheck) {
+        int n = edges.length;
+        int[] index = new int[n];
+        Arrays.fill(index, -1);
+        int[] low = new int[n];
+        int[] stack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] path = new int[n];
+        int[] next = new int[n];
+        int sp = 0;
+        int counter = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            if (root % INTERRUPT_CHECK_INTERVAL == 0) {
+                interruptCheck.run();
+            }
+            int depth = 0;
+            path[depth] = root;
+            next[depth++] = 0;
+            index[root] = counter;
+            low[root] = counter++;
+            stack[sp++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int v = path[depth - 1];
+                if (next[depth - 1] < edges[v].length) {
+                    int w = edges[v][next[depth - 1]++];
+                    if (index[w] == -1) {
+                        index[w] = counter;
+                        low[w] = counter++;
+                        stack[sp++] = w;
+                        onStack[w] = true;
+                        path[depth] = w;
+                        next[depth++] = 0;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack[--sp];
+                        onStack[w] = false;
+                        component[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+                if (depth > 0) {
+                    int u = path[depth - 1];
+                    low[u] = Math.min(low[u], low[v]);
+                }
+            }
+        }
+        return components;
+    }
+
+    /**
+     * @param edges edges between components
+     * @param collector collector
+     * @param interruptCheck interrupt check
+     * @return for each component, the components reachable from it
+     */
+    private static CompressedBitSet[] closure(int[][] edges, Collector collector,
+        Runnable interruptCheck) {
+        int n = edges.length;
+        // the component graph has no cycles unless raw edges to the top or bottom entity create
+        // them; vertices on such a cycle share their closure
+        int[] group = new int[n];
+        int groups = scc(edges, group, interruptCheck);
+        int[][] groupMembers = membersOf(group, groups);
+        CompressedBitSet[] result = new CompressedBitSet[n];
+        for (int g = 0; g < groups; g++) {
+            if (g % INTERRUPT_CHECK_INTERVAL == 0) {
+                interruptCheck.run();
+            }
+            collector.reset();
+            int[] vertices = groupMembers[g];
+            for (int v : vertices) {
+                for (int w : edges[v]) {
+                    if (group[w] != g) {
+                        collector.accept(w);
+                        result[w].forEach(collector);
+                    }
+                }
+            }
+            if (vertices.length > 1) {
+                for (int v : vertices) {
+                    collector.accept(v);
+                }
+            }
+            CompressedBitSet closure = collector.toSet(n);
+            for (int v : vertices) {
+                result[v] = closure;
+            }
+        }
+        return result;
+    }
+
+    private Set<T> entitiesOf(int[] ids) {
+        if (ids.length == 1) {
+            return CollectionFactory.createSet(entities.get(ids[0]));
+        }
+        Set<T> set = new HashSet<>(ids.length * 2);
+        for (int id : ids) {
+            set.add(entities.get(id));
+        }
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> node(int c) {
+        Object node = nodes[c];
+        if (node != null) {
+            return (Node<T>) node;
+        }
+        return nodeFactory.apply(entitiesOf(members[c]));
+    }
+
+    /**
+     * @param entity entity
+     * @return true if the entity is in the hierarchy
+     */
+    boolean contains(T entity) {
+        return ids.containsKey(entity);
+    }
+
+    /**
+     * @param entity entity
+     * @return node of the entity
+     */
+    Node<T> getNode(T entity) {
+        Integer id = ids.get(entity);
+        if (id == null) {
+            return nodeFactory.apply(CollectionFactory.createSet(entity));
+        }
+        return node(component[id.intValue()]);
+    }
+
+    /**
+     * @param parent entity
+     * @param direct true for the direct children only
+     * @param ns node set to add the children to
+     * @return ns
+     */
+    NodeSet<T> getChildren(T parent, boolean direct, DefaultNodeSet<T> ns) {
+        return add(parent, direct ? childComponents : null, descendants, ns);
+    }
+
+    /**
+     * @param child entity
+     * @param direct true for the direct parents only
+     * @param ns node set to add the parents to
+     * @return ns
+     */
+    NodeSet<T> getParents(T child, boolean direct, DefaultNodeSet<T> ns) {
+        return add(child, direct ? parentComponents : null, ancestors, ns);
+    }
+
+    private NodeSet<T> add(T entity, @Nullable int[][] direct, CompressedBitSet[] closure,
+        DefaultNodeSet<T> ns) {
+        Integer id = ids.get(entity);
+        if (id == null) {
+            return ns;
+        }
+        int c = component[id.intValue()];
+        if (direct != null) {
+            for (int d : direct[c]) {
+                ns.addNode(node(d));
+            }
+        } else {
+            closure[c].forEach(d -> ns.addNode(node(d)));
+        }
+        return ns;
+    }
+
+    /**
+     * Collects distinct ints; marks are stamped rather than cleared between uses.
+     */
+    private static final class Collector implements IntConsumer {
+
+        private final int[] marks;
+        private int stamp = 0;
+        private int[] values = new int[16];
+        private int size = 0;
+
+        Collector(int universe) {
+            marks = new int[universe];
+        }
+
+        void reset() {
+            stamp++;
+            size = 0;
+        }
+
+        @Override
+        public void accept(int value) {
+            if (marks[value] != stamp) {
+                marks[value] = stamp;
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = value;
+            }
+        }
+
+        int[] sorted() {
+            int[] toReturn = Arrays.copyOf(values, size);
+            Arrays.sort(toReturn);
+            return toReturn;
+        }
+
+        CompressedBitSet toSet(int universe) {
+            Arrays.sort(values, 0, size);
+            return CompressedBitSet.of(values, size, universe);
+        }
+    }
+}
@@ -29,6 +29,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -47,7 +49,6 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectIntersectionOf;
-import org.semanticweb.owlapi.model.OWLObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
@@ -98,6 +99,7 @@ public class StructuralReasoner extends OWLReasonerBase {
         new ObjectPropertyHierarchyInfo();
     private final DataPropertyHierarchyInfo dataPropertyHierarchyInfo =
         new DataPropertyHierarchyInfo();
+    private final boolean materialized;
     private boolean interrupted = false;
     private boolean prepared = false;
 
@@ -111,16 +113,11 @@ public class StructuralReasoner extends OWLReasonerBase {
         super(rootOntology, configuration, bufferingMode);
         checkNotNull(configuration, "configuration cannot be null");
         pm = configuration.getProgressMonitor();
+        materialized = configuration instanceof StructuralReasonerConfiguration
+            && ((StructuralReasonerConfiguration) configuration).isMaterializeHierarchies();
         prepareReasoner();
     }
 
-    private static <T extends OWLObject> void handleChanges(Set<OWLAxiom> added,
-        Set<OWLAxiom> removed, AbstractHierarchyInfo<T> hierarchyInfo) {
-        Set<T> sig = hierarchyInfo.getEntitiesInSignature(added);
-        sig.addAll(hierarchyInfo.getEntitiesInSignature(removed));
-        hierarchyInfo.processChanges(sig, added, removed);
-    }
-
     private static void printIndent(int level) {
         for (int i = 0; i < level; i++) {
             System.out.print("    ");
@@ -149,9 +146,9 @@ public class StructuralReasoner extends OWLReasonerBase {
 
     @Override
     protected void handleChanges(Set<OWLAxiom> addAxioms, Set<OWLAxiom> removeAxioms) {
-        handleChanges(addAxioms, removeAxioms, classHierarchyInfo);
-        handleChanges(addAxioms, removeAxioms, objectPropertyHierarchyInfo);
-        handleChanges(addAxioms, removeAxioms, dataPropertyHierarchyInfo);
+        classHierarchyInfo.processChanges(addAxioms, removeAxioms);
+        objectPropertyHierarchyInfo.processChanges(addAxioms, removeAxioms);
+        dataPropertyHierarchyInfo.processChanges(addAxioms, removeAxioms);
     }
 
     @Override
@@ -170,12 +167,38 @@ public class StructuralReasoner extends OWLReasonerBase {
      * @throws TimeOutException             on timeout
      */
     public final void prepareReasoner() {
-        classHierarchyInfo.computeHierarchy();
-        objectPropertyHierarchyInfo.computeHierarchy();
-        dataPropertyHierarchyInfo.computeHierarchy();
+        if (materialized) {
+            pm.reasonerTaskStarted("Computing hierarchies");
+            pm.reasonerTaskBusy();
+            try {
+                join(CompletableFuture.runAsync(classHierarchyInfo::computeDenseHierarchy),
+                    CompletableFuture.runAsync(objectPropertyHierarchyInfo::computeDenseHierarchy),
+                    CompletableFuture.runAsync(dataPropertyHierarchyInfo::computeDenseHierarchy));
+            } finally {
+                pm.reasonerTaskStopped();
+            }
+        } else {
+            classHierarchyInfo.computeHierarchy();
+            objectPropertyHierarchyInfo.computeHierarchy();
+            dataPropertyHierarchyInfo.computeHierarchy();
+        }
         prepared = true;
     }
 
+    private static void join(CompletableFuture<?>... tasks) {
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void precomputeInferences(InferenceType... inferenceTypes) {
         prepareReasoner();
@@ -751,10 +774,20 @@ public class StructuralReasoner extends OWLReasonerBase {
             addNode(getBottomNode());
         }
 
-        public void clearNodes(Set<T> containing) {
+        /**
+         * @param containing entities whose nodes are to be removed
+         * @return the entities, together with the other members of their nodes
+         */
+        public Set<T> clearNodes(Set<T> containing) {
+            Set<T> removed = new HashSet<>(containing);
             for (T entity : containing) {
+                Node<T> node = map.get(entity);
+                if (node != null) {
+                    node.entities().forEach(removed::add);
+                }
                 removeNode(entity);
             }
+            return removed;
         }
 
         public void clear() {
@@ -788,6 +821,16 @@ public class StructuralReasoner extends OWLReasonerBase {
          */
         protected T bottomEntity;
         private int classificationSize;
+        /**
+         * Materialized hierarchy; null unless the reasoner is configured to materialize
+         * hierarchies.
+         */
+        @Nullable
+        private volatile DenseHierarchy<T> dense;
+        /**
+         * True if the ontology has changed since the materialized hierarchy was computed.
+         */
+        private volatile boolean denseStale = false;
 
         AbstractHierarchyInfo(String name, T topEntity, T bottomEntity,
             RawHierarchyProvider<T> rawParentChildProvider) {
@@ -828,14 +871,25 @@ public class StructuralReasoner extends OWLReasonerBase {
          */
         protected abstract Stream<? extends T> getEntitiesInSignature(OWLAxiom ax);
 
-        Set<T> getEntitiesInSignature(Set<OWLAxiom> axioms) {
-            return asUnorderedSet(axioms.stream().flatMap(this::getEntitiesInSignature));
-        }
+        /**
+         * @param ax axiom
+         * @return true if the axiom can change the raw parents or children of an entity
+         */
+        protected abstract boolean isHierarchyAxiom(OWLAxiom ax);
+
+        /**
+         * @param entity entity
+         * @return true if the entity is in the signature of the imports closure of the root
+         *         ontology
+         */
+        protected abstract boolean isInSignature(T entity);
 
         public void computeHierarchy() {
             pm.reasonerTaskStarted("Computing " + name + " hierarchy");
             pm.reasonerTaskBusy();
             nodeCache.clear();
+            directChildrenOfTopNode.clear();
+            directParentsOfBottomNode.clear();
             Map<T, Collection<T>> cache = new HashMap<>();
             Set<T> entities =
                 asUnorderedSet(getRootOntology().importsClosure().flatMap(this::getEntities));
@@ -845,21 +899,61 @@ public class StructuralReasoner extends OWLReasonerBase {
             pm.reasonerTaskStopped();
         }
 
+        /**
+         * Computes the materialized hierarchy. Only the progress of the overall task is reported,
+         * since the three hierarchies are computed concurrently.
+         */
+        public void computeDenseHierarchy() {
+            Set<T> entities =
+                asUnorderedSet(getRootOntology().importsClosure().flatMap(this::getEntities));
+            dense = new DenseHierarchy<>(entities, topEntity, bottomEntity,
+                rawParentChildProvider::getParents, this::createNode,
+                StructuralReasoner.this::throwExceptionIfInterrupted);
+            denseStale = false;
+        }
+
+        /**
+         * @return the materialized hierarchy, recomputed if the ontology has changed since it was
+         *         computed; null if hierarchies are not materialized
+         */
+        @Nullable
+        private DenseHierarchy<T> dense() {
+            if (denseStale) {
+                synchronized (this) {
+                    if (denseStale) {
+                        computeDenseHierarchy();
+                    }
+                }
+            }
+            return dense;
+        }
+
+        /**
+         * Recomputes the nodes of the entities in the signature and of their ancestors. A cycle
+         * that gains or loses an entity of the signature only contains ancestors of that entity,
+         * so the rest of the hierarchy keeps its nodes.
+         *
+         * @param signature entities whose raw parents or children might have changed
+         * @param cache A cache of children to parents - may be {@code null} if no caching is to
+         *        take place.
+         */
         private void updateForSignature(Set<T> signature, @Nullable Map<T, Collection<T>> cache) {
             HashSet<Set<T>> cyclesResult = new HashSet<>();
             Set<T> processed = new HashSet<>();
-            nodeCache.clearTopNode();
-            nodeCache.clearBottomNode();
-            nodeCache.clearNodes(signature);
-            directChildrenOfTopNode.removeAll(signature);
+            Set<T> cleared = nodeCache.clearNodes(signature);
+            if (cleared.contains(topEntity)) {
+                nodeCache.clearTopNode();
+            }
+            if (cleared.contains(bottomEntity)) {
+                nodeCache.clearBottomNode();
+            }
             Set<T> equivTopOrChildrenOfTop = new HashSet<>();
-            Set<T> equivBottomOrParentsOfBottom = new HashSet<>();
             for (T entity : signature) {
                 if (!processed.contains(entity)) {
                     pm.reasonerTaskProgressChanged(processed.size(), signature.size());
                     tarjan(entity, 0, new LinkedList<T>(), new HashMap<T, Integer>(),
                         new HashMap<T, Integer>(), cyclesResult, processed, new HashSet<T>(), cache,
-                        equivTopOrChildrenOfTop, equivBottomOrParentsOfBottom);
+                        equivTopOrChildrenOfTop);
                     throwExceptionIfInterrupted();
                 }
             }
@@ -867,9 +961,19 @@ public class StructuralReasoner extends OWLReasonerBase {
             for (Set<T> cycle : cyclesResult) {
                 nodeCache.addNode(cycle);
             }
+            // the raw parents of every processed entity have been looked up again
+            directChildrenOfTopNode.removeAll(processed);
             directChildrenOfTopNode.addAll(equivTopOrChildrenOfTop);
             nodeCache.getTopNode().entities().forEach(directChildrenOfTopNode::remove);
-            directParentsOfBottomNode.addAll(equivBottomOrParentsOfBottom);
+            // raw children can only have changed for the signature; members of cleared nodes
+            // might have been parents of the bottom node through their cycle
+            directParentsOfBottomNode.removeAll(cleared);
+            for (T entity : cleared) {
+                Collection<T> rawChildren = rawParentChildProvider.getChildren(entity);
+                if (rawChildren.isEmpty() || rawChildren.contains(bottomEntity)) {
+                    directParentsOfBottomNode.add(entity);
+                }
+            }
             nodeCache.getBottomNode().entities().forEach(directParentsOfBottomNode::remove);
             // Now check that each found cycle has a proper parent an child
             for (Set<T> node : cyclesResult) {
@@ -905,15 +1009,57 @@ public class StructuralReasoner extends OWLReasonerBase {
         }
 
         /**
-         * Processes the specified signature that represents the signature of potential changes.
+         * Updates the hierarchy for changes in the ontology. Axioms that change raw parents or
+         * children cause the nodes of their entities and of the ancestors of those entities to be
+         * recomputed; other axioms can only add entities to the hierarchy or remove them, as
+         * children of the top node and parents of the bottom node. A materialized hierarchy is
+         * recomputed on the next query.
          *
-         * @param signature The signature
-         * @param added     added axioms
-         * @param removed   removed axioms
+         * @param added added axioms
+         * @param removed removed axioms
          */
-        @SuppressWarnings("unused")
-        public void processChanges(Set<T> signature, Set<OWLAxiom> added, Set<OWLAxiom> removed) {
-            updateForSignature(signature, null);
+        public void processChanges(Set<OWLAxiom> added, Set<OWLAxiom> removed) {
+            Set<T> changed = new HashSet<>();
+            Set<T> others = new HashSet<>();
+            Stream.concat(added.stream(), removed.stream()).forEach(ax -> getEntitiesInSignature(ax)
+                .forEach(isHierarchyAxiom(ax) ? changed::add : others::add));
+            others.removeAll(changed);
+            DenseHierarchy<T> d = dense;
+            if (d != null) {
+                if (!changed.isEmpty() || others.stream()
+                    .filter(e -> !e.equals(topEntity) && !e.equals(bottomEntity))
+                    .anyMatch(e -> d.contains(e) != isInSignature(e))) {
+                    denseStale = true;
+                }
+                return;
+            }
+            if (!changed.isEmpty()) {
+                updateForSignature(changed, null);
+                changed.stream().filter(e -> !isInSignature(e))
+                    .forEach(this::removeFromHierarchy);
+            }
+            for (T entity : others) {
+                if (!isInSignature(entity)) {
+                    removeFromHierarchy(entity);
+                } else if (entity.equals(topEntity)) {
+                    if (rawParentChildProvider.getChildren(entity).isEmpty()) {
+                        directParentsOfBottomNode.add(entity);
+                    }
+                } else if (!entity.equals(bottomEntity)
+                    && !directChildrenOfTopNode.contains(entity)
+                    && !nodeCache.getTopNode().contains(entity)
+                    && computeParents(entity, new HashSet<>()).isEmpty()) {
+                    // an entity without parents that is not a child of the top node is new; its
+                    // axioms do not give it raw children either
+                    directChildrenOfTopNode.add(entity);
+                    directParentsOfBottomNode.add(entity);
+                }
+            }
+        }
+
+        private void removeFromHierarchy(T entity) {
+            directChildrenOfTopNode.remove(entity);
+            directParentsOfBottomNode.remove(entity);
         }
 
         /**
@@ -921,7 +1067,7 @@ public class StructuralReasoner extends OWLReasonerBase {
          * is involved in (if any).
          *
          * @param entity          The entity
-         * @param inputIndex      index
+         * @param inputIndex      unused; entities are numbered in the order they are visited
          * @param stack           stack
          * @param indexMap        index map
          * @param lowlinkMap      low link map
@@ -931,19 +1077,15 @@ public class StructuralReasoner extends OWLReasonerBase {
          * @param cache           A cache of children to parents - may be {@code null} if no caching
          *                        is to take place.
          * @param childrenOfTop   A set of entities that have a raw parent that is the top entity
-         * @param parentsOfBottom A set of entities that have a raw parent that is the bottom entity
          */
         public void tarjan(T entity, int inputIndex, Deque<T> stack, Map<T, Integer> indexMap,
             Map<T, Integer> lowlinkMap, Set<Set<T>> result, Set<T> processed, Set<T> stackEntities,
-            @Nullable Map<T, Collection<T>> cache, Set<T> childrenOfTop, Set<T> parentsOfBottom) {
-            int index = inputIndex;
+            @Nullable Map<T, Collection<T>> cache, Set<T> childrenOfTop) {
+            // the index must be unique within the search, not the depth of the entity; entities
+            // in sibling branches would otherwise share indexes and split their cycles
+            int index = indexMap.size();
             throwExceptionIfInterrupted();
-            if (processed.add(entity)) {
-                Collection<T> rawChildren = rawParentChildProvider.getChildren(entity);
-                if (rawChildren.isEmpty() || rawChildren.contains(bottomEntity)) {
-                    parentsOfBottom.add(entity);
-                }
-            }
+            processed.add(entity);
             pm.reasonerTaskProgressChanged(processed.size(), classificationSize);
             indexMap.put(entity, Integer.valueOf(index));
             lowlinkMap.put(entity, Integer.valueOf(index));
@@ -961,7 +1103,7 @@ public class StructuralReasoner extends OWLReasonerBase {
             for (T superEntity : rawParents) {
                 if (!indexMap.containsKey(superEntity)) {
                     tarjan(superEntity, index, stack, indexMap, lowlinkMap, result, processed,
-                        stackEntities, cache, childrenOfTop, parentsOfBottom);
+                        stackEntities, cache, childrenOfTop);
                     lowlinkMap.put(entity,
                         Integer.valueOf(Math.min(lowlinkMap.get(entity).intValue(),
                             lowlinkMap.get(superEntity).intValue())));
@@ -999,6 +1141,10 @@ public class StructuralReasoner extends OWLReasonerBase {
         }
 
         public NodeSet<T> getNodeHierarchyChildren(T parent, boolean direct, DefaultNodeSet<T> ns) {
+            DenseHierarchy<T> d = dense();
+            if (d != null) {
+                return d.getChildren(parent, direct, ns);
+            }
             Node<T> node = nodeCache.getNode(parent);
             if (node.isBottomNode()) {
                 return ns;
@@ -1027,6 +1173,10 @@ public class StructuralReasoner extends OWLReasonerBase {
         }
 
         public NodeSet<T> getNodeHierarchyParents(T child, boolean direct, DefaultNodeSet<T> ns) {
+            DenseHierarchy<T> d = dense();
+            if (d != null) {
+                return d.getParents(child, direct, ns);
+            }
             Node<T> node = nodeCache.getNode(child);
             if (node.isTopNode()) {
                 return ns;
@@ -1055,6 +1205,10 @@ public class StructuralReasoner extends OWLReasonerBase {
         }
 
         public Node<T> getEquivalents(T element) {
+            DenseHierarchy<T> d = dense();
+            if (d != null) {
+                return d.getNode(element);
+            }
             return nodeCache.getNode(element);
         }
     }
@@ -1071,6 +1225,16 @@ public class StructuralReasoner extends OWLReasonerBase {
             return ax.classesInSignature();
         }
 
+        @Override
+        protected boolean isHierarchyAxiom(OWLAxiom ax) {
+            return ax.isOfType(AxiomType.SUBCLASS_OF, AxiomType.EQUIVALENT_CLASSES);
+        }
+
+        @Override
+        protected boolean isInSignature(OWLClass entity) {
+            return getRootOntology().containsClassInSignature(entity.getIRI(), INCLUDED);
+        }
+
         @Override
         protected DefaultNode<OWLClass> createNode(Set<OWLClass> cycle) {
             return new OWLClassNode(cycle);
@@ -1106,6 +1270,20 @@ public class StructuralReasoner extends OWLReasonerBase {
             return result.stream();
         }
 
+        @Override
+        protected boolean isHierarchyAxiom(OWLAxiom ax) {
+            // the axioms used by OWLObjectPropertyManager to build the raw hierarchy
+            return ax.isOfType(AxiomType.SUB_OBJECT_PROPERTY,
+                AxiomType.EQUIVALENT_OBJECT_PROPERTIES, AxiomType.INVERSE_OBJECT_PROPERTIES,
+                AxiomType.SYMMETRIC_OBJECT_PROPERTY);
+        }
+
+        @Override
+        protected boolean isInSignature(OWLObjectPropertyExpression entity) {
+            return getRootOntology().containsObjectPropertyInSignature(
+                entity.getNamedProperty().getIRI(), INCLUDED);
+        }
+
         @Override
         protected Stream<OWLObjectPropertyExpression> getEntities(OWLOntology ont) {
             Set<OWLObjectPropertyExpression> result = new HashSet<>();
@@ -1128,27 +1306,11 @@ public class StructuralReasoner extends OWLReasonerBase {
         }
 
         @Override
-        public void processChanges(Set<OWLObjectPropertyExpression> signature, Set<OWLAxiom> added,
-            Set<OWLAxiom> removed) {
-            boolean rebuild = false;
-            for (OWLAxiom ax : added) {
-                if (ax instanceof OWLObjectPropertyAxiom) {
-                    rebuild = true;
-                    break;
-                }
-            }
-            if (!rebuild) {
-                for (OWLAxiom ax : removed) {
-                    if (ax instanceof OWLObjectPropertyAxiom) {
-                        rebuild = true;
-                        break;
-                    }
-                }
-            }
-            if (rebuild) {
+        public void processChanges(Set<OWLAxiom> added, Set<OWLAxiom> removed) {
+            if (Stream.concat(added.stream(), removed.stream()).anyMatch(this::isHierarchyAxiom)) {
                 ((RawObjectPropertyHierarchyProvider) getRawParentChildProvider()).rebuild();
             }
-            super.processChanges(signature, added, removed);
+            super.processChanges(added, removed);
         }
     }
 
@@ -1165,6 +1327,16 @@ public class StructuralReasoner extends OWLReasonerBase {
             return ax.dataPropertiesInSignature();
         }
 
+        @Override
+        protected boolean isHierarchyAxiom(OWLAxiom ax) {
+            return ax.isOfType(AxiomType.SUB_DATA_PROPERTY);
+        }
+
+        @Override
+        protected boolean isInSignature(OWLDataProperty entity) {
+            return getRootOntology().containsDataPropertyInSignature(entity.getIRI(), INCLUDED);
+        }
+
         @Override
         protected Stream<OWLDataProperty> getEntities(OWLOntology ont) {
             return ont.dataPropertiesInSignature();
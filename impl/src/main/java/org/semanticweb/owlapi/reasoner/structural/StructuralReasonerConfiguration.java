@@ -0,0 +1,60 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.reasoner.structural;
+
+import org.semanticweb.owlapi.reasoner.ReasonerProgressMonitor;
+import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
+
+/**
+ * Configuration for {@link StructuralReasoner}. With materialized hierarchies, the reasoner gives
+ * entities dense indexes, computes the transitive closure of the class, object property and data
+ * property hierarchies in parallel, and answers queries for indirect sub and super entities from
+ * the closure rather than by walking the told hierarchy on every call.
+ * <p>
+ * Materialized hierarchies are not updated incrementally. When a buffered reasoner is flushed, or a
+ * non buffering reasoner sees a change, the reasoner checks each hierarchy. A hierarchy is
+ * discarded if an added or removed axiom changes the raw parents or children of an entity, or adds
+ * an entity to the signature or removes one from it. A discarded hierarchy is rebuilt from scratch
+ * on the next query to it. Without materialization, the reasoner instead recomputes only the nodes
+ * of the changed entities and of their ancestors. Materialize hierarchies for ontologies that are
+ * queried much more often than they are edited.
+ */
+public class StructuralReasonerConfiguration extends SimpleConfiguration {
+
+    private final boolean materializeHierarchies;
+
+    /**
+     * @param materializeHierarchies true if the hierarchies should be materialized; materialized
+     *        hierarchies are rebuilt, not updated, after changes to the told hierarchy
+     */
+    public StructuralReasonerConfiguration(boolean materializeHierarchies) {
+        this.materializeHierarchies = materializeHierarchies;
+    }
+
+    /**
+     * @param progressMonitor the progress monitor to use
+     * @param materializeHierarchies true if the hierarchies should be materialized
+     */
+    public StructuralReasonerConfiguration(ReasonerProgressMonitor progressMonitor,
+        boolean materializeHierarchies) {
+        super(progressMonitor);
+        this.materializeHierarchies = materializeHierarchies;
+    }
+
+    /**
+     * @return true if the hierarchies should be materialized
+     */
+    public boolean isMaterializeHierarchies() {
+        return materializeHierarchies;
+    }
+}
@@ -40,16 +40,24 @@ public class ClassAxiomByClassPointer extends MapPointer<OWLClass, OWLClassAxiom
     }
 
     @Override
-    public synchronized ClassAxiomByClassPointer init() {
+    public ClassAxiomByClassPointer init() {
         if (isInitialized()) {
             return this;
         }
-        super.init();
-        // special case: this map needs other maps to be initialized first
-        i.get(OWLClass.class, OWLEquivalentClassesAxiom.class).get().forEach(this::put);
-        i.get(OWLClass.class, OWLSubClassOfAxiom.class).get().forEach(this::put);
-        i.get(OWLClass.class, OWLDisjointClassesAxiom.class).get().forEach(this::put);
-        i.get(OWLClass.class, OWLDisjointUnionAxiom.class).get().forEach(this::put);
-        return this;
+        writeLock.lock();
+        try {
+            if (isInitialized()) {
+                return this;
+            }
+            super.init();
+            // special case: this map needs other maps to be initialized first
+            i.get(OWLClass.class, OWLEquivalentClassesAxiom.class).get().forEach(this::put);
+            i.get(OWLClass.class, OWLSubClassOfAxiom.class).get().forEach(this::put);
+            i.get(OWLClass.class, OWLDisjointClassesAxiom.class).get().forEach(this::put);
+            i.get(OWLClass.class, OWLDisjointUnionAxiom.class).get().forEach(this::put);
+            return this;
+        } finally {
+            writeLock.unlock();
+        }
     }
 }
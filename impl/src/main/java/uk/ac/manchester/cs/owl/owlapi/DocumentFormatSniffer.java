@@ -0,0 +1,314 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.formats.KRSS2DocumentFormat;
+import org.semanticweb.owlapi.formats.KRSSDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.model.PriorityCollectionSorting;
+import org.semanticweb.owlapi.util.PriorityCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Guesses the syntax of a document from its first few kilobytes, so that the parsers most likely to
+ * succeed are tried first. The guess is a set of MIME types and format keys; parsers matching any
+ * of them are moved to the front of the parser list, in their original order, and all other parsers
+ * follow as a fallback. Only sources that provide a stream or a reader are inspected; sources that
+ * would need the document IRI to be resolved are not, to avoid fetching the document twice.
+ */
+public final class DocumentFormatSniffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DocumentFormatSniffer.class);
+    /** Number of characters inspected. */
+    static final int PREFIX_LENGTH = 4096;
+    static final String RDFXML = "application/rdf+xml";
+    static final String OWLXML = "application/owl+xml";
+    static final String TRIX = "application/trix";
+    static final String TURTLE = "text/turtle";
+    static final String FUNCTIONAL = "text/owl-functional";
+    static final String MANCHESTER = "text/owl-manchester";
+    static final String JSONLD = "application/ld+json";
+    static final String RDFJSON = "application/rdf+json";
+    static final String OBO = new OBODocumentFormat().getKey();
+    static final String KRSS2 = new KRSS2DocumentFormat().getKey();
+    static final String KRSS = new KRSSDocumentFormat().getKey();
+    static final String SNAPSHOT = new BinarySnapshotDocumentFormat().getKey();
+    private static final List<String> MANCHESTER_FRAMES =
+        Arrays.asList("Ontology", "Class", "ObjectProperty", "DataProperty", "AnnotationProperty",
+            "Individual", "Datatype", "Import", "DisjointClasses", "EquivalentClasses");
+    private static final List<String> OBO_STANZAS =
+        Arrays.asList("[Term]", "[Typedef]", "[Instance]");
+
+    private DocumentFormatSniffer() {}
+
+    /**
+     * @param documentSource document source to inspect
+     * @param parsers parsers to rank
+     * @return parsers whose format matches the start of the document first, followed by all
+     *         others; {@code parsers} itself if nothing could be guessed
+     */
+    public static PriorityCollection<OWLParserFactory> rank(
+        OWLOntologyDocumentSource documentSource, PriorityCollection<OWLParserFactory> parsers) {
+        Set<String> guess = sniff(documentSource);
+        if (guess.isEmpty()) {
+            return parsers;
+        }
+        List<OWLParserFactory> matching = new ArrayList<>();
+        List<OWLParserFactory> others = new ArrayList<>();
+        for (OWLParserFactory parser : parsers) {
+            if (matches(parser, guess)) {
+                matching.add(parser);
+            } else {
+                others.add(parser);
+            }
+        }
+        if (matching.isEmpty()) {
+            return parsers;
+        }
+        matching.addAll(others);
+        PriorityCollection<OWLParserFactory> ranked =
+            new PriorityCollection<>(PriorityCollectionSorting.NEVER);
+        ranked.set(matching);
+        return ranked;
+    }
+
+    private static boolean matches(OWLParserFactory parser, Set<String> guess) {
+        if (guess.contains(parser.getSupportedFormat().getKey())
+            || guess.contains(parser.getDefaultMIMEType())) {
+            return true;
+        }
+        for (String mimeType : parser.getMIMETypes()) {
+            if (guess.contains(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param documentSource document source to inspect
+     * @return MIME types and format keys matching the start of the document; empty if the source
+     *         cannot be read without resolving its IRI, or if the syntax is not recognized
+     */
+    public static Set<String> sniff(OWLOntologyDocumentSource documentSource) {
+        checkNotNull(documentSource, "documentSource cannot be null");
+        try {
+            Optional<Reader> reader = documentSource.getReader();
+            if (reader.isPresent()) {
+                return sniff(read(reader.get()));
+            }
+            Optional<InputStream> in = documentSource.getInputStream();
+            if (in.isPresent()) {
+                return sniff(read(new InputStreamReader(DocumentSources.wrap(in.get()),
+                    StandardCharsets.UTF_8)));
+            }
+        } catch (IOException | RuntimeException e) {
+            // the parsers will report the problem, if there is one
+            LOGGER.debug("Document source could not be inspected", e);
+        }
+        return Collections.emptySet();
+    }
+
+    private static String read(Reader reader) throws IOException {
+        try (Reader r = reader) {
+            char[] buffer = new char[PREFIX_LENGTH];
+            int length = 0;
+            int read = 0;
+            while (length < buffer.length
+                && (read = r.read(buffer, length, buffer.length - length)) != -1) {
+                length += read;
+            }
+            return new String(buffer, 0, length);
+        }
+    }
+
+    /**
+     * @param text start of a document
+     * @return MIME types and format keys matching the text; empty if the syntax is not recognized
+     */
+    public static Set<String> sniff(String text) {
+        if (text.startsWith(BinarySnapshotDocumentFormat.MAGIC)) {
+            return guess(SNAPSHOT);
+        }
+        int i = skipCommentsAndWhitespace(text, 0);
+        if (i == text.length()) {
+            return Collections.emptySet();
+        }
+        char c = text.charAt(i);
+        if (c == '<') {
+            return sniffAngleBracket(text, i);
+        }
+        if (c == '{') {
+            return guess(RDFJSON, JSONLD);
+        }
+        if (c == '(') {
+            return guess(KRSS2, KRSS);
+        }
+        if (c == '[') {
+            for (String stanza : OBO_STANZAS) {
+                if (text.startsWith(stanza, i)) {
+                    return guess(OBO);
+                }
+            }
+            return guess(RDFJSON, JSONLD, TURTLE);
+        }
+        if (c == '@') {
+            if (text.startsWith("@prefix", i) || text.startsWith("@base", i)) {
+                return guess(TURTLE);
+            }
+            return Collections.emptySet();
+        }
+        if (c == '_' && text.startsWith("_:", i)) {
+            return guess(TURTLE);
+        }
+        return sniffKeyword(text, i);
+    }
+
+    private static Set<String> sniffKeyword(String text, int start) {
+        int end = start;
+        while (end < text.length() && isNameChar(text.charAt(end)) && text.charAt(end) != ':') {
+            end++;
+        }
+        String word = text.substring(start, end);
+        if (word.isEmpty() || end == text.length()) {
+            return Collections.emptySet();
+        }
+        char next = text.charAt(end);
+        if (next == ':') {
+            if (MANCHESTER_FRAMES.contains(word) || "Prefix".equals(word)) {
+                return guess(MANCHESTER);
+            }
+            if ("format-version".equals(word) || "data-version".equals(word)
+                || "ontology".equals(word)) {
+                return guess(OBO);
+            }
+            // a prefixed name starting a Turtle triple
+            return guess(TURTLE);
+        }
+        int afterSpaces = skipWhitespace(text, end);
+        if (afterSpaces < text.length() && text.charAt(afterSpaces) == '('
+            && ("Prefix".equals(word) || "Ontology".equals(word))) {
+            return guess(FUNCTIONAL);
+        }
+        if (afterSpaces > end
+            && ("prefix".equalsIgnoreCase(word) || "base".equalsIgnoreCase(word))) {
+            return guess(TURTLE);
+        }
+        return Collections.emptySet();
+    }
+
+    private static Set<String> sniffAngleBracket(String text, int start) {
+        int i = start;
+        // skip the XML declaration, processing instructions, comments and the document type
+        while (i < text.length() && text.charAt(i) == '<') {
+            if (text.startsWith("<?", i)) {
+                i = skipPast(text, i, "?>");
+            } else if (text.startsWith("<!--", i)) {
+                i = skipPast(text, i, "-->");
+            } else if (text.startsWith("<!DOCTYPE", i)) {
+                // the document type names the root element; the internal subset might be too long
+                // to find the root element itself
+                return xmlRoot(text, skipWhitespace(text, i + "<!DOCTYPE".length()));
+            } else {
+                break;
+            }
+            i = skipWhitespace(text, i);
+        }
+        if (i >= text.length() || text.charAt(i) != '<') {
+            return i > start ? guess(RDFXML, OWLXML, TRIX) : Collections.<String> emptySet();
+        }
+        int end = i + 1;
+        while (end < text.length() && text.charAt(end) != '>'
+            && !Character.isWhitespace(text.charAt(end))) {
+            end++;
+        }
+        String token = text.substring(i + 1, end);
+        if (token.indexOf('/') > -1 || token.indexOf('#') > -1) {
+            // an IRI rather than an element name: Turtle or N-Triples
+            return guess(TURTLE);
+        }
+        return xmlRoot(text, i + 1);
+    }
+
+    private static Set<String> xmlRoot(String text, int start) {
+        int end = start;
+        while (end < text.length() && isNameChar(text.charAt(end))) {
+            end++;
+        }
+        String name = text.substring(start, end);
+        String localName = name.substring(name.lastIndexOf(':') + 1);
+        if ("RDF".equals(localName)) {
+            return guess(RDFXML);
+        }
+        if ("Ontology".equals(localName)) {
+            return guess(OWLXML);
+        }
+        if ("TriX".equals(localName)) {
+            return guess(TRIX);
+        }
+        return guess(RDFXML, OWLXML, TRIX);
+    }
+
+    private static int skipCommentsAndWhitespace(String text, int start) {
+        int i = skipWhitespace(text, start);
+        // comment lines in Turtle, functional, Manchester syntax and OBO
+        while (i < text.length() && (text.charAt(i) == '#' || text.charAt(i) == '!')) {
+            while (i < text.length() && text.charAt(i) != '\n' && text.charAt(i) != '\r') {
+                i++;
+            }
+            i = skipWhitespace(text, i);
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(String text, int start) {
+        int i = start;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipPast(String text, int start, String terminator) {
+        int i = text.indexOf(terminator, start);
+        return i < 0 ? text.length() : i + terminator.length();
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+    }
+
+    private static Set<String> guess(String... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+}
@@ -0,0 +1,25 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nullable;
+
+/**
+ * Implemented by ontologies whose axiom indexes are built lazily, on first use.
+ */
+@FunctionalInterface
+public interface HasMaterializeIndexes {
+
+    /**
+     * Build all axiom indexes that have not been built yet. This replaces the separate scans that
+     * each index would otherwise run the first time it is queried; an application can call this
+     * after loading an ontology so that later queries do not pay for index construction.
+     *
+     * @param executor executor used to build indexes for different axiom types in parallel; if
+     *        null, all indexes are built on the calling thread
+     * @return time spent building each index, in nanoseconds, keyed by index name; indexes that
+     *         were already built are not included
+     */
+    Map<String, Long> materializeIndexes(@Nullable ExecutorService executor);
+}
@@ -0,0 +1,166 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+
+/**
+ * The imports closure of an ontology, with the signature of the closure merged and sorted. A view
+ * is created by the manager the first time the closure of an ontology is queried and dropped when
+ * the manager clears its imports closure cache. {@link ImportsClosureViews} forwards to the view
+ * the changes to the ontologies in the closure: added and removed axioms update the merged
+ * signature in place, while other changes mark the view stale, and the next query rebuilds it from
+ * the members of the closure.
+ * <p>
+ * Queries do not lock and see a weakly consistent signature while changes are applied.
+ */
+class ImportsClosureView implements Serializable {
+
+    // in the order of OWLObject::typeIndex, so that concatenating the sets gives a sorted signature
+    private static final List<EntityType<?>> TYPES =
+        Arrays.asList(EntityType.CLASS, EntityType.OBJECT_PROPERTY, EntityType.DATA_PROPERTY,
+            EntityType.NAMED_INDIVIDUAL, EntityType.ANNOTATION_PROPERTY, EntityType.DATATYPE);
+    private final OWLOntology root;
+    private final ImportsClosureViews views;
+    // written while holding the lock of views
+    volatile boolean stale = true;
+    // incremented whenever the view is stale and a change is applied, so that a rebuild can tell
+    // whether it missed changes; written while holding the lock of views
+    volatile long version = 0;
+    private volatile List<OWLOntology> members = Collections.emptyList();
+    // ids of the members when the view was last rebuilt
+    private volatile List<OWLOntologyID> memberIDs = Collections.emptyList();
+    private volatile Map<EntityType<?>, NavigableSet<OWLEntity>> entities = Collections.emptyMap();
+
+    /**
+     * @param root the ontology whose imports closure is viewed
+     * @param views the views that forward changes to this view
+     */
+    ImportsClosureView(OWLOntology root, ImportsClosureViews views) {
+        this.root = root;
+        this.views = views;
+    }
+
+    /**
+     * @return the ontology whose imports closure is viewed
+     */
+    OWLOntology getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the ontologies in the imports closure
+     */
+    Stream<OWLOntology> members() {
+        refresh();
+        return members.stream();
+    }
+
+    /**
+     * @return the ontologies in the imports closure, as of the last rebuild
+     */
+    List<OWLOntology> currentMembers() {
+        return members;
+    }
+
+    /**
+     * @return the ids of the ontologies in the imports closure, as of the last rebuild
+     */
+    List<OWLOntologyID> currentMemberIDs() {
+        return memberIDs;
+    }
+
+    /**
+     * @return the entities in the signature of the closure, sorted and without duplicates
+     */
+    Stream<OWLEntity> signature() {
+        refresh();
+        Map<EntityType<?>, NavigableSet<OWLEntity>> current = entities;
+        return TYPES.stream().flatMap(t -> current.get(t).stream());
+    }
+
+    /**
+     * @param type entity type
+     * @param <T> entity type
+     * @return the entities of the given type in the signature of the closure, sorted and without
+     *         duplicates
+     */
+    @SuppressWarnings("unchecked")
+    <T extends OWLEntity> Stream<T> signature(EntityType<T> type) {
+        refresh();
+        return (Stream<T>) entities.get(type).stream();
+    }
+
+    /**
+     * @param entity entity to look up
+     * @return true if the entity is in the signature of the closure
+     */
+    boolean contains(OWLEntity entity) {
+        refresh();
+        return entities.get(entity.getEntityType()).contains(entity);
+    }
+
+    /**
+     * @param added entities in the signature of an added axiom
+     */
+    void added(Collection<OWLEntity> added) {
+        added.forEach(e -> entities.get(e.getEntityType()).add(e));
+    }
+
+    /**
+     * @param removed entities that are no longer in the signature of the closure
+     */
+    void removed(Collection<OWLEntity> removed) {
+        removed.forEach(e -> entities.get(e.getEntityType()).remove(e));
+    }
+
+    private void refresh() {
+        while (stale) {
+            long start = version;
+            // the closure is collected without holding the lock; the manager applies changes
+            // while holding its own lock, and changes might arrive while the view is rebuilt
+            List<OWLOntology> closure = asList(root.importsClosure());
+            List<OWLOntologyID> ids = asList(closure.stream().map(OWLOntology::getOntologyID));
+            Map<EntityType<?>, NavigableSet<OWLEntity>> sets = new LinkedHashMap<>();
+            TYPES.forEach(t -> sets.put(t, new ConcurrentSkipListSet<>()));
+            for (OWLOntology o : closure) {
+                o.signature().forEach(e -> sets.get(e.getEntityType()).add(e));
+            }
+            synchronized (views) {
+                if (version == start) {
+                    members = closure;
+                    memberIDs = ids;
+                    entities = sets;
+                    stale = false;
+                    views.rebuilt(this);
+                }
+            }
+        }
+    }
+}
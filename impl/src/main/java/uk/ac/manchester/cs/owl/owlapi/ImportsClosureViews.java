@@ -0,0 +1,160 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.SetOntologyID;
+
+/**
+ * The imports closure views of a manager, keyed by their root ontology and indexed by the ids of
+ * the ontologies in their closures, so that a change reaches only the views whose closure includes
+ * the changed ontology. Views are keyed by ontology rather than by ontology id, so that an id
+ * change does not leave them under a stale key; an id change makes all views stale, and they are
+ * indexed again under the new ids when rebuilt.
+ * <p>
+ * Stale views are not indexed; they are told about every change, so that a rebuild in progress can
+ * tell whether it missed one.
+ */
+class ImportsClosureViews implements Serializable {
+
+    private final Map<OWLOntology, ImportsClosureView> views = new IdentityHashMap<>();
+    // views that are up to date, by the ids of the ontologies in their closure; ids rather than
+    // ontologies, since changes are reported by the ontology implementation, which the manager
+    // might hold through a wrapper
+    private final Map<OWLOntologyID, List<ImportsClosureView>> byMember = new HashMap<>();
+    private final Set<ImportsClosureView> stale =
+        Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param root ontology
+     * @return the view of the imports closure of the ontology
+     */
+    synchronized ImportsClosureView view(OWLOntology root) {
+        return views.computeIfAbsent(root, r -> {
+            ImportsClosureView view = new ImportsClosureView(r, this);
+            stale.add(view);
+            return view;
+        });
+    }
+
+    /**
+     * Drops all views.
+     */
+    synchronized void clear() {
+        views.clear();
+        byMember.clear();
+        stale.clear();
+    }
+
+    /**
+     * Called, after the ontology caches have been invalidated, for every change applied to an
+     * ontology in the manager.
+     *
+     * @param ontology the changed ontology
+     * @param change the change, or null if the change is not known, e.g., after a bulk addition
+     */
+    synchronized void changed(OWLOntology ontology, @Nullable OWLOntologyChange change) {
+        stale.forEach(v -> v.version++);
+        if (change != null && (change.isImportChange() || change instanceof SetOntologyID)) {
+            // the closure of any view might now include or exclude other ontologies
+            new ArrayList<>(views.values()).forEach(this::invalidate);
+            return;
+        }
+        List<ImportsClosureView> affected = byMember.get(ontology.getOntologyID());
+        if (affected == null || affected.isEmpty()) {
+            return;
+        }
+        if (change == null || !change.isAxiomChange()) {
+            new ArrayList<>(affected).forEach(this::invalidate);
+            return;
+        }
+        OWLAxiom axiom = change.getAxiom();
+        if (change.isAddAxiom()) {
+            List<OWLEntity> signature = asList(axiom.signature());
+            affected.forEach(v -> v.added(signature));
+            return;
+        }
+        // an entity stays in the signature of a closure as long as one of its members refers to
+        // it; entities still in the changed ontology stay in every affected closure
+        List<OWLEntity> gone =
+            asList(axiom.signature().filter(e -> !ontology.containsEntityInSignature(e)));
+        if (gone.isEmpty()) {
+            return;
+        }
+        Map<OWLOntology, Set<OWLEntity>> stillReferenced = new IdentityHashMap<>();
+        for (ImportsClosureView v : affected) {
+            List<OWLEntity> removed = new ArrayList<>(gone);
+            for (OWLOntology member : v.currentMembers()) {
+                removed.removeAll(
+                    stillReferenced.computeIfAbsent(member, m -> referencedBy(m, gone)));
+            }
+            v.removed(removed);
+        }
+    }
+
+    private static Set<OWLEntity> referencedBy(OWLOntology o, List<OWLEntity> entities) {
+        return asUnorderedSet(entities.stream().filter(o::containsEntityInSignature));
+    }
+
+    private void invalidate(ImportsClosureView view) {
+        if (view.stale) {
+            return;
+        }
+        view.version++;
+        view.stale = true;
+        stale.add(view);
+        for (OWLOntologyID id : view.currentMemberIDs()) {
+            List<ImportsClosureView> list = byMember.get(id);
+            if (list != null) {
+                list.remove(view);
+                if (list.isEmpty()) {
+                    byMember.remove(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called, while holding the lock of this object, when a view has been rebuilt.
+     *
+     * @param view the view
+     */
+    void rebuilt(ImportsClosureView view) {
+        stale.remove(view);
+        if (views.get(view.getRoot()) != view) {
+            // dropped while it was rebuilt
+            return;
+        }
+        for (OWLOntologyID id : view.currentMemberIDs()) {
+            byMember.computeIfAbsent(id, i -> new ArrayList<>(2)).add(view);
+        }
+    }
+}
@@ -49,6 +49,7 @@ import static org.semanticweb.owlapi.util.CollectionFactory.createSyncSet;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.ANNOTSUPERNAMED;
 import static uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.CLASSCOLLECTIONS;
@@ -69,10 +70,18 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
@@ -130,6 +139,7 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLReflexiveObjectPropertyAxiom;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
 import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubDataPropertyOfAxiom;
@@ -150,6 +160,8 @@ import org.slf4j.LoggerFactory;
 public class Internals implements Serializable {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(Internals.class);
+    /** Number of axioms each index processes in turn while indexes are built in bulk. */
+    private static final int BULK_BLOCK_SIZE = 1024;
     //@formatter:off
     private final AddAxiomVisitor addChangeVisitor = new AddAxiomVisitor();
     private final RemoveAxiomVisitor removeChangeVisitor = new RemoveAxiomVisitor();
@@ -314,6 +326,162 @@ public class Internals implements Serializable {
         axiomsForSerialization = null;
     }
 
+    /**
+     * @return the lazily built indexes, keyed by name; classAxiomsByClass is not included, as it is
+     *         built from other indexes rather than from axioms
+     */
+    protected Map<String, MapPointer<?, ?>> lazyIndexes() {
+        Map<String, MapPointer<?, ?>> map = new LinkedHashMap<>();
+        map.put("classAssertionAxiomsByClass", classAssertionAxiomsByClass);
+        map.put("annotationAssertionAxiomsBySubject", annotationAssertionAxiomsBySubject);
+        map.put("subClassAxiomsBySubPosition", subClassAxiomsBySubPosition);
+        map.put("subClassAxiomsBySuperPosition", subClassAxiomsBySuperPosition);
+        map.put("objectSubPropertyAxiomsBySubPosition", objectSubPropertyAxiomsBySubPosition);
+        map.put("objectSubPropertyAxiomsBySuperPosition", objectSubPropertyAxiomsBySuperPosition);
+        map.put("dataSubPropertyAxiomsBySubPosition", dataSubPropertyAxiomsBySubPosition);
+        map.put("dataSubPropertyAxiomsBySuperPosition", dataSubPropertyAxiomsBySuperPosition);
+        map.put("equivalentClassesAxiomsByClass", equivalentClassesAxiomsByClass);
+        map.put("disjointClassesAxiomsByClass", disjointClassesAxiomsByClass);
+        map.put("disjointUnionAxiomsByClass", disjointUnionAxiomsByClass);
+        map.put("hasKeyAxiomsByClass", hasKeyAxiomsByClass);
+        map.put("equivalentObjectPropertyAxiomsByProperty",
+            equivalentObjectPropertyAxiomsByProperty);
+        map.put("disjointObjectPropertyAxiomsByProperty", disjointObjectPropertyAxiomsByProperty);
+        map.put("objectPropertyDomainAxiomsByProperty", objectPropertyDomainAxiomsByProperty);
+        map.put("objectPropertyRangeAxiomsByProperty", objectPropertyRangeAxiomsByProperty);
+        map.put("functionalObjectPropertyAxiomsByProperty",
+            functionalObjectPropertyAxiomsByProperty);
+        map.put("inverseFunctionalPropertyAxiomsByProperty",
+            inverseFunctionalPropertyAxiomsByProperty);
+        map.put("symmetricPropertyAxiomsByProperty", symmetricPropertyAxiomsByProperty);
+        map.put("asymmetricPropertyAxiomsByProperty", asymmetricPropertyAxiomsByProperty);
+        map.put("reflexivePropertyAxiomsByProperty", reflexivePropertyAxiomsByProperty);
+        map.put("irreflexivePropertyAxiomsByProperty", irreflexivePropertyAxiomsByProperty);
+        map.put("transitivePropertyAxiomsByProperty", transitivePropertyAxiomsByProperty);
+        map.put("inversePropertyAxiomsByProperty", inversePropertyAxiomsByProperty);
+        map.put("equivalentDataPropertyAxiomsByProperty", equivalentDataPropertyAxiomsByProperty);
+        map.put("disjointDataPropertyAxiomsByProperty", disjointDataPropertyAxiomsByProperty);
+        map.put("dataPropertyDomainAxiomsByProperty", dataPropertyDomainAxiomsByProperty);
+        map.put("dataPropertyRangeAxiomsByProperty", dataPropertyRangeAxiomsByProperty);
+        map.put("functionalDataPropertyAxiomsByProperty", functionalDataPropertyAxiomsByProperty);
+        map.put("classAssertionAxiomsByIndividual", classAssertionAxiomsByIndividual);
+        map.put("objectPropertyAssertionsByIndividual", objectPropertyAssertionsByIndividual);
+        map.put("dataPropertyAssertionsByIndividual", dataPropertyAssertionsByIndividual);
+        map.put("negativeObjectPropertyAssertionAxiomsByIndividual",
+            negativeObjectPropertyAssertionAxiomsByIndividual);
+        map.put("negativeDataPropertyAssertionAxiomsByIndividual",
+            negativeDataPropertyAssertionAxiomsByIndividual);
+        map.put("differentIndividualsAxiomsByIndividual", differentIndividualsAxiomsByIndividual);
+        map.put("sameIndividualsAxiomsByIndividual", sameIndividualsAxiomsByIndividual);
+        return map;
+    }
+
+    /**
+     * @return all indexes from a key to the axioms it appears in, keyed by name: the lazily built
+     *         indexes, classAxiomsByClass, the references of each entity kind and the declarations
+     */
+    protected Map<String, MapPointer<?, ?>> keyedIndexes() {
+        Map<String, MapPointer<?, ?>> map = lazyIndexes();
+        map.put("classAxiomsByClass", classAxiomsByClass);
+        map.put("owlClassReferences", owlClassReferences);
+        map.put("owlObjectPropertyReferences", owlObjectPropertyReferences);
+        map.put("owlDataPropertyReferences", owlDataPropertyReferences);
+        map.put("owlIndividualReferences", owlIndividualReferences);
+        map.put("owlAnonymousIndividualReferences", owlAnonymousIndividualReferences);
+        map.put("owlDatatypeReferences", owlDatatypeReferences);
+        map.put("owlAnnotationPropertyReferences", owlAnnotationPropertyReferences);
+        map.put("declarationsByEntity", declarationsByEntity);
+        return map;
+    }
+
+    /**
+     * Builds all lazy indexes that have not been built yet. Indexes built from axioms of the same
+     * type are filled in a single pass over those axioms; each axiom type is a separate task, run
+     * on the executor if one is provided.
+     *
+     * @param executor executor for the per axiom type tasks; if null, all indexes are built on the
+     *        calling thread
+     * @return time spent building each index, in nanoseconds, keyed by index name; indexes that
+     *         were already built are not included
+     */
+    public Map<String, Long> materializeIndexes(@Nullable ExecutorService executor) {
+        Map<AxiomType<?>, Map<String, MapPointer<?, ?>>> byType = new LinkedHashMap<>();
+        lazyIndexes().forEach((name, pointer) -> {
+            AxiomType<?> t = pointer.getLazyAxiomType();
+            if (t != null && !pointer.isInitialized()) {
+                byType.computeIfAbsent(t, x -> new LinkedHashMap<>()).put(name, pointer);
+            }
+        });
+        List<Callable<Map<String, Long>>> tasks = new ArrayList<>();
+        byType.forEach((t, pointers) -> tasks.add(() -> materializeIndexes(t, pointers)));
+        Map<String, Long> times = new LinkedHashMap<>();
+        try {
+            if (executor == null) {
+                for (Callable<Map<String, Long>> task : tasks) {
+                    times.putAll(task.call());
+                }
+            } else {
+                for (Future<Map<String, Long>> f : executor.invokeAll(tasks)) {
+                    times.putAll(f.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new OWLRuntimeException(e.getCause());
+        } catch (Exception e) {
+            throw new OWLRuntimeException(e);
+        }
+        if (!classAxiomsByClass.isInitialized()) {
+            // built from the other class axiom indexes, so it must come last
+            long start = System.nanoTime();
+            classAxiomsByClass.init();
+            times.put("classAxiomsByClass", Long.valueOf(System.nanoTime() - start));
+        }
+        return times;
+    }
+
+    private Map<String, Long> materializeIndexes(AxiomType<?> type,
+        Map<String, MapPointer<?, ?>> pointers) {
+        List<String> names = new ArrayList<>(pointers.size());
+        List<MapPointer<?, ?>> toBuild = new ArrayList<>(pointers.size());
+        long[] elapsed = new long[pointers.size()];
+        try {
+            pointers.forEach((name, pointer) -> {
+                if (pointer.startBulkInit()) {
+                    names.add(name);
+                    toBuild.add(pointer);
+                }
+            });
+            // axioms are read after the pointers are locked, so that an axiom added concurrently
+            // is either in this list or is put in the pointers after they are released
+            Iterator<OWLAxiom> axioms = axiomsByType.getValuesAsCollection(type).iterator();
+            OWLAxiom[] block = new OWLAxiom[BULK_BLOCK_SIZE];
+            while (axioms.hasNext()) {
+                int n = 0;
+                while (n < block.length && axioms.hasNext()) {
+                    block[n++] = axioms.next();
+                }
+                for (int j = 0; j < toBuild.size(); j++) {
+                    MapPointer<?, ?> pointer = toBuild.get(j);
+                    long start = System.nanoTime();
+                    for (int k = 0; k < n; k++) {
+                        pointer.index(block[k]);
+                    }
+                    elapsed[j] += System.nanoTime() - start;
+                }
+            }
+        } finally {
+            toBuild.forEach(MapPointer::endBulkInit);
+        }
+        Map<String, Long> times = new LinkedHashMap<>();
+        for (int j = 0; j < names.size(); j++) {
+            times.put(names.get(j), Long.valueOf(elapsed[j]));
+        }
+        return times;
+    }
+
     /**
      * @param type entity type
      * @return true if there are entities of the specified type referred
@@ -685,6 +853,136 @@ public class Internals implements Serializable {
         return false;
     }
 
+    /**
+     * Adds axioms in bulk. The axioms by type and the entity reference indexes are updated once for
+     * all the axioms, rather than once per axiom.
+     *
+     * @param axioms axioms to add; only the first n elements are read
+     * @param n number of axioms to add
+     * @param added if not null, the axioms that were not already included are added to it
+     * @return number of axioms that were not already included
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public int addAxioms(OWLAxiom[] axioms, int n, @Nullable Collection<OWLAxiom> added) {
+        List<AxiomType> types = new ArrayList<>(n);
+        List<OWLAxiom> values = new ArrayList<>(n);
+        for (int j = 0; j < n; j++) {
+            OWLAxiom axiom = checkNotNull(axioms[j], "axiom cannot be null");
+            types.add(axiom.getAxiomType());
+            values.add(axiom);
+        }
+        BitSet isNew = new BitSet(n);
+        int count = axiomsByType.putAll(types, values, isNew);
+        ReferenceBatch references = new ReferenceBatch(count);
+        for (int j = isNew.nextSetBit(0); j >= 0; j = isNew.nextSetBit(j + 1)) {
+            OWLAxiom axiom = axioms[j];
+            axiom.accept(addChangeVisitor);
+            references.axiom = axiom;
+            axiom.accept(references);
+            if (added != null) {
+                added.add(axiom);
+            }
+        }
+        references.flush();
+        return count;
+    }
+
+    /**
+     * Collects the entity references of a batch of axioms, to be added to the reference indexes
+     * with one call per index.
+     */
+    private class ReferenceBatch extends AbstractCollector {
+
+        @Nullable
+        OWLAxiom axiom;
+        private final PendingPuts<OWLClass> classes;
+        private final PendingPuts<OWLObjectProperty> objectProperties;
+        private final PendingPuts<OWLDataProperty> dataProperties;
+        private final PendingPuts<OWLNamedIndividual> individuals;
+        private final PendingPuts<OWLAnnotationProperty> annotationProperties;
+        private final PendingPuts<OWLDatatype> datatypes;
+        private final PendingPuts<OWLAnonymousIndividual> anonymousIndividuals;
+
+        ReferenceBatch(int axiomCount) {
+            classes = new PendingPuts<>(owlClassReferences, axiomCount);
+            objectProperties = new PendingPuts<>(owlObjectPropertyReferences, 16);
+            dataProperties = new PendingPuts<>(owlDataPropertyReferences, 16);
+            individuals = new PendingPuts<>(owlIndividualReferences, 16);
+            annotationProperties = new PendingPuts<>(owlAnnotationPropertyReferences, 16);
+            datatypes = new PendingPuts<>(owlDatatypeReferences, 16);
+            anonymousIndividuals = new PendingPuts<>(owlAnonymousIndividualReferences, 16);
+        }
+
+        @Override
+        public void visit(OWLClass ce) {
+            classes.add(ce, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLObjectProperty property) {
+            objectProperties.add(property, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLDataProperty property) {
+            dataProperties.add(property, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLNamedIndividual individual) {
+            individuals.add(individual, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLAnnotationProperty property) {
+            annotationProperties.add(property, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLDatatype node) {
+            datatypes.add(node, verifyNotNull(axiom));
+        }
+
+        @Override
+        public void visit(OWLAnonymousIndividual individual) {
+            anonymousIndividuals.add(individual, verifyNotNull(axiom));
+        }
+
+        void flush() {
+            classes.flush();
+            objectProperties.flush();
+            dataProperties.flush();
+            individuals.flush();
+            annotationProperties.flush();
+            datatypes.flush();
+            anonymousIndividuals.flush();
+        }
+    }
+
+    private static class PendingPuts<K> {
+
+        private final MapPointer<K, OWLAxiom> pointer;
+        private final List<K> keys;
+        private final List<OWLAxiom> values;
+
+        PendingPuts(MapPointer<K, OWLAxiom> pointer, int expected) {
+            this.pointer = pointer;
+            keys = new ArrayList<>(expected);
+            values = new ArrayList<>(expected);
+        }
+
+        void add(K key, OWLAxiom value) {
+            keys.add(key);
+            values.add(value);
+        }
+
+        void flush() {
+            pointer.putAll(keys, values, null);
+            keys.clear();
+            values.clear();
+        }
+    }
+
     /**
      * @param axiom axiom to remove
      * @return true if removed
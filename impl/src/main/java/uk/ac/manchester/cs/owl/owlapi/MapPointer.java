@@ -17,15 +17,25 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -49,6 +59,20 @@ import uk.ac.manchester.cs.owl.owlapi.InitVisitorFactory.InitVisitor;
 /**
  * * Objects that identify contained maps - so that getting the keys of a specific map does not
  * require a specific method for each map nor does it require the map to be copied and returned.
+ * <p>
+ * Access is guarded by a read/write lock rather than by the pointer monitor: any number of threads
+ * can query the same pointer concurrently, and only initialization and updates are exclusive. Lazy
+ * initialization is checked through a volatile flag before any lock is taken. Readers do not block
+ * each other, but each one still updates the shared state of the lock, so heavily concurrent
+ * readers of one pointer contend on it. Callbacks passed to {@link #forEach(Object, Consumer)} and
+ * {@link #matchOnValues(Object, Predicate)} run after the lock is released, on a snapshot of the
+ * values, so they can update the ontology.
+ * <p>
+ * Values are returned as streams over the stored sets, without copying. Value sets of up to three
+ * elements are never modified once stored in the map: changes replace them. Larger sets count the
+ * streams still open on them, and are copied only if changed while such a stream is live; once
+ * streams are exhausted or closed, changes happen in place again. A stream therefore never sees
+ * later changes and never fails because of them. Collections are only handed out as copies.
  *
  * @author ignazio
  * @param <K> key
@@ -60,13 +84,16 @@ public class MapPointer<K, V extends OWLAxiom> {
     private final AxiomType<?> type;
     @Nullable
     private final OWLAxiomVisitorEx<?> visitor;
-    private boolean initialized;
+    private volatile boolean initialized;
     protected final Internals i;
     @Nullable
-    private SoftReference<Set<IRI>> iris;
+    private volatile SoftReference<Set<IRI>> iris;
     private int size = 0;
     private final ObjectObjectHashMap<K, Collection<V>> map = new ObjectObjectHashMap<>(17, 0.75F);
     private final Class<V> valueWithness;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    protected final Lock readLock = lock.readLock();
+    protected final Lock writeLock = lock.writeLock();
 
     /**
      * @param t type of axioms contained
@@ -97,23 +124,36 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param e entity
      * @return true if an entity with the same iri as the input exists in the collection
      */
-    public synchronized boolean containsReference(K e) {
-        return map.containsKey(e);
+    public boolean containsReference(K e) {
+        readLock.lock();
+        try {
+            return map.containsKey(e);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @param e IRI
      * @return true if an entity with the same iri as the input exists in the collection
      */
-    public synchronized boolean containsReference(IRI e) {
-        Set<IRI> set = null;
-        if (iris != null) {
-            set = iris.get();
-        }
-        if (set == null) {
-            set = initSet();
+    public boolean containsReference(IRI e) {
+        readLock.lock();
+        try {
+            Set<IRI> set = null;
+            SoftReference<Set<IRI>> reference = iris;
+            if (reference != null) {
+                set = reference.get();
+            }
+            if (set == null) {
+                // concurrent readers might build the set more than once; this is harmless, as
+                // all copies are equal and writers reset the reference under the write lock
+                set = initSet();
+            }
+            return set.contains(e);
+        } finally {
+            readLock.unlock();
         }
-        return set.contains(e);
     }
 
     private Set<IRI> initSet() {
@@ -135,77 +175,143 @@ public class MapPointer<K, V extends OWLAxiom> {
     /**
      * @return true if initialized
      */
-    public synchronized boolean isInitialized() {
+    public boolean isInitialized() {
         return initialized;
     }
 
     /**
      * @return the map pointer
      */
-    @SuppressWarnings({"unchecked"})
-    public synchronized MapPointer<K, V> init() {
+    public MapPointer<K, V> init() {
         if (initialized) {
             return this;
         }
-        initialized = true;
-        if (visitor == null || type == null) {
+        writeLock.lock();
+        try {
+            if (initialized) {
+                return this;
+            }
+            initialized = true;
+            if (visitor == null || type == null) {
+                return this;
+            }
+            AxiomType<?> t = type;
+            assert t != null;
+            i.getAxiomsByType().forEach(t, this::index);
             return this;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return the axiom type this pointer is lazily built from, or null if the pointer is not built
+     *         by scanning axioms of a single type
+     */
+    @Nullable
+    AxiomType<?> getLazyAxiomType() {
+        if (visitor == null) {
+            return null;
+        }
+        return type;
+    }
+
+    /**
+     * Starts building this pointer from axioms supplied by the caller rather than by scanning the
+     * axioms by type. If this method returns true, the caller holds the write lock and must call
+     * {@link #index(OWLAxiom)} for every axiom of the type returned by {@link #getLazyAxiomType()}
+     * and then {@link #endBulkInit()}; puts and queries from other threads wait until then.
+     *
+     * @return true if the pointer needs building, false if it was already initialized
+     */
+    boolean startBulkInit() {
+        if (initialized) {
+            return false;
         }
-        AxiomType<?> t = type;
-        assert t != null;
+        writeLock.lock();
+        if (initialized) {
+            writeLock.unlock();
+            return false;
+        }
+        initialized = true;
+        return true;
+    }
+
+    /**
+     * Releases the write lock acquired by a successful {@link #startBulkInit()}.
+     */
+    void endBulkInit() {
+        writeLock.unlock();
+    }
+
+    /**
+     * Adds an axiom under the keys computed by the initialization visitor. The write lock must be
+     * held by the caller.
+     *
+     * @param ax axiom to index
+     */
+    @SuppressWarnings("unchecked")
+    void index(OWLAxiom ax) {
         if (visitor instanceof InitVisitor) {
-            InitVisitor<K> v = (InitVisitor<K>) visitor;
-            i.getAxiomsByType().forEach(t, ax -> putInternal(ax.accept(v), (V) ax));
+            putInternal(ax.accept((InitVisitor<K>) visitor), (V) ax);
         } else if (visitor instanceof InitCollectionVisitor) {
-            InitCollectionVisitor<K> v = (InitCollectionVisitor<K>) visitor;
-            i.getAxiomsByType().forEach(t,
-                ax -> ax.accept(v).forEach(key -> putInternal(key, (V) ax)));
+            ax.accept((InitCollectionVisitor<K>) visitor).forEach(key -> putInternal(key, (V) ax));
         }
-        return this;
     }
 
     @Override
-    public synchronized String toString() {
-        return initialized + map.toString();
+    public String toString() {
+        readLock.lock();
+        try {
+            return initialized + map.toString();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @return key set
      */
-    public synchronized Stream<K> keySet() {
+    public Stream<K> keySet() {
         init();
-        List<K> l = new ArrayList<>();
-        Consumer<ObjectCursor<K>> p = c -> l.add(c.value);
-        map.keys().forEach(p);
-        return l.stream();
+        readLock.lock();
+        try {
+            List<K> l = new ArrayList<>();
+            Consumer<ObjectCursor<K>> p = c -> l.add(c.value);
+            map.keys().forEach(p);
+            return l.stream();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @param key key to look up
      * @return value
      */
-    public synchronized Stream<V> getValues(K key) {
+    public Stream<V> getValues(K key) {
         init();
-        Collection<V> t = map.get(key);
-        if (t == null) {
-            return Stream.empty();
-        }
-        if (t instanceof SmallSet) {
-            return t.stream();
-        }
-        if (t instanceof HPPCSet) {
-            return new ArrayList<>(t).stream();
+        readLock.lock();
+        try {
+            Collection<V> t = map.get(key);
+            if (t == null) {
+                return Stream.empty();
+            }
+            return view(t);
+        } finally {
+            readLock.unlock();
         }
-        return t.stream();
     }
 
     /**
      * @param key key to look up
      * @param function consumer to apply
      */
-    public synchronized void forEach(K key, Consumer<V> function) {
-        init();
-        get(key).forEach(function);
+    public void forEach(K key, Consumer<V> function) {
+        // the function runs after the lock is released, so that it can update the ontology
+        try (Stream<V> values = getValues(key)) {
+            values.forEach(function);
+        }
     }
 
     /**
@@ -213,37 +319,43 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param function predicate to evaluate
      * @return value
      */
-    public synchronized boolean matchOnValues(K key, Predicate<V> function) {
-        init();
-        return get(key).anyMatch(function);
+    public boolean matchOnValues(K key, Predicate<V> function) {
+        // closed explicitly, since anyMatch can stop before the end of the values
+        try (Stream<V> values = getValues(key)) {
+            return values.anyMatch(function);
+        }
     }
 
     /**
      * @param key key to look up
      * @return value
      */
-    public synchronized Collection<V> getValuesAsCollection(K key) {
+    public Collection<V> getValuesAsCollection(K key) {
         init();
-        Collection<V> t = map.get(key);
-        if (t == null) {
-            return Collections.emptyList();
-        }
-        if (t instanceof SmallSet) {
-            return new ArrayList<>(t);
-        }
-        if (t instanceof HPPCSet) {
-            return new ArrayList<>(t);
+        readLock.lock();
+        try {
+            Collection<V> t = map.get(key);
+            if (t == null) {
+                return Collections.emptyList();
+            }
+            return Collections.unmodifiableCollection(copy(t));
+        } finally {
+            readLock.unlock();
         }
-        return t;
     }
 
     /**
      * @param key key to look up
      * @return value
      */
-    public synchronized int countValues(K key) {
+    public int countValues(K key) {
         init();
-        return count(key);
+        readLock.lock();
+        try {
+            return count(key);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     private int count(K k) {
@@ -261,20 +373,19 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @return value
      */
     @SuppressWarnings("unchecked")
-    public synchronized <O extends V> Stream<O> values(K key,
+    public <O extends V> Stream<O> values(K key,
         @SuppressWarnings("unused") Class<O> classType) {
         init();
-        Collection<V> t = map.get(key);
-        if (t == null) {
-            return Stream.empty();
-        }
-        if (t instanceof SmallSet) {
-            return (Stream<O>) t.stream();
-        }
-        if (t instanceof HPPCSet) {
-            return (Stream<O>) new ArrayList<>(t).stream();
+        readLock.lock();
+        try {
+            Collection<V> t = map.get(key);
+            if (t == null) {
+                return Stream.empty();
+            }
+            return (Stream<O>) view(t);
+        } finally {
+            readLock.unlock();
         }
-        return (Stream<O>) t.stream();
     }
 
     /**
@@ -283,18 +394,23 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param key key
      * @return set of values
      */
-    public synchronized <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
+    public <T> Collection<OWLAxiom> filterAxioms(OWLAxiomSearchFilter filter, T key) {
         init();
-        List<OWLAxiom> toReturn = new ArrayList<>();
-        for (AxiomType<?> at : filter.getAxiomTypes()) {
-            // This method is only used for MapPointer<AxiomType, OWLAxiom>
-            @SuppressWarnings("unchecked")
-            Collection<V> collection = map.get((K) at);
-            if (collection != null) {
-                collection.stream().filter(x -> filter.pass(x, key)).forEach(toReturn::add);
+        readLock.lock();
+        try {
+            List<OWLAxiom> toReturn = new ArrayList<>();
+            for (AxiomType<?> at : filter.getAxiomTypes()) {
+                // This method is only used for MapPointer<AxiomType, OWLAxiom>
+                @SuppressWarnings("unchecked")
+                Collection<V> collection = map.get((K) at);
+                if (collection != null) {
+                    collection.stream().filter(x -> filter.pass(x, key)).forEach(toReturn::add);
+                }
             }
+            return toReturn;
+        } finally {
+            readLock.unlock();
         }
-        return toReturn;
     }
 
     /**
@@ -302,13 +418,49 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param value value to add
      * @return true if addition happens
      */
-    public synchronized boolean put(K key, V value) {
+    public boolean put(K key, V value) {
         // lazy init: no elements added until a recall is made
         if (!initialized) {
             return false;
         }
-        iris = null;
-        return putInternal(key, value);
+        writeLock.lock();
+        try {
+            iris = null;
+            return putInternal(key, value);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds key/value pairs with a single acquisition of the write lock.
+     *
+     * @param keys keys to add
+     * @param values values to add, one for each key
+     * @param added if not null, bit i is set for each pair i that was not already contained
+     * @return number of pairs added
+     */
+    public int putAll(List<? extends K> keys, List<? extends V> values, @Nullable BitSet added) {
+        // lazy init: no elements added until a recall is made
+        if (!initialized || keys.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        writeLock.lock();
+        try {
+            iris = null;
+            for (int j = 0; j < keys.size(); j++) {
+                if (putInternal(keys.get(j), values.get(j))) {
+                    count++;
+                    if (added != null) {
+                        added.set(j);
+                    }
+                }
+            }
+            return count;
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -316,21 +468,31 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param value value to remove
      * @return true if removal happens
      */
-    public synchronized boolean remove(K key, V value) {
+    public boolean remove(K key, V value) {
         if (!initialized) {
             return false;
         }
-        iris = null;
-        return removeInternal(key, value);
+        writeLock.lock();
+        try {
+            iris = null;
+            return removeInternal(key, value);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
      * @param key key to look up
      * @return true if there are values for key
      */
-    public synchronized boolean containsKey(K key) {
+    public boolean containsKey(K key) {
         init();
-        return map.containsKey(key);
+        readLock.lock();
+        try {
+            return map.containsKey(key);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
@@ -338,33 +500,53 @@ public class MapPointer<K, V extends OWLAxiom> {
      * @param value value to look up
      * @return true if key and value are contained
      */
-    public synchronized boolean contains(K key, V value) {
+    public boolean contains(K key, V value) {
         init();
-        return containsEntry(key, value);
+        readLock.lock();
+        try {
+            return containsEntry(key, value);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @return all values contained
      */
-    public synchronized Stream<V> getAllValues() {
+    public Stream<V> getAllValues() {
         init();
-        return values();
+        readLock.lock();
+        try {
+            return values();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @return number of mapping contained
      */
-    public synchronized int size() {
+    public int size() {
         init();
-        return size;
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * @return true if empty
      */
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         init();
-        return size == 0;
+        readLock.lock();
+        try {
+            return size == 0;
+        } finally {
+            readLock.unlock();
+        }
     }
 
     private boolean putInternal(@Nullable K k, V v) {
@@ -394,6 +576,11 @@ public class MapPointer<K, V extends OWLAxiom> {
                 size++;
                 return true;
             }
+        } else {
+            if (set.contains(v)) {
+                return false;
+            }
+            set = writable(k, set);
         }
         boolean added = set.add(v);
         if (added) {
@@ -424,6 +611,10 @@ public class MapPointer<K, V extends OWLAxiom> {
                 return false;
             }
         }
+        if (!t.contains(v)) {
+            return false;
+        }
+        t = writable(k, t);
         boolean removed = t.remove(v);
         if (removed) {
             size--;
@@ -435,25 +626,72 @@ public class MapPointer<K, V extends OWLAxiom> {
     }
 
     private Stream<V> values() {
-        List<V> l = new ArrayList<>();
-        Consumer<ObjectCursor<Collection<V>>> c = q -> l.addAll(q.value);
+        List<Stream<V>> l = new ArrayList<>(map.size());
+        Consumer<ObjectCursor<Collection<V>>> c = q -> l.add(view(q.value));
         map.values().forEach(c);
-        return l.stream();
+        return l.stream().flatMap(x -> x);
     }
 
-    private Stream<V> get(K k) {
-        Collection<V> t = map.get(k);
-        if (t == null) {
-            return Stream.empty();
+    /**
+     * Streams a value set without copying it. The read lock must be held by the caller.
+     *
+     * @param t value set stored in the map
+     * @return stream over the set as it is now; large sets are not modified in place until the
+     *         stream is exhausted or closed
+     */
+    private static <V> Stream<V> view(Collection<V> t) {
+        if (t instanceof HPPCSet) {
+            return ((HPPCSet<V>) t).snapshot();
         }
         return t.stream();
     }
+
+    /**
+     * Copies a value set for callers that keep it as a collection. The read lock must be held by
+     * the caller.
+     *
+     * @param t value set stored in the map
+     * @return a set that will not change; small sets are returned as they are, since they are
+     *         replaced rather than modified
+     */
+    private static <V> Collection<V> copy(Collection<V> t) {
+        if (t instanceof HPPCSet) {
+            return new ArrayList<>(t);
+        }
+        return t;
+    }
+
+    /**
+     * Returns a value set that can be modified without affecting streams handed out earlier; small
+     * sets, and large sets with live streams, are copied and the copy replaces them in the map. The
+     * write lock must be held by the caller.
+     *
+     * @param k key
+     * @param t value set stored in the map for k
+     * @return set to modify
+     */
+    private Collection<V> writable(K k, Collection<V> t) {
+        Collection<V> copy;
+        if (t instanceof SmallSet) {
+            copy = new SmallSet<>(t);
+        } else if (t instanceof HPPCSet && ((HPPCSet<V>) t).hasLiveSnapshots()) {
+            copy = new HPPCSet<>(t, valueWithness);
+        } else {
+            return t;
+        }
+        map.put(k, copy);
+        return copy;
+    }
+
 }
 
 
 class HPPCSet<S> implements Collection<S> {
     private final ObjectHashSet<S> delegate;
     private final Class<S> witness;
+    // streams handed out and not yet exhausted or closed; incremented by readers holding the read
+    // lock of the owning pointer, decremented by whichever thread finishes the stream
+    private final AtomicInteger liveSnapshots = new AtomicInteger();
 
     public HPPCSet(Class<S> c) {
         delegate = new ObjectHashSet<>();
@@ -498,12 +736,82 @@ class HPPCSet<S> implements Collection<S> {
         return witness.isInstance(o) && delegate.contains(witness.cast(o));
     }
 
+    /**
+     * Streams the current contents of this set. Until the stream is exhausted or closed, the owning
+     * pointer must not modify this set; a stream that is abandoned early only causes the next
+     * change to copy the set.
+     *
+     * @return stream over the current contents
+     */
+    Stream<S> snapshot() {
+        liveSnapshots.incrementAndGet();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                liveSnapshots.decrementAndGet();
+            }
+        };
+        Iterator<S> slots = iterator();
+        Iterator<S> it = new Iterator<S>() {
+
+            @Override
+            public boolean hasNext() {
+                if (slots.hasNext()) {
+                    return true;
+                }
+                release.run();
+                return false;
+            }
+
+            @Override
+            public S next() {
+                return slots.next();
+            }
+        };
+        // not sized, so that operations such as count() still run the iterator to its end
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(it, Spliterator.DISTINCT | Spliterator.NONNULL),
+            false).onClose(release);
+    }
+
+    /**
+     * @return true if streams returned by {@link #snapshot()} might still be reading this set
+     */
+    boolean hasLiveSnapshots() {
+        return liveSnapshots.get() > 0;
+    }
+
     @Override
     public Iterator<S> iterator() {
-        List<S> l = new ArrayList<>();
-        Consumer<ObjectCursor<S>> c = q -> l.add(q.value);
-        delegate.forEach(c);
-        return l.iterator();
+        // iterates over the hash table slots directly; values are axioms, so a null slot is empty
+        Object[] keys = delegate.keys;
+        return new Iterator<S>() {
+
+            private int next = advance(0);
+
+            private int advance(int from) {
+                int i = from;
+                while (i < keys.length && keys[i] == null) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next < keys.length;
+            }
+
+            @Override
+            public S next() {
+                if (next >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+                S s = witness.cast(keys[next]);
+                next = advance(next + 1);
+                return s;
+            }
+        };
     }
 
     @Override
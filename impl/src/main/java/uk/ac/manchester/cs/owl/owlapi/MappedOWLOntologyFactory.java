@@ -0,0 +1,72 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.semanticweb.owlapi.formats.MappedIndexDocumentFormat;
+import org.semanticweb.owlapi.io.OWLOntologyCreationIOException;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyFactory;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Ontology factory for index files written by {@link MappedOntologyIndexWriter}. Adding this
+ * factory to a manager makes index files loadable like any other ontology document; the loaded
+ * ontologies are {@link MappedOWLOntologyImpl} instances, served from the mapped file. Only local
+ * files can be mapped, and the factory cannot create new ontologies.
+ */
+public class MappedOWLOntologyFactory implements OWLOntologyFactory {
+
+    @Override
+    public OWLOntology createOWLOntology(OWLOntologyManager manager, OWLOntologyID ontologyID,
+        IRI documentIRI, OWLOntologyCreationHandler handler) throws OWLOntologyCreationException {
+        throw new OWLOntologyCreationException(
+            "Memory mapped ontologies are read only and can only be loaded from an index file: "
+                + documentIRI);
+    }
+
+    @Override
+    public OWLOntology loadOWLOntology(OWLOntologyManager manager,
+        OWLOntologyDocumentSource documentSource, OWLOntologyCreationHandler handler,
+        OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        try {
+            File file = new File(documentSource.getDocumentIRI().toURI());
+            OWLOntology ontology =
+                new MappedOWLOntologyImpl(manager, new MappedOntologyIndex(file));
+            handler.ontologyCreated(ontology);
+            handler.setOntologyFormat(ontology, new MappedIndexDocumentFormat());
+            return ontology;
+        } catch (IOException e) {
+            throw new OWLOntologyCreationIOException(e);
+        }
+    }
+
+    @Override
+    public boolean canCreateFromDocumentIRI(IRI documentIRI) {
+        return false;
+    }
+
+    @Override
+    public boolean canAttemptLoading(OWLOntologyDocumentSource documentSource) {
+        IRI documentIRI = documentSource.getDocumentIRI();
+        return "file".equals(documentIRI.getScheme())
+            && MappedOntologyIndex.isIndexFile(new File(documentIRI.toURI()));
+    }
+}
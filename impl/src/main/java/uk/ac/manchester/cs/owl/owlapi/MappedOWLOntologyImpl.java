@@ -0,0 +1,465 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationProperty;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyDomainAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationPropertyRangeAxiom;
+import org.semanticweb.owlapi.model.OWLAnnotationSubject;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAxiom;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDatatypeDefinitionAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLLogicalAxiom;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.OWLPrimitive;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.OWLSubAnnotationPropertyOfAxiom;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.model.parameters.Navigation;
+import org.semanticweb.owlapi.search.Filters;
+import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
+
+/**
+ * Read only ontology served from a memory mapped index file written by
+ * {@link MappedOntologyIndexWriter}. Only the ontology header is kept on the heap: signature and
+ * index lookups read the mapped file, and axioms are decoded through the data factory each time
+ * they are requested. All {@link org.semanticweb.owlapi.model.OWLAxiomIndex} queries answer as
+ * the indexed ontology would. Changes are not supported.
+ */
+public class MappedOWLOntologyImpl extends OWLImmutableOntologyImpl {
+
+    private static final String ANONYMOUS_REFERENCES = "owlAnonymousIndividualReferences";
+    private final transient MappedOntologyIndex index;
+    /** Names of the indexes, by the empty map pointer answering the same queries. */
+    private final transient Map<MapPointer<?, ?>, String> indexNames = new IdentityHashMap<>();
+
+    /**
+     * @param manager ontology manager
+     * @param index mapped index file
+     */
+    MappedOWLOntologyImpl(OWLOntologyManager manager, MappedOntologyIndex index) {
+        super(manager, new OWLOntologyID());
+        this.index = index;
+        ints.keyedIndexes().forEach((name, pointer) -> indexNames.put(pointer, name));
+        MappedOntologyIndex.Reader header = index.header(df);
+        try {
+            IRI ontologyIRI = header.optionalIRI();
+            IRI versionIRI = header.optionalIRI();
+            ontologyID = new OWLOntologyID(Optional.ofNullable(ontologyIRI),
+                Optional.ofNullable(versionIRI));
+            List<IRI> imports = header.list(IRI.class);
+            imports.forEach(i -> ints.addImportsDeclaration(df.getOWLImportsDeclaration(i)));
+            List<OWLAnnotation> annotations = header.list(OWLAnnotation.class);
+            annotations.forEach(ints::addOntologyAnnotation);
+        } catch (IOException e) {
+            throw new OWLRuntimeException(e);
+        }
+    }
+
+    private static String references(EntityType<?> type) {
+        if (type == EntityType.CLASS) {
+            return "owlClassReferences";
+        }
+        if (type == EntityType.OBJECT_PROPERTY) {
+            return "owlObjectPropertyReferences";
+        }
+        if (type == EntityType.DATA_PROPERTY) {
+            return "owlDataPropertyReferences";
+        }
+        if (type == EntityType.NAMED_INDIVIDUAL) {
+            return "owlIndividualReferences";
+        }
+        if (type == EntityType.DATATYPE) {
+            return "owlDatatypeReferences";
+        }
+        return "owlAnnotationPropertyReferences";
+    }
+
+    private OWLAxiom axiom(int id) {
+        return index.axiom(id, df);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends OWLAxiom> Stream<T> axioms(String name, long key) {
+        return index.postings(name, key).mapToObj(i -> (T) axiom(i));
+    }
+
+    private boolean isReferenced(OWLEntity e) {
+        return index.count(references(e.getEntityType()), index.key(e)) > 0;
+    }
+
+    private <E extends OWLEntity> Stream<E> signature(int list, IntFunction<E> entity) {
+        return index.signature(list).mapToObj(entity);
+    }
+
+    @Override
+    public String toString() {
+        return "Ontology(" + ontologyID + ") [Axioms: " + getAxiomCount() + " Logical Axioms: "
+            + getLogicalAxiomCount() + "] memory mapped";
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getAxiomCount() == 0 && annotations().count() == 0;
+    }
+
+    @Override
+    public Map<String, Long> materializeIndexes(@Nullable ExecutorService executor) {
+        // all indexes are in the file
+        return Collections.emptyMap();
+    }
+
+    // axioms
+
+    @Override
+    public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType) {
+        return index.endAxiom(axiomType) - index.firstAxiom(axiomType);
+    }
+
+    @Override
+    public int getAxiomCount() {
+        return index.getAxiomCount();
+    }
+
+    @Override
+    public boolean containsAxiom(OWLAxiom axiom) {
+        AxiomType<?> type = axiom.getAxiomType();
+        // the smallest posting list of the entities in the axiom holds the axiom, if present
+        String name = null;
+        long key = -1;
+        int count = Integer.MAX_VALUE;
+        for (OWLEntity e : (Iterable<OWLEntity>) axiom.signature()::iterator) {
+            String candidate = references(e.getEntityType());
+            long k = index.key(e);
+            int c = index.count(candidate, k);
+            if (c < count) {
+                name = candidate;
+                key = k;
+                count = c;
+            }
+        }
+        for (OWLAnonymousIndividual i : (Iterable<OWLAnonymousIndividual>) axiom
+            .anonymousIndividuals()::iterator) {
+            long k = index.key(i);
+            int c = index.count(ANONYMOUS_REFERENCES, k);
+            if (c < count) {
+                name = ANONYMOUS_REFERENCES;
+                key = k;
+                count = c;
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+        if (name == null) {
+            return axioms(type).anyMatch(axiom::equals);
+        }
+        return index.postings(name, key).filter(i -> index.hasType(type, i))
+            .anyMatch(i -> axiom(i).equals(axiom));
+    }
+
+    @Override
+    public Stream<OWLAxiom> axioms() {
+        return AxiomType.AXIOM_TYPES.stream().flatMap(this::axioms);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OWLAxiom> Stream<T> axioms(AxiomType<T> axiomType) {
+        return IntStream.range(index.firstAxiom(axiomType), index.endAxiom(axiomType))
+            .mapToObj(i -> (T) axiom(i));
+    }
+
+    @Override
+    public Stream<OWLLogicalAxiom> logicalAxioms() {
+        return AxiomType.LOGICAL_AXIOM_TYPES.stream().flatMap(this::axioms)
+            .map(OWLLogicalAxiom.class::cast);
+    }
+
+    @Override
+    public int getLogicalAxiomCount() {
+        return AxiomType.LOGICAL_AXIOM_TYPES.stream().mapToInt(this::getAxiomCount).sum();
+    }
+
+    @Override
+    public Stream<OWLClassAxiom> generalClassAxioms() {
+        return index.generalClassAxioms().mapToObj(i -> (OWLClassAxiom) axiom(i));
+    }
+
+    // signature
+
+    @Override
+    public boolean containsEntitiesOfTypeInSignature(EntityType<?> type) {
+        return !index.isEmpty(references(type));
+    }
+
+    @Override
+    public Stream<OWLEntity> unsortedSignature() {
+        return signature();
+    }
+
+    @Override
+    public Stream<OWLEntity> signature() {
+        // the lists are sorted and in the order of entity types, so the result is sorted
+        return Stream.of(classesInSignature(), objectPropertiesInSignature(),
+            dataPropertiesInSignature(), individualsInSignature(),
+            annotationPropertiesInSignature(), datatypesInSignature())
+            .flatMap(s -> s.map(OWLEntity.class::cast));
+    }
+
+    @Override
+    public Stream<OWLClass> classesInSignature() {
+        return signature(0, i -> df.getOWLClass(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLObjectProperty> objectPropertiesInSignature() {
+        return signature(1, i -> df.getOWLObjectProperty(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLDataProperty> dataPropertiesInSignature() {
+        return signature(2, i -> df.getOWLDataProperty(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLNamedIndividual> individualsInSignature() {
+        return signature(3, i -> df.getOWLNamedIndividual(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
+        return signature(4, i -> df.getOWLAnnotationProperty(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLDatatype> datatypesInSignature() {
+        return signature(5, i -> df.getOWLDatatype(index.iri(i)));
+    }
+
+    @Override
+    public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
+        return index.signature(MappedOntologyIndex.ANONYMOUS_INDIVIDUALS)
+            .mapToObj(i -> df.getOWLAnonymousIndividual(index.string(i)));
+    }
+
+    @Override
+    public Stream<OWLAnonymousIndividual> referencedAnonymousIndividuals() {
+        return anonymousIndividuals();
+    }
+
+    @Override
+    public Stream<OWLEntity> entitiesInSignature(IRI iri) {
+        if (index.iriId(iri) < 0) {
+            return Stream.empty();
+        }
+        return Stream.of(df.getOWLClass(iri), df.getOWLObjectProperty(iri),
+            df.getOWLDataProperty(iri), df.getOWLNamedIndividual(iri),
+            df.getOWLAnnotationProperty(iri), df.getOWLDatatype(iri))
+            .map(OWLEntity.class::cast).filter(this::containsEntityInSignature);
+    }
+
+    @Override
+    public Set<IRI> getPunnedIRIs(Imports includeImportsClosure) {
+        if (includeImportsClosure == EXCLUDED || importsDeclarations().count() == 0) {
+            Set<IRI> punned = new HashSet<>();
+            index.punned().forEach(i -> punned.add(index.iri(i)));
+            return punned.isEmpty() ? Collections.emptySet() : punned;
+        }
+        return super.getPunnedIRIs(includeImportsClosure);
+    }
+
+    @Override
+    public boolean containsReference(OWLEntity entity, Imports includeImportsClosure) {
+        if (includeImportsClosure == EXCLUDED) {
+            return containsReference(entity);
+        }
+        return super.containsReference(entity, includeImportsClosure);
+    }
+
+    @Override
+    public boolean containsReference(OWLEntity entity) {
+        return isReferenced(entity);
+    }
+
+    @Override
+    public boolean isDeclared(OWLEntity owlEntity) {
+        return index.count("declarationsByEntity", index.key(owlEntity)) > 0;
+    }
+
+    @Override
+    public boolean containsEntityInSignature(OWLEntity owlEntity) {
+        return isReferenced(owlEntity)
+            || annotations().flatMap(OWLAnnotation::signature).anyMatch(owlEntity::equals);
+    }
+
+    @Override
+    public boolean containsClassInSignature(IRI iri) {
+        return isReferenced(df.getOWLClass(iri));
+    }
+
+    @Override
+    public boolean containsObjectPropertyInSignature(IRI iri) {
+        return isReferenced(df.getOWLObjectProperty(iri));
+    }
+
+    @Override
+    public boolean containsDataPropertyInSignature(IRI iri) {
+        return isReferenced(df.getOWLDataProperty(iri));
+    }
+
+    @Override
+    public boolean containsAnnotationPropertyInSignature(IRI iri) {
+        return isReferenced(df.getOWLAnnotationProperty(iri));
+    }
+
+    @Override
+    public boolean containsIndividualInSignature(IRI iri) {
+        return isReferenced(df.getOWLNamedIndividual(iri));
+    }
+
+    @Override
+    public boolean containsDatatypeInSignature(IRI iri) {
+        return isReferenced(df.getOWLDatatype(iri));
+    }
+
+    // OWLAxiomIndex
+
+    @Override
+    public Stream<OWLClassAxiom> axioms(OWLClass cls) {
+        return axioms("classAxiomsByClass", index.key(cls));
+    }
+
+    @Override
+    public Stream<OWLAxiom> referencingAxioms(OWLPrimitive owlEntity) {
+        if (owlEntity instanceof OWLEntity) {
+            OWLEntity e = (OWLEntity) owlEntity;
+            return axioms(references(e.getEntityType()), index.key(e));
+        }
+        if (owlEntity instanceof OWLAnonymousIndividual) {
+            return axioms(ANONYMOUS_REFERENCES, index.key(owlEntity));
+        }
+        return super.referencingAxioms(owlEntity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <A extends OWLAxiom> Stream<A> axioms(Class<A> type,
+        Class<? extends OWLObject> explicitClass, OWLObject entity, Navigation forSubPosition) {
+        Optional<MapPointer<OWLObject, A>> pointer =
+            ints.get((Class<OWLObject>) explicitClass, type, forSubPosition);
+        String name = pointer.isPresent() ? indexNames.get(pointer.get()) : null;
+        if (name == null || !index.hasIndex(name)) {
+            return super.axioms(type, explicitClass, entity, forSubPosition);
+        }
+        return axioms(name, index.key(entity));
+    }
+
+    @Override
+    public <T extends OWLAxiom> Stream<T> axioms(OWLAxiomSearchFilter filter, Object key) {
+        if (filter == Filters.annotations) {
+            return axioms(OWLAnnotationAssertionAxiom.class, OWLAnnotationSubject.class,
+                (OWLObject) key, Navigation.IN_SUB_POSITION).map(ax -> (T) ax);
+        }
+        OWLPrimitive referenced = referencedBy(filter, key);
+        if (referenced != null) {
+            Set<AxiomType<?>> types = new HashSet<>();
+            filter.getAxiomTypes().forEach(types::add);
+            return referencingAxioms(referenced).filter(ax -> types.contains(ax.getAxiomType()))
+                .filter(ax -> filter.pass(ax, key)).map(ax -> (T) ax);
+        }
+        return StreamSupport.stream(filter.getAxiomTypes().spliterator(), false)
+            .flatMap(this::axioms)
+            .filter(ax -> filter.pass(ax, key)).map(ax -> (T) ax);
+    }
+
+    /**
+     * @return an entity or anonymous individual that every axiom passing the filter references,
+     *         or null if there is none. Plain axiom filters only pass axioms with a component
+     *         equal to the key, so such axioms reference everything in the signature of the key;
+     *         their postings in the references index are decoded instead of all axioms of the
+     *         filter types.
+     */
+    @Nullable
+    private static OWLPrimitive referencedBy(OWLAxiomSearchFilter filter, Object key) {
+        if (filter.getClass() != Filters.AxiomFilter.class || !(key instanceof OWLObject)) {
+            return null;
+        }
+        OWLObject o = (OWLObject) key;
+        Optional<? extends OWLPrimitive> referenced = o.signature().findFirst();
+        if (!referenced.isPresent()) {
+            referenced = o.anonymousIndividuals().findFirst();
+        }
+        return referenced.orElse(null);
+    }
+
+    @Override
+    public boolean contains(OWLAxiomSearchFilter filter, Object key) {
+        return axioms(filter, key).findAny().isPresent();
+    }
+
+    @Override
+    public Stream<OWLDatatypeDefinitionAxiom> datatypeDefinitions(OWLDatatype datatype) {
+        return axioms(Filters.datatypeDefFilter, datatype);
+    }
+
+    @Override
+    public Stream<OWLSubAnnotationPropertyOfAxiom> subAnnotationPropertyOfAxioms(
+        OWLAnnotationProperty subProperty) {
+        return axioms(Filters.subAnnotationWithSub, subProperty);
+    }
+
+    @Override
+    public Stream<OWLAnnotationPropertyDomainAxiom> annotationPropertyDomainAxioms(
+        OWLAnnotationProperty property) {
+        return axioms(Filters.apDomainFilter, property);
+    }
+
+    @Override
+    public Stream<OWLAnnotationPropertyRangeAxiom> annotationPropertyRangeAxioms(
+        OWLAnnotationProperty property) {
+        return axioms(Filters.apRangeFilter, property);
+    }
+}
@@ -0,0 +1,515 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.formats.MappedIndexDocumentFormat;
+import org.semanticweb.owlapi.io.BinaryOWLObjectCodes;
+import org.semanticweb.owlapi.io.BinaryOWLObjectReader;
+import org.semanticweb.owlapi.io.BinaryOWLObjectWriter;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLObjectInverseOf;
+import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+
+/**
+ * Read only view of an ontology index file written by {@link MappedOntologyIndexWriter}. The file
+ * is memory mapped, one mapping per section, and nothing but the section table is read eagerly:
+ * strings, IRIs and axioms are decoded on request. The file starts with the ASCII bytes of
+ * {@link #MAGIC}, the format version, the number of sections and the offset and length of each
+ * section, as longs. All numbers outside axioms are big endian ints or longs; axioms and the
+ * ontology header are encoded as described in {@link BinaryOWLObjectWriter}. The sections are:
+ * <ol>
+ * <li>{@link #STRING_OFFSETS}: for each string, the offset of its UTF-8 bytes in
+ * {@link #STRING_DATA}, followed by the total length;</li>
+ * <li>{@link #STRING_HASH}: an open addressing hash table of string id plus one, zero for free
+ * slots, with a power of two size;</li>
+ * <li>{@link #IRIS}: for each IRI, the string ids of its namespace and remainder;</li>
+ * <li>{@link #IRI_HASH}: a hash table of IRI id plus one, as for strings;</li>
+ * <li>{@link #HEADER}: the ontology IRI and version IRI as id plus one, the imported IRIs and the
+ * ontology annotations;</li>
+ * <li>{@link #AXIOM_TYPES}: for each axiom type index, the id of the first axiom of the type,
+ * followed by the axiom count; axioms are numbered in axiom type order;</li>
+ * <li>{@link #AXIOM_OFFSETS} and {@link #AXIOM_DATA}: the offset of each axiom and the axioms,
+ * written without their type code;</li>
+ * <li>{@link #SIGNATURE}: the start of each signature list, then the lists: the IRI ids of
+ * classes, object properties, data properties, named individuals, annotation properties and
+ * datatypes, and the string ids of anonymous individuals, each in signature order;</li>
+ * <li>{@link #PUNNED}: the IRI ids of punned IRIs;</li>
+ * <li>{@link #GENERAL_CLASS_AXIOMS}: the ids of general class axioms;</li>
+ * <li>{@link #INDEX_NAMES}: the string id of the name of each index section that follows;</li>
+ * <li>one section for each index of {@link Internals#keyedIndexes()}: the number of keys, the keys
+ * in ascending order, the start of the postings of each key followed by the total, and the
+ * postings, as ascending axiom ids.</li>
+ * </ol>
+ * A key is the code of the object type, from {@link BinaryOWLObjectCodes}, in the high int and the
+ * id of the IRI, or of the node id string for anonymous individuals, in the low int. Inverse
+ * object properties use the IRI of the named property. Objects of other kinds, such as anonymous
+ * class expressions, are not keys in the in memory indexes either.
+ */
+final class MappedOntologyIndex {
+
+    static final String MAGIC = MappedIndexDocumentFormat.MAGIC;
+    static final int VERSION = 1;
+    static final int STRING_OFFSETS = 0;
+    static final int STRING_DATA = 1;
+    static final int STRING_HASH = 2;
+    static final int IRIS = 3;
+    static final int IRI_HASH = 4;
+    static final int HEADER = 5;
+    static final int AXIOM_TYPES = 6;
+    static final int AXIOM_OFFSETS = 7;
+    static final int AXIOM_DATA = 8;
+    static final int SIGNATURE = 9;
+    static final int PUNNED = 10;
+    static final int GENERAL_CLASS_AXIOMS = 11;
+    static final int INDEX_NAMES = 12;
+    /** Number of sections before the index sections. */
+    static final int FIXED_SECTIONS = 13;
+    /** Number of signature lists. */
+    static final int SIGNATURE_LISTS = 7;
+    static final int ANONYMOUS_INDIVIDUALS = 6;
+    private final ByteBuffer[] sections;
+    private final Map<String, ByteBuffer> indexes = new HashMap<>();
+
+    /**
+     * @param file index file to map
+     * @throws IOException if the file cannot be read or is not an index file
+     */
+    MappedOntologyIndex(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate(MAGIC.length() + 8);
+            read(channel, head, 0);
+            byte[] magic = new byte[MAGIC.length()];
+            head.get(magic);
+            if (!MAGIC.equals(new String(magic, StandardCharsets.US_ASCII))) {
+                throw new OWLParserException("Not an ontology index file: " + file);
+            }
+            int version = head.getInt();
+            if (version != VERSION) {
+                throw new OWLParserException("Unsupported ontology index version: " + version);
+            }
+            int count = head.getInt();
+            ByteBuffer table = ByteBuffer.allocate(count * 16);
+            read(channel, table, head.capacity());
+            sections = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                sections[i] = channel.map(MapMode.READ_ONLY, table.getLong(), table.getLong());
+            }
+        }
+        ByteBuffer names = sections[INDEX_NAMES];
+        for (int i = 0; i < names.capacity() / 4; i++) {
+            indexes.put(string(names.getInt(i * 4)), sections[FIXED_SECTIONS + i]);
+        }
+    }
+
+    private static void read(FileChannel channel, ByteBuffer buffer, long position)
+        throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, p);
+            if (read < 0) {
+                throw new OWLParserException("Ontology index file is truncated");
+            }
+            p += read;
+        }
+        // calls through Buffer, so that Java 8 runtimes find the methods
+        ((Buffer) buffer).flip();
+    }
+
+    /**
+     * @param file file to check
+     * @return true if the file starts with the index magic number
+     */
+    static boolean isIndexFile(File file) {
+        if (!file.isFile()) {
+            return false;
+        }
+        byte[] magic = new byte[MAGIC.length()];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int length = 0;
+            int read = 0;
+            while (length < magic.length
+                && (read = in.read(magic, length, magic.length - length)) > 0) {
+                length += read;
+            }
+            return length == magic.length
+                && MAGIC.equals(new String(magic, StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param o object to turn into a key
+     * @param strings id of a string, negative if the string has no id
+     * @param iris id of an IRI, negative if the IRI has no id
+     * @return the key for the object, or -1 if the object cannot be a key or has no id
+     */
+    static long key(Object o, ToIntFunction<String> strings, ToIntFunction<IRI> iris) {
+        int typeIndex;
+        int id;
+        if (o instanceof IRI) {
+            typeIndex = 0;
+            id = iris.applyAsInt((IRI) o);
+        } else if (o instanceof OWLEntity) {
+            typeIndex = ((OWLEntity) o).typeIndex();
+            id = iris.applyAsInt(((OWLEntity) o).getIRI());
+        } else if (o instanceof OWLObjectInverseOf) {
+            OWLObjectPropertyExpression inverse = ((OWLObjectInverseOf) o).getInverse();
+            if (!inverse.isNamed()) {
+                return -1;
+            }
+            typeIndex = ((OWLObjectInverseOf) o).typeIndex();
+            id = iris.applyAsInt(inverse.asOWLObjectProperty().getIRI());
+        } else if (o instanceof OWLAnonymousIndividual) {
+            typeIndex = ((OWLAnonymousIndividual) o).typeIndex();
+            id = strings.applyAsInt(((OWLAnonymousIndividual) o).getID().getID());
+        } else {
+            return -1;
+        }
+        if (id < 0) {
+            return -1;
+        }
+        return (long) BinaryOWLObjectCodes.code(typeIndex) << 32 | id;
+    }
+
+    /**
+     * @param o object to turn into a key
+     * @return the key for the object, or -1 if the object is not a key in this index
+     */
+    long key(Object o) {
+        return key(o, this::stringId, this::iriId);
+    }
+
+    /**
+     * @param id string id
+     * @return the string
+     */
+    String string(int id) {
+        ByteBuffer offsets = sections[STRING_OFFSETS];
+        int start = offsets.getInt(id * 4);
+        int end = offsets.getInt(id * 4 + 4);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer data = sections[STRING_DATA].duplicate();
+        ((Buffer) data).position(start);
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param id IRI id
+     * @return the IRI
+     */
+    IRI iri(int id) {
+        ByteBuffer iris = sections[IRIS];
+        return IRI.create(string(iris.getInt(id * 8)), string(iris.getInt(id * 8 + 4)));
+    }
+
+    /**
+     * @param s string to look up
+     * @return the id of the string, or -1 if the string is not in the index
+     */
+    int stringId(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer hash = sections[STRING_HASH];
+        int mask = hash.capacity() / 4 - 1;
+        for (int slot = s.hashCode() & mask;; slot = slot + 1 & mask) {
+            int id = hash.getInt(slot * 4) - 1;
+            if (id < 0) {
+                return -1;
+            }
+            if (sameBytes(id, bytes)) {
+                return id;
+            }
+        }
+    }
+
+    private boolean sameBytes(int id, byte[] bytes) {
+        ByteBuffer offsets = sections[STRING_OFFSETS];
+        int start = offsets.getInt(id * 4);
+        if (offsets.getInt(id * 4 + 4) - start != bytes.length) {
+            return false;
+        }
+        ByteBuffer data = sections[STRING_DATA];
+        for (int i = 0; i < bytes.length; i++) {
+            if (data.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param iri IRI to look up
+     * @return the id of the IRI, or -1 if the IRI is not in the index
+     */
+    int iriId(IRI iri) {
+        String namespace = iri.getNamespace();
+        String remainder = iri.getRemainder().orElse("");
+        int namespaceId = stringId(namespace);
+        int remainderId = namespaceId < 0 ? -1 : stringId(remainder);
+        if (remainderId < 0) {
+            return -1;
+        }
+        ByteBuffer iris = sections[IRIS];
+        ByteBuffer hash = sections[IRI_HASH];
+        int mask = hash.capacity() / 4 - 1;
+        for (int slot = hash(namespace, remainder) & mask;; slot = slot + 1 & mask) {
+            int id = hash.getInt(slot * 4) - 1;
+            if (id < 0) {
+                return -1;
+            }
+            if (iris.getInt(id * 8) == namespaceId && iris.getInt(id * 8 + 4) == remainderId) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * @param namespace IRI namespace
+     * @param remainder IRI remainder, empty if absent
+     * @return hash of the IRI used in the IRI hash table
+     */
+    static int hash(String namespace, String remainder) {
+        return namespace.hashCode() * 31 + remainder.hashCode();
+    }
+
+    /**
+     * @param size number of entries
+     * @return size of a hash table for the entries, a power of two at least twice the size
+     */
+    static int hashTableSize(int size) {
+        return Integer.highestOneBit(Math.max(1, size)) * 4;
+    }
+
+    /**
+     * @param df data factory
+     * @return a reader positioned at the start of the ontology header
+     */
+    Reader header(OWLDataFactory df) {
+        return new Reader(df, sections[HEADER].duplicate());
+    }
+
+    /**
+     * @return number of axioms
+     */
+    int getAxiomCount() {
+        return sections[AXIOM_OFFSETS].capacity() / 4 - 1;
+    }
+
+    /**
+     * @param type axiom type
+     * @return id of the first axiom of the type
+     */
+    int firstAxiom(AxiomType<?> type) {
+        return sections[AXIOM_TYPES].getInt(type.getIndex() * 4);
+    }
+
+    /**
+     * @param type axiom type
+     * @return id after the last axiom of the type
+     */
+    int endAxiom(AxiomType<?> type) {
+        return sections[AXIOM_TYPES].getInt(type.getIndex() * 4 + 4);
+    }
+
+    /**
+     * @param type axiom type
+     * @param id axiom id
+     * @return true if the axiom has the type
+     */
+    boolean hasType(AxiomType<?> type, int id) {
+        return id >= firstAxiom(type) && id < endAxiom(type);
+    }
+
+    /**
+     * @param id axiom id
+     * @param df data factory to build the axiom with
+     * @return the axiom
+     */
+    OWLAxiom axiom(int id, OWLDataFactory df) {
+        ByteBuffer types = sections[AXIOM_TYPES];
+        int type = 0;
+        while (types.getInt(type * 4 + 4) <= id) {
+            type++;
+        }
+        ByteBuffer data = sections[AXIOM_DATA].duplicate();
+        ((Buffer) data).position(sections[AXIOM_OFFSETS].getInt(id * 4));
+        try {
+            return new Reader(df, data).axiom(type);
+        } catch (IOException e) {
+            throw new OWLRuntimeException(e);
+        }
+    }
+
+    /**
+     * @param list signature list, in the order of the {@link #SIGNATURE} section
+     * @return the ids in the list
+     */
+    IntStream signature(int list) {
+        ByteBuffer signature = sections[SIGNATURE];
+        return ints(signature, signature.getInt(list * 4), signature.getInt(list * 4 + 4));
+    }
+
+    /**
+     * @return the IRI ids of punned IRIs
+     */
+    IntStream punned() {
+        return ints(sections[PUNNED], 0, sections[PUNNED].capacity() / 4);
+    }
+
+    /**
+     * @return the ids of general class axioms
+     */
+    IntStream generalClassAxioms() {
+        ByteBuffer axioms = sections[GENERAL_CLASS_AXIOMS];
+        return ints(axioms, 0, axioms.capacity() / 4);
+    }
+
+    private static IntStream ints(ByteBuffer buffer, int from, int to) {
+        return IntStream.range(from, to).map(i -> buffer.getInt(i * 4));
+    }
+
+    /**
+     * @param name index name
+     * @return true if the index is in the file
+     */
+    boolean hasIndex(String name) {
+        return indexes.containsKey(name);
+    }
+
+    /**
+     * @param name index name
+     * @param key key to look up
+     * @return ids of the axioms for the key, in ascending order
+     */
+    IntStream postings(String name, long key) {
+        ByteBuffer index = indexes.get(name);
+        int position = find(index, key);
+        if (position < 0) {
+            return IntStream.empty();
+        }
+        int keys = index.getInt(0);
+        int starts = 4 + keys * 8;
+        int postings = starts + (keys + 1) * 4;
+        return IntStream.range(index.getInt(starts + position * 4),
+            index.getInt(starts + position * 4 + 4)).map(i -> index.getInt(postings + i * 4));
+    }
+
+    /**
+     * @param name index name
+     * @param key key to look up
+     * @return number of axioms for the key
+     */
+    int count(String name, long key) {
+        ByteBuffer index = indexes.get(name);
+        int position = find(index, key);
+        if (position < 0) {
+            return 0;
+        }
+        int starts = 4 + index.getInt(0) * 8;
+        return index.getInt(starts + position * 4 + 4) - index.getInt(starts + position * 4);
+    }
+
+    /**
+     * @param name index name
+     * @return true if the index has no keys
+     */
+    boolean isEmpty(String name) {
+        return indexes.get(name).getInt(0) == 0;
+    }
+
+    private static int find(@Nullable ByteBuffer index, long key) {
+        if (index == null || key < 0) {
+            return -1;
+        }
+        int low = 0;
+        int high = index.getInt(0) - 1;
+        while (low <= high) {
+            int middle = low + high >>> 1;
+            long k = index.getLong(4 + middle * 8);
+            if (k < key) {
+                low = middle + 1;
+            } else if (k > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /** Decodes objects from one of the mapped sections. */
+    class Reader extends BinaryOWLObjectReader {
+
+        private final ByteBuffer data;
+
+        Reader(OWLDataFactory df, ByteBuffer data) {
+            super(df);
+            this.data = data;
+        }
+
+        @Override
+        protected int readByte() {
+            return data.get() & 0xFF;
+        }
+
+        @Override
+        protected String string(int id) {
+            return MappedOntologyIndex.this.string(id);
+        }
+
+        @Override
+        protected IRI iri(int id) {
+            return MappedOntologyIndex.this.iri(id);
+        }
+
+        @Override
+        protected OWLParserException error(String message) {
+            return new OWLParserException(message + " at offset " + data.position());
+        }
+
+        /**
+         * @return an IRI written as id plus one, or null if absent
+         * @throws IOException if the bytes cannot be read
+         */
+        @Nullable
+        IRI optionalIRI() throws IOException {
+            int id = varint();
+            return id == 0 ? null : iri(id - 1);
+        }
+    }
+}
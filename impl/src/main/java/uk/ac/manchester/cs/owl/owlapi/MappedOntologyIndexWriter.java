@@ -0,0 +1,321 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.io.BinaryOWLObjectWriter;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.HasIRI;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+/**
+ * Writes the index files read by {@link MappedOWLOntologyImpl}; the layout is described in
+ * {@link MappedOntologyIndex}. The index is built from the indexes of an in memory ontology, so
+ * writing needs the whole ontology on the heap once; the resulting file can then be mapped by any
+ * number of processes with a small heap. Each section must be smaller than 2GB.
+ */
+public final class MappedOntologyIndexWriter {
+
+    private static final int FLUSH_SIZE = 1 << 20;
+    private final BinaryOWLObjectWriter encoder = new BinaryOWLObjectWriter();
+    private final Map<OWLAxiom, Integer> axiomIds = new HashMap<>();
+
+    private MappedOntologyIndexWriter() {}
+
+    /**
+     * @param ontology ontology to index; imported ontologies are not included
+     * @param file file to write
+     * @throws IOException if the file cannot be written, or a section is too large
+     */
+    public static void write(OWLOntology ontology, File file) throws IOException {
+        checkNotNull(ontology, "ontology cannot be null");
+        checkNotNull(file, "file cannot be null");
+        new MappedOntologyIndexWriter().writeIndex(ontology, file);
+    }
+
+    private void writeIndex(OWLOntology ontology, File file) throws IOException {
+        Internals ints = internals(ontology);
+        Map<String, MapPointer<?, ?>> indexes = ints.keyedIndexes();
+        int sectionCount = MappedOntologyIndex.FIXED_SECTIONS + indexes.size();
+        long[] sections = new long[sectionCount * 2];
+        int headerSize = MappedOntologyIndex.MAGIC.length() + 8 + sectionCount * 16;
+        try (Sections out = new Sections(file, headerSize, sections)) {
+            writeAxioms(ontology, out);
+            out.start(MappedOntologyIndex.HEADER);
+            OWLOntologyID id = ontology.getOntologyID();
+            optionalIRI(id.getOntologyIRI());
+            optionalIRI(id.getVersionIRI());
+            encoder.component(ontology.importsDeclarations().map(i -> i.getIRI()));
+            encoder.component(ontology.annotations());
+            encoder.writeTo(out);
+            encoder.clear();
+            out.start(MappedOntologyIndex.SIGNATURE);
+            List<int[]> lists = Arrays.asList(iris(ontology.classesInSignature()),
+                iris(ontology.objectPropertiesInSignature()),
+                iris(ontology.dataPropertiesInSignature()), iris(ontology.individualsInSignature()),
+                iris(ontology.annotationPropertiesInSignature()),
+                iris(ontology.datatypesInSignature()), ontology.anonymousIndividuals()
+                    .mapToInt(a -> encoder.stringId(a.getID().getID())).toArray());
+            int start = MappedOntologyIndex.SIGNATURE_LISTS + 1;
+            for (int[] list : lists) {
+                out.writeInt(start);
+                start += list.length;
+            }
+            out.writeInt(start);
+            lists.forEach(out::writeInts);
+            out.start(MappedOntologyIndex.PUNNED);
+            out.writeInts(ontology.getPunnedIRIs(Imports.EXCLUDED).stream()
+                .mapToInt(encoder::iriId).toArray());
+            out.start(MappedOntologyIndex.GENERAL_CLASS_AXIOMS);
+            out.writeInts(
+                ontology.generalClassAxioms().mapToInt(this::axiomId).sorted().toArray());
+            out.start(MappedOntologyIndex.INDEX_NAMES);
+            out.writeInts(indexes.keySet().stream().mapToInt(encoder::stringId).toArray());
+            int section = MappedOntologyIndex.FIXED_SECTIONS;
+            for (MapPointer<?, ?> index : indexes.values()) {
+                out.start(section++);
+                writeIndex(index, out);
+            }
+            writeDictionary(out);
+            out.end();
+        }
+        try (RandomAccessFile header = new RandomAccessFile(file, "rw")) {
+            header.write(MappedOntologyIndex.MAGIC.getBytes(StandardCharsets.US_ASCII));
+            header.writeInt(MappedOntologyIndex.VERSION);
+            header.writeInt(sectionCount);
+            for (long l : sections) {
+                header.writeLong(l);
+            }
+        }
+    }
+
+    private static Internals internals(OWLOntology ontology) {
+        if (ontology instanceof OWLImmutableOntologyImpl) {
+            return ((OWLImmutableOntologyImpl) ontology).ints;
+        }
+        // other implementations are indexed through a copy of their axioms
+        Internals ints = new Internals();
+        ontology.axioms().forEach(ints::addAxiom);
+        return ints;
+    }
+
+    private void writeAxioms(OWLOntology ontology, Sections out) throws IOException {
+        int[] types = new int[AxiomType.AXIOM_TYPES.size() + 1];
+        int[] offsets = new int[ontology.getAxiomCount() + 1];
+        long length = 0;
+        out.start(MappedOntologyIndex.AXIOM_DATA);
+        List<AxiomType<?>> axiomTypes = new ArrayList<>(AxiomType.AXIOM_TYPES);
+        axiomTypes.sort(Comparator.comparingInt(AxiomType::getIndex));
+        for (AxiomType<?> type : axiomTypes) {
+            types[type.getIndex()] = axiomIds.size();
+            for (OWLAxiom ax : asList(ontology.axioms(type))) {
+                offsets[axiomIds.size()] = checkSize(length + encoder.size());
+                axiomIds.put(ax, Integer.valueOf(axiomIds.size()));
+                encoder.components(ax);
+                if (encoder.size() > FLUSH_SIZE) {
+                    length += encoder.size();
+                    encoder.writeTo(out);
+                    encoder.clear();
+                }
+            }
+        }
+        types[types.length - 1] = axiomIds.size();
+        offsets[offsets.length - 1] = checkSize(length + encoder.size());
+        encoder.writeTo(out);
+        encoder.clear();
+        out.start(MappedOntologyIndex.AXIOM_TYPES);
+        out.writeInts(types);
+        out.start(MappedOntologyIndex.AXIOM_OFFSETS);
+        out.writeInts(offsets);
+    }
+
+    private <K> void writeIndex(MapPointer<K, ?> index, Sections out) throws IOException {
+        Map<Long, int[]> postings = new TreeMap<>();
+        index.keySet().forEach(k -> {
+            long key = MappedOntologyIndex.key(k, encoder::stringId, encoder::iriId);
+            if (key >= 0) {
+                postings.put(Long.valueOf(key), index.getValuesAsCollection(k).stream()
+                    .mapToInt(this::axiomId).sorted().toArray());
+            }
+        });
+        out.writeInt(postings.size());
+        for (Long key : postings.keySet()) {
+            out.writeLong(key.longValue());
+        }
+        int start = 0;
+        for (int[] list : postings.values()) {
+            out.writeInt(start);
+            start += list.length;
+        }
+        out.writeInt(start);
+        postings.values().forEach(out::writeInts);
+    }
+
+    private void writeDictionary(Sections out) throws IOException {
+        List<String> strings = encoder.getStrings();
+        out.start(MappedOntologyIndex.STRING_DATA);
+        int[] offsets = new int[strings.size() + 1];
+        long length = 0;
+        for (int i = 0; i < strings.size(); i++) {
+            offsets[i] = checkSize(length);
+            byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            out.write(bytes);
+            length += bytes.length;
+        }
+        offsets[strings.size()] = checkSize(length);
+        out.start(MappedOntologyIndex.STRING_OFFSETS);
+        out.writeInts(offsets);
+        out.start(MappedOntologyIndex.STRING_HASH);
+        int[] hash = new int[MappedOntologyIndex.hashTableSize(strings.size())];
+        for (int i = 0; i < strings.size(); i++) {
+            put(hash, strings.get(i).hashCode(), i);
+        }
+        out.writeInts(hash);
+        int iriCount = encoder.getIRICount();
+        int[] iris = new int[iriCount * 2];
+        hash = new int[MappedOntologyIndex.hashTableSize(iriCount)];
+        for (int i = 0; i < iriCount; i++) {
+            iris[2 * i] = encoder.getNamespaceId(i);
+            iris[2 * i + 1] = encoder.getRemainderId(i);
+            put(hash, MappedOntologyIndex.hash(strings.get(iris[2 * i]),
+                strings.get(iris[2 * i + 1])), i);
+        }
+        out.start(MappedOntologyIndex.IRIS);
+        out.writeInts(iris);
+        out.start(MappedOntologyIndex.IRI_HASH);
+        out.writeInts(hash);
+    }
+
+    private static void put(int[] hash, int code, int id) {
+        int mask = hash.length - 1;
+        int slot = code & mask;
+        while (hash[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        hash[slot] = id + 1;
+    }
+
+    private void optionalIRI(Optional<IRI> iri) {
+        encoder.varint(iri.isPresent() ? encoder.iriId(iri.get()) + 1 : 0);
+    }
+
+    private int[] iris(Stream<? extends HasIRI> entities) {
+        return entities.mapToInt(e -> encoder.iriId(e.getIRI())).toArray();
+    }
+
+    private int axiomId(OWLAxiom ax) {
+        return axiomIds.get(ax).intValue();
+    }
+
+    private static int checkSize(long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Ontology index section larger than 2GB");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Output that records the offset and length of each section, in the order the sections are
+     * numbered in the header.
+     */
+    private static class Sections extends DataOutputStream {
+
+        private final long[] sections;
+        private final Position position;
+        private int current = -1;
+
+        Sections(File file, long start, long[] sections) throws IOException {
+            this(new Position(new BufferedOutputStream(new FileOutputStream(file))), sections);
+            write(new byte[(int) start]);
+        }
+
+        private Sections(Position position, long[] sections) {
+            super(position);
+            this.position = position;
+            this.sections = sections;
+        }
+
+        void start(int section) throws IOException {
+            end();
+            current = section;
+            sections[section * 2] = position.position;
+        }
+
+        void end() throws IOException {
+            if (current >= 0) {
+                long length = position.position - sections[current * 2];
+                checkSize(length);
+                sections[current * 2 + 1] = length;
+            }
+            current = -1;
+        }
+
+        void writeInts(int[] values) {
+            try {
+                for (int v : values) {
+                    writeInt(v);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /** Counts the bytes written, beyond the int range of {@link DataOutputStream#size()}. */
+    private static class Position extends FilterOutputStream {
+
+        long position;
+
+        Position(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            position += len;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAnnotationPropertyDomainAxiom;
 import org.semanticweb.owlapi.model.OWLAnnotationPropertyRangeAxiom;
@@ -16,7 +20,7 @@ import org.semanticweb.owlapi.search.Filters;
  * @since 4.0.0
  */
 public abstract class OWLAxiomIndexImpl extends OWLObjectImpl
-    implements OWLAxiomIndex, HasTrimToSize {
+    implements OWLAxiomIndex, HasTrimToSize, HasMaterializeIndexes {
 
     protected final Internals ints = new Internals();
 
@@ -26,6 +30,11 @@ public abstract class OWLAxiomIndexImpl extends OWLObjectImpl
         // ints.trimToSize();
     }
 
+    @Override
+    public Map<String, Long> materializeIndexes(@Nullable ExecutorService executor) {
+        return ints.materializeIndexes(executor);
+    }
+
     @Override
     public Stream<OWLDatatypeDefinitionAxiom> datatypeDefinitions(OWLDatatype datatype) {
         // XXX stream better?
@@ -108,6 +108,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
 import org.semanticweb.owlapi.model.OWLObjectComplementOf;
 import org.semanticweb.owlapi.model.OWLObjectExactCardinality;
@@ -153,6 +154,7 @@ import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
 import org.semanticweb.owlapi.model.providers.ClassProvider;
 import org.semanticweb.owlapi.util.CollectionFactory;
+import org.semanticweb.owlapi.util.StringPool;
 import org.semanticweb.owlapi.util.VersionInfo;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLFacet;
@@ -213,11 +215,18 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     private static final String IRI_CANNOT_BE_NULL = "iri cannot be null";
     private static final String ENTITY_TYPE_CANNOT_BE_NULL = "entityType cannot be null";
     private static final String ANNOTATIONS_CANNOT_BE_NULL = "annotations cannot be null";
-    private final boolean useCompression = false;
-    private transient OWLDataFactoryInternals dataFactoryInternals =
-        new OWLDataFactoryInternalsImpl(useCompression);
+    // true if long lexical forms of literals are stored in the literal pool of this factory
+    private volatile boolean useCompression;
+    // true if equal class expressions, data ranges and axioms are shared
+    private final boolean useInterning;
+    private transient OWLDataFactoryInternalsImplNoCache dataFactoryInternals;
+    // factory returned by withoutInterning(), created on first use
+    @Nullable
+    private transient volatile OWLDataFactoryImpl withoutInterning;
 
     private OWLOntologyLoaderConfiguration config;
+    // can be switched on after construction by the managers using this factory
+    private volatile boolean useIRIDictionary;
 
     /**
      * Constructor for injection
@@ -232,6 +241,17 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
      */
     public OWLDataFactoryImpl(OWLOntologyLoaderConfiguration config) {
         this.config = config;
+        useIRIDictionary = config.shouldUseIRIDictionary();
+        useCompression = config.shouldUseLiteralPool();
+        useInterning = config.shouldInternObjects();
+        dataFactoryInternals = internals();
+    }
+
+    private OWLDataFactoryInternalsImplNoCache internals() {
+        if (useInterning) {
+            return new OWLDataFactoryInternalsImplInterning(useCompression);
+        }
+        return new OWLDataFactoryInternalsImpl(useCompression);
     }
 
     private static void checkAnnotations(Collection<OWLAnnotation> o) {
@@ -240,14 +260,110 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
 
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
-        dataFactoryInternals = new OWLDataFactoryInternalsImpl(useCompression);
+        dataFactoryInternals = internals();
+    }
+
+    /**
+     * @param object newly created object
+     * @param <T> object type
+     * @return the object to return, which is shared with equal objects if the configuration
+     *         requires it
+     */
+    private <T extends OWLObject> T intern(T object) {
+        return dataFactoryInternals.intern(object);
     }
 
+    /**
+     * @param iri IRI for a new entity
+     * @return the IRI to use, which is stored in the IRI dictionary if the configuration requires
+     *         it
+     */
+    private IRI entityIRI(IRI iri) {
+        if (useIRIDictionary) {
+            return IRI.intern(iri);
+        }
+        return iri;
+    }
+
+    /**
+     * Switches IRI dictionary use on or off for entities created from now on. Managers call this
+     * when their configuration asks for the dictionary, since injected factories are built before
+     * the configuration is known. Entities created with and without the dictionary are equal and
+     * can be mixed freely.
+     *
+     * @param value true if entities should be created with IRIs stored in the shared IRI
+     *        dictionary
+     * @see OWLOntologyLoaderConfiguration#withIRIDictionary(boolean)
+     */
+    public void setIRIDictionary(boolean value) {
+        useIRIDictionary = value;
+        OWLDataFactoryImpl plain = withoutInterning;
+        if (plain != null) {
+            plain.setIRIDictionary(value);
+        }
+    }
+
+    /**
+     * Switches the literal pool on or off for literals created from now on. Managers call this when
+     * their configuration asks for the pool, since injected factories are built before the
+     * configuration is known. Literals created with and without the pool are equal and can be mixed
+     * freely.
+     *
+     * @param value true if literals should store long lexical forms in the pool of this factory
+     * @see OWLOntologyLoaderConfiguration#withLiteralPool(boolean)
+     */
+    public void setLiteralPool(boolean value) {
+        useCompression = value;
+        dataFactoryInternals.setLiteralPool(value);
+        OWLDataFactoryImpl plain = withoutInterning;
+        if (plain != null) {
+            plain.setLiteralPool(value);
+        }
+    }
+
+    /**
+     * @return the pool that stores the lexical forms longer than 160 characters of the literals
+     *         created from now on, or null if literals are not pooled
+     */
+    @Nullable
+    public StringPool getLiteralPool() {
+        return dataFactoryInternals.getLiteralPool();
+    }
+
+    /**
+     * Clears the caches and starts a new literal pool; the previous pool is released once the
+     * literals created with it are no longer referenced.
+     */
     @Override
     public void purge() {
         dataFactoryInternals.purge();
     }
 
+    @Override
+    public OWLDataFactory withoutInterning() {
+        if (!useInterning) {
+            return this;
+        }
+        OWLDataFactoryImpl plain = withoutInterning;
+        if (plain == null) {
+            synchronized (this) {
+                plain = withoutInterning;
+                if (plain == null) {
+                    plain = new OWLDataFactoryImpl(config.withInternedObjects(false));
+                    plain.setIRIDictionary(useIRIDictionary);
+                    plain.setLiteralPool(useCompression);
+                    withoutInterning = plain;
+                }
+            }
+        }
+        return plain;
+    }
+
+    @Override
+    public boolean isInterning() {
+        return useInterning;
+    }
+
     @Override
     public <E extends OWLEntity> E getOWLEntity(EntityType<E> entityType, IRI iri) {
         checkNotNull(entityType, ENTITY_TYPE_CANNOT_BE_NULL);
@@ -258,7 +374,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     @Override
     public OWLClass getOWLClass(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLClass(iri);
+        return dataFactoryInternals.getOWLClass(entityIRI(iri));
     }
 
     @Override
@@ -334,19 +450,19 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLObjectProperty(iri);
+        return dataFactoryInternals.getOWLObjectProperty(entityIRI(iri));
     }
 
     @Override
     public OWLDataProperty getOWLDataProperty(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLDataProperty(iri);
+        return dataFactoryInternals.getOWLDataProperty(entityIRI(iri));
     }
 
     @Override
     public OWLNamedIndividual getOWLNamedIndividual(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLNamedIndividual(iri);
+        return dataFactoryInternals.getOWLNamedIndividual(entityIRI(iri));
     }
 
     @Override
@@ -363,7 +479,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     @Override
     public OWLDatatype getOWLDatatype(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLDatatype(iri);
+        return dataFactoryInternals.getOWLDatatype(entityIRI(iri));
     }
 
     @Override
@@ -373,13 +489,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
 
     @Override
     public OWLDataOneOf getOWLDataOneOf(Stream<? extends OWLLiteral> values) {
-        return new OWLDataOneOfImpl(values);
+        return intern(new OWLDataOneOfImpl(values));
     }
 
     @Override
     public OWLDataComplementOf getOWLDataComplementOf(OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataComplementOfImpl(dataRange);
+        return intern(new OWLDataComplementOfImpl(dataRange));
     }
 
     @Override
@@ -397,12 +513,12 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
     @Override
     public OWLDataIntersectionOf getOWLDataIntersectionOf(
         Stream<? extends OWLDataRange> dataRanges) {
-        return new OWLDataIntersectionOfImpl(sortedList(OWLDataRange.class, dataRanges));
+        return intern(new OWLDataIntersectionOfImpl(sortedList(OWLDataRange.class, dataRanges)));
     }
 
     @Override
     public OWLDataUnionOf getOWLDataUnionOf(Stream<? extends OWLDataRange> dataRanges) {
-        return new OWLDataUnionOfImpl(sortedList(OWLDataRange.class, dataRanges));
+        return intern(new OWLDataUnionOfImpl(sortedList(OWLDataRange.class, dataRanges)));
     }
 
     @Override
@@ -410,7 +526,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLFacetRestriction> facetRestrictions) {
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkIterableNotNull(facetRestrictions, "facets", true);
-        return new OWLDatatypeRestrictionImpl(dataType, facetRestrictions);
+        return intern(new OWLDatatypeRestrictionImpl(dataType, facetRestrictions));
     }
 
     @Override
@@ -419,28 +535,29 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataType, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(facet, FACET_CANNOT_BE_NULL);
         checkNotNull(typedLiteral, TYPED_CONSTANT_CANNOT_BE_NULL);
-        return new OWLDatatypeRestrictionImpl(dataType,
-            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral)));
+        return intern(new OWLDatatypeRestrictionImpl(dataType,
+            CollectionFactory.createSet(getOWLFacetRestriction(facet, typedLiteral))));
     }
 
     @Override
     public OWLFacetRestriction getOWLFacetRestriction(OWLFacet facet, OWLLiteral facetValue) {
         checkNotNull(facet, FACET_CANNOT_BE_NULL);
         checkNotNull(facetValue, FACET_VALUE_CANNOT_BE_NULL);
-        return new OWLFacetRestrictionImpl(facet, facetValue);
+        return intern(new OWLFacetRestrictionImpl(facet, facetValue));
     }
 
     @Override
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         Stream<? extends OWLClassExpression> operands) {
-        return new OWLObjectIntersectionOfImpl(sortedList(OWLClassExpression.class, operands));
+        return intern(
+            new OWLObjectIntersectionOfImpl(sortedList(OWLClassExpression.class, operands)));
     }
 
     @Override
     public OWLObjectIntersectionOf getOWLObjectIntersectionOf(
         Collection<? extends OWLClassExpression> operands) {
-        return new OWLObjectIntersectionOfImpl(
-            sortedList(OWLClassExpression.class, operands.stream()));
+        return intern(new OWLObjectIntersectionOfImpl(
+            sortedList(OWLClassExpression.class, operands.stream())));
     }
 
     @Override
@@ -448,7 +565,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataAllValuesFromImpl(property, dataRange);
+        return intern(new OWLDataAllValuesFromImpl(property, dataRange));
     }
 
     @Override
@@ -462,7 +579,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -471,7 +588,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLDataExactCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataExactCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -485,7 +602,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -494,7 +611,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
-        return new OWLDataMaxCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMaxCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -508,7 +625,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype());
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, getTopDatatype()));
     }
 
     @Override
@@ -517,7 +634,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataMinCardinalityImpl(property, cardinality, dataRange);
+        return intern(new OWLDataMinCardinalityImpl(property, cardinality, dataRange));
     }
 
     @Override
@@ -531,7 +648,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataRange dataRange) {
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLDataSomeValuesFromImpl(property, dataRange);
+        return intern(new OWLDataSomeValuesFromImpl(property, dataRange));
     }
 
     @Override
@@ -545,13 +662,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLLiteral value) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
-        return new OWLDataHasValueImpl(property, value);
+        return intern(new OWLDataHasValueImpl(property, value));
     }
 
     @Override
     public OWLObjectComplementOf getOWLObjectComplementOf(OWLClassExpression operand) {
         checkNotNull(operand, "operand");
-        return new OWLObjectComplementOfImpl(operand);
+        return intern(new OWLObjectComplementOfImpl(operand));
     }
 
     @Override
@@ -559,12 +676,12 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectAllValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectAllValuesFromImpl(property, classExpression));
     }
 
     @Override
     public OWLObjectOneOf getOWLObjectOneOf(Stream<? extends OWLIndividual> values) {
-        return new OWLObjectOneOfImpl(values.map(x -> x));
+        return intern(new OWLObjectOneOfImpl(values.map(x -> x)));
     }
 
     @Override
@@ -572,7 +689,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -581,7 +698,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectExactCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectExactCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -589,7 +706,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -598,7 +715,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
-        return new OWLObjectMinCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMinCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
@@ -606,7 +723,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property) {
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, OWL_THING));
     }
 
     @Override
@@ -615,13 +732,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNegative(cardinality, CARDINALITY_CANNOT_BE_NEGATIVE);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression);
+        return intern(new OWLObjectMaxCardinalityImpl(property, cardinality, classExpression));
     }
 
     @Override
     public OWLObjectHasSelf getOWLObjectHasSelf(OWLObjectPropertyExpression property) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectHasSelfImpl(property);
+        return intern(new OWLObjectHasSelfImpl(property));
     }
 
     @Override
@@ -629,7 +746,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLClassExpression classExpression) {
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectSomeValuesFromImpl(property, classExpression);
+        return intern(new OWLObjectSomeValuesFromImpl(property, classExpression));
     }
 
     @Override
@@ -637,17 +754,18 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLIndividual individual) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
-        return new OWLObjectHasValueImpl(property, individual);
+        return intern(new OWLObjectHasValueImpl(property, individual));
     }
 
     @Override
     public OWLObjectUnionOf getOWLObjectUnionOf(Stream<? extends OWLClassExpression> operands) {
-        return new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands));
+        return intern(new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands)));
     }
 
     @Override
     public OWLObjectUnionOf getOWLObjectUnionOf(Collection<? extends OWLClassExpression> operands) {
-        return new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands.stream()));
+        return intern(
+            new OWLObjectUnionOfImpl(sortedList(OWLClassExpression.class, operands.stream())));
     }
 
     @Override
@@ -655,7 +773,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression propertyExpression, Collection<OWLAnnotation> annotations) {
         checkNotNull(propertyExpression, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations);
+        return intern(new OWLAsymmetricObjectPropertyAxiomImpl(propertyExpression, annotations));
     }
 
     @Override
@@ -665,7 +783,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, DOMAIN_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyDomainAxiomImpl(property, domain, annotations);
+        return intern(new OWLDataPropertyDomainAxiomImpl(property, domain, annotations));
     }
 
     @Override
@@ -675,7 +793,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(owlDataRange, OWL_DATA_RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations);
+        return intern(new OWLDataPropertyRangeAxiomImpl(property, owlDataRange, annotations));
     }
 
     @Override
@@ -692,7 +810,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subProperty, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return intern(new OWLSubDataPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Override
@@ -700,7 +818,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkNotNull(owlEntity, OWL_ENTITY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDeclarationAxiomImpl(owlEntity, annotations);
+        return intern(new OWLDeclarationAxiomImpl(owlEntity, annotations));
     }
 
     @Override
@@ -708,8 +826,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<? extends OWLIndividual> individuals, Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(individuals, INDIVIDUALS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDifferentIndividualsAxiomImpl(
-            sortedList(OWLIndividual.class, individuals.stream()), annotations);
+        return intern(new OWLDifferentIndividualsAxiomImpl(
+            sortedList(OWLIndividual.class, individuals.stream()), annotations));
     }
 
     @Override
@@ -740,7 +858,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
                 makeSingletonDisjoinClassWarningAnnotation(annotations, classExpression,
                     OWL_THING));
         }
-        return new OWLDisjointClassesAxiomImpl(sortedList, annotations);
+        return intern(new OWLDisjointClassesAxiomImpl(sortedList, annotations));
     }
 
     protected Set<OWLAnnotation> makeSingletonDisjoinClassWarningAnnotation(
@@ -767,8 +885,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDisjointDataPropertiesAxiomImpl(
-            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations);
+        return intern(new OWLDisjointDataPropertiesAxiomImpl(
+            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -777,8 +895,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLDisjointObjectPropertiesAxiomImpl(
-            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations);
+        return intern(new OWLDisjointObjectPropertiesAxiomImpl(
+            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -787,8 +905,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(classExpressions, CLASS_EXPRESSIONS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentClassesAxiomImpl(
-            sortedList(OWLClassExpression.class, classExpressions.stream()), annotations);
+        return intern(new OWLEquivalentClassesAxiomImpl(
+            sortedList(OWLClassExpression.class, classExpressions.stream()), annotations));
     }
 
     @Override
@@ -797,8 +915,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentDataPropertiesAxiomImpl(
-            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations);
+        return intern(new OWLEquivalentDataPropertiesAxiomImpl(
+            sortedList(OWLDataPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -806,7 +924,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLDataPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalDataPropertyAxiomImpl(property, annotations);
+        return intern(new OWLFunctionalDataPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -814,7 +932,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -831,7 +949,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations);
+        return intern(
+            new OWLDataPropertyAssertionAxiomImpl(subject, property, object, annotations));
     }
 
     @Override
@@ -842,8 +961,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return intern(new OWLNegativeDataPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Override
@@ -854,8 +973,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkNotNull(subject, SUBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
-            annotations);
+        return intern(new OWLNegativeObjectPropertyAssertionAxiomImpl(subject, property, object,
+            annotations));
     }
 
     @Override
@@ -864,7 +983,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLClassAssertionAxiomImpl(individual, classExpression, annotations);
+        return intern(new OWLClassAssertionAxiomImpl(individual, classExpression, annotations));
     }
 
     @Override
@@ -872,7 +991,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLInverseFunctionalObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -880,7 +999,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLIrreflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -890,7 +1009,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(classExpression, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations);
+        return intern(new OWLObjectPropertyDomainAxiomImpl(property, classExpression, annotations));
     }
 
     @Override
@@ -900,7 +1019,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyRangeAxiomImpl(property, range, annotations);
+        return intern(new OWLObjectPropertyRangeAxiomImpl(property, range, annotations));
     }
 
     @Override
@@ -910,7 +1029,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subProperty, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations);
+        return intern(new OWLSubObjectPropertyOfAxiomImpl(subProperty, superProperty, annotations));
     }
 
     @Override
@@ -918,7 +1037,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLReflexiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLReflexiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -926,8 +1045,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<? extends OWLIndividual> individuals, Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(individuals, INDIVIDUALS_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLSameIndividualAxiomImpl(sortedList(OWLIndividual.class, individuals.stream()),
-            annotations);
+        return intern(new OWLSameIndividualAxiomImpl(
+            sortedList(OWLIndividual.class, individuals.stream()), annotations));
     }
 
     @Override
@@ -936,7 +1055,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(subClass, SUBCLASS_CANNOT_BE_NULL);
         checkNotNull(superClass, SUPERCLASS_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubClassOfAxiomImpl(subClass, superClass, annotations);
+        return intern(new OWLSubClassOfAxiomImpl(subClass, superClass, annotations));
     }
 
     @Override
@@ -944,7 +1063,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSymmetricObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLSymmetricObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
@@ -952,13 +1071,13 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         OWLObjectPropertyExpression property, Collection<OWLAnnotation> annotations) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLTransitiveObjectPropertyAxiomImpl(property, annotations);
+        return intern(new OWLTransitiveObjectPropertyAxiomImpl(property, annotations));
     }
 
     @Override
     public OWLObjectInverseOf getOWLObjectInverseOf(OWLObjectProperty property) {
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
-        return new OWLObjectInverseOfImpl(property);
+        return intern(new OWLObjectInverseOfImpl(property));
     }
 
     @Override
@@ -968,8 +1087,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(forwardProperty, FORWARD_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(inverseProperty, INVERSE_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
-            annotations);
+        return intern(new OWLInverseObjectPropertiesAxiomImpl(forwardProperty, inverseProperty,
+            annotations));
     }
 
     @Override
@@ -979,7 +1098,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(superProperty, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkIterableNotNull(chain, CHAIN_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations);
+        return intern(new OWLSubPropertyChainAxiomImpl(chain, superProperty, annotations));
     }
 
     @Override
@@ -989,7 +1108,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(ce, CLASS_EXPRESSION_CANNOT_BE_NULL);
         checkIterableNotNull(objectProperties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLHasKeyAxiomImpl(ce, objectProperties, annotations);
+        return intern(new OWLHasKeyAxiomImpl(ce, objectProperties, annotations));
     }
 
     @Override
@@ -998,8 +1117,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkNotNull(owlClass, OWL_CLASS_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDisjointUnionAxiomImpl(owlClass,
-            sortedList(OWLClassExpression.class, classExpressions), annotations);
+        return intern(new OWLDisjointUnionAxiomImpl(owlClass,
+            sortedList(OWLClassExpression.class, classExpressions), annotations));
     }
 
     @Override
@@ -1008,8 +1127,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         Collection<OWLAnnotation> annotations) {
         checkIterableNotNull(properties, PROPERTIES_CANNOT_BE_NULL, true);
         checkAnnotations(annotations);
-        return new OWLEquivalentObjectPropertiesAxiomImpl(
-            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations);
+        return intern(new OWLEquivalentObjectPropertiesAxiomImpl(
+            sortedList(OWLObjectPropertyExpression.class, properties.stream()), annotations));
     }
 
     @Override
@@ -1020,7 +1139,8 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(individual, INDIVIDUAL_CANNOT_BE_NULL);
         checkNotNull(object, OBJECT_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations);
+        return intern(
+            new OWLObjectPropertyAssertionAxiomImpl(individual, property, object, annotations));
     }
 
     @Override
@@ -1030,14 +1150,14 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(sub, SUB_PROPERTY_CANNOT_BE_NULL);
         checkNotNull(sup, SUPER_PROPERTY_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations);
+        return intern(new OWLSubAnnotationPropertyOfAxiomImpl(sub, sup, annotations));
     }
 
     // Annotations
     @Override
     public OWLAnnotationProperty getOWLAnnotationProperty(IRI iri) {
         checkNotNull(iri, IRI_CANNOT_BE_NULL);
-        return dataFactoryInternals.getOWLAnnotationProperty(iri);
+        return dataFactoryInternals.getOWLAnnotationProperty(entityIRI(iri));
     }
 
     @Override
@@ -1079,7 +1199,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(property, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(value, VALUE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations);
+        return intern(new OWLAnnotationAssertionAxiomImpl(subject, property, value, annotations));
     }
 
     @Override
@@ -1094,7 +1214,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(domain, DOMAIN_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations);
+        return intern(new OWLAnnotationPropertyDomainAxiomImpl(prop, domain, annotations));
     }
 
     @Override
@@ -1103,7 +1223,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(prop, PROPERTY_CANNOT_BE_NULL);
         checkNotNull(range, RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations);
+        return intern(new OWLAnnotationPropertyRangeAxiomImpl(prop, range, annotations));
     }
 
     // SWRL
@@ -1210,7 +1330,7 @@ public class OWLDataFactoryImpl implements OWLDataFactory, Serializable, ClassPr
         checkNotNull(datatype, DATATYPE_CANNOT_BE_NULL);
         checkNotNull(dataRange, DATA_RANGE_CANNOT_BE_NULL);
         checkAnnotations(annotations);
-        return new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations);
+        return intern(new OWLDatatypeDefinitionAxiomImpl(datatype, dataRange, annotations));
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
 /**
@@ -126,4 +127,11 @@ public interface OWLDataFactoryInternals extends Serializable {
      */
     OWLAnnotation getOWLAnnotation(OWLAnnotationProperty property, OWLAnnotationValue value,
         Stream<OWLAnnotation> annotations);
+
+    /**
+     * @param object newly created class expression, property expression, data range or axiom
+     * @param <T> object type
+     * @return the argument, or an equal object created earlier depending on policies
+     */
+    <T extends OWLObject> T intern(T object);
 }
@@ -52,7 +52,7 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
     private static final LoadingCache<IRI, OWLNamedIndividual>      individuals =          builder(OWLNamedIndividualImpl::new);
     //@formatter:on
     /**
-     * @param useCompression true if literals should be compressed
+     * @param useCompression true if literals should store long lexical forms in a pool
      */
     public OWLDataFactoryInternalsImpl(boolean useCompression) {
         super(useCompression);
@@ -78,6 +78,7 @@ public class OWLDataFactoryInternalsImpl extends OWLDataFactoryInternalsImplNoCa
 
     @Override
     public void purge() {
+        super.purge();
         classes.invalidateAll();
         objectProperties.invalidateAll();
         dataProperties.invalidateAll();
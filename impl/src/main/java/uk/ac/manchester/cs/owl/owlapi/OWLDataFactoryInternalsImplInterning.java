@@ -0,0 +1,49 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import org.semanticweb.owlapi.model.OWLObject;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Caches entities and annotations as {@link OWLDataFactoryInternalsImpl} does, and also shares
+ * equal class expressions, property expressions, data ranges and axioms: the factory returns the
+ * instance created first for as long as it is referenced. Ontologies that repeat the same
+ * restrictions many times, e.g., {@code part_of some X} in anatomy ontologies, then hold one
+ * object per distinct expression, and comparing shared objects stops at the identity check.
+ * <p>
+ * Each factory has its own table, which holds its objects through weak references and is split in
+ * segments that are locked independently, so that concurrent parsers do not contend on a single
+ * lock.
+ */
+public class OWLDataFactoryInternalsImplInterning extends OWLDataFactoryInternalsImpl {
+
+    private final Interner<OWLObject> objects = Interners.newBuilder().weak()
+        .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors() * 4)).build();
+
+    /**
+     * @param useCompression true if literals should store long lexical forms in a pool
+     */
+    public OWLDataFactoryInternalsImplInterning(boolean useCompression) {
+        super(useCompression);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OWLObject> T intern(T object) {
+        // only objects created by the data factory are stored, and equal ones share a class
+        return (T) objects.intern(object);
+    }
+}
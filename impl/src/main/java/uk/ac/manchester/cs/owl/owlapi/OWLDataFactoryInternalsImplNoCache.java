@@ -34,7 +34,9 @@ import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.util.StringPool;
 
 /**
  * No cache used.
@@ -43,19 +45,50 @@ import org.semanticweb.owlapi.model.OWLObjectProperty;
  */
 public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInternals {
 
-    private final boolean useCompression;
+    // pool for the long lexical forms of literals created from now on; null if not pooling
+    @Nullable
+    private volatile StringPool literalPool;
     private final OWLLiteral negativeFloatZero = getBasicLiteral("-0.0", XSDFLOAT);
 
     /**
-     * @param useCompression true if compression of literals should be used
+     * @param useCompression true if literals should store long lexical forms in a pool
      */
     public OWLDataFactoryInternalsImplNoCache(boolean useCompression) {
-        this.useCompression = useCompression;
+        setLiteralPool(useCompression);
     }
 
+    /**
+     * Switches the literal pool on or off for literals created from now on. Literals created
+     * earlier keep their lexical forms where they are.
+     *
+     * @param value true if literals should store long lexical forms in a pool
+     */
+    public void setLiteralPool(boolean value) {
+        if (!value) {
+            literalPool = null;
+        } else if (literalPool == null) {
+            literalPool = new StringPool();
+        }
+    }
+
+    /**
+     * @return the pool for long lexical forms of literals created from now on, or null if
+     *         literals are not pooled
+     */
+    @Nullable
+    public StringPool getLiteralPool() {
+        return literalPool;
+    }
+
+    /**
+     * Starts a new literal pool, if literals are pooled. The current pool is released once the
+     * literals created with it are no longer referenced.
+     */
     @Override
     public void purge() {
-        // nothing to purge
+        if (literalPool != null) {
+            literalPool = new StringPool();
+        }
     }
 
     @Override
@@ -63,6 +96,11 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         return new OWLClassImpl(iri);
     }
 
+    @Override
+    public <T extends OWLObject> T intern(T object) {
+        return object;
+    }
+
     @Override
     public OWLObjectProperty getOWLObjectProperty(IRI iri) {
         return new OWLObjectPropertyImpl(iri);
@@ -95,8 +133,9 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
 
     @Override
     public OWLLiteral getOWLLiteral(String value) {
-        if (useCompression) {
-            return new OWLLiteralImpl(value, "", XSDSTRING);
+        StringPool pool = literalPool;
+        if (pool != null) {
+            return new OWLLiteralImpl(value, "", XSDSTRING, pool);
         }
         return new OWLLiteralImplString(value);
     }
@@ -109,14 +148,15 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
         } else {
             normalisedLang = lang.trim().toLowerCase(Locale.ENGLISH);
         }
+        StringPool pool = literalPool;
         if (normalisedLang.isEmpty()) {
-            if (useCompression) {
-                return new OWLLiteralImpl(literal, null, XSDSTRING);
+            if (pool != null) {
+                return new OWLLiteralImpl(literal, null, XSDSTRING, pool);
             }
             return new OWLLiteralImplString(literal);
         } else {
-            if (useCompression) {
-                return new OWLLiteralImpl(literal, normalisedLang, null);
+            if (pool != null) {
+                return new OWLLiteralImpl(literal, normalisedLang, null, pool);
             }
             return new OWLLiteralImplPlain(literal, normalisedLang);
         }
@@ -244,11 +284,12 @@ public class OWLDataFactoryInternalsImplNoCache implements OWLDataFactoryInterna
 
     protected OWLLiteral getBasicLiteral(String lexicalValue, String lang,
         @Nullable OWLDatatype datatype) {
-        if (useCompression) {
+        StringPool pool = literalPool;
+        if (pool != null) {
             if (datatype == null || datatype.isRDFPlainLiteral() || datatype.equals(LANGSTRING)) {
                 return new OWLLiteralImplPlain(lexicalValue, lang);
             }
-            return new OWLLiteralImpl(lexicalValue, lang, datatype);
+            return new OWLLiteralImpl(lexicalValue, lang, datatype, pool);
         }
         return new OWLLiteralImplNoCompression(lexicalValue, lang, datatype);
     }
@@ -72,6 +72,7 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyID;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLPrimitive;
@@ -102,6 +103,19 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     protected static LoadingCache<OWLImmutableOntologyImpl, List<OWLAnnotationProperty>> ontannotationPropertiesSignatures = build(key -> asList(Stream.concat(key.ints.get(OWLAnnotationProperty.class, OWLAxiom.class, Navigation.IN_SUB_POSITION).get().keySet(),key.ints.getOntologyAnnotations().flatMap(HasAnnotationPropertiesInSignature::annotationPropertiesInSignature)).distinct().sorted()));
     // @formatter:on
     protected static void invalidateOntologyCaches(OWLImmutableOntologyImpl o) {
+        invalidateOntologyCaches(o, null);
+    }
+
+    /**
+     * Invalidates the caches of an ontology after a change, and lets the manager update the views
+     * of the imports closures that include the ontology.
+     *
+     * @param o changed ontology
+     * @param change the change; if null, or not an axiom change, the views are rebuilt when next
+     *        used
+     */
+    protected static void invalidateOntologyCaches(OWLImmutableOntologyImpl o,
+        @Nullable OWLOntologyChange change) {
         ontsignatures.invalidate(o);
         ontanonCaches.invalidate(o);
         ontclassesSignatures.invalidate(o);
@@ -110,6 +124,10 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         ontdatatypeSignatures.invalidate(o);
         ontindividualSignatures.invalidate(o);
         ontannotationPropertiesSignatures.invalidate(o);
+        OWLOntologyManager m = o.manager;
+        if (m instanceof OWLOntologyManagerImpl) {
+            ((OWLOntologyManagerImpl) m).ontologyChanged(o, change);
+        }
     }
 
     private static Set<OWLEntity> build(OWLImmutableOntologyImpl key) {
@@ -233,12 +251,34 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public <T extends OWLAxiom> int getAxiomCount(AxiomType<T> axiomType, Imports imports) {
-        return imports.stream(this).mapToInt(o -> o.getAxiomCount(axiomType)).sum();
+        return closure(imports).mapToInt(o -> o.getAxiomCount(axiomType)).sum();
     }
 
     @Override
     public int getAxiomCount(Imports imports) {
-        return imports.stream(this).mapToInt(OWLAxiomCollection::getAxiomCount).sum();
+        return closure(imports).mapToInt(OWLAxiomCollection::getAxiomCount).sum();
+    }
+
+    /**
+     * @param imports imports to include
+     * @return the view of the imports closure kept by the manager, or null if the imports are
+     *         excluded or the manager keeps no views
+     */
+    @Nullable
+    private ImportsClosureView closureView(Imports imports) {
+        OWLOntologyManager m = manager;
+        if (imports == EXCLUDED || !(m instanceof OWLOntologyManagerImpl)) {
+            return null;
+        }
+        return ((OWLOntologyManagerImpl) m).importsClosureView(this);
+    }
+
+    private Stream<OWLOntology> closure(Imports imports) {
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this);
+        }
+        return view.members();
     }
 
     @Override
@@ -258,7 +298,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public int getLogicalAxiomCount(Imports imports) {
-        return imports.stream(this).mapToInt(OWLAxiomCollection::getLogicalAxiomCount).sum();
+        return closure(imports).mapToInt(OWLAxiomCollection::getLogicalAxiomCount).sum();
     }
 
     @Override
@@ -279,7 +319,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     @Override
     public boolean containsAxiom(OWLAxiom axiom, Imports imports,
         AxiomAnnotations ignoreAnnotations) {
-        return imports.stream(this).anyMatch(o -> ignoreAnnotations.contains(o, axiom));
+        return closure(imports).anyMatch(o -> ignoreAnnotations.contains(o, axiom));
     }
 
     @Override
@@ -298,22 +338,34 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public Stream<OWLAxiom> axiomsIgnoreAnnotations(OWLAxiom axiom, Imports imports) {
-        return imports.stream(this).flatMap(o -> o.axiomsIgnoreAnnotations(axiom));
+        return closure(imports).flatMap(o -> o.axiomsIgnoreAnnotations(axiom));
     }
 
     @Override
     public boolean containsClassInSignature(IRI iri, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.containsClassInSignature(iri));
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this).anyMatch(o -> o.containsClassInSignature(iri));
+        }
+        return view.contains(df.getOWLClass(iri));
     }
 
     @Override
     public boolean containsObjectPropertyInSignature(IRI iri, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.containsObjectPropertyInSignature(iri));
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this).anyMatch(o -> o.containsObjectPropertyInSignature(iri));
+        }
+        return view.contains(df.getOWLObjectProperty(iri));
     }
 
     @Override
     public boolean containsDataPropertyInSignature(IRI iri, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.containsDataPropertyInSignature(iri));
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this).anyMatch(o -> o.containsDataPropertyInSignature(iri));
+        }
+        return view.contains(df.getOWLDataProperty(iri));
     }
 
     @Override
@@ -332,12 +384,20 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public boolean containsIndividualInSignature(IRI iri, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.containsIndividualInSignature(iri));
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this).anyMatch(o -> o.containsIndividualInSignature(iri));
+        }
+        return view.contains(df.getOWLNamedIndividual(iri));
     }
 
     @Override
     public boolean containsDatatypeInSignature(IRI iri, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.containsDatatypeInSignature(iri));
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return imports.stream(this).anyMatch(o -> o.containsDatatypeInSignature(iri));
+        }
+        return view.contains(df.getOWLDatatype(iri));
     }
 
     @Override
@@ -410,6 +470,58 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
         return streamFromSorted(ontsignatures.get(this));
     }
 
+    @Override
+    public Stream<OWLEntity> signature(Imports imports) {
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return OWLOntology.super.signature(imports);
+        }
+        return view.signature();
+    }
+
+    @Override
+    public Stream<OWLClass> classesInSignature(Imports imports) {
+        return signature(imports, EntityType.CLASS, OWLOntology.super::classesInSignature);
+    }
+
+    @Override
+    public Stream<OWLObjectProperty> objectPropertiesInSignature(Imports imports) {
+        return signature(imports, EntityType.OBJECT_PROPERTY,
+            OWLOntology.super::objectPropertiesInSignature);
+    }
+
+    @Override
+    public Stream<OWLDataProperty> dataPropertiesInSignature(Imports imports) {
+        return signature(imports, EntityType.DATA_PROPERTY,
+            OWLOntology.super::dataPropertiesInSignature);
+    }
+
+    @Override
+    public Stream<OWLNamedIndividual> individualsInSignature(Imports imports) {
+        return signature(imports, EntityType.NAMED_INDIVIDUAL,
+            OWLOntology.super::individualsInSignature);
+    }
+
+    @Override
+    public Stream<OWLDatatype> datatypesInSignature(Imports imports) {
+        return signature(imports, EntityType.DATATYPE, OWLOntology.super::datatypesInSignature);
+    }
+
+    @Override
+    public Stream<OWLAnnotationProperty> annotationPropertiesInSignature(Imports imports) {
+        return signature(imports, EntityType.ANNOTATION_PROPERTY,
+            OWLOntology.super::annotationPropertiesInSignature);
+    }
+
+    private <T extends OWLEntity> Stream<T> signature(Imports imports, EntityType<T> type,
+        Function<Imports, Stream<T>> withoutView) {
+        ImportsClosureView view = closureView(imports);
+        if (view == null) {
+            return withoutView.apply(imports);
+        }
+        return view.signature(type);
+    }
+
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
         return streamFromSorted(ontanonCaches.get(this));
@@ -666,7 +778,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
     @Override
     public <T extends OWLAxiom> Stream<T> axioms(OWLAxiomSearchFilter filter, Object key,
         Imports imports) {
-        return imports.stream(this).flatMap(o -> (Stream<T>) o.axioms(filter, key));
+        return closure(imports).flatMap(o -> (Stream<T>) o.axioms(filter, key));
     }
 
     @SuppressWarnings("unchecked")
@@ -683,7 +795,7 @@ public class OWLImmutableOntologyImpl extends OWLAxiomIndexImpl
 
     @Override
     public boolean contains(OWLAxiomSearchFilter filter, Object key, Imports imports) {
-        return imports.stream(this).anyMatch(o -> o.contains(filter, key));
+        return closure(imports).anyMatch(o -> o.contains(filter, key));
     }
 
     @Override
@@ -15,17 +15,10 @@ package uk.ac.manchester.cs.owl.owlapi;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.Reader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.io.Writer;
-import java.util.Arrays;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import javax.annotation.Nullable;
 
@@ -33,11 +26,14 @@ import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.util.StringPool;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
 /**
- * Implementation of {@link OWLLiteral} that uses compression of strings. See also
- * {@link OWLLiteralImplNoCompression}
+ * Implementation of {@link OWLLiteral} that can store long lexical forms once, in the pool of the
+ * data factory that creates it, so that definitions and comments repeated across ontologies are
+ * not duplicated. Literals with lexical forms in the same pool are hashed and compared without
+ * decoding them. See also {@link OWLLiteralImplNoCompression}
  *
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
  * @since 2.0.0
@@ -50,6 +46,7 @@ public class OWLLiteralImpl extends OWLObjectImpl implements OWLLiteral {
     private static final OWLDatatype RDF_LANG_STRING =
         new OWL2DatatypeImpl(OWL2Datatype.RDF_LANG_STRING);
     private static final OWLDatatype XSD_STRING = new OWL2DatatypeImpl(OWL2Datatype.XSD_STRING);
+
     private final LiteralWrapper literal;
     private final OWLDatatype datatype;
     private final String language;
@@ -62,7 +59,21 @@ public class OWLLiteralImpl extends OWLObjectImpl implements OWLLiteral {
      *                 be RDFPlainLiteral
      */
     public OWLLiteralImpl(String literal, @Nullable String lang, @Nullable OWLDatatype datatype) {
-        this.literal = new LiteralWrapper(checkNotNull(literal, "literal cannot be null"));
+        this(literal, lang, datatype, null);
+    }
+
+    /**
+     * @param literal  the lexical form
+     * @param lang     the language tag; can be null or an empty string, in which case datatype can
+     *                 be any datatype but not null
+     * @param datatype the datatype; if lang is null or the empty string, it can be null or it MUST
+     *                 be RDFPlainLiteral
+     * @param pool     the pool for lexical forms longer than 160 characters; if null, the lexical
+     *                 form is kept as is
+     */
+    public OWLLiteralImpl(String literal, @Nullable String lang, @Nullable OWLDatatype datatype,
+        @Nullable StringPool pool) {
+        this.literal = new LiteralWrapper(checkNotNull(literal, "literal cannot be null"), pool);
         if (lang == null || lang.isEmpty()) {
             language = "";
             if (datatype == null || datatype.equals(RDF_PLAIN_LITERAL)
@@ -169,73 +180,80 @@ public class OWLLiteralImpl extends OWLObjectImpl implements OWLLiteral {
         return OWLObject.hashIteration(hash, getLang().hashCode());
     }
 
-
     private int specificHash() {
-        if (literal.l != null) {
-            return literal.l.hashCode();
+        StringPool pool = literal.pool;
+        if (pool != null) {
+            return pool.hash(literal.id);
+        }
+        return verifyNotNull(literal.l).hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (obj == this) {
+            return true;
         }
-        return Arrays.hashCode(literal.bytes);
+        if (obj instanceof OWLLiteralImpl) {
+            OWLLiteralImpl other = (OWLLiteralImpl) obj;
+            return hashCode() == other.hashCode() && literal.sameAs(other.literal)
+                && datatype.equals(other.datatype) && language.equals(other.language);
+        }
+        return super.equals(obj);
     }
 
     // Literal Wrapper
     private static class LiteralWrapper implements Serializable {
 
-        private static final String COMPRESSED_ENCODING = "UTF-16";
+        // the lexical form, if it is kept here; otherwise, its id in the pool
         @Nullable
-        String l;
+        transient String l;
+        transient int id;
         @Nullable
-        byte[] bytes;
-
-        LiteralWrapper(String s) {
-            if (s.length() > COMPRESSION_LIMIT) {
-                try {
-                    bytes = compress(s);
-                    l = null;
-                } catch (@SuppressWarnings("unused") IOException e) {
-                    // some problem happened - defaulting to no compression
-                    l = s;
-                    bytes = null;
-                }
+        transient StringPool pool;
+
+        LiteralWrapper(String s, @Nullable StringPool pool) {
+            init(s, pool);
+        }
+
+        private void init(String s, @Nullable StringPool p) {
+            if (p != null && s.length() > COMPRESSION_LIMIT) {
+                id = p.intern(s);
+                l = null;
+                pool = p;
             } else {
-                bytes = null;
                 l = s;
+                id = -1;
+                pool = null;
             }
         }
 
-        static byte[] compress(String s) throws IOException {
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            GZIPOutputStream zipout = new GZIPOutputStream(out);
-            Writer writer = new OutputStreamWriter(zipout, COMPRESSED_ENCODING);
-            writer.write(s);
-            writer.flush();
-            zipout.finish();
-            zipout.flush();
-            return out.toByteArray();
+        String get() {
+            StringPool p = pool;
+            if (p != null) {
+                return p.get(id);
+            }
+            return verifyNotNull(l);
         }
 
-        static String decompress(byte[] result) throws IOException {
-            ByteArrayInputStream in = new ByteArrayInputStream(result);
-            GZIPInputStream zipin = new GZIPInputStream(in);
-            Reader reader = new InputStreamReader(zipin, COMPRESSED_ENCODING);
-            StringBuilder b = new StringBuilder();
-            int c = reader.read();
-            while (c > -1) {
-                b.append((char) c);
-                c = reader.read();
+        boolean sameAs(LiteralWrapper other) {
+            StringPool p = pool;
+            if (p != null && p == other.pool) {
+                // lexical forms in the same pool are equal if and only if their ids are
+                return id == other.id;
             }
-            return b.toString();
+            return get().equals(other.get());
         }
 
-        String get() {
-            if (l != null) {
-                return verifyNotNull(l);
-            }
-            try {
-                return decompress(verifyNotNull(bytes));
-            } catch (IOException e) {
-                // some problem has happened - cannot recover from this
-                throw new OWLRuntimeException(e);
-            }
+        private void writeObject(ObjectOutputStream stream) throws IOException {
+            stream.defaultWriteObject();
+            // pool ids are only valid in this JVM; the lexical form is read back unpooled
+            stream.writeObject(get());
+        }
+
+        private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            init((String) verifyNotNull(stream.readObject()), null);
         }
     }
 }
@@ -13,19 +13,19 @@
 package uk.ac.manchester.cs.owl.owlapi;
 
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
-import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.compareIterators;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.equalStreams;
-import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.streamFromSorted;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -60,16 +60,17 @@ public abstract class OWLObjectImpl
      */
     protected static final Set<OWLAnnotation> NO_ANNOTATIONS = Collections.emptySet();
 
-    // @formatter:off
-    protected static LoadingCache<OWLObjectImpl, Set<OWLEntity>>              signatures =                      build(key -> key.addSignatureEntitiesToSet(new TreeSet<>()));
-    protected static LoadingCache<OWLObjectImpl, Set<OWLAnonymousIndividual>> anonCaches =                      build(key -> key.addAnonymousIndividualsToSet(new TreeSet<>()));
-    protected static LoadingCache<OWLObjectImpl, List<OWLClass>>              classesSignatures =               build(key -> cacheSig(key, OWLEntity::isOWLClass,               OWLEntity::asOWLClass));
-    protected static LoadingCache<OWLObjectImpl, List<OWLDataProperty>>       dataPropertySignatures =          build(key -> cacheSig(key, OWLEntity::isOWLDataProperty,        OWLEntity::asOWLDataProperty));
-    protected static LoadingCache<OWLObjectImpl, List<OWLObjectProperty>>     objectPropertySignatures =        build(key -> cacheSig(key, OWLEntity::isOWLObjectProperty,      OWLEntity::asOWLObjectProperty));
-    protected static LoadingCache<OWLObjectImpl, List<OWLDatatype>>           datatypeSignatures =              build(key -> cacheSig(key, OWLEntity::isOWLDatatype,            OWLEntity::asOWLDatatype));
-    protected static LoadingCache<OWLObjectImpl, List<OWLNamedIndividual>>    individualSignatures =            build(key -> cacheSig(key, OWLEntity::isOWLNamedIndividual,     OWLEntity::asOWLNamedIndividual));
-    protected static LoadingCache<OWLObjectImpl, List<OWLAnnotationProperty>> annotationPropertiesSignatures =  build(key -> cacheSig(key, OWLEntity::isOWLAnnotationProperty,  OWLEntity::asOWLAnnotationProperty));
-    // @formatter:on
+    private static final OWLObject[] NO_SIGNATURE = {};
+    // type indexes of the entity types, as returned by typeIndex()
+    private static final int CLASS_TYPE = 1001;
+    private static final int OBJECT_PROPERTY_TYPE = 1002;
+    private static final int DATA_PROPERTY_TYPE = 1004;
+    private static final int INDIVIDUAL_TYPE = 1005;
+    private static final int ANNOTATION_PROPERTY_TYPE = 1006;
+    private static final int DATATYPE_TYPE = 4001;
+    private static final int SIGNATURE_CHARACTERISTICS = Spliterator.DISTINCT
+        | Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.SORTED | Spliterator.ORDERED;
+
     static <Q, T> LoadingCache<Q, T> build(CacheLoader<Q, T> c) {
         return Caffeine.newBuilder().weakKeys().maximumSize(size()).build(c);
     }
@@ -79,55 +80,129 @@ public abstract class OWLObjectImpl
             .longValue();
     }
 
-    static <T> List<T> cacheSig(OWLObject o, Predicate<OWLEntity> p, Function<OWLEntity, T> f) {
-        return asList(o.signature().filter(p).map(f));
+    protected int hashCode = 0;
+    /**
+     * Entities in the signature, sorted, followed by the anonymous individuals, sorted; built on
+     * first use. Since entities are sorted by type first, the entities of each type are a range of
+     * the array.
+     */
+    @Nullable
+    private transient volatile OWLObject[] signature;
+
+    private OWLObject[] sortedSignature() {
+        OWLObject[] s = signature;
+        if (s == null) {
+            s = buildSignature();
+            // racing threads build equal arrays, so the last write wins harmlessly
+            signature = s;
+        }
+        return s;
     }
 
-    protected int hashCode = 0;
+    private OWLObject[] buildSignature() {
+        Set<OWLEntity> entities = addSignatureEntitiesToSet(new HashSet<>());
+        Set<OWLAnonymousIndividual> anons = addAnonymousIndividualsToSet(new HashSet<>());
+        if (entities.isEmpty() && anons.isEmpty()) {
+            return NO_SIGNATURE;
+        }
+        OWLObject[] s = new OWLObject[entities.size() + anons.size()];
+        int i = 0;
+        for (OWLEntity e : entities) {
+            s[i++] = e;
+        }
+        for (OWLAnonymousIndividual a : anons) {
+            s[i++] = a;
+        }
+        Arrays.sort(s, 0, entities.size());
+        Arrays.sort(s, entities.size(), s.length);
+        return s;
+    }
+
+    private static int entityCount(OWLObject[] s) {
+        int end = s.length;
+        while (end > 0 && s[end - 1] instanceof OWLAnonymousIndividual) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @param s sorted signature
+     * @param end end of the entities in the signature
+     * @param typeIndex type index
+     * @return index of the first entity whose type index is not smaller than typeIndex
+     */
+    private static int firstOfType(OWLObject[] s, int end, int typeIndex) {
+        int low = 0;
+        int high = end;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (s[mid].typeIndex() < typeIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <T> Stream<T> range(OWLObject[] s, int from, int to) {
+        return StreamSupport
+            .stream(Spliterators.<T>spliterator(s, from, to, SIGNATURE_CHARACTERISTICS), false);
+    }
+
+    private <T> Stream<T> entitiesOfType(int typeIndex) {
+        OWLObject[] s = sortedSignature();
+        int end = entityCount(s);
+        return range(s, firstOfType(s, end, typeIndex), firstOfType(s, end, typeIndex + 1));
+    }
 
     @Override
     public Stream<OWLAnonymousIndividual> anonymousIndividuals() {
-        return anonCaches.get(this).stream();
+        OWLObject[] s = sortedSignature();
+        return range(s, entityCount(s), s.length);
     }
 
     @Override
     public Stream<OWLEntity> signature() {
-        return signatures.get(this).stream();
+        OWLObject[] s = sortedSignature();
+        return range(s, 0, entityCount(s));
     }
 
     @Override
     public boolean containsEntityInSignature(OWLEntity owlEntity) {
-        return signatures.get(this).contains(owlEntity);
+        OWLObject[] s = sortedSignature();
+        return Arrays.binarySearch(s, 0, entityCount(s), owlEntity) >= 0;
     }
 
     @Override
     public Stream<OWLClass> classesInSignature() {
-        return streamFromSorted(classesSignatures.get(this));
+        return entitiesOfType(CLASS_TYPE);
     }
 
     @Override
     public Stream<OWLDataProperty> dataPropertiesInSignature() {
-        return streamFromSorted(dataPropertySignatures.get(this));
+        return entitiesOfType(DATA_PROPERTY_TYPE);
     }
 
     @Override
     public Stream<OWLObjectProperty> objectPropertiesInSignature() {
-        return streamFromSorted(objectPropertySignatures.get(this));
+        return entitiesOfType(OBJECT_PROPERTY_TYPE);
     }
 
     @Override
     public Stream<OWLNamedIndividual> individualsInSignature() {
-        return streamFromSorted(individualSignatures.get(this));
+        return entitiesOfType(INDIVIDUAL_TYPE);
     }
 
     @Override
     public Stream<OWLDatatype> datatypesInSignature() {
-        return streamFromSorted(datatypeSignatures.get(this));
+        return entitiesOfType(DATATYPE_TYPE);
     }
 
     @Override
     public Stream<OWLAnnotationProperty> annotationPropertiesInSignature() {
-        return streamFromSorted(annotationPropertiesSignatures.get(this));
+        return entitiesOfType(ANNOTATION_PROPERTY_TYPE);
     }
 
     @Override
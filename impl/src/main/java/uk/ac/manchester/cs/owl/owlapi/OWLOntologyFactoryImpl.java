@@ -67,7 +67,8 @@ public class OWLOntologyFactoryImpl implements OWLOntologyFactory {
 
     /**
      * Select parsers by MIME type and format of the input source, if known. If format and MIME type
-     * are not known or not matched by any parser, return all known parsers.
+     * are not known, return all known parsers, with the ones matching the start of the document
+     * first; if they are not matched by any parser, return all known parsers.
      *
      * @param documentSource document source
      * @param parsers parsers
@@ -81,7 +82,7 @@ public class OWLOntologyFactoryImpl implements OWLOntologyFactory {
         Optional<OWLDocumentFormat> format = documentSource.getFormat();
         Optional<String> mimeType = documentSource.getMIMEType();
         if (!format.isPresent() && !mimeType.isPresent()) {
-            return parsers;
+            return DocumentFormatSniffer.rank(documentSource, parsers);
         }
         PriorityCollection<OWLParserFactory> candidateParsers = parsers;
         if (format.isPresent()) {
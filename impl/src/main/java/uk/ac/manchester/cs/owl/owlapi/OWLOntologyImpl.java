@@ -14,18 +14,26 @@ package uk.ac.manchester.cs.owl.owlapi;
 
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.NO_OPERATION;
 import static org.semanticweb.owlapi.model.parameters.ChangeApplied.SUCCESSFULLY;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.BufferingBulkLoader;
 import org.semanticweb.owlapi.model.ChangeDetails;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLMutableOntology;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyChangeVisitorEx;
 import org.semanticweb.owlapi.model.OWLOntologyID;
@@ -43,6 +51,8 @@ import org.semanticweb.owlapi.model.parameters.ChangeApplied;
 public class OWLOntologyImpl extends OWLImmutableOntologyImpl
     implements OWLMutableOntology, Serializable {
 
+    private static final int BULK_BLOCK_SIZE = 4096;
+
     /**
      * @param manager ontology manager
      * @param ontologyID ontology id
@@ -78,13 +88,113 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         return new ChangeDetails(appliedChanges, enactedChanges);
     }
 
+    @Override
+    public OWLOntologyBulkLoader bulkLoader() {
+        return bulkLoader(this, null);
+    }
+
+    /**
+     * @param owner the ontology to report as changed: this ontology, or an ontology wrapping it
+     * @param lock lock to hold while axioms are added; can be null
+     * @return a loader that adds axioms directly to the internals, in blocks; the ontology
+     *         manager is only asked to broadcast the additions once the loader is closed
+     */
+    public OWLOntologyBulkLoader bulkLoader(OWLOntology owner, @Nullable Lock lock) {
+        OWLOntologyManager m = getOWLOntologyManager();
+        if (!(m instanceof OWLOntologyManagerImpl)) {
+            return new BufferingBulkLoader(owner);
+        }
+        return new BulkLoader((OWLOntologyManagerImpl) m, owner, lock);
+    }
+
+    protected class BulkLoader implements OWLOntologyBulkLoader {
+
+        private final OWLOntologyManagerImpl manager;
+        private final OWLOntology owner;
+        @Nullable
+        private final Lock lock;
+        private final OWLAxiom[] block = new OWLAxiom[BULK_BLOCK_SIZE];
+        private int size = 0;
+        // axioms to broadcast; not kept when there is nobody to receive them
+        @Nullable
+        private final List<OWLAxiom> added;
+        // true if impending change listeners must see, and can veto, each block before it is added
+        private final boolean vetoable;
+        private boolean closed = false;
+
+        BulkLoader(OWLOntologyManagerImpl manager, OWLOntology owner, @Nullable Lock lock) {
+            this.manager = manager;
+            this.owner = owner;
+            this.lock = lock;
+            vetoable = manager.hasImpendingChangeListeners();
+            added = !vetoable && manager.isBroadcastingChanges() ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public void add(OWLAxiom axiom) {
+            if (closed) {
+                throw new IllegalStateException("Bulk loader already closed");
+            }
+            block[size++] = checkNotNull(axiom, "axiom cannot be null");
+            if (size == block.length) {
+                flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (size == 0) {
+                return;
+            }
+            if (vetoable) {
+                // the manager notifies and broadcasts as for any other list of changes
+                List<OWLOntologyChange> changes = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    changes.add(new AddAxiom(owner, block[i]));
+                }
+                manager.applyChanges(changes);
+            } else {
+                addBlock();
+            }
+            Arrays.fill(block, 0, size, null);
+            size = 0;
+        }
+
+        private void addBlock() {
+            if (lock != null) {
+                lock.lock();
+            }
+            try {
+                if (ints.addAxioms(block, size, added) > 0) {
+                    invalidateOntologyCaches(OWLOntologyImpl.this);
+                }
+            } finally {
+                if (lock != null) {
+                    lock.unlock();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            if (added != null) {
+                manager.broadcastBulkAdditions(owner, added);
+            }
+        }
+    }
+
     protected class OWLOntologyChangeFilter
         implements OWLOntologyChangeVisitorEx<ChangeApplied>, Serializable {
 
         @Override
         public ChangeApplied visit(RemoveAxiom change) {
             if (ints.removeAxiom(change.getAxiom())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
+                invalidateOntologyCaches(OWLOntologyImpl.this, change);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
@@ -106,7 +216,7 @@ public class OWLOntologyImpl extends OWLImmutableOntologyImpl
         @Override
         public ChangeApplied visit(AddAxiom change) {
             if (ints.addAxiom(change.getAxiom())) {
-                invalidateOntologyCaches(OWLOntologyImpl.this);
+                invalidateOntologyCaches(OWLOntologyImpl.this, change);
                 return SUCCESSFULLY;
             }
             return NO_OPERATION;
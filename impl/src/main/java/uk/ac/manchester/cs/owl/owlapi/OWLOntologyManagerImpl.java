@@ -28,6 +28,7 @@ import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,11 +42,13 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -149,6 +152,7 @@ public class OWLOntologyManagerImpl
     protected final Map<IRI, Object> importedIRIs = createSyncMap();
     protected final OWLDataFactory dataFactory;
     protected final Map<OWLOntologyID, Set<OWLOntology>> importsClosureCache = createSyncMap();
+    private final ImportsClosureViews importsClosureViews = new ImportsClosureViews();
     protected final List<MissingImportListener> missingImportsListeners = createSyncList();
     protected final List<OWLOntologyLoaderListener> loaderListeners = createSyncList();
     protected final List<OWLOntologyChangeProgressListener> progressListeners = createSyncList();
@@ -173,6 +177,12 @@ public class OWLOntologyManagerImpl
     private OntologyConfigurator configProvider = new OntologyConfigurator();
     private transient Optional<OWLOntologyLoaderConfiguration> loaderConfig = emptyOptional();
     private transient Optional<OWLOntologyWriterConfiguration> writerConfig = emptyOptional();
+    // imports found by parsers while loading with parallel imports; they are loaded by
+    // ParallelImportsLoader rather than by makeLoadImportRequest()
+    @Nullable
+    private transient List<OWLImportsDeclaration> deferredImports;
+    @Nullable
+    private transient Executor importsExecutor;
 
     /**
      * @param dataFactory data factory
@@ -208,6 +218,7 @@ public class OWLOntologyManagerImpl
             impendingChangeListenerMap.clear();
             importedIRIs.clear();
             importsClosureCache.clear();
+            importsClosureViews.clear();
             listenerMap.clear();
             loaderListeners.clear();
             missingImportsListeners.clear();
@@ -238,11 +249,33 @@ public class OWLOntologyManagerImpl
         writeLock.lock();
         try {
             configProvider = configurator;
+            configureDataFactory(configurator.shouldUseIRIDictionary(),
+                configurator.shouldUseLiteralPool());
         } finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * Passes to the data factory the options that affect the objects it creates.
+     *
+     * @param useIRIDictionary true if entities should be created with IRIs stored in the IRI
+     *        dictionary; false leaves the factory as it is
+     * @param useLiteralPool true if literals should be created with long lexical forms stored in
+     *        the literal pool of the factory; false leaves the factory as it is
+     */
+    private void configureDataFactory(boolean useIRIDictionary, boolean useLiteralPool) {
+        if (!(dataFactory instanceof OWLDataFactoryImpl)) {
+            return;
+        }
+        if (useIRIDictionary) {
+            ((OWLDataFactoryImpl) dataFactory).setIRIDictionary(true);
+        }
+        if (useLiteralPool) {
+            ((OWLDataFactoryImpl) dataFactory).setLiteralPool(true);
+        }
+    }
+
     @Override
     public OWLOntologyLoaderConfiguration getOntologyLoaderConfiguration() {
         readLock.lock();
@@ -261,6 +294,8 @@ public class OWLOntologyManagerImpl
         writeLock.lock();
         try {
             loaderConfig = optional(newConfig);
+            configureDataFactory(newConfig.shouldUseIRIDictionary(),
+                newConfig.shouldUseLiteralPool());
         } finally {
             writeLock.unlock();
         }
@@ -974,7 +1009,7 @@ public class OWLOntologyManagerImpl
     }
 
     @Nullable
-    private OWLOntology getOntologyByDocumentIRI(IRI documentIRI) {
+    protected OWLOntology getOntologyByDocumentIRI(IRI documentIRI) {
         readLock.lock();
         try {
             Optional<Entry<OWLOntologyID, IRI>> findAny = documentIRIsByID.entrySet().stream()
@@ -1047,12 +1082,17 @@ public class OWLOntologyManagerImpl
             }
             fireStartedLoadingEvent(new OWLOntologyID(optional(ontologyIRI), emptyOptional()),
                 documentSource.getDocumentIRI(), loadCount.get() > 0);
+            configureDataFactory(configuration.shouldUseIRIDictionary(),
+                configuration.shouldUseLiteralPool());
             loadCount.incrementAndGet();
             broadcastChanges.set(false);
             Exception ex = null;
             OWLOntologyID idOfLoadedOntology = new OWLOntologyID();
             try {
-                OWLOntology o = load(documentSource, configuration);
+                OWLOntology o =
+                    configuration.shouldLoadImportsInParallel() && deferredImports == null
+                        ? loadWithParallelImports(documentSource, configuration)
+                        : load(documentSource, configuration);
                 if (o != null) {
                     idOfLoadedOntology = o.getOntologyID();
                     return o;
@@ -1080,6 +1120,97 @@ public class OWLOntologyManagerImpl
         }
     }
 
+    /**
+     * Load an ontology, parsing its imports closure concurrently if the documents allow it.
+     *
+     * @param documentSource document source
+     * @param configuration load configuration
+     * @return loaded ontology, or null if no factory can load it
+     * @throws OWLOntologyCreationException if the ontology or, depending on the missing import
+     *         handling strategy, one of its imports cannot be loaded
+     */
+    @Nullable
+    private OWLOntology loadWithParallelImports(OWLOntologyDocumentSource documentSource,
+        OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
+        OWLOntology o =
+            new ParallelImportsLoader(this, configuration, importsExecutor).load(documentSource);
+        if (o == null) {
+            // the root document is not in a format that can be parsed without its imports
+            return load(documentSource, configuration);
+        }
+        if (configuration.shouldRepairIllegalPunnings()) {
+            fixIllegalPunnings(o);
+        }
+        return o;
+    }
+
+    /**
+     * @param lock lock for the new manager
+     * @return a manager with the same ontology factories as this manager, and only the parsers
+     *         that do not need the imports closure, which records import requests instead of
+     *         loading the imports. The new manager does not change the locks of the factories.
+     * @see #deferredImports()
+     */
+    OWLOntologyManagerImpl createImportsLoadingManager(ReadWriteLock lock) {
+        OWLOntologyManagerImpl m =
+            new OWLOntologyManagerImpl(dataFactory, lock, PriorityCollectionSorting.NEVER);
+        m.ontologyFactories.set(ontologyFactories);
+        m.parserFactories.set(parsers(ParallelImportsLoader::isParsedIndependently));
+        m.deferredImports = new ArrayList<>();
+        return m;
+    }
+
+    /**
+     * @param formats formats to select
+     * @return the parsers of this manager whose format is selected, in priority order
+     */
+    List<OWLParserFactory> parsers(Predicate<OWLDocumentFormat> formats) {
+        List<OWLParserFactory> parsers = new ArrayList<>();
+        for (OWLParserFactory parser : parserFactories) {
+            if (formats.test(parser.getSupportedFormat().createFormat())) {
+                parsers.add(parser);
+            }
+        }
+        return parsers;
+    }
+
+    /**
+     * Sets the lock that the ontology factories give to the ontologies they create. The caller
+     * must hold the write lock.
+     *
+     * @param factoryLock lock to use; null for the lock of this manager
+     */
+    void setOntologyFactoryLocks(@Nullable ReadWriteLock factoryLock) {
+        ReadWriteLock l = factoryLock == null ? lock : factoryLock;
+        for (OWLOntologyFactory factory : ontologyFactories) {
+            factory.setLock(l);
+        }
+    }
+
+    /**
+     * @return imports requested by parsers while loading, for managers that do not load imports
+     *         themselves
+     */
+    List<OWLImportsDeclaration> deferredImports() {
+        List<OWLImportsDeclaration> list = deferredImports;
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    /**
+     * @param executor executor used to parse imported documents when the loader configuration
+     *        asks for parallel imports; if null, a shared pool with one thread per processor is
+     *        used
+     * @see OWLOntologyLoaderConfiguration#withParallelImports(boolean)
+     */
+    public void setImportsExecutor(@Nullable Executor executor) {
+        writeLock.lock();
+        try {
+            importsExecutor = executor;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @Nullable
     protected OWLOntology load(OWLOntologyDocumentSource documentSource,
         OWLOntologyLoaderConfiguration configuration) throws OWLOntologyCreationException {
@@ -1100,10 +1231,15 @@ public class OWLOntologyManagerImpl
                     // Note - there is no need to add the ontology here,
                     // because it will be added
                     // when the ontology is created.
-                    factory.setLock(lock);
+                    // managers loading imports in parallel share the factories; the loading
+                    // thread sets their locks
+                    if (deferredImports == null) {
+                        factory.setLock(lock);
+                    }
                     OWLOntology ontology =
                         factory.loadOWLOntology(this, documentSource, this, configuration);
-                    if (configuration.shouldRepairIllegalPunnings()) {
+                    // with parallel imports, punnings are repaired once the imports are loaded
+                    if (configuration.shouldRepairIllegalPunnings() && deferredImports == null) {
                         fixIllegalPunnings(ontology);
                     }
                     // Store the ontology to the document IRI mapping
@@ -1270,11 +1406,32 @@ public class OWLOntologyManagerImpl
         writeLock.lock();
         try {
             importsClosureCache.clear();
+            importsClosureViews.clear();
         } finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * @param ontology ontology
+     * @return the view of the imports closure of the ontology; the view is kept up to date until
+     *         the imports closure cache is reset
+     */
+    ImportsClosureView importsClosureView(OWLOntology ontology) {
+        return importsClosureViews.view(ontology);
+    }
+
+    /**
+     * Called by ontologies after a change has been applied, whether or not the change went through
+     * this manager.
+     *
+     * @param ontology the changed ontology
+     * @param change the change, or null if not known
+     */
+    void ontologyChanged(OWLOntology ontology, @Nullable OWLOntologyChange change) {
+        importsClosureViews.changed(ontology, change);
+    }
+
     // Methods to save ontologies
     @Override
     public void saveOntology(OWLOntology ontology) throws OWLOntologyStorageException {
@@ -1477,7 +1634,7 @@ public class OWLOntologyManagerImpl
      *         URI can be found.
      */
     @Nullable
-    private IRI getDocumentIRIFromMappers(OWLOntologyID ontologyID) {
+    protected IRI getDocumentIRIFromMappers(OWLOntologyID ontologyID) {
         Optional<IRI> defIRI = ontologyID.getDefaultDocumentIRI();
         if (!defIRI.isPresent()) {
             return null;
@@ -1551,6 +1708,58 @@ public class OWLOntologyManagerImpl
         }
     }
 
+    /**
+     * @return true if changes are currently broadcast and there are change listeners or progress
+     *         listeners to receive them; changes are not broadcast while ontologies are being
+     *         loaded
+     */
+    public boolean isBroadcastingChanges() {
+        return broadcastChanges.get() && (!listenerMap.isEmpty() || !progressListeners.isEmpty());
+    }
+
+    /**
+     * @return true if changes are currently broadcast and there are impending change listeners,
+     *         which must be notified before changes are applied
+     */
+    public boolean hasImpendingChangeListeners() {
+        return broadcastChanges.get() && !impendingChangeListenerMap.isEmpty();
+    }
+
+    /**
+     * Broadcasts the axioms added to an ontology by a bulk loader as one list of changes, in the
+     * same order as {@link #applyChanges(List)}: progress listeners are told of the beginning,
+     * each applied change and the end, then change listeners receive the list. The changes have
+     * already been applied, so this must only be used when there are no impending change
+     * listeners; see {@link #hasImpendingChangeListeners()}. The {@link AddAxiom} objects are
+     * created as listeners read the list.
+     *
+     * @param ont ontology the axioms were added to
+     * @param axioms axioms added
+     */
+    public void broadcastBulkAdditions(OWLOntology ont, List<OWLAxiom> axioms) {
+        if (axioms.isEmpty()) {
+            return;
+        }
+        List<OWLOntologyChange> changes = new AbstractList<OWLOntologyChange>() {
+
+            @Override
+            public OWLOntologyChange get(int index) {
+                return new AddAxiom(ont, axioms.get(index));
+            }
+
+            @Override
+            public int size() {
+                return axioms.size();
+            }
+        };
+        fireBeginChanges(changes.size());
+        if (!progressListeners.isEmpty()) {
+            changes.forEach(this::fireChangeApplied);
+        }
+        fireEndChanges();
+        broadcastChanges(changes);
+    }
+
     protected void broadcastImpendingChanges(List<? extends OWLOntologyChange> changes) {
         writeLock.lock();
         try {
@@ -1696,6 +1905,13 @@ public class OWLOntologyManagerImpl
         writeLock.lock();
         try {
             IRI iri = declaration.getIRI();
+            List<OWLImportsDeclaration> deferred = deferredImports;
+            if (deferred != null) {
+                if (!configuration.isIgnoredImport(iri)) {
+                    deferred.add(declaration);
+                }
+                return;
+            }
             if (!configuration.isIgnoredImport(iri) && !importedIRIs.containsKey(iri)) {
                 // insert temporary value - we do not know the actual ID yet
                 importedIRIs.put(iri, new Object());
@@ -0,0 +1,471 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.formats.OBODocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLParserFactory;
+import org.semanticweb.owlapi.io.OntologyIRIMappingNotFoundException;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.MissingImportEvent;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyAlreadyExistsException;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyFactoryNotFoundException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLRuntimeException;
+import org.semanticweb.owlapi.model.UnloadableImportException;
+import org.semanticweb.owlapi.model.parameters.OntologyCopy;
+
+import uk.ac.manchester.cs.owl.owlapi.concurrent.NoOpReadWriteLock;
+
+/**
+ * Loads an ontology and its imports closure by parsing the documents concurrently. Each document is
+ * parsed into a private manager, which records the imports found by the parser instead of loading
+ * them; the calling thread resolves those imports, schedules the documents not seen yet, and, once
+ * the whole closure has been parsed, moves the ontologies into the manager, imported ontologies
+ * before the ontologies importing them, and the root ontology last.
+ * <p>
+ * Functional syntax, OWL/XML and OBO documents are parsed this way: their parsers produce the same
+ * result whether or not the imports are loaded. Other parsers, such as the RDF parsers, use the
+ * imports closure to decide the type of entities. Private managers try the functional syntax and
+ * OWL/XML parsers, which fail at the first token of a document in another syntax; the OBO parser
+ * accepts almost any text, so it is only tried for documents known to be OBO: documents whose
+ * source says so, documents whose first lines look like OBO, such as a {@code format-version:}
+ * header, and {@code .obo} files, which is how {@link org.semanticweb.owlapi.util.AutoIRIMapper}
+ * maps OBO ontologies. Documents that private managers cannot parse are loaded by the manager
+ * itself, sequentially and once, after the documents they import. A root document in another
+ * format is left to sequential loading.
+ * <p>
+ * Private managers share the ontology factories of the manager. While they run, the calling thread
+ * sets the factories to create unlocked ontologies; ontologies moved into the manager take the
+ * manager lock, and the factories are given it back before the manager loads anything itself.
+ * <p>
+ * Instances are used once, by a thread holding the manager write lock.
+ */
+final class ParallelImportsLoader {
+
+    // private managers are only used by one thread at a time
+    private static final ReadWriteLock NO_LOCK = new NoOpReadWriteLock();
+    private final OWLOntologyManagerImpl manager;
+    private final OWLOntologyLoaderConfiguration configuration;
+    private final CompletionService<Load> completion;
+    // OBO parsers of the manager, read while holding its lock
+    private final List<OWLParserFactory> oboParsers;
+    private final Map<IRI, Load> loadsByDocumentIRI = new LinkedHashMap<>();
+    private final Map<IRI, Load> loadsByImportIRI = new HashMap<>();
+    private int running = 0;
+    @Nullable
+    private UnloadableImportException failure;
+    @Nullable
+    private RuntimeException error;
+    // root ontology, while it is in its private manager
+    @Nullable
+    private OWLOntologyID rootID;
+    @Nullable
+    private IRI rootDocumentIRI;
+
+    /** A document in the imports closure. */
+    private static final class Load {
+
+        final IRI documentIRI;
+        final List<OWLImportsDeclaration> declarations = new ArrayList<>();
+        final List<OWLImportsDeclaration> imports = new ArrayList<>();
+        @Nullable
+        OWLOntologyManagerImpl privateManager;
+        @Nullable
+        OWLOntology ontology;
+        @Nullable
+        Exception exception;
+
+        Load(IRI documentIRI) {
+            this.documentIRI = documentIRI;
+        }
+    }
+
+    private static class DefaultExecutor {
+
+        static final ExecutorService INSTANCE =
+            Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "owlapi-imports-loader");
+                t.setDaemon(true);
+                return t;
+            });
+    }
+
+    /**
+     * @param manager manager that the imports closure is loaded into
+     * @param configuration loader configuration
+     * @param executor executor for parsing; if null, a shared pool with one thread per processor
+     *        is used
+     */
+    ParallelImportsLoader(OWLOntologyManagerImpl manager,
+        OWLOntologyLoaderConfiguration configuration, @Nullable Executor executor) {
+        this.manager = manager;
+        this.configuration = configuration;
+        completion = new ExecutorCompletionService<>(
+            executor == null ? DefaultExecutor.INSTANCE : executor);
+        oboParsers = manager.parsers(OBODocumentFormat.class::isInstance);
+    }
+
+    /**
+     * @param format format of a parser or of a parsed document
+     * @return true if the parser for the format does not look at the imports closure, and rejects
+     *         documents in other formats at their first token. The OBO parser does not look at the
+     *         imports closure either, but it accepts almost any text, so it is only added for
+     *         documents known to be OBO.
+     */
+    static boolean isParsedIndependently(@Nullable OWLDocumentFormat format) {
+        return format instanceof FunctionalSyntaxDocumentFormat
+            || format instanceof OWLXMLDocumentFormat;
+    }
+
+    /**
+     * @param format format declared by the source, if any
+     * @param guess formats the start of the source matches
+     * @return false if the source declares, or starts like, a format whose parser needs the imports
+     *         closure
+     */
+    private static boolean mayBeParsedIndependently(Optional<OWLDocumentFormat> format,
+        Set<String> guess) {
+        if (format.isPresent()) {
+            return isParsedIndependently(format.get())
+                || format.get() instanceof OBODocumentFormat;
+        }
+        return guess.isEmpty() || guess.contains(DocumentFormatSniffer.FUNCTIONAL)
+            || guess.contains(DocumentFormatSniffer.OWLXML)
+            || guess.contains(DocumentFormatSniffer.OBO);
+    }
+
+    /**
+     * @param format format declared by the source, if any
+     * @param guess formats the start of the source matches
+     * @param documentIRI document IRI of the source
+     * @return true if the source is known to be OBO
+     */
+    private static boolean isOBO(Optional<OWLDocumentFormat> format, Set<String> guess,
+        IRI documentIRI) {
+        if (format.isPresent()) {
+            return format.get() instanceof OBODocumentFormat;
+        }
+        return guess.contains(DocumentFormatSniffer.OBO) || isOBOFile(documentIRI);
+    }
+
+    /**
+     * @param documentIRI document IRI from the IRI mappers
+     * @return true if the document is a {@code .obo} file, or a file that starts like OBO
+     */
+    private static boolean isOBO(IRI documentIRI) {
+        if (isOBOFile(documentIRI)) {
+            return true;
+        }
+        if (!"file".equalsIgnoreCase(documentIRI.getScheme())) {
+            return false;
+        }
+        try {
+            return DocumentFormatSniffer.sniff(new FileDocumentSource(new File(documentIRI.toURI())))
+                .contains(DocumentFormatSniffer.OBO);
+        } catch (IllegalArgumentException e) {
+            // not a local file name
+            return false;
+        }
+    }
+
+    private static boolean isOBOFile(IRI documentIRI) {
+        return documentIRI.toString().toLowerCase(Locale.ROOT).endsWith(".obo");
+    }
+
+    /**
+     * @param privateManager private manager to parse with
+     * @param source document to parse
+     * @param obo true if the document is known to be OBO
+     * @return the parsed ontology
+     * @throws OWLOntologyCreationException if the private manager cannot parse the document
+     */
+    private OWLOntology parse(OWLOntologyManagerImpl privateManager,
+        OWLOntologyDocumentSource source, boolean obo) throws OWLOntologyCreationException {
+        if (obo) {
+            privateManager.getOntologyParsers().add(oboParsers);
+        }
+        return privateManager.loadOntology(null, source, configuration);
+    }
+
+    /**
+     * @param documentSource root document
+     * @return the root ontology, added to the manager after its imports closure; null if the root
+     *         document cannot be parsed without its imports, in which case nothing has been loaded
+     * @throws OWLOntologyCreationException if the root ontology is already in the manager
+     * @throws UnloadableImportException if an import cannot be loaded and missing imports cause
+     *         an exception
+     */
+    @Nullable
+    OWLOntology load(OWLOntologyDocumentSource documentSource)
+        throws OWLOntologyCreationException {
+        Optional<OWLDocumentFormat> format = documentSource.getFormat();
+        Set<String> guess = format.isPresent() ? Collections.emptySet()
+            : DocumentFormatSniffer.sniff(documentSource);
+        if (!mayBeParsedIndependently(format, guess)
+            || manager.getOntologyByDocumentIRI(documentSource.getDocumentIRI()) != null) {
+            return null;
+        }
+        OWLOntology root;
+        List<OWLImportsDeclaration> rootImports;
+        manager.setOntologyFactoryLocks(NO_LOCK);
+        try {
+            OWLOntologyManagerImpl rootManager = manager.createImportsLoadingManager(NO_LOCK);
+            try {
+                root = parse(rootManager, documentSource,
+                    isOBO(format, guess, documentSource.getDocumentIRI()));
+            } catch (OWLOntologyCreationException e) {
+                // not in a format parsed independently, or not parsable at all: sequential
+                // loading parses it with all parsers and reports the problem, if there is one
+                return null;
+            }
+            OWLOntologyID id = root.getOntologyID();
+            if (manager.ontologiesByID.containsKey(id)) {
+                throw new OWLOntologyAlreadyExistsException(id);
+            }
+            rootID = id;
+            rootDocumentIRI = documentSource.getDocumentIRI();
+            rootImports = rootManager.deferredImports();
+            request(rootImports);
+            while (running > 0) {
+                Load load = take();
+                running--;
+                Exception e = load.exception;
+                if (e instanceof RuntimeException) {
+                    if (error == null) {
+                        error = (RuntimeException) e;
+                    }
+                } else if (e == null && failure == null && error == null) {
+                    request(load.imports);
+                }
+            }
+        } finally {
+            manager.setOntologyFactoryLocks(null);
+        }
+        if (error == null && failure == null) {
+            try {
+                add(rootImports, new HashSet<>());
+            } catch (RuntimeException e) {
+                // includes UnloadableImportException from documents loaded by the manager
+                error = e;
+            }
+        }
+        RuntimeException toThrow = error;
+        if (toThrow != null) {
+            forgetRequests();
+            throw toThrow;
+        }
+        UnloadableImportException unloadable = failure;
+        if (unloadable != null) {
+            forgetRequests();
+            throw unloadable;
+        }
+        manager.copyOntology(root, OntologyCopy.MOVE);
+        manager.ontologyConfigurationsByOntologyID.put(root.getOntologyID(), configuration);
+        manager.resetImportsClosureCache();
+        return root;
+    }
+
+    /**
+     * Remove the temporary values for imports that have not been added, so that a later request
+     * for the same imports is not skipped.
+     */
+    private void forgetRequests() {
+        for (IRI iri : loadsByImportIRI.keySet()) {
+            if (!(manager.importedIRIs.get(iri) instanceof OWLOntologyID)) {
+                manager.importedIRIs.remove(iri);
+            }
+        }
+    }
+
+    private Load take() {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OWLRuntimeException(e);
+        } catch (ExecutionException e) {
+            // parse tasks catch their own exceptions
+            throw new OWLRuntimeException(e.getCause());
+        }
+    }
+
+    private void request(List<OWLImportsDeclaration> imports) {
+        for (OWLImportsDeclaration declaration : imports) {
+            IRI iri = declaration.getIRI();
+            if (configuration.isIgnoredImport(iri) || manager.importedIRIs.containsKey(iri)) {
+                continue;
+            }
+            // temporary value, as in OWLOntologyManagerImpl.makeLoadImportRequest()
+            manager.importedIRIs.put(iri, new Object());
+            Optional<OWLOntologyID> existing = manager.ids().filter(id -> id.match(iri)).findAny();
+            if (existing.isPresent()) {
+                imported(declaration, existing.get());
+                continue;
+            }
+            OWLOntologyID root = rootID;
+            if (root != null && root.match(iri)) {
+                imported(declaration, root);
+                continue;
+            }
+            IRI documentIRI = manager
+                .getDocumentIRIFromMappers(new OWLOntologyID(optional(iri), emptyOptional()));
+            if (documentIRI == null) {
+                missing(declaration, new OntologyIRIMappingNotFoundException(iri));
+                continue;
+            }
+            if (root != null && documentIRI.equals(rootDocumentIRI)) {
+                imported(declaration, root);
+                continue;
+            }
+            OWLOntology loaded = manager.getOntologyByDocumentIRI(documentIRI);
+            if (loaded != null) {
+                imported(declaration, loaded.getOntologyID());
+                continue;
+            }
+            Load load = loadsByDocumentIRI.get(documentIRI);
+            if (load == null) {
+                load = new Load(documentIRI);
+                loadsByDocumentIRI.put(documentIRI, load);
+                submit(load, iri);
+            }
+            load.declarations.add(declaration);
+            loadsByImportIRI.put(iri, load);
+        }
+    }
+
+    private void submit(Load load, IRI iri) {
+        manager.fireStartedLoadingEvent(new OWLOntologyID(optional(iri), emptyOptional()),
+            load.documentIRI, true);
+        OWLOntologyManagerImpl privateManager = manager.createImportsLoadingManager(NO_LOCK);
+        load.privateManager = privateManager;
+        running++;
+        completion.submit(() -> {
+            try {
+                load.ontology = parse(privateManager,
+                    new IRIDocumentSource(load.documentIRI, null, null), isOBO(load.documentIRI));
+                load.imports.addAll(privateManager.deferredImports());
+            } catch (OWLOntologyCreationException e) {
+                // left to the manager, which loads the document with all parsers and reports
+                // missing documents according to the configuration
+                load.ontology = null;
+            } catch (RuntimeException e) {
+                load.exception = e;
+            }
+            return load;
+        });
+    }
+
+    private void missing(OWLImportsDeclaration declaration, OWLOntologyCreationException e) {
+        if (configuration
+            .getMissingImportHandlingStrategy() == MissingImportHandlingStrategy.THROW_EXCEPTION) {
+            if (failure == null) {
+                failure = new UnloadableImportException(e, declaration);
+            }
+        } else {
+            manager.fireMissingImportEvent(new MissingImportEvent(declaration.getIRI(), e));
+        }
+    }
+
+    private void imported(OWLImportsDeclaration declaration, OWLOntologyID id) {
+        manager.ontologyIDsByImportsDeclaration.put(declaration, id);
+        manager.importedIRIs.put(declaration.getIRI(), id);
+    }
+
+    /**
+     * Add the parsed ontologies to the manager, imports first.
+     */
+    private void add(List<OWLImportsDeclaration> imports, Set<Load> visited) {
+        for (OWLImportsDeclaration declaration : imports) {
+            Load load = loadsByImportIRI.get(declaration.getIRI());
+            if (load != null && visited.add(load)) {
+                add(load.imports, visited);
+                add(load);
+            }
+        }
+    }
+
+    private void add(Load load) {
+        OWLOntology ontology = load.ontology;
+        OWLOntologyManagerImpl privateManager = load.privateManager;
+        if (privateManager == null) {
+            return;
+        }
+        OWLOntologyID id = ontology == null ? new OWLOntologyID() : ontology.getOntologyID();
+        OWLOntologyCreationException ex = null;
+        try {
+            if (ontology == null) {
+                // not parsed by the private manager: loaded here, with its imports in place
+                OWLOntology loaded = manager.load(
+                    new IRIDocumentSource(load.documentIRI, null, null), configuration);
+                if (loaded == null) {
+                    throw new OWLOntologyFactoryNotFoundException(load.documentIRI);
+                }
+                id = loaded.getOntologyID();
+            } else if (manager.ontologiesByID.containsKey(id)) {
+                // two import IRIs resolved to different documents for the same ontology
+                privateManager.removeOntology(ontology);
+            } else {
+                manager.copyOntology(ontology, OntologyCopy.MOVE);
+                manager.ontologyConfigurationsByOntologyID.put(id, configuration);
+                if (configuration.shouldRepairIllegalPunnings()) {
+                    manager.fixIllegalPunnings(ontology);
+                }
+            }
+            for (OWLImportsDeclaration declaration : load.declarations) {
+                imported(declaration, id);
+            }
+        } catch (OWLOntologyCreationException e) {
+            ex = e;
+            for (OWLImportsDeclaration declaration : load.declarations) {
+                missing(declaration, e);
+            }
+        } finally {
+            manager.fireFinishedLoadingEvent(id, load.documentIRI, true, ex);
+        }
+    }
+}
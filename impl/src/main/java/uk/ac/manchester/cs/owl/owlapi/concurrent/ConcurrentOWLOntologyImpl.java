@@ -16,8 +16,11 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.BooleanSupplier;
@@ -31,6 +34,7 @@ import javax.inject.Inject;
 
 import org.semanticweb.owlapi.io.OWLOntologyDocumentTarget;
 import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.BufferingBulkLoader;
 import org.semanticweb.owlapi.model.ChangeDetails;
 import org.semanticweb.owlapi.model.EntityType;
 import org.semanticweb.owlapi.model.HasAxiomsByType;
@@ -94,6 +98,7 @@ import org.semanticweb.owlapi.model.OWLObjectPropertyRangeAxiom;
 import org.semanticweb.owlapi.model.OWLObjectVisitor;
 import org.semanticweb.owlapi.model.OWLObjectVisitorEx;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyID;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
@@ -113,7 +118,9 @@ import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.model.parameters.Navigation;
 import org.semanticweb.owlapi.util.OWLAxiomSearchFilter;
 
+import uk.ac.manchester.cs.owl.owlapi.HasMaterializeIndexes;
 import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
+import uk.ac.manchester.cs.owl.owlapi.OWLOntologyImpl;
 
 /**
  * Matthew Horridge
@@ -125,7 +132,8 @@ import uk.ac.manchester.cs.owl.owlapi.HasTrimToSize;
  * Matthew Horridge Stanford Center for Biomedical Informatics Research 03/04/15
  */
 @SuppressWarnings({"deprecation"})
-public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToSize {
+public class ConcurrentOWLOntologyImpl
+    implements OWLMutableOntology, HasTrimToSize, HasMaterializeIndexes {
 
     private final OWLOntology delegate;
     private ReadWriteLock lock;
@@ -219,6 +227,16 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         }
     }
 
+    @Override
+    public OWLOntologyBulkLoader bulkLoader() {
+        if (delegate instanceof OWLOntologyImpl) {
+            // the delegate adds blocks of axioms under the write lock and reports this ontology
+            // as changed
+            return ((OWLOntologyImpl) delegate).bulkLoader(this, lock.writeLock());
+        }
+        return new BufferingBulkLoader(this);
+    }
+
     @Override
     public void trimToSize() {
         callWriteLock(this::trimToSizeInternal);
@@ -230,6 +248,19 @@ public class ConcurrentOWLOntologyImpl implements OWLMutableOntology, HasTrimToS
         }
     }
 
+    @Override
+    public Map<String, Long> materializeIndexes(@Nullable ExecutorService executor) {
+        // indexes have their own locks; the read lock only keeps out changes to the ontology
+        return withReadLock(() -> materializeIndexesInternal(executor));
+    }
+
+    protected Map<String, Long> materializeIndexesInternal(@Nullable ExecutorService executor) {
+        if (delegate instanceof HasMaterializeIndexes) {
+            return ((HasMaterializeIndexes) delegate).materializeIndexes(executor);
+        }
+        return Collections.emptyMap();
+    }
+
     @Override
     public void accept(OWLNamedObjectVisitor owlNamedObjectVisitor) {
         delegate.accept(owlNamedObjectVisitor);
@@ -0,0 +1,117 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.io.IRIDocumentSource;
+import org.semanticweb.owlapi.io.StreamDocumentSource;
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.IRI;
+
+@SuppressWarnings("javadoc")
+public class DocumentFormatSnifferTestCase {
+
+    private static Set<String> set(String... keys) {
+        return new HashSet<>(Arrays.asList(keys));
+    }
+
+    @Test
+    public void shouldRecognizeRDFXML() {
+        assertEquals(set(DocumentFormatSniffer.RDFXML), DocumentFormatSniffer.sniff(
+            "<?xml version=\"1.0\"?>\n<!-- comment -->\n<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">"));
+        assertEquals(set(DocumentFormatSniffer.RDFXML), DocumentFormatSniffer
+            .sniff("<?xml version=\"1.0\"?>\n<!DOCTYPE rdf:RDF [\n<!ENTITY owl \"x\" >\n]>"));
+    }
+
+    @Test
+    public void shouldRecognizeOWLXML() {
+        assertEquals(set(DocumentFormatSniffer.OWLXML), DocumentFormatSniffer
+            .sniff("<?xml version=\"1.0\"?>\n<Ontology xmlns=\"http://www.w3.org/2002/07/owl#\">"));
+    }
+
+    @Test
+    public void shouldRecognizeOtherXML() {
+        assertEquals(
+            set(DocumentFormatSniffer.RDFXML, DocumentFormatSniffer.OWLXML,
+                DocumentFormatSniffer.TRIX),
+            DocumentFormatSniffer.sniff("<?xml version=\"1.0\"?>\n<owl:Class rdf:about=\"#A\"/>"));
+    }
+
+    @Test
+    public void shouldRecognizeTurtle() {
+        Set<String> turtle = set(DocumentFormatSniffer.TURTLE);
+        assertEquals(turtle, DocumentFormatSniffer.sniff("# comment\n@prefix : <urn:test#> ."));
+        assertEquals(turtle, DocumentFormatSniffer.sniff("PREFIX : <urn:test#>"));
+        assertEquals(turtle, DocumentFormatSniffer.sniff("@base <urn:test> ."));
+        assertEquals(turtle,
+            DocumentFormatSniffer.sniff("<http://example.com/a> <http://example.com/b> \"c\" ."));
+        assertEquals(turtle, DocumentFormatSniffer.sniff("_:b0 a <urn:test:C> ."));
+        assertEquals(turtle, DocumentFormatSniffer.sniff("ex:a a ex:C ."));
+    }
+
+    @Test
+    public void shouldRecognizeFunctionalSyntax() {
+        Set<String> functional = set(DocumentFormatSniffer.FUNCTIONAL);
+        assertEquals(functional, DocumentFormatSniffer.sniff("Prefix(:=<urn:test#>)"));
+        assertEquals(functional, DocumentFormatSniffer.sniff("# comment\nOntology (<urn:test>)"));
+    }
+
+    @Test
+    public void shouldRecognizeManchesterSyntax() {
+        Set<String> manchester = set(DocumentFormatSniffer.MANCHESTER);
+        assertEquals(manchester, DocumentFormatSniffer.sniff("Prefix: : <urn:test#>"));
+        assertEquals(manchester, DocumentFormatSniffer.sniff("Ontology: <urn:test>"));
+        assertEquals(manchester, DocumentFormatSniffer.sniff("Class: A"));
+    }
+
+    @Test
+    public void shouldRecognizeOBO() {
+        Set<String> obo = set(DocumentFormatSniffer.OBO);
+        assertEquals(obo, DocumentFormatSniffer.sniff("format-version: 1.2\nontology: test"));
+        assertEquals(obo, DocumentFormatSniffer.sniff("! comment\n[Term]\nid: X:1"));
+    }
+
+    @Test
+    public void shouldRecognizeOtherSyntaxes() {
+        assertEquals(set(DocumentFormatSniffer.JSONLD, DocumentFormatSniffer.RDFJSON),
+            DocumentFormatSniffer.sniff(" {\"@context\": {}}"));
+        assertEquals(set(DocumentFormatSniffer.KRSS2, DocumentFormatSniffer.KRSS),
+            DocumentFormatSniffer.sniff("(define-concept A B)"));
+    }
+
+    @Test
+    public void shouldRecognizeBinarySnapshot() {
+        byte[] bytes = {'O', 'W', 'L', 'S', 'N', 'A', 'P', 1, (byte) 0x80, 2};
+        assertEquals(set(DocumentFormatSniffer.SNAPSHOT),
+            DocumentFormatSniffer.sniff(new StreamDocumentSource(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    public void shouldNotGuessUnknownText() {
+        assertTrue(DocumentFormatSniffer.sniff("").isEmpty());
+        assertTrue(DocumentFormatSniffer.sniff("hello world").isEmpty());
+    }
+
+    @Test
+    public void shouldReadSourcesOnlyWhenAvailableLocally() {
+        assertEquals(set(DocumentFormatSniffer.FUNCTIONAL),
+            DocumentFormatSniffer.sniff(new StringDocumentSource("Prefix(:=<urn:test#>)")));
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] text = "@prefix : <urn:test#> .".getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[bom.length + text.length];
+        System.arraycopy(bom, 0, bytes, 0, bom.length);
+        System.arraycopy(text, 0, bytes, bom.length, text.length);
+        assertEquals(set(DocumentFormatSniffer.TURTLE),
+            DocumentFormatSniffer.sniff(new StreamDocumentSource(new ByteArrayInputStream(bytes))));
+        assertEquals(Collections.emptySet(), DocumentFormatSniffer
+            .sniff(new IRIDocumentSource(IRI.create("http://example.com/ontology.owl"))));
+    }
+}
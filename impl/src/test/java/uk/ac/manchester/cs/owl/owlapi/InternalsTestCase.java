@@ -0,0 +1,100 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+@SuppressWarnings("javadoc")
+public class InternalsTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass a = df.getOWLClass("urn:test:A");
+    private final OWLClass b = df.getOWLClass("urn:test:B");
+    private final OWLNamedIndividual i = df.getOWLNamedIndividual("urn:test:i");
+    private final OWLSubClassOfAxiom sub = df.getOWLSubClassOfAxiom(a, b);
+    private final OWLClassAssertionAxiom assertion = df.getOWLClassAssertionAxiom(a, i);
+    private final OWLAnnotationAssertionAxiom label =
+        df.getOWLAnnotationAssertionAxiom(a.getIRI(), df.getRDFSLabel("A"));
+
+    private Internals internals() {
+        Internals ints = new Internals();
+        ints.addAxiom(sub);
+        ints.addAxiom(assertion);
+        ints.addAxiom(label);
+        return ints;
+    }
+
+    private static void assertMaterialized(Internals ints, Map<String, Long> times) {
+        Set<String> expected = new HashSet<>(ints.lazyIndexes().keySet());
+        expected.add("classAxiomsByClass");
+        assertEquals(expected, times.keySet());
+        assertTrue(ints.lazyIndexes().values().stream().allMatch(MapPointer::isInitialized));
+        assertTrue(ints.classAxiomsByClass.isInitialized());
+        assertTrue(ints.materializeIndexes(null).isEmpty());
+    }
+
+    @Test
+    public void shouldMaterializeIndexesSequentially() {
+        Internals ints = internals();
+        assertFalse(ints.subClassAxiomsBySubPosition.isInitialized());
+        assertMaterialized(ints, ints.materializeIndexes(null));
+        assertEquals(Collections.singleton(sub),
+            ints.subClassAxiomsBySubPosition.getValues(a).collect(Collectors.toSet()));
+        assertEquals(Collections.singleton(sub),
+            ints.subClassAxiomsBySuperPosition.getValues(b).collect(Collectors.toSet()));
+        assertEquals(Collections.singleton(assertion),
+            ints.classAssertionAxiomsByIndividual.getValues(i).collect(Collectors.toSet()));
+        assertEquals(Collections.singleton(label), ints.annotationAssertionAxiomsBySubject
+            .getValues(a.getIRI()).collect(Collectors.toSet()));
+        assertEquals(Collections.singleton(sub),
+            ints.classAxiomsByClass.getValues(a).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void shouldMaterializeIndexesInParallel() throws InterruptedException {
+        Internals ints = internals();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertMaterialized(ints, ints.materializeIndexes(executor));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Collections.singleton(assertion),
+            ints.classAssertionAxiomsByClass.getValues(a).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void shouldSkipIndexesAlreadyBuilt() {
+        Internals ints = internals();
+        assertTrue(ints.subClassAxiomsBySubPosition.containsKey(a));
+        Map<String, Long> times = ints.materializeIndexes(null);
+        assertFalse(times.containsKey("subClassAxiomsBySubPosition"));
+        assertTrue(times.containsKey("subClassAxiomsBySuperPosition"));
+    }
+
+    @Test
+    public void shouldKeepIndexesUpdatedAfterMaterialization() {
+        Internals ints = internals();
+        ints.materializeIndexes(null);
+        OWLSubClassOfAxiom other = df.getOWLSubClassOfAxiom(b, a);
+        ints.addAxiom(other);
+        assertEquals(Collections.singleton(other),
+            ints.subClassAxiomsBySubPosition.getValues(b).collect(Collectors.toSet()));
+    }
+}
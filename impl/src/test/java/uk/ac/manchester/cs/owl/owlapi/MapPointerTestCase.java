@@ -0,0 +1,113 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+
+@SuppressWarnings("javadoc")
+public class MapPointerTestCase {
+
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass hub = df.getOWLClass("urn:test:Hub");
+
+    private List<OWLSubClassOfAxiom> subClassAxioms(int n) {
+        List<OWLSubClassOfAxiom> list = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            list.add(df.getOWLSubClassOfAxiom(df.getOWLClass("urn:test:C" + i), hub));
+        }
+        return list;
+    }
+
+    private void assertViewsUnaffectedByChanges(int n) {
+        Internals ints = new Internals();
+        List<OWLSubClassOfAxiom> axioms = subClassAxioms(n + 1);
+        axioms.subList(0, n).forEach(ints::addAxiom);
+        MapPointer<OWLClass, OWLSubClassOfAxiom> pointer =
+            ints.subClassAxiomsBySuperPosition;
+        Stream<OWLSubClassOfAxiom> stream = pointer.getValues(hub);
+        Collection<OWLSubClassOfAxiom> collection = pointer.getValuesAsCollection(hub);
+        ints.addAxiom(axioms.get(n));
+        ints.removeAxiom(axioms.get(0));
+        Set<OWLSubClassOfAxiom> before = new HashSet<>(axioms.subList(0, n));
+        assertEquals(before, stream.collect(Collectors.toSet()));
+        assertEquals(before, new HashSet<>(collection));
+        assertEquals(new HashSet<>(axioms.subList(1, n + 1)),
+            pointer.getValues(hub).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void shouldNotChangeSmallSetViews() {
+        assertViewsUnaffectedByChanges(2);
+    }
+
+    @Test
+    public void shouldNotChangeLargeSetViews() {
+        assertViewsUnaffectedByChanges(100);
+    }
+
+    @Test
+    public void shouldIterateLargeSetsWithoutCopying() {
+        Internals ints = new Internals();
+        List<OWLSubClassOfAxiom> axioms = subClassAxioms(1000);
+        axioms.forEach(ints::addAxiom);
+        for (int i = 0; i < 1000; i += 2) {
+            ints.removeAxiom(axioms.get(i));
+        }
+        Set<OWLSubClassOfAxiom> expected = new HashSet<>();
+        for (int i = 1; i < 1000; i += 2) {
+            expected.add(axioms.get(i));
+        }
+        List<OWLSubClassOfAxiom> values = ints.subClassAxiomsBySuperPosition.getValues(hub)
+            .collect(Collectors.toList());
+        assertEquals(expected.size(), values.size());
+        assertEquals(expected, new HashSet<>(values));
+        assertEquals(expected.size(), ints.getAxiomCount());
+    }
+
+    @Test
+    public void shouldReleaseLargeSetsOnceStreamsAreDone() {
+        HPPCSet<OWLSubClassOfAxiom> set =
+            new HPPCSet<>(subClassAxioms(10), OWLSubClassOfAxiom.class);
+        assertEquals(10, set.snapshot().count());
+        assertFalse(set.hasLiveSnapshots());
+        try (Stream<OWLSubClassOfAxiom> s = set.snapshot()) {
+            assertTrue(s.findAny().isPresent());
+            assertTrue(set.hasLiveSnapshots());
+        }
+        assertFalse(set.hasLiveSnapshots());
+    }
+
+    @Test(timeout = 10000)
+    public void shouldRunCallbacksThatChangeThePointer() {
+        Internals ints = new Internals();
+        List<OWLSubClassOfAxiom> axioms = subClassAxioms(100);
+        axioms.forEach(ints::addAxiom);
+        MapPointer<OWLClass, OWLSubClassOfAxiom> pointer = ints.subClassAxiomsBySuperPosition;
+        // writes from the callbacks need the write lock, which the read lock used to block
+        pointer.forEach(hub, ints::removeAxiom);
+        assertEquals(0, pointer.countValues(hub));
+        axioms.subList(0, 10).forEach(ints::addAxiom);
+        assertTrue(pointer.matchOnValues(hub, ax -> ints.addAxiom(axioms.get(50))));
+        assertEquals(11, pointer.countValues(hub));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowChangesThroughViews() {
+        Internals ints = new Internals();
+        subClassAxioms(10).forEach(ints::addAxiom);
+        ints.subClassAxiomsBySuperPosition.getValuesAsCollection(hub).clear();
+    }
+}
@@ -0,0 +1,67 @@
+package uk.ac.manchester.cs.owl.owlapi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+@SuppressWarnings("javadoc")
+public class SignatureTestCase {
+
+    private static final String NS = "urn:test:";
+    private final OWLDataFactory df = new OWLDataFactoryImpl();
+    private final OWLClass b = df.getOWLClass(NS, "B");
+    private final OWLClass a = df.getOWLClass(NS, "A");
+    private final OWLObjectProperty p = df.getOWLObjectProperty(NS, "p");
+    private final OWLDataProperty d = df.getOWLDataProperty(NS, "d");
+    private final OWLNamedIndividual i = df.getOWLNamedIndividual(NS, "i");
+    private final OWLDatatype integer = df.getIntegerOWLDatatype();
+    private final OWLAnonymousIndividual anon = df.getOWLAnonymousIndividual("_:x");
+    // B and p(i, _:x) and d some integer and A
+    private final OWLAxiom axiom = df.getOWLSubClassOfAxiom(b,
+        df.getOWLObjectIntersectionOf(df.getOWLObjectHasValue(p, anon),
+            df.getOWLObjectHasValue(p, i), df.getOWLDataSomeValuesFrom(d, integer), a));
+
+    @Test
+    public void shouldSortSignatureByType() {
+        assertEquals(Arrays.<OWLEntity> asList(a, b, p, d, i, integer),
+            asList(axiom.signature()));
+        assertEquals(Arrays.asList(a, b), asList(axiom.classesInSignature()));
+        assertEquals(Arrays.asList(p), asList(axiom.objectPropertiesInSignature()));
+        assertEquals(Arrays.asList(d), asList(axiom.dataPropertiesInSignature()));
+        assertEquals(Arrays.asList(i), asList(axiom.individualsInSignature()));
+        assertEquals(Arrays.asList(integer), asList(axiom.datatypesInSignature()));
+        assertTrue(asList(axiom.annotationPropertiesInSignature()).isEmpty());
+        assertEquals(Collections.singletonList(anon), asList(axiom.anonymousIndividuals()));
+    }
+
+    @Test
+    public void shouldFindEntitiesInSignature() {
+        assertTrue(axiom.containsEntityInSignature(a));
+        assertTrue(axiom.containsEntityInSignature(integer));
+        assertFalse(axiom.containsEntityInSignature(df.getOWLClass(NS, "C")));
+        assertFalse(axiom.containsEntityInSignature(df.getOWLObjectProperty(NS, "A")));
+    }
+
+    @Test
+    public void shouldHaveEmptySignature() {
+        OWLAxiom empty = df.getOWLSubClassOfAxiom(df.getOWLThing(), df.getOWLThing());
+        assertEquals(Arrays.asList(df.getOWLThing()), asList(empty.signature()));
+        assertTrue(asList(anon.signature()).isEmpty());
+        assertEquals(Collections.singletonList(anon), asList(anon.anonymousIndividuals()));
+    }
+}
@@ -5,6 +5,8 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.canSplit;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.mapPartsInParallel;
 
 import java.io.File;
 import java.io.IOException;
@@ -22,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
@@ -60,6 +63,7 @@ import org.semanticweb.owlapi.model.OWLObjectComplementOf;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.semanticweb.owlapi.model.OWLOntologyID;
@@ -123,13 +127,17 @@ public class OWLAPIObo2Owl {
      * for this particular situation.
      */
     private Map<String, IRI> idToIRICache;
+    /** Axioms of the term frames being translated on the current thread, in parallel mode. */
+    private final ThreadLocal<List<OWLAxiom>> partAxioms = new ThreadLocal<>();
+    private boolean translateInParallel;
 
     /**
      * @param manager the manager
      */
     public OWLAPIObo2Owl(OWLOntologyManager manager) {
         idSpaceMap = new HashMap<>();
-        apToDeclare = new HashSet<>();
+        // term frames translated in parallel share the annotation properties declared
+        apToDeclare = ConcurrentHashMap.newKeySet();
         clsToDeclare = new HashMap<>();
         typedefToAnnotationProperty = new HashMap<>();
         init(manager);
@@ -335,7 +343,7 @@ public class OWLAPIObo2Owl {
         fac = manager.getOWLDataFactory();
         int cacheSize = ConfigurationOptions.CACHE_SIZE
             .getValue(Integer.class, Collections.emptyMap()).intValue();
-        idToIRICache = new IDCache(cacheSize);
+        idToIRICache = Collections.synchronizedMap(new IDCache(cacheSize));
 
         // clear all internal maps.
         idSpaceMap.clear();
@@ -362,6 +370,22 @@ public class OWLAPIObo2Owl {
         this.manager = manager;
     }
 
+    /**
+     * @return true if term frames are translated in parallel
+     */
+    public boolean getTranslateInParallel() {
+        return translateInParallel;
+    }
+
+    /**
+     * @param translateInParallel true if term frames should be translated in parts on the common
+     *        fork join pool, once the header and typedef frames have been translated, and their
+     *        axioms added to the ontology in one bulk addition
+     */
+    public void setTranslateInParallel(boolean translateInParallel) {
+        this.translateInParallel = translateInParallel;
+    }
+
     /**
      * Gets the obodoc.
      *
@@ -496,7 +520,7 @@ public class OWLAPIObo2Owl {
         trHeaderFrame(hf);
         obodoc.getTypedefFrames().forEach(this::trTypedefToAnnotationProperty);
         obodoc.getTypedefFrames().forEach(this::trTypedefFrame);
-        obodoc.getTermFrames().forEach(this::trTermFrame);
+        trTermFrames(obodoc.getTermFrames());
         // TODO - individuals
         for (Clause cl : hf.getClauses(OboFormatTag.TAG_IMPORT)) {
             String path = getURI(cl.getValue().toString());
@@ -715,6 +739,36 @@ public class OWLAPIObo2Owl {
         return cls;
     }
 
+    /**
+     * Translate term frames, in parallel if {@link #setTranslateInParallel(boolean)} was set and
+     * there are enough frames. Term frames only depend on the header and typedef frames, so each
+     * part collects its own axioms; they are added to the ontology once all parts are translated.
+     *
+     * @param termFrames the term frames
+     */
+    protected void trTermFrames(Collection<Frame> termFrames) {
+        if (!translateInParallel || !canSplit(termFrames.size())) {
+            termFrames.forEach(this::trTermFrame);
+            return;
+        }
+        List<List<OWLAxiom>> axioms =
+            mapPartsInParallel(new ArrayList<>(termFrames), this::trTermFramePart);
+        try (OWLOntologyBulkLoader loader = getOwlOntology().bulkLoader()) {
+            axioms.forEach(part -> part.forEach(loader::add));
+        }
+    }
+
+    private List<OWLAxiom> trTermFramePart(List<Frame> frames) {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        partAxioms.set(axioms);
+        try {
+            frames.forEach(this::trTermFrame);
+        } finally {
+            partAxioms.remove();
+        }
+        return axioms;
+    }
+
     /**
      * Generate axioms for the alternate identifiers of an {@link OWLClass} or
      * {@link OWLObjectProperty}.
@@ -939,6 +993,11 @@ public class OWLAPIObo2Owl {
             LOG.error("no axiom");
             return;
         }
+        List<OWLAxiom> part = partAxioms.get();
+        if (part != null) {
+            part.addAll(axioms);
+            return;
+        }
         getOwlOntology().add(axioms);
     }
 
@@ -1382,8 +1441,7 @@ public class OWLAPIObo2Owl {
     protected OWLAnnotationProperty trTagToAnnotationProp(String tag) {
         IRI iri = trTagToIRI(tag);
         OWLAnnotationProperty ap = fac.getOWLAnnotationProperty(iri);
-        if (!apToDeclare.contains(ap)) {
-            apToDeclare.add(ap);
+        if (apToDeclare.add(ap)) {
             add(fac.getOWLDeclarationAxiom(ap));
             Obo2OWLVocabulary vocab = Obo2OWLConstants.getVocabularyObj(tag);
             if (vocab != null) {
@@ -7,6 +7,9 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.batches;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.canSplit;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.mapPartsInParallel;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
@@ -14,6 +17,7 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,7 +26,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -64,6 +71,7 @@ import org.semanticweb.owlapi.model.OWLInverseObjectPropertiesAxiom;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLNamedObject;
+import org.semanticweb.owlapi.model.OWLNaryClassAxiom;
 import org.semanticweb.owlapi.model.OWLNaryPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLObjectAllValuesFrom;
@@ -120,7 +128,9 @@ public class OWLAPIOwl2Obo {
         new HashSet<>(Arrays.asList("gci_relation", "gci_filler", "cardinality", MIN_CARDINALITY,
             MAX_CARDINALITY, "all_some", "all_only"));
     protected final Pattern absoluteURLPattern = Pattern.compile("<\\s*http.*?>");
-    protected final Set<OWLAxiom> untranslatableAxioms = new HashSet<>();
+    // term frames translated in parallel share the untranslatable axioms
+    protected final Set<OWLAxiom> untranslatableAxioms =
+        Collections.synchronizedSet(new HashSet<>());
     protected final Map<String, String> idSpaceMap = new HashMap<>();
     protected final Set<OWLAnnotationProperty> apToDeclare = new HashSet<>();
     private final OWLDataFactory df;
@@ -134,6 +144,12 @@ public class OWLAPIOwl2Obo {
      * Mute untranslatable axiom warnings.
      */
     private boolean muteUntranslatableAxioms = false;
+    private boolean translateInParallel;
+    /** Term frames being translated on the current thread, in parallel mode. */
+    private final ThreadLocal<OBODoc> partDoc = new ThreadLocal<>();
+    /** Axioms translated to each term frame, by frame id, when term frames are streamed. */
+    private SortedMap<String, List<OWLAxiom>> termFrameAxioms = Collections.emptySortedMap();
+    private final Map<String, String> termFrameNames = new HashMap<>();
 
     /**
      * @param translationManager the translation manager
@@ -655,6 +671,23 @@ public class OWLAPIOwl2Obo {
         this.discardUntranslatable = discardUntranslatable;
     }
 
+    /**
+     * @return true if term frames are translated in parallel
+     */
+    public boolean getTranslateInParallel() {
+        return translateInParallel;
+    }
+
+    /**
+     * @param translateInParallel true if term frames should be translated in parts on the common
+     *        fork join pool. The axioms translated to each term frame are grouped by frame, so the
+     *        frames are the same as when translating sequentially. Strict conversions are always
+     *        sequential, so that the first untranslatable axiom halts the conversion.
+     */
+    public void setTranslateInParallel(boolean translateInParallel) {
+        this.translateInParallel = translateInParallel;
+    }
+
     /**
      * Gets the manager.
      *
@@ -726,10 +759,207 @@ public class OWLAPIOwl2Obo {
         setObodoc(new OBODoc());
         preProcess();
         tr(getOWLOntology());
-        // declarations need to be sorted - otherwise there is a risk of id being processed before
-        // altId, which causes spurious clauses.
-        accept(getOWLOntology().axioms(AxiomType.DECLARATION).sorted());
-        AxiomType.skipDeclarations().forEach(t -> accept(getOWLOntology().axioms(t)));
+        if (translateInParallel && !strictConversion) {
+            trTermFrames(new ArrayList<>(trAxiomsExceptTermFrames().entrySet()))
+                .forEach(this::add);
+        } else {
+            // declarations need to be sorted - otherwise there is a risk of id being processed
+            // before altId, which causes spurious clauses.
+            accept(getOWLOntology().axioms(AxiomType.DECLARATION).sorted());
+            AxiomType.skipDeclarations().forEach(t -> accept(getOWLOntology().axioms(t)));
+        }
+        trUntranslatableAxioms();
+        return getObodoc();
+    }
+
+    /**
+     * Translates the ontology as {@link #convert(OWLOntology)} does, but does not keep the term
+     * frames: the document returned has the header and typedef frames only. Term frames are
+     * translated once to find the untranslatable axioms for the header and the names of the
+     * terms, and again, in id order and one batch at a time, when the stream returned by
+     * {@link #termFrames()} is consumed; at no point are all term frames held in memory.
+     *
+     * @param ont the ontology
+     * @return the OBO doc without term frames
+     */
+    public OBODoc convertWithoutTermFrames(OWLOntology ont) {
+        owlOntology = ont;
+        ontologyId = getOntologyId(ont);
+        init();
+        setObodoc(new OBODoc());
+        preProcess();
+        tr(getOWLOntology());
+        termFrameAxioms = trAxiomsExceptTermFrames();
+        termFrameNames.clear();
+        termFrameBatches().forEach(batch -> trTermFrames(batch).forEach(f -> {
+            Clause name = f.getClause(OboFormatTag.TAG_NAME);
+            if (name != null) {
+                termFrameNames.put(f.getId(), name.getValue(String.class));
+            }
+        }));
+        trUntranslatableAxioms();
+        return getObodoc();
+    }
+
+    /**
+     * @return the term frames of the ontology last passed to
+     *         {@link #convertWithoutTermFrames(OWLOntology)}, sorted by id. The frames are
+     *         translated in batches as the stream is consumed.
+     */
+    public Stream<Frame> termFrames() {
+        return termFrameBatches().flatMap(batch -> {
+            // the untranslatable axioms have already been found and reported
+            boolean mute = muteUntranslatableAxioms;
+            muteUntranslatableAxioms = true;
+            try {
+                return trTermFrames(batch).stream();
+            } finally {
+                muteUntranslatableAxioms = mute;
+            }
+        });
+    }
+
+    /**
+     * @param id term frame id
+     * @return the name of the term frame with the given id, from the ontology last passed to
+     *         {@link #convertWithoutTermFrames(OWLOntology)}; null if the frame has no name
+     */
+    @Nullable
+    public String getTermFrameName(String id) {
+        return termFrameNames.get(id);
+    }
+
+    private Stream<List<Map.Entry<String, List<OWLAxiom>>>> termFrameBatches() {
+        return batches(new ArrayList<>(termFrameAxioms.entrySet()));
+    }
+
+    /**
+     * Translates all axioms except those translated to term frames, and groups the latter by the
+     * id of the frame they are translated to. Axioms are visited in the same order as in a
+     * sequential translation, so the axioms for each frame keep their order.
+     *
+     * @return axioms translated to term frames, by frame id
+     */
+    private SortedMap<String, List<OWLAxiom>> trAxiomsExceptTermFrames() {
+        SortedMap<String, List<OWLAxiom>> axiomsByFrame = new TreeMap<>();
+        OWLAxiomVisitor visitor = new Translator();
+        Consumer<OWLAxiom> route = ax -> {
+            String id = termFrameId(ax);
+            if (id == null) {
+                ax.accept(visitor);
+            } else {
+                axiomsByFrame.computeIfAbsent(id, k -> new ArrayList<>()).add(ax);
+            }
+        };
+        // declarations need to be sorted, as for a sequential translation
+        getOWLOntology().axioms(AxiomType.DECLARATION).sorted().forEach(route);
+        AxiomType.skipDeclarations().forEach(t -> getOWLOntology().axioms(t).forEach(route));
+        return axiomsByFrame;
+    }
+
+    /**
+     * @param ax axiom
+     * @return id of the term frame the axiom is translated to, or null if the axiom is not
+     *         translated to a term frame
+     */
+    @Nullable
+    private String termFrameId(OWLAxiom ax) {
+        if (ax instanceof OWLDeclarationAxiom) {
+            OWLEntity entity = ((OWLDeclarationAxiom) ax).getEntity();
+            if (!entity.isOWLClass()) {
+                return null;
+            }
+            Optional<OboAltIdCheckResult> altId = checkForOboAltId(
+                asList(getOWLOntology().annotationAssertionAxioms(entity.getIRI())));
+            if (altId.isPresent()) {
+                return altId.get().replacedBy;
+            }
+            return getIdentifier(entity.getIRI());
+        }
+        if (ax instanceof OWLSubClassOfAxiom) {
+            OWLClassExpression sub = ((OWLSubClassOfAxiom) ax).getSubClass();
+            if (sub instanceof OWLObjectIntersectionOf) {
+                sub = gciClass((OWLObjectIntersectionOf) sub);
+            }
+            return sub instanceof OWLClass ? getIdentifier(((OWLClass) sub).getIRI()) : null;
+        }
+        if (ax instanceof OWLEquivalentClassesAxiom || ax instanceof OWLDisjointClassesAxiom) {
+            List<OWLClassExpression> operands =
+                asList(((OWLNaryClassAxiom) ax).classExpressions());
+            if (operands.size() != 2) {
+                return null;
+            }
+            OWLClassExpression ce = operands.get(0);
+            if (!(ce instanceof OWLClass) && ax instanceof OWLEquivalentClassesAxiom) {
+                ce = operands.get(1);
+            }
+            return ce instanceof OWLClass ? getIdentifier(((OWLClass) ce).getIRI()) : null;
+        }
+        return null;
+    }
+
+    /**
+     * @param sub subclass of a general class inclusion
+     * @return the class the axiom is translated to, as in {@link #tr(OWLSubClassOfAxiom)}; null
+     *         if the axiom is not translatable
+     */
+    @Nullable
+    private static OWLClass gciClass(OWLObjectIntersectionOf sub) {
+        Set<OWLClassExpression> xs = asSet(sub.operands(), OWLClassExpression.class);
+        if (xs.size() != 2) {
+            return null;
+        }
+        OWLClass c = null;
+        boolean restriction = false;
+        for (OWLClassExpression x : xs) {
+            if (x instanceof OWLClass) {
+                c = (OWLClass) x;
+            }
+            if (x instanceof OWLObjectSomeValuesFrom) {
+                OWLObjectSomeValuesFrom r = (OWLObjectSomeValuesFrom) x;
+                restriction |= r.getProperty().isOWLObjectProperty()
+                    && r.getFiller() instanceof OWLClass;
+            }
+        }
+        return restriction ? c : null;
+    }
+
+    /**
+     * Translates the axioms grouped by term frame, in parallel if
+     * {@link #setTranslateInParallel(boolean)} was set and there are enough frames. Each part
+     * collects its frames in its own document.
+     *
+     * @param axiomsByFrame axioms translated to each term frame, by frame id
+     * @return the term frames, in the order of the ids
+     */
+    private List<Frame> trTermFrames(List<Map.Entry<String, List<OWLAxiom>>> axiomsByFrame) {
+        if (!translateInParallel || strictConversion || !canSplit(axiomsByFrame.size())) {
+            return trTermFramePart(axiomsByFrame);
+        }
+        return asList(mapPartsInParallel(axiomsByFrame, this::trTermFramePart).stream()
+            .flatMap(List::stream));
+    }
+
+    private List<Frame> trTermFramePart(List<Map.Entry<String, List<OWLAxiom>>> axiomsByFrame) {
+        OBODoc part = new OBODoc();
+        partDoc.set(part);
+        try {
+            OWLAxiomVisitor visitor = new Translator();
+            axiomsByFrame.forEach(e -> e.getValue().forEach(ax -> ax.accept(visitor)));
+        } finally {
+            partDoc.remove();
+        }
+        List<Frame> frames = new ArrayList<>(axiomsByFrame.size());
+        for (Map.Entry<String, List<OWLAxiom>> e : axiomsByFrame) {
+            Frame f = part.getTermFrame(e.getKey());
+            if (f != null) {
+                frames.add(f);
+            }
+        }
+        return frames;
+    }
+
+    private void trUntranslatableAxioms() {
         if (!untranslatableAxioms.isEmpty() && !discardUntranslatable) {
             String axiomString = OwlStringTools.translate(untranslatableAxioms);
             if (!axiomString.isEmpty()) {
@@ -741,7 +971,6 @@ public class OWLAPIOwl2Obo {
                 headerFrame.addClause(new Clause(OboFormatTag.TAG_OWL_AXIOMS, axiomString));
             }
         }
-        return getObodoc();
     }
 
     private void accept(Stream<? extends OWLAxiom> axioms) {
@@ -808,7 +1037,7 @@ public class OWLAPIOwl2Obo {
     protected void add(@Nullable Frame f) {
         if (f != null) {
             try {
-                getObodoc().addFrame(f);
+                frames().addFrame(f);
             } catch (Exception ex) {
                 LOG.error(ex.getMessage(), ex);
             }
@@ -1859,7 +2088,7 @@ public class OWLAPIOwl2Obo {
     }
 
     private Frame getTermFrame(String id) {
-        Frame f = getObodoc().getTermFrame(id);
+        Frame f = frames().getTermFrame(id);
         if (f == null) {
             f = new Frame(FrameType.TERM);
             f.setId(id);
@@ -1869,6 +2098,14 @@ public class OWLAPIOwl2Obo {
         return f;
     }
 
+    /**
+     * @return the document collecting the term frames translated on the current thread
+     */
+    private OBODoc frames() {
+        OBODoc part = partDoc.get();
+        return part != null ? part : getObodoc();
+    }
+
     /**
      * Gets the typedef frame.
      *
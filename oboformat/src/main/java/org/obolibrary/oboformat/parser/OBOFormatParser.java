@@ -1,6 +1,7 @@
 package org.obolibrary.oboformat.parser;
 
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.verifyNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.maxParts;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -8,6 +9,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
@@ -19,6 +21,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -42,10 +46,13 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 public class OBOFormatParser {
 
     private static final String BRACE = " !{";
+    /** Minimum number of characters parsed as one part, when parsing in parallel. */
+    static final int MIN_PART_LENGTH = 1 << 16;
     static final Logger LOG = LoggerFactory.getLogger(OBOFormatParser.class);
     protected final MyStream stream;
     private final LoadingCache<String, String> stringCache;
     private boolean followImport;
+    private boolean parseInParallel;
     private Object location;
     private final ConcurrentHashMap<String, OBODoc> importCache = new ConcurrentHashMap<>();
 
@@ -141,6 +148,21 @@ public class OBOFormatParser {
         followImport = followImports;
     }
 
+    /**
+     * @return true if entity frames are parsed in parallel parts
+     */
+    public boolean getParseInParallel() {
+        return parseInParallel;
+    }
+
+    /**
+     * @param parseInParallel true if {@link #parse(Reader)} should split the document at frame
+     *        boundaries and parse the parts on the common fork join pool
+     */
+    public void setParseInParallel(boolean parseInParallel) {
+        this.parseInParallel = parseInParallel;
+    }
+
     /**
      * Parses a local file or URL to an OBODoc.
      *
@@ -232,9 +254,14 @@ public class OBOFormatParser {
      * @throws OBOFormatParserException parser exception
      */
     public OBODoc parse(Reader reader) throws IOException {
-        setReader(new BufferedReader(reader));
-        OBODoc obodoc = new OBODoc();
-        parseOBODoc(obodoc);
+        OBODoc obodoc;
+        if (parseInParallel) {
+            obodoc = parseInParallel(read(reader));
+        } else {
+            setReader(new BufferedReader(reader));
+            obodoc = new OBODoc();
+            parseOBODoc(obodoc);
+        }
         // handle imports
         Frame hf = obodoc.getHeaderFrame();
         List<OBODoc> imports = new LinkedList<>();
@@ -268,13 +295,21 @@ public class OBOFormatParser {
         parseHeaderFrame(h);
         h.freeze();
         parseZeroOrMoreWsOptCmtNl();
+        parseEntityFrames(obodoc);
+        addDefaultOboNamespace(obodoc);
+    }
+
+    private void parseEntityFrames(OBODoc obodoc) {
         while (!stream.eof()) {
             parseEntityFrame(obodoc);
             parseZeroOrMoreWsOptCmtNl();
         }
+    }
+
+    private static void addDefaultOboNamespace(OBODoc obodoc) {
         // set OBO namespace in frames
-        String defaultOboNamespace =
-            h.getTagValue(OboFormatTag.TAG_DEFAULT_NAMESPACE, String.class);
+        String defaultOboNamespace = verifyNotNull(obodoc.getHeaderFrame())
+            .getTagValue(OboFormatTag.TAG_DEFAULT_NAMESPACE, String.class);
         if (defaultOboNamespace != null) {
             addOboNamespace(obodoc.getTermFrames(), defaultOboNamespace);
             addOboNamespace(obodoc.getTypedefFrames(), defaultOboNamespace);
@@ -282,6 +317,111 @@ public class OBOFormatParser {
         }
     }
 
+    private static String read(Reader reader) throws IOException {
+        StringBuilder b = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            b.append(buffer, 0, read);
+        }
+        return b.toString();
+    }
+
+    /**
+     * Parses the header frame, then the entity frames in parts on the common fork join pool. The
+     * frames are added to the document in document order once all parts have been parsed, so that
+     * duplicate frames are merged as they would be by {@link #parseOBODoc(OBODoc)}. Documents with
+     * instance frames, documents too small to split and documents with a part that cannot be
+     * parsed are parsed sequentially, so that errors are reported as without splitting.
+     */
+    private OBODoc parseInParallel(String text) {
+        int partLength = Math.max(MIN_PART_LENGTH, text.length() / maxParts());
+        // offsets of the parts, and the number of lines before each part
+        List<int[]> parts = new ArrayList<>();
+        int lineNo = 0;
+        int lineStart = 0;
+        int partStart = -1;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            int i = lineStart;
+            while (i < lineEnd && (text.charAt(i) == ' ' || text.charAt(i) == '\t')) {
+                i++;
+            }
+            if (i < lineEnd && text.charAt(i) == '[') {
+                if (text.startsWith("[Instance]", i)) {
+                    parts.clear();
+                    break;
+                }
+                if (partStart < 0 || lineStart - partStart >= partLength) {
+                    parts.add(new int[] {lineStart, lineNo});
+                    partStart = lineStart;
+                }
+            }
+            lineStart = lineEnd + 1;
+            lineNo++;
+        }
+        if (parts.size() < 2) {
+            return parseSequentially(text);
+        }
+        OBOFormatParser headerParser = new OBOFormatParser();
+        headerParser.setReader(
+            new BufferedReader(new StringReader(text.substring(0, parts.get(0)[0]))));
+        OBODoc obodoc = new OBODoc();
+        Frame h = new Frame(FrameType.HEADER);
+        obodoc.setHeaderFrame(h);
+        headerParser.parseHeaderFrame(h);
+        h.freeze();
+        parts.add(new int[] {text.length(), lineNo});
+        List<OBODoc> docs = IntStream.range(1, parts.size()).parallel()
+            .mapToObj(i -> parsePart(text, parts.get(i - 1), parts.get(i)[0]))
+            .collect(Collectors.toList());
+        if (docs.contains(null)) {
+            return parseSequentially(text);
+        }
+        for (OBODoc doc : docs) {
+            try {
+                for (Frame f : doc.getTermFrames()) {
+                    obodoc.addFrame(f);
+                }
+                for (Frame f : doc.getTypedefFrames()) {
+                    obodoc.addFrame(f);
+                }
+            } catch (FrameMergeException e) {
+                LOG.debug("Frames merged across parts, parsing sequentially", e);
+                return parseSequentially(text);
+            }
+        }
+        addDefaultOboNamespace(obodoc);
+        return obodoc;
+    }
+
+    private OBODoc parseSequentially(String text) {
+        setReader(new BufferedReader(new StringReader(text)));
+        OBODoc obodoc = new OBODoc();
+        parseOBODoc(obodoc);
+        return obodoc;
+    }
+
+    @Nullable
+    private static OBODoc parsePart(String text, int[] start, int end) {
+        OBOFormatParser parser = new OBOFormatParser();
+        parser.setReader(new BufferedReader(new StringReader(text.substring(start[0], end))));
+        // line numbers in errors and frames count from the start of the document
+        parser.stream.lineNo = start[1];
+        OBODoc part = new OBODoc();
+        try {
+            parser.parseZeroOrMoreWsOptCmtNl();
+            parser.parseEntityFrames(part);
+            return part;
+        } catch (OBOFormatParserException e) {
+            LOG.debug("Part of the document could not be parsed, parsing sequentially", e);
+            return null;
+        }
+    }
+
     /**
      * @param doc doc
      * @return list of references
@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -640,14 +641,36 @@ public class OBOFormatWriter {
         List<Frame> instanceFrames = new ArrayList<>();
         typeDefFrames.addAll(doc.getInstanceFrames());
         Collections.sort(instanceFrames, framesComparator);
-        for (Frame f : termFrames) {
-            write(f, writer, nameProvider);
-        }
-        for (Frame f : typeDefFrames) {
-            write(f, writer, nameProvider);
+        writeFrames(Stream.of(termFrames, typeDefFrames, instanceFrames).flatMap(List::stream),
+            writer, nameProvider);
+    }
+
+    /**
+     * Writes a document frame by frame, without holding all frames. The caller is responsible
+     * for the frame order: the canonical order is term frames, then typedef frames, then instance
+     * frames, each sorted by id. If the structure is checked, each frame is checked just before
+     * it is written.
+     *
+     * @param headerFrame the header frame
+     * @param frames the frames, in the order they are written
+     * @param writer the writer
+     * @param nameProvider the name provider
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void write(Frame headerFrame, Stream<Frame> frames, Writer writer,
+        NameProvider nameProvider) throws IOException {
+        if (isCheckStructure) {
+            headerFrame.check();
         }
-        for (Frame f : instanceFrames) {
-            write(f, writer, nameProvider);
+        writeHeader(headerFrame, writer, nameProvider);
+        writeFrames(isCheckStructure ? frames.peek(Frame::check) : frames, writer, nameProvider);
+    }
+
+    private void writeFrames(Stream<Frame> frames, Writer writer, NameProvider nameProvider)
+        throws IOException {
+        Iterator<Frame> i = frames.iterator();
+        while (i.hasNext()) {
+            write(i.next(), writer, nameProvider);
         }
         // to be save always flush writer
         writer.flush();
@@ -44,6 +44,8 @@ public class LabelFunctionalSyntaxStorer extends AbstractOWLStorer {
             FunctionalSyntaxObjectRenderer renderer =
                 new FunctionalSyntaxObjectRenderer(ontology, writer);
             renderer.setPrefixManager(new LabelPrefixManager(ontology));
+            renderer.setRenderInParallel(ontology.getOWLOntologyManager()
+                .getOntologyWriterConfiguration().shouldRenderInParallel());
             ontology.accept(renderer);
             writer.flush();
         } catch (OWLRuntimeException e) {
@@ -12,16 +12,23 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.oboformat;
 
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
 import org.obolibrary.obo2owl.OWLAPIOwl2Obo;
+import org.obolibrary.oboformat.model.Frame;
 import org.obolibrary.oboformat.model.OBODoc;
 import org.obolibrary.oboformat.writer.OBOFormatWriter;
 import org.obolibrary.oboformat.writer.OBOFormatWriter.NameProvider;
@@ -48,13 +55,18 @@ public class OBOFormatRenderer implements OWLRenderer {
         throws OWLOntologyStorageException {
         try {
             OWLAPIOwl2Obo translator = new OWLAPIOwl2Obo(ontology.getOWLOntologyManager());
-            final OBODoc result = translator.convert(ontology);
+            translator.setTranslateInParallel(ontology.getOWLOntologyManager()
+                .getOntologyWriterConfiguration().shouldRenderInParallel());
+            boolean streaming =
+                format.getParameter(OBODocumentFormat.STREAMING, Boolean.FALSE).booleanValue();
+            final OBODoc result = streaming ? translator.convertWithoutTermFrames(ontology)
+                : translator.convert(ontology);
             boolean hasImports = ontology.imports().count() > 0;
             NameProvider nameProvider;
             if (hasImports) {
                 // if the ontology has imports
                 // use it as secondary lookup for labels
-                final NameProvider primary = new OBODocNameProvider(result);
+                final NameProvider primary = nameProvider(translator, result, streaming);
                 final NameProvider secondary =
                     new OWLOntologyNameProvider(ontology, primary.getDefaultOboNamespace(), result);
                 // combine primary and secondary name provider
@@ -77,18 +89,55 @@ public class OBOFormatRenderer implements OWLRenderer {
                     }
                 };
             } else {
-                nameProvider = new OBODocNameProvider(result);
+                nameProvider = nameProvider(translator, result, streaming);
             }
             OBOFormatWriter oboFormatWriter = new OBOFormatWriter();
             oboFormatWriter.setCheckStructure(
                 format.getParameter(OBODocumentFormat.VALIDATION, Boolean.TRUE).booleanValue());
-            oboFormatWriter.write(result, new PrintWriter(new BufferedWriter(writer)),
-                nameProvider);
+            PrintWriter out = new PrintWriter(new BufferedWriter(writer));
+            if (streaming) {
+                // term frames are translated as they are written; typedef frames are held
+                List<Frame> typedefFrames = new ArrayList<>(result.getTypedefFrames());
+                typedefFrames.addAll(result.getInstanceFrames());
+                typedefFrames.sort(Comparator.comparing(Frame::getId));
+                oboFormatWriter.write(checkNotNull(result.getHeaderFrame()),
+                    Stream.concat(translator.termFrames(), typedefFrames.stream()), out,
+                    nameProvider);
+            } else {
+                oboFormatWriter.write(result, out, nameProvider);
+            }
         } catch (IOException e) {
             throw new OWLOntologyStorageException(e);
         }
     }
 
+    private static NameProvider nameProvider(OWLAPIOwl2Obo translator, OBODoc result,
+        boolean streaming) {
+        OBODocNameProvider names = new OBODocNameProvider(result);
+        if (!streaming) {
+            return names;
+        }
+        // the document holds no term frames: term names are kept by the translator
+        return new NameProvider() {
+
+            @Override
+            @Nullable
+            public String getName(String id) {
+                String name = translator.getTermFrameName(id);
+                if (name != null) {
+                    return name;
+                }
+                return names.getName(id);
+            }
+
+            @Override
+            @Nullable
+            public String getDefaultOboNamespace() {
+                return names.getDefaultOboNamespace();
+            }
+        };
+    }
+
     @Override
     public void render(OWLOntology ontology, OutputStream os) throws OWLOntologyStorageException {
         render(ontology, new OutputStreamWriter(os), ontology.getNonnullFormat());
@@ -0,0 +1,468 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.functional.parser;
+
+import static org.semanticweb.owlapi.functional.parser.OWLFunctionalSyntaxParserConstants.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * A tokenizer that reads UTF-8 encoded functional syntax directly from a byte buffer, typically a
+ * memory mapped file. Tokens are recognized on raw bytes: all delimiters are ASCII, so they never
+ * occur inside multi byte sequences. Keywords, prefixed names and full IRIs are looked up in a
+ * table keyed by their bytes, so each distinct name is decoded once and repeated occurrences
+ * produce no new strings; full IRI tokens carry their {@link IRI} as value. Only string literals and
+ * numbers are decoded for each occurrence.
+ * <p>
+ * Tokens are the same as those produced by {@link CustomTokenizer} for the same text; columns are
+ * counted in bytes.
+ */
+class ByteTokenizer implements TokenManager {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private final ByteBuffer in;
+    private final int limit;
+    private int pos;
+    private int lineNo = 1;
+    private int lineStart;
+    private int startLine = -1;
+    private int startCol = -1;
+    private byte[] scratch = new byte[256];
+    private final Names names = new Names();
+
+    /**
+     * @param in buffer holding the document between its position and limit
+     */
+    ByteTokenizer(ByteBuffer in) {
+        this.in = in;
+        pos = in.position();
+        limit = in.limit();
+        if (startsWith(UTF8_BOM)) {
+            pos += UTF8_BOM.length;
+        }
+        lineStart = pos;
+        for (int kind = 0; kind < tokenImage.length; kind++) {
+            String keyword = keyword(kind);
+            if (keyword != null) {
+                names.add(keyword.getBytes(StandardCharsets.UTF_8), kind, keyword, null);
+            }
+        }
+    }
+
+    /**
+     * @return the keyword for the token kind, or null if the token is not a keyword
+     */
+    @Nullable
+    private static String keyword(int kind) {
+        // CustomTokenizer reads fractionDigits as a local name
+        if (kind == FRACTIONDIGITS) {
+            return null;
+        }
+        String image = tokenImage[kind];
+        if (image.length() < 3 || image.charAt(0) != '"'
+            || image.charAt(image.length() - 1) != '"') {
+            return null;
+        }
+        String word = image.substring(1, image.length() - 1);
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isLetter(word.charAt(i))) {
+                return null;
+            }
+        }
+        return word;
+    }
+
+    private boolean startsWith(byte[] prefix) {
+        if (limit - pos < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (in.get(pos + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Token getNextToken() {
+        while (true) {
+            if (!findTokenStart()) {
+                return makeToken(EOF, "");
+            }
+            byte b = in.get(pos);
+            switch (b) {
+                case '(':
+                    pos++;
+                    return makeToken(OPENPAR, "(");
+                case ')':
+                    pos++;
+                    return makeToken(CLOSEPAR, ")");
+                case '@':
+                    pos++;
+                    return makeToken(LANGIDENTIFIER, "@");
+                case '=':
+                    pos++;
+                    return makeToken(EQUALS, "=");
+                case '^':
+                    return readDatatypeIdentifier();
+                case '#':
+                    if (!skipComment()) {
+                        return makeToken(EOF, "");
+                    }
+                    break;
+                case '"':
+                    return readStringLiteral();
+                case '<':
+                    return readFullIRI();
+                default:
+                    return b >= '0' && b <= '9' ? readNumber() : readTextualToken();
+            }
+        }
+    }
+
+    private Token readDatatypeIdentifier() {
+        pos++;
+        if (pos == limit) {
+            return makeToken(EOF, "");
+        }
+        if (in.get(pos) == '^') {
+            pos++;
+            return makeToken(DATATYPEIDENTIFIER, "^^");
+        }
+        int start = pos;
+        pos += sequenceLength(in.get(pos));
+        pos = Math.min(pos, limit);
+        return makeToken(ERROR, "^" + decode(start, pos));
+    }
+
+    private boolean skipComment() {
+        while (pos < limit) {
+            if (in.get(pos++) == '\n') {
+                newLine();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Token readStringLiteral() {
+        int start = pos;
+        pos++;
+        while (pos < limit) {
+            byte b = in.get(pos++);
+            if (b == '"') {
+                return makeToken(STRINGLITERAL, decode(start, pos));
+            }
+            if (b == '\n') {
+                newLine();
+            } else if (b == '\\') {
+                if (pos == limit) {
+                    break;
+                }
+                byte escaped = in.get(pos++);
+                if (escaped != '\\' && escaped != '"') {
+                    return makeToken(ERROR, "Bad escape sequence in StringLiteral");
+                }
+            }
+        }
+        // unterminated literal
+        return makeToken(EOF, "");
+    }
+
+    private Token readFullIRI() {
+        int start = pos;
+        while (pos < limit) {
+            byte b = in.get(pos++);
+            if (b == '>') {
+                return makeToken(names.get(start, pos, FULLIRI));
+            }
+            if (b == '\n') {
+                newLine();
+            }
+        }
+        return makeToken(ERROR, "<");
+    }
+
+    private Token readNumber() {
+        int start = pos;
+        while (pos < limit && in.get(pos) >= '0' && in.get(pos) <= '9') {
+            pos++;
+        }
+        return makeToken(INT, decode(start, pos));
+    }
+
+    private Token readTextualToken() {
+        int start = pos;
+        while (pos < limit && !isDelimiter(in.get(pos))) {
+            pos++;
+        }
+        return makeToken(names.get(start, pos, PN_LOCAL));
+    }
+
+    private static boolean isDelimiter(byte b) {
+        switch (b) {
+            case '=':
+            case '"':
+            case '(':
+            case ')':
+            case '<':
+            case '>':
+            case '@':
+            case '^':
+            case '\r':
+            case '\n':
+            case ' ':
+            case '\t':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the kind of a textual token that is not a keyword, as determined by its colons
+     */
+    private int nameKind(int start, int end) {
+        int colon = -1;
+        for (int i = start; i < end; i++) {
+            if (in.get(i) == ':') {
+                colon = i;
+            }
+        }
+        if (colon < 0) {
+            return PN_LOCAL;
+        }
+        if (colon == end - 1) {
+            return PNAME_NS;
+        }
+        if (end - start > 1 && in.get(start) == '_' && in.get(start + 1) == ':') {
+            return NODEID;
+        }
+        return PNAME_LN;
+    }
+
+    private static int sequenceLength(byte lead) {
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 1;
+    }
+
+    private String decode(int start, int end) {
+        int length = end - start;
+        if (in.hasArray()) {
+            return new String(in.array(), in.arrayOffset() + start, length,
+                StandardCharsets.UTF_8);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = in.get(start + i);
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean findTokenStart() {
+        while (pos < limit) {
+            byte b = in.get(pos);
+            if (b == '\n') {
+                pos++;
+                newLine();
+            } else if (b == ' ' || b == '\t' || b == '\r') {
+                pos++;
+            } else {
+                startLine = lineNo;
+                startCol = pos - lineStart + 1;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void newLine() {
+        lineNo++;
+        lineStart = pos;
+    }
+
+    private Token makeToken(int kind, String image) {
+        Token result = new Token(kind, image);
+        result.beginLine = startLine;
+        result.beginColumn = startCol;
+        return result;
+    }
+
+    private Token makeToken(Names.Entry entry) {
+        Token result = entry.iri == null ? new Token(entry.kind, entry.image)
+            : new IRIToken(entry.kind, entry.image, entry.iri);
+        result.beginLine = startLine;
+        result.beginColumn = startCol;
+        return result;
+    }
+
+    /**
+     * A full IRI token; the value is the IRI.
+     */
+    static class IRIToken extends Token {
+
+        private static final long serialVersionUID = 1L;
+        private final IRI iri;
+
+        IRIToken(int kind, String image, IRI iri) {
+            super(kind, image);
+            this.iri = iri;
+        }
+
+        @Override
+        public IRI getValue() {
+            return iri;
+        }
+    }
+
+    /**
+     * Open addressing table from the bytes of a name to its token kind, image and, for full IRIs,
+     * its IRI.
+     */
+    private final class Names {
+
+        final class Entry {
+
+            final byte[] key;
+            final int hash;
+            final int kind;
+            final String image;
+            @Nullable
+            final IRI iri;
+
+            Entry(byte[] key, int hash, int kind, String image, @Nullable IRI iri) {
+                this.key = key;
+                this.hash = hash;
+                this.kind = kind;
+                this.image = image;
+                this.iri = iri;
+            }
+        }
+
+        private Entry[] entries = new Entry[1024];
+        private int size = 0;
+
+        /**
+         * @param start start of the name
+         * @param end end of the name
+         * @param kind FULLIRI for full IRIs, anything else for other names
+         * @return the entry for the name, added if not already there
+         */
+        Entry get(int start, int end, int kind) {
+            int hash = hash(start, end);
+            int mask = entries.length - 1;
+            int slot = hash & mask;
+            for (Entry e = entries[slot]; e != null; e = entries[slot]) {
+                if (e.hash == hash && matches(e.key, start, end)) {
+                    return e;
+                }
+                slot = (slot + 1) & mask;
+            }
+            byte[] key = new byte[end - start];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = in.get(start + i);
+            }
+            String image = new String(key, StandardCharsets.UTF_8);
+            if (kind == FULLIRI) {
+                return add(key, FULLIRI, image, IRI.create(image.substring(1, image.length() - 1)));
+            }
+            return add(key, nameKind(start, end), image, null);
+        }
+
+        Entry add(byte[] key, int kind, String image, @Nullable IRI iri) {
+            if (size * 2 >= entries.length) {
+                rehash();
+            }
+            int hash = hash(key);
+            Entry e = new Entry(key, hash, kind, image, iri);
+            int mask = entries.length - 1;
+            int slot = hash & mask;
+            while (entries[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            entries[slot] = e;
+            size++;
+            return e;
+        }
+
+        private void rehash() {
+            Entry[] old = entries;
+            entries = new Entry[old.length * 2];
+            int mask = entries.length - 1;
+            for (Entry e : old) {
+                if (e != null) {
+                    int slot = e.hash & mask;
+                    while (entries[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    entries[slot] = e;
+                }
+            }
+        }
+
+        private boolean matches(byte[] key, int start, int end) {
+            if (key.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != in.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int hash(int start, int end) {
+            int h = 0x811C9DC5;
+            for (int i = start; i < end; i++) {
+                h = (h ^ in.get(i)) * 0x01000193;
+            }
+            return mix(h);
+        }
+
+        private int hash(byte[] key) {
+            int h = 0x811C9DC5;
+            for (byte b : key) {
+                h = (h ^ b) * 0x01000193;
+            }
+            return mix(h);
+        }
+
+        private int mix(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * @return number of distinct names and IRIs read so far, including keywords
+     */
+    int distinctNames() {
+        return names.size;
+    }
+}
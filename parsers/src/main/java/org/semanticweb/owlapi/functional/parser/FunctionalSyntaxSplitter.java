@@ -0,0 +1,176 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.functional.parser;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * Finds the boundaries of top level axioms in a functional syntax document, so that the document
+ * can be parsed in parts. The header, i.e., the prefix declarations, the ontology IRIs, the imports
+ * and the ontology annotations, ends where the first axiom starts; the axioms are grouped in runs
+ * of roughly equal length, each ending at the end of an axiom. Only parentheses, full IRIs, string
+ * literals and comments are recognized; anything else is left to the parser.
+ */
+final class FunctionalSyntaxSplitter {
+
+    private final String text;
+    private final int chunkLength;
+    private int[] boundaries = new int[16];
+    private int count = 0;
+
+    private FunctionalSyntaxSplitter(String text, int chunkLength) {
+        this.text = text;
+        this.chunkLength = chunkLength;
+    }
+
+    /**
+     * @param text functional syntax document
+     * @param chunkLength minimum number of characters in a run of axioms
+     * @return the end of the header followed by the end of each run of axioms; the last element is
+     *         the position of the parenthesis closing the ontology. Null if the document does not
+     *         have the expected structure or has no axioms; the parser will then report any errors.
+     */
+    @Nullable
+    static int[] split(String text, int chunkLength) {
+        return new FunctionalSyntaxSplitter(text, chunkLength).split();
+    }
+
+    @Nullable
+    private int[] split() {
+        int n = text.length();
+        int depth = 0;
+        boolean inOntology = false;
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    i = skipString(i);
+                    break;
+                case '<':
+                    i = text.indexOf('>', i);
+                    break;
+                case '#':
+                    if (isTokenStart(i)) {
+                        i = skipComment(i);
+                    }
+                    break;
+                case '(':
+                    if (depth == 0 && !inOntology) {
+                        inOntology = "Ontology".equals(wordBefore(i));
+                    } else if (depth == 1 && inOntology && count == 0) {
+                        String word = wordBefore(i);
+                        if (!"Import".equals(word) && !"Annotation".equals(word)) {
+                            add(skipWhitespaceBackwards(i) - word.length());
+                        }
+                    }
+                    depth++;
+                    break;
+                case ')':
+                    depth--;
+                    if (depth < 0) {
+                        return null;
+                    }
+                    if (depth == 1 && count > 0 && i + 1 - boundaries[count - 1] >= chunkLength) {
+                        add(i + 1);
+                    } else if (depth == 0 && inOntology) {
+                        return finish(i);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (i < 0) {
+                // unterminated IRI or string literal
+                return null;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private int[] finish(int end) {
+        if (count == 0 || !isBlank(end + 1, text.length())) {
+            return null;
+        }
+        if (count > 1 && isBlank(boundaries[count - 1], end)) {
+            // only whitespace after the last run of axioms
+            boundaries[count - 1] = end;
+        } else {
+            add(end);
+        }
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    private void add(int boundary) {
+        if (count == boundaries.length) {
+            boundaries = Arrays.copyOf(boundaries, count * 2);
+        }
+        boundaries[count++] = boundary;
+    }
+
+    private int skipString(int start) {
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipComment(int start) {
+        int end = text.indexOf('\n', start);
+        return end < 0 ? text.length() : end;
+    }
+
+    private boolean isTokenStart(int i) {
+        if (i == 0) {
+            return true;
+        }
+        char c = text.charAt(i - 1);
+        return Character.isWhitespace(c) || "()\"<>@^=".indexOf(c) > -1;
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '#') {
+                i = skipComment(i);
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int skipWhitespaceBackwards(int end) {
+        int i = end;
+        while (i > 0 && Character.isWhitespace(text.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private String wordBefore(int end) {
+        int wordEnd = skipWhitespaceBackwards(end);
+        int i = wordEnd;
+        while (i > 0 && Character.isLetter(text.charAt(i - 1))) {
+            i--;
+        }
+        return text.substring(i, wordEnd);
+    }
+}
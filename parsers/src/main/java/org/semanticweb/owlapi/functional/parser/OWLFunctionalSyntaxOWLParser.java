@@ -12,19 +12,48 @@
  * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
 package org.semanticweb.owlapi.functional.parser;
 
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.emptyOptional;
+import static org.semanticweb.owlapi.util.OWLAPIPreconditions.optional;
+
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
 
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormatFactory;
 import org.semanticweb.owlapi.io.AbstractOWLParser;
 import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.FileDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
 import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Matthew Horridge, The University Of Manchester, Bio-Health Informatics Group
@@ -32,6 +61,14 @@ import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
  */
 public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
 
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(OWLFunctionalSyntaxOWLParser.class);
+    /** Minimum number of characters parsed as one part. */
+    static final int MIN_CHUNK_LENGTH = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+    /** Files of this size or larger are memory mapped rather than read. */
+    static final int MAP_THRESHOLD = 1 << 20;
+
     @Override
     public OWLDocumentFormatFactory getSupportedFormat() {
         return new FunctionalSyntaxDocumentFormatFactory();
@@ -40,15 +77,179 @@ public class OWLFunctionalSyntaxOWLParser extends AbstractOWLParser {
     @Override
     public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
         OWLOntologyLoaderConfiguration config) {
-        try (Reader r = DocumentSources.wrapInputAsReader(source, config)) {
-            OWLFunctionalSyntaxParser parser =
-                new OWLFunctionalSyntaxParser(new CustomTokenizer(r));
-            parser.setUp(ontology, config);
-            return parser.parse();
+        try {
+            if (!config.shouldParseInParallel()) {
+                Optional<ByteBuffer> bytes = localFile(source);
+                if (bytes.isPresent()) {
+                    return parse(new ByteTokenizer(bytes.get()), ontology, config);
+                }
+            }
+            try (Reader r = DocumentSources.wrapInputAsReader(source, config)) {
+                if (config.shouldParseInParallel()) {
+                    return parseInParallel(read(r), ontology, config);
+                }
+                return parse(new CustomTokenizer(r), ontology, config);
+            }
         } catch (ParseException e) {
             throw new OWLParserException(e.getMessage(), e, 0, 0);
         } catch (OWLOntologyInputSourceException | IOException e) {
             throw new OWLParserException(e);
         }
     }
+
+    private static OWLDocumentFormat parse(TokenManager tokenizer, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        OWLFunctionalSyntaxParser parser = new OWLFunctionalSyntaxParser(tokenizer);
+        parser.setUp(ontology, config);
+        return parser.parse();
+    }
+
+    /**
+     * @param source document source
+     * @return the content of the document, if the source is a local file whose content does not
+     *         start with a byte order mark for an encoding other than UTF-8. Large files are mapped
+     *         into memory, small files are read into a heap buffer.
+     */
+    static Optional<ByteBuffer> localFile(OWLOntologyDocumentSource source) {
+        if (!(source instanceof FileDocumentSource)) {
+            return emptyOptional();
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(source.getDocumentIRI().toURI()),
+            StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return emptyOptional();
+            }
+            ByteBuffer buffer;
+            if (size < MAP_THRESHOLD) {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // read until the buffer is full
+                }
+                // cast, so that the Java 8 runtime finds Buffer.flip()
+                ((Buffer) buffer).flip();
+            } else {
+                buffer = channel.map(MapMode.READ_ONLY, 0, size);
+            }
+            return isUTF16or32(buffer) ? emptyOptional() : optional(buffer);
+        } catch (IOException | IllegalArgumentException | FileSystemNotFoundException e) {
+            // reading through the source will report the problem, if there is one
+            LOGGER.debug("Document cannot be read as a local file", e);
+            return emptyOptional();
+        }
+    }
+
+    private static boolean isUTF16or32(ByteBuffer buffer) {
+        if (buffer.remaining() < 2) {
+            return false;
+        }
+        int first = buffer.get(0) & 0xFF;
+        int second = buffer.get(1) & 0xFF;
+        return first == 0xFE && second == 0xFF || first == 0xFF && second == 0xFE
+            || first == 0 && second == 0;
+    }
+
+    /**
+     * Parses the header of the document, then the axioms in parts on the common fork join pool.
+     * The header changes, imports and axioms are applied to the ontology, in document order, only
+     * once all parts have been parsed; if a part cannot be parsed, whatever the error, the whole
+     * document is parsed again sequentially, so that errors are reported as they would be without
+     * splitting the document.
+     */
+    private static OWLDocumentFormat parseInParallel(String text, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        int chunkLength = Math.max(MIN_CHUNK_LENGTH,
+            text.length() / (CHUNKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+        int[] boundaries = FunctionalSyntaxSplitter.split(text, chunkLength);
+        if (boundaries == null || boundaries.length < 3) {
+            return parse(new CustomTokenizer(new StringReader(text)), ontology, config);
+        }
+        List<OWLOntologyChange> headerChanges = new ArrayList<>();
+        List<OWLImportsDeclaration> imports = new ArrayList<>();
+        List<OWLAxiom> headerAxioms = new ArrayList<>();
+        OWLFunctionalSyntaxParser header = new OWLFunctionalSyntaxParser(
+            new CustomTokenizer(new StringReader(text.substring(0, boundaries[0]) + ')'))) {
+
+            @Override
+            protected void applyChange(OWLOntologyChange chg) {
+                headerChanges.add(chg);
+            }
+
+            @Override
+            protected void loadImport(OWLImportsDeclaration decl) {
+                imports.add(decl);
+            }
+
+            @Override
+            protected void addAxiom(OWLAxiom ax) {
+                if (!ax.isAnnotationAxiom() || config.isLoadAnnotationAxioms()) {
+                    headerAxioms.add(ax);
+                }
+            }
+        };
+        header.setUp(ontology, config);
+        FunctionalSyntaxDocumentFormat format = header.parse();
+        // blank node ids are shared by all parts of the document
+        RemappingIndividualProvider anonProvider = header.anonProvider;
+        List<List<OWLAxiom>> parts = IntStream.range(1, boundaries.length).parallel()
+            .mapToObj(i -> parseAxioms(text, boundaries[i - 1], boundaries[i], format,
+                anonProvider, ontology, config))
+            .collect(Collectors.toList());
+        if (parts.contains(null)) {
+            return parse(new CustomTokenizer(new StringReader(text)), ontology, config);
+        }
+        OWLOntologyManager manager = ontology.getOWLOntologyManager();
+        headerChanges.forEach(manager::applyChange);
+        imports.forEach(decl -> manager.makeLoadImportRequest(decl, config));
+        try (OWLOntologyBulkLoader loader = ontology.bulkLoader()) {
+            headerAxioms.forEach(loader::add);
+            parts.forEach(part -> part.forEach(loader::add));
+        }
+        return format;
+    }
+
+    @Nullable
+    private static List<OWLAxiom> parseAxioms(String text, int start, int end,
+        FunctionalSyntaxDocumentFormat prefixes, RemappingIndividualProvider anonProvider,
+        OWLOntology ontology, OWLOntologyLoaderConfiguration config) {
+        List<OWLAxiom> axioms = new ArrayList<>();
+        String part = new StringBuilder(end - start + 10).append("Ontology(")
+            .append(text, start, end).append(')').toString();
+        OWLFunctionalSyntaxParser parser =
+            new OWLFunctionalSyntaxParser(new CustomTokenizer(new StringReader(part))) {
+
+                @Override
+                protected void applyChange(OWLOntologyChange chg) {
+                    // the header has been parsed already
+                }
+
+                @Override
+                protected void addAxiom(OWLAxiom ax) {
+                    if (!ax.isAnnotationAxiom() || config.isLoadAnnotationAxioms()) {
+                        axioms.add(ax);
+                    }
+                }
+            };
+        parser.setPrefixes(prefixes);
+        parser.setUp(ontology, config);
+        parser.anonProvider = anonProvider;
+        try {
+            parser.parse();
+            return axioms;
+        } catch (RuntimeException e) {
+            // ParseException, TokenMgrException, or errors from creating objects; the sequential
+            // parse reports them
+            LOGGER.debug("Part of the document could not be parsed", e);
+            return null;
+        }
+    }
+
+    private static String read(Reader r) throws IOException {
+        StringBuilder b = new StringBuilder();
+        char[] buffer = new char[1 << 16];
+        for (int read = r.read(buffer); read != -1; read = r.read(buffer)) {
+            b.append(buffer, 0, read);
+        }
+        return b.toString();
+    }
 }
@@ -23,6 +23,7 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
     private boolean ignoreAnnotationsAndDeclarations = false;
     private Set<OWLAnnotation> currentAnnotations;
     protected RemappingIndividualProvider anonProvider;
+    private OWLOntologyBulkLoader loader;
 
     public void setUp(OWLOntology ontology, OWLOntologyLoaderConfiguration configuration) {
         this.man = ontology.getOWLOntologyManager();
@@ -63,6 +64,15 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         return iri;
     }
 
+    private IRI getIRI(Token t) {
+        // tokenizers can resolve full IRIs while reading them
+        Object value = t.getValue();
+        if(value instanceof IRI) {
+            return (IRI) value;
+        }
+        return getIRI(t.image);
+    }
+
     public void setIgnoreAnnotationsAndDeclarations(boolean b) {
         ignoreAnnotationsAndDeclarations = b;
     }
@@ -71,9 +81,23 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
         man.applyChange(chg);
     }
 
+    protected void loadImport(OWLImportsDeclaration decl) {
+        man.makeLoadImportRequest(decl, configuration);
+    }
+
     protected void addAxiom(OWLAxiom ax) {
         if (!(ax instanceof OWLAnnotationAxiom) || configuration.isLoadAnnotationAxioms()) {
-            ontology.addAxiom(ax);
+            if (loader == null) {
+                loader = ontology.bulkLoader();
+            }
+            loader.add(ax);
+        }
+    }
+
+    protected void closeLoader() {
+        if (loader != null) {
+            loader.close();
+            loader = null;
         }
     }
 
@@ -85,26 +109,30 @@ public class OWLFunctionalSyntaxParser implements OWLFunctionalSyntaxParserConst
     }
 
   final public FunctionalSyntaxDocumentFormat parse() throws ParseException, OWLParserException, UnloadableImportException {
-    label_1:
-    while (true) {
-      switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
-      case PREFIX:{
-        ;
-        break;
+    try {
+      label_1:
+      while (true) {
+        switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
+        case PREFIX:{
+          ;
+          break;
+          }
+        default:
+          jj_la1[0] = jj_gen;
+          break label_1;
         }
-      default:
-        jj_la1[0] = jj_gen;
-        break label_1;
-      }
-      Prefix();
+        Prefix();
+      }
+      Ontology();
+      jj_consume_token(0);
+  FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+          for(String pn : prefixMap.keySet()) {
+              format.setPrefix(pn, prefixMap.get(pn));
+          }
+          return format;
+    } finally {
+closeLoader();
     }
-    Ontology();
-    jj_consume_token(0);
-FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
-        for(String pn : prefixMap.keySet()) {
-            format.setPrefix(pn, prefixMap.get(pn));
-        }
-        return format;
 }
 
   final public void Ontology() throws ParseException, OWLParserException, UnloadableImportException {OWLAnnotation anno;
@@ -152,7 +180,7 @@ OWLOntologyID id = new OWLOntologyID(ontologyIRI, versionIRI);
       case IMPORT:{
         decl = ImportsDeclaration();
 applyChange(new AddImport(ontology, decl));
-        man.makeLoadImportRequest(decl, configuration);
+        loadImport(decl);
         break;
         }
       case ANNOTATION:{
@@ -253,7 +281,7 @@ return iri;
 
   final public IRI FullIRI() throws ParseException {Token t;
     t = jj_consume_token(FULLIRI);
-return getIRI(t.image);
+return getIRI(t);
 }
 
   final public IRI AbbreviatedIRI() throws ParseException {Token t;
@@ -16,6 +16,9 @@ import static org.semanticweb.owlapi.model.parameters.Imports.EXCLUDED;
 import static org.semanticweb.owlapi.model.parameters.Imports.INCLUDED;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.batches;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.canSplit;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.mapPartsInParallel;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION_ASSERTION;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION_PROPERTY;
@@ -99,6 +102,7 @@ import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.TRANSITIVE_OBJECT_PR
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.VARIABLE;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -109,6 +113,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -244,6 +250,7 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
     private Optional<PrefixManager> prefixManager = Optional.empty();
     private boolean writeEntitiesAsURIs = true;
     private boolean addMissingDeclarations = true;
+    private boolean renderInParallel;
 
     protected Stream<? extends OWLAxiom> retrieve(OWLEntity e, OWLOntology o) {
         if (e.isOWLClass()) {
@@ -299,6 +306,22 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
         });
     }
 
+    /**
+     * Renderer for a part of the output of another renderer, with the same settings.
+     *
+     * @param renderer the renderer to copy
+     * @param writer the writer for the part
+     */
+    private FunctionalSyntaxObjectRenderer(FunctionalSyntaxObjectRenderer renderer,
+        Writer writer) {
+        ont = renderer.ont;
+        this.writer = writer;
+        defaultPrefixManager = renderer.defaultPrefixManager;
+        labelMaker = renderer.labelMaker;
+        prefixManager = renderer.prefixManager;
+        addMissingDeclarations = renderer.addMissingDeclarations;
+    }
+
     /**
      * Set the add missing declaration flag.
      *
@@ -308,6 +331,15 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
         addMissingDeclarations = flag;
     }
 
+    /**
+     * @param renderInParallel true if the axioms of an ontology should be rendered in parts on the
+     *        common fork join pool. The axioms written for each entity are chosen sequentially, and
+     *        the parts are written in order, so the output is the same as sequential rendering.
+     */
+    public void setRenderInParallel(boolean renderInParallel) {
+        this.renderInParallel = renderInParallel;
+    }
+
     /**
      * @param prefixManager the new prefix manager
      */
@@ -414,12 +446,38 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
         writeSortedEntities("Named Individuals", "Individual",
             ontology.individualsInSignature(EXCLUDED), writtenAxioms);
         ontology.signature().forEach(e -> writeAxioms(e, writtenAxioms));
-        ontology.axioms().filter(ax -> !writtenAxioms.contains(ax)).sorted()
-            .forEach(this::acceptAndReturn);
+        render(asList(ontology.axioms().filter(ax -> !writtenAxioms.contains(ax)).sorted()),
+            FunctionalSyntaxObjectRenderer::acceptAndReturn);
         writeCloseBracket();
         flush();
     }
 
+    /**
+     * Renders objects in order. In parallel mode, the objects are split in batches, and the parts
+     * of a batch are rendered on the common fork join pool into their own buffers, which are then
+     * written in order.
+     *
+     * @param objects objects to render
+     * @param renderer renders one object with the renderer for its part
+     */
+    private <T> void render(List<T> objects,
+        BiConsumer<FunctionalSyntaxObjectRenderer, T> renderer) {
+        if (!renderInParallel || !canSplit(objects.size())) {
+            objects.forEach(o -> renderer.accept(this, o));
+            return;
+        }
+        batches(objects).forEach(batch -> mapPartsInParallel(batch, p -> renderPart(p, renderer))
+            .forEach(this::write));
+    }
+
+    private <T> String renderPart(List<T> objects,
+        BiConsumer<FunctionalSyntaxObjectRenderer, T> renderer) {
+        StringWriter part = new StringWriter();
+        FunctionalSyntaxObjectRenderer partRenderer = new FunctionalSyntaxObjectRenderer(this, part);
+        objects.forEach(o -> renderer.accept(partRenderer, o));
+        return part.toString();
+    }
+
     /**
      * @param axioms axioms to render
      * @return String containing the axioms, rendered as if they were the only content of a fresh
@@ -552,7 +610,9 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
 
     private void writeEntities(String comment, String entityTypeName,
         List<? extends OWLEntity> entities, Set<OWLAxiom> writtenAxioms) {
-        boolean haveWrittenBanner = false;
+        // the axioms written for each entity depend on the entities before it; they are chosen
+        // first, so that the entities can be rendered in parallel
+        List<Consumer<FunctionalSyntaxObjectRenderer>> entityRenderers = new ArrayList<>();
         for (OWLEntity owlEntity : entities) {
             List<? extends OWLAxiom> axiomsForEntity =
                 asList(retrieve(owlEntity).filter(ax -> !writtenAxioms.contains(ax)));
@@ -562,16 +622,21 @@ public class FunctionalSyntaxObjectRenderer implements OWLObjectVisitor {
             if (axiomsForEntity.isEmpty() && list.isEmpty()) {
                 continue;
             }
-            if (!haveWrittenBanner) {
-                writeln("############################");
-                writeln("#   " + comment);
-                writeln("############################");
-                writeReturn();
-                haveWrittenBanner = true;
-            }
             axiomsForEntity.sort(null);
             list.sort(null);
-            writeEntity2(owlEntity, entityTypeName, axiomsForEntity, list, writtenAxioms);
+            List<OWLAnnotationAssertionAxiom> annotations =
+                asList(list.stream().filter(writtenAxioms::add));
+            List<? extends OWLAxiom> axioms = asList(
+                axiomsForEntity.stream().filter(this::shouldWrite).filter(writtenAxioms::add));
+            entityRenderers.add(r -> r.writeEntity2(owlEntity, entityTypeName, axioms,
+                annotations, new HashSet<>()));
+        }
+        if (!entityRenderers.isEmpty()) {
+            writeln("############################");
+            writeln("#   " + comment);
+            writeln("############################");
+            writeReturn();
+            render(entityRenderers, (r, entityRenderer) -> entityRenderer.accept(r));
         }
     }
 
@@ -35,7 +35,11 @@ public class FunctionalSyntaxStorer extends AbstractOWLStorer {
     protected void storeOntology(OWLOntology ontology, PrintWriter writer, OWLDocumentFormat format)
         throws OWLOntologyStorageException {
         try {
-            ontology.accept(new FunctionalSyntaxObjectRenderer(ontology, writer));
+            FunctionalSyntaxObjectRenderer renderer =
+                new FunctionalSyntaxObjectRenderer(ontology, writer);
+            renderer.setRenderInParallel(ontology.getOWLOntologyManager()
+                .getOntologyWriterConfiguration().shouldRenderInParallel());
+            ontology.accept(renderer);
             writer.flush();
         } catch (OWLRuntimeException e) {
             throw new OWLOntologyStorageException(e);
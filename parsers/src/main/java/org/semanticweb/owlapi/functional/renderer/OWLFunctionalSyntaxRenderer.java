@@ -30,6 +30,8 @@ public class OWLFunctionalSyntaxRenderer extends AbstractOWLRenderer {
         try {
             FunctionalSyntaxObjectRenderer ren = new FunctionalSyntaxObjectRenderer(ontology,
                 writer);
+            ren.setRenderInParallel(ontology.getOWLOntologyManager()
+                .getOntologyWriterConfiguration().shouldRenderInParallel());
             ontology.accept(ren);
             writer.flush();
         } catch (OWLRuntimeException e) {
@@ -120,8 +120,10 @@ import javax.annotation.Nullable;
 import org.semanticweb.owlapi.io.OWLParserException;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
 import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
@@ -156,6 +158,8 @@ class OWLXMLPH extends DefaultHandler implements AnonymousIndividualByIdProvider
     @Nullable
     private Locator locator;
     private boolean atLeastOneValidTagFound = false;
+    @Nullable
+    private OWLOntologyBulkLoader loader;
 
     /**
      * @param ontology ontology to parse into
@@ -428,7 +432,25 @@ class OWLXMLPH extends DefaultHandler implements AnonymousIndividualByIdProvider
 
     @Override
     public void endDocument() {
-        // nothing to do here
+        if (loader != null) {
+            loader.close();
+            loader = null;
+        }
+    }
+
+    /**
+     * Adds an axiom to the ontology. Axioms are added in batches; all axioms are in the ontology
+     * once the end of the document has been reached.
+     *
+     * @param axiom axiom to add
+     */
+    void addAxiom(OWLAxiom axiom) {
+        OWLOntologyBulkLoader l = loader;
+        if (l == null) {
+            l = ontology.bulkLoader();
+            loader = l;
+        }
+        l.add(axiom);
     }
 
     @Override
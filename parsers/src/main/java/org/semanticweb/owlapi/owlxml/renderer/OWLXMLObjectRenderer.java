@@ -13,7 +13,11 @@
 package org.semanticweb.owlapi.owlxml.renderer;
 
 import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asList;
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asUnorderedSet;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.batches;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.canSplit;
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.mapPartsInParallel;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION_ASSERTION;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.ANNOTATION_PROPERTY;
@@ -98,7 +102,10 @@ import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.SYMMETRIC_OBJECT_PRO
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.TRANSITIVE_OBJECT_PROPERTY;
 import static org.semanticweb.owlapi.vocab.OWLXMLVocabulary.VARIABLE;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -202,6 +209,7 @@ import org.semanticweb.owlapi.vocab.OWL2Datatype;
 public class OWLXMLObjectRenderer implements OWLObjectVisitor {
 
     private final OWLXMLWriter writer;
+    private boolean renderInParallel;
 
     /**
      * @param writer writer
@@ -210,6 +218,15 @@ public class OWLXMLObjectRenderer implements OWLObjectVisitor {
         this.writer = checkNotNull(writer, "writer cannot be null");
     }
 
+    /**
+     * @param renderInParallel true if the axioms of an ontology should be rendered in parts on the
+     *        common fork join pool. The parts are written in order, so the output is the same as
+     *        sequential rendering.
+     */
+    public void setRenderInParallel(boolean renderInParallel) {
+        this.renderInParallel = renderInParallel;
+    }
+
     private void writeAnnotations(OWLAxiom axiom) {
         checkNotNull(axiom, "axiom cannot be null");
         render(axiom.annotations());
@@ -248,7 +265,31 @@ public class OWLXMLObjectRenderer implements OWLObjectVisitor {
         }
         Stream<AxiomType<? extends OWLAxiom>> skipDeclarations =
             AxiomType.AXIOM_TYPES.stream().filter(t -> !t.equals(AxiomType.DECLARATION));
-        render(skipDeclarations.flatMap(ontology::axioms).distinct().sorted());
+        render(asList(skipDeclarations.flatMap(ontology::axioms).distinct().sorted()));
+    }
+
+    /**
+     * Renders axioms in order. In parallel mode, the axioms are split in batches, and the parts of
+     * a batch are rendered on the common fork join pool into their own buffers, which are then
+     * written in order.
+     *
+     * @param axioms axioms to render
+     */
+    private void render(List<? extends OWLAxiom> axioms) {
+        if (!renderInParallel || !canSplit(axioms.size())) {
+            axioms.forEach(ax -> ax.accept(this));
+            return;
+        }
+        batches(axioms).forEach(
+            batch -> mapPartsInParallel(batch, this::renderPart).forEach(writer::writePart));
+    }
+
+    private String renderPart(List<? extends OWLAxiom> axioms) {
+        StringWriter part = new StringWriter();
+        OWLXMLObjectRenderer partRenderer =
+            new OWLXMLObjectRenderer(writer.partWriter(new PrintWriter(part)));
+        axioms.forEach(ax -> ax.accept(partRenderer));
+        return part.toString();
     }
 
     @Override
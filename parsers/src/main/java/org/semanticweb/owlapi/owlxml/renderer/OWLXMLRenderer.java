@@ -72,6 +72,8 @@ public class OWLXMLRenderer extends AbstractOWLRenderer {
                 w.writePrefix("owl:", Namespaces.OWL.toString());
             }
             OWLXMLObjectRenderer ren = new OWLXMLObjectRenderer(w);
+            ren.setRenderInParallel(ontology.getOWLOntologyManager()
+                .getOntologyWriterConfiguration().shouldRenderInParallel());
             ontology.accept(ren);
             w.endDocument();
             writer.flush();
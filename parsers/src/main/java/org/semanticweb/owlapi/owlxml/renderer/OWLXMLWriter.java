@@ -38,7 +38,6 @@ import org.semanticweb.owlapi.model.NodeID;
 import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLRuntimeException;
-import org.semanticweb.owlapi.rdf.rdfxml.renderer.XMLWriter;
 import org.semanticweb.owlapi.rdf.rdfxml.renderer.XMLWriterImpl;
 import org.semanticweb.owlapi.rdf.rdfxml.renderer.XMLWriterNamespaceManager;
 import org.semanticweb.owlapi.util.StringLengthComparator;
@@ -62,8 +61,8 @@ public class OWLXMLWriter {
     private static final IRI VERSION_IRI = IRI.create(Namespaces.OWL.getPrefixIRI(), "versionIRI");
     private static final IRI ONTOLOGY_IRI =
         IRI.create(Namespaces.OWL.getPrefixIRI(), "ontologyIRI");
-    private final XMLWriter writer;
-    private final Map<String, String> iriPrefixMap = new TreeMap<>(new StringLengthComparator());
+    private final XMLWriterImpl writer;
+    private final Map<String, String> iriPrefixMap;
 
     /**
      * @param writer writer
@@ -81,6 +80,32 @@ public class OWLXMLWriter {
         }
         this.writer = new XMLWriterImpl(writer, nsm, base,
             ontology.getOWLOntologyManager().getOntologyWriterConfiguration());
+        iriPrefixMap = new TreeMap<>(new StringLengthComparator());
+    }
+
+    private OWLXMLWriter(XMLWriterImpl writer, Map<String, String> iriPrefixMap) {
+        this.writer = writer;
+        this.iriPrefixMap = iriPrefixMap;
+    }
+
+    /**
+     * Creates a writer for a part of the content of the current element, with the prefixes of
+     * this writer. The part is added to the document with {@link #writePart(String)}; parts can
+     * be written by different threads, as long as this writer is not used until they are added.
+     *
+     * @param partWriter writer for the part
+     * @return writer for the part
+     */
+    public OWLXMLWriter partWriter(PrintWriter partWriter) {
+        return new OWLXMLWriter(writer.partWriter(partWriter), iriPrefixMap);
+    }
+
+    /**
+     * @param part the output of a writer created by {@link #partWriter(PrintWriter)} for the
+     *        current element
+     */
+    public void writePart(String part) {
+        writer.writePart(part);
     }
 
     /**
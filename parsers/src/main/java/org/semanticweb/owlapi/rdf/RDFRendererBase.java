@@ -44,10 +44,12 @@ import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_NIL;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_REST;
 import static org.semanticweb.owlapi.vocab.OWLRDFVocabulary.RDF_TYPE;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedList;
@@ -60,6 +62,7 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import org.semanticweb.owlapi.formats.RDFDocumentFormat;
 import org.semanticweb.owlapi.io.RDFNode;
 import org.semanticweb.owlapi.io.RDFResource;
 import org.semanticweb.owlapi.io.RDFResourceBlankNode;
@@ -136,7 +139,7 @@ public abstract class RDFRendererBase {
             .map(a -> a.getIRI()));
     protected final IndividualAppearance occurrences;
     protected final AxiomAppearance axiomOccurrences;
-    protected final Set<OWLAxiom> translatedAxioms = new HashSet<>();
+    protected final Set<OWLAxiom> translatedAxioms;
     protected final OWLOntologyWriterConfiguration config;
     protected final Set<RDFResource> pending = new HashSet<>();
     @Nullable
@@ -147,8 +150,12 @@ public abstract class RDFRendererBase {
     private final AtomicInteger nextBlankNodeId = new AtomicInteger(1);
     private final Deque<RDFResourceBlankNode> nodesToRenderSeparately = new LinkedList<>();
     private final Set<RDFResourceBlankNode> renderedNodes = new HashSet<>();
-    private final Map<Object, Integer> blankNodeMap = new IdentityHashMap<>();
+    private final Map<Object, Integer> blankNodeMap;
     private final OWLObjectDesharer desharer;
+    // with a data factory that interns objects, equal expressions in different axioms are the
+    // same instance and would share a blank node, so every object is deshared
+    private final boolean deshareAll;
+    private final boolean streaming;
 
     /**
      * @param ontology ontology
@@ -165,6 +172,7 @@ public abstract class RDFRendererBase {
         OWLOntologyManager m = this.ontology.getOWLOntologyManager();
         desharer = new OWLObjectDesharer(m);
         df = m.getOWLDataFactory();
+        deshareAll = df.isInterning();
         this.format = format;
         if (m.getOntologyWriterConfiguration().shouldSaveIdsForAllAnonymousIndividuals()) {
             occurrences = x -> true;
@@ -177,6 +185,37 @@ public abstract class RDFRendererBase {
             axiomOccurrences = x -> x.annotations().anyMatch(a -> !a.annotationsAsList().isEmpty());
         }
         punned = ontology.getPunnedIRIs(EXCLUDED);
+        streaming = format != null
+            && format.getParameter(RDFDocumentFormat.STREAMING, Boolean.FALSE).booleanValue();
+        blankNodeMap = streaming ? new ObjectBlankNodeMap() : new IdentityHashMap<>();
+        translatedAxioms = streaming ? new ReleasableAxioms() : new HashSet<>();
+    }
+
+    /**
+     * Translated axioms that remember which of them were added since the last release, so that
+     * releasing the axioms of a rendered object does not scan all translated axioms. Axioms about
+     * anonymous individuals are kept, since they are reached again from every object that refers to
+     * the individual.
+     */
+    private static class ReleasableAxioms extends HashSet<OWLAxiom> {
+
+        private final transient List<OWLAxiom> added = new ArrayList<>();
+
+        @Override
+        public boolean add(OWLAxiom ax) {
+            if (!super.add(ax)) {
+                return false;
+            }
+            if (!(AxiomSubjectProviderEx.getSubject(ax) instanceof OWLAnonymousIndividual)) {
+                added.add(ax);
+            }
+            return true;
+        }
+
+        void release() {
+            added.forEach(this::remove);
+            added.clear();
+        }
     }
 
     /** Hooks for subclasses */
@@ -248,6 +287,27 @@ public abstract class RDFRendererBase {
      */
     protected abstract void writeIndividualComments(OWLNamedIndividual ind);
 
+    /**
+     * Called in streaming mode after each entity, anonymous individual or general axiom has been
+     * rendered; subclasses that keep track of what has been written should forget it here, so that
+     * memory use does not grow with the ontology.
+     */
+    protected void releaseRenderedState() {
+        ((ReleasableAxioms) translatedAxioms).release();
+        renderedNodes.clear();
+        ((ObjectBlankNodeMap) blankNodeMap).release();
+    }
+
+    private void objectRendered() {
+        if (streaming) {
+            releaseRenderedState();
+        }
+    }
+
+    private <T> Stream<T> inOrder(Stream<T> objects) {
+        return streaming ? objects : objects.sorted();
+    }
+
     /**
      * Render document.
      */
@@ -291,7 +351,7 @@ public abstract class RDFRendererBase {
     private void renderEntities(Stream<? extends OWLEntity> entities, String bannerText,
         Collection<IRI> illegalPuns) {
         AtomicBoolean firstRendering = new AtomicBoolean(true);
-        entities.sorted().filter(e -> createGraph(e, illegalPuns))
+        inOrder(entities).filter(e -> createGraph(e, illegalPuns))
             .forEach(e -> render(e, firstRendering, bannerText));
     }
 
@@ -300,6 +360,7 @@ public abstract class RDFRendererBase {
             writeBanner(bannerText);
         }
         renderEntity(entity);
+        objectRendered();
     }
 
     private void renderEntity(OWLEntity entity) {
@@ -344,7 +405,7 @@ public abstract class RDFRendererBase {
             .forEach(ax -> addIfUntyped(ax.getSubject(), annotatedIRIs));
         if (!annotatedIRIs.isEmpty()) {
             writeBanner(ANNOTATED_IRIS_BANNER_TEXT);
-            annotatedIRIs.stream().sorted().forEach(this::renderIRI);
+            inOrder(annotatedIRIs.stream()).forEach(this::renderIRI);
         }
     }
 
@@ -354,6 +415,7 @@ public abstract class RDFRendererBase {
         render(new RDFResourceIRI(verifyAbsolute(iri)), true);
         renderAnonRoots();
         endObject();
+        objectRendered();
     }
 
     private void renderAnonymousIndividuals() {
@@ -367,6 +429,7 @@ public abstract class RDFRendererBase {
             .noneMatch(ax -> shouldNotRender(anonInd, axioms, ax))) {
             createGraph(axioms);
             renderAnonRoots();
+            objectRendered();
         }
     }
 
@@ -389,6 +452,7 @@ public abstract class RDFRendererBase {
             variableExtractor.getVariables()
                 .forEach(var -> render(new RDFResourceIRI(verifyAbsolute(var.getIRI())), true));
             renderAnonRoots();
+            objectRendered();
         }
     }
 
@@ -398,7 +462,8 @@ public abstract class RDFRendererBase {
 
     private void renderGeneralAxioms() {
         AtomicBoolean bannerWritten = new AtomicBoolean(false);
-        getGeneralAxioms().forEach(ax -> renderGeneral(bannerWritten, ax));
+        Stream<OWLAxiom> axioms = streaming ? generalAxioms() : getGeneralAxioms().stream();
+        axioms.forEach(ax -> renderGeneral(bannerWritten, ax));
     }
 
     protected void renderGeneral(AtomicBoolean bannerWritten, OWLAxiom axiom) {
@@ -412,6 +477,7 @@ public abstract class RDFRendererBase {
             renderAnonRoots();
             endObject();
         }
+        objectRendered();
     }
 
     protected RDFGraph getRDFGraph() {
@@ -428,27 +494,28 @@ public abstract class RDFRendererBase {
      *         style).
      */
     private List<OWLAxiom> getGeneralAxioms() {
-        List<OWLAxiom> generalAxioms = new ArrayList<>();
-        add(generalAxioms, ontology.generalClassAxioms());
-        add(generalAxioms, ontology.axioms(DIFFERENT_INDIVIDUALS));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_CLASSES).filter(ax -> ax.classExpressions().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_OBJECT_PROPERTIES).filter(ax -> ax.properties().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(DISJOINT_DATA_PROPERTIES).filter(ax -> ax.properties().count() > 2));
-        add(generalAxioms,
-            ontology.axioms(HAS_KEY).filter(ax -> ax.getClassExpression().isAnonymous()));
+        List<OWLAxiom> generalAxioms = asList(generalAxioms());
         generalAxioms.sort(null);
         return generalAxioms;
     }
 
+    private Stream<OWLAxiom> generalAxioms() {
+        return Stream.<Stream<? extends OWLAxiom>>of(ontology.generalClassAxioms(),
+            ontology.axioms(DIFFERENT_INDIVIDUALS),
+            ontology.axioms(DISJOINT_CLASSES).filter(ax -> ax.classExpressions().count() > 2),
+            ontology.axioms(DISJOINT_OBJECT_PROPERTIES).filter(ax -> ax.properties().count() > 2),
+            ontology.axioms(DISJOINT_DATA_PROPERTIES).filter(ax -> ax.properties().count() > 2),
+            ontology.axioms(HAS_KEY).filter(ax -> ax.getClassExpression().isAnonymous()))
+            .flatMap(x -> x);
+    }
+
     protected void renderOntologyHeader() {
         createGraph(ontology);
         RDFResource node = getRDFGraph().getOntology();
         if (node != null) {
             render(node);
         }
+        objectRendered();
     }
 
     protected void render(RDFResource node) {
@@ -491,7 +558,7 @@ public abstract class RDFRendererBase {
     }
 
     protected OWLObject deshare(OWLObject o) {
-        if (o.hasSharedStructure()) {
+        if (deshareAll || o.hasSharedStructure()) {
             return o.accept(desharer);
         }
         return o;
@@ -742,6 +809,44 @@ public abstract class RDFRendererBase {
         }
     }
 
+    /**
+     * Blank node ids in streaming mode. Anonymous individuals, which are keyed by their id, keep the
+     * same blank node in the whole document; all other keys are objects created while translating
+     * one entity, and are released once it has been rendered.
+     */
+    private static final class ObjectBlankNodeMap extends AbstractMap<Object, Integer> {
+
+        private final Map<Object, Integer> individuals = new HashMap<>();
+        private final Map<Object, Integer> objects = new IdentityHashMap<>();
+
+        ObjectBlankNodeMap() {}
+
+        private Map<Object, Integer> map(@Nullable Object key) {
+            return key instanceof String ? individuals : objects;
+        }
+
+        @Override
+        public Integer get(@Nullable Object key) {
+            return map(key).get(key);
+        }
+
+        @Override
+        public Integer put(Object key, Integer value) {
+            return map(key).put(key, value);
+        }
+
+        @Override
+        public Set<Entry<Object, Integer>> entrySet() {
+            Set<Entry<Object, Integer>> entries = new HashSet<>(individuals.entrySet());
+            entries.addAll(objects.entrySet());
+            return entries;
+        }
+
+        void release() {
+            objects.clear();
+        }
+    }
+
     protected void defer(RDFNode object) {
         nodesToRenderSeparately.add((RDFResourceBlankNode) object);
     }
@@ -341,22 +341,28 @@ public class OWLRDFConsumer
      */
     private final Map<IRI, OWLObjectPropertyExpression> translatedProperties = createMap();
     /**
-     * Subject, predicate, object
+     * Ids for the IRIs in triples.
      */
-    private final Map<IRI, Map<IRI, Collection<IRI>>> resTriplesBySubject = createMap();
+    private final TermDictionary<IRI> tripleIRIs = new TermDictionary<>();
     /**
-     * Predicate, subject, object
+     * Ids for the literals in triples.
      */
-    private final Map<IRI, Map<IRI, IRI>> singleValuedResTriplesByPredicate = createMap();
+    private final TermDictionary<OWLLiteral> tripleLiterals = new TermDictionary<>();
     /**
-     * Literal triples
+     * Resource triples
+     */
+    private final TripleTable<IRI> resTriples = new TripleTable<>(tripleIRIs, tripleIRIs);
+    /**
+     * Resource triples whose predicate has a single value for each subject
      */
-    private final Map<IRI, Map<IRI, Collection<OWLLiteral>>> litTriplesBySubject = createMap();
-    // Resource triples
+    private final TripleTable<IRI> singleValuedResTriples =
+        new TripleTable<>(tripleIRIs, tripleIRIs);
+    private final Set<IRI> singleValuedResPredicates = createSet();
     /**
-     * Predicate, subject, object
+     * Literal triples
      */
-    private final Map<IRI, Map<IRI, OWLLiteral>> singleValuedLitTriplesByPredicate = createMap();
+    private final TripleTable<OWLLiteral> litTriples =
+        new TripleTable<>(tripleIRIs, tripleLiterals);
     private final Map<IRI, IRI> remappedIRIs = createMap();
     private final Map<String, IRI> remappedIRIStrings = createMap();
     // Caching IRIs here helps save memory. This cache is local to a particular
@@ -487,7 +493,7 @@ public class OWLRDFConsumer
         Stream
             .of(OWL_ON_PROPERTY, OWL_SOME_VALUES_FROM, OWL_ALL_VALUES_FROM, OWL_ON_CLASS,
                 OWL_ON_DATA_RANGE)
-            .forEach(v -> singleValuedResTriplesByPredicate.put(v.getIRI(), createMap()));
+            .forEach(v -> singleValuedResPredicates.add(v.getIRI()));
     }
 
     private void setupSynonymMap() {
@@ -1162,18 +1168,6 @@ public class OWLRDFConsumer
         }
     }
 
-    protected <T> boolean contains(Map<IRI, Map<IRI, Collection<T>>> map, IRI subject,
-        IRI predicate, T value) {
-        Map<IRI, Collection<T>> resPredObjMap = map.get(subject);
-        if (resPredObjMap != null) {
-            Collection<T> collection = resPredObjMap.get(predicate);
-            if (collection != null) {
-                return collection.contains(value);
-            }
-        }
-        return false;
-    }
-
     /**
      * Adds the SWRL rule.
      *
@@ -1351,17 +1345,11 @@ public class OWLRDFConsumer
     protected void dumpRemainingTriples() {
         // if info logging is disabled or all collections are empty, do not
         // output anything
-        if (LOGGER.isInfoEnabled()
-            && singleValuedResTriplesByPredicate.size() + singleValuedLitTriplesByPredicate.size()
-                + resTriplesBySubject.size() + litTriplesBySubject.size() > 0) {
-            singleValuedResTriplesByPredicate
-                .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
-            singleValuedLitTriplesByPredicate
-                .forEach((p, map) -> map.forEach((s, o) -> printTriple(s, p, o)));
-            resTriplesBySubject
-                .forEach((p, map) -> map.forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
-            litTriplesBySubject
-                .forEach((p, map) -> map.forEach((s, o) -> o.forEach(x -> printTriple(s, p, x))));
+        if (LOGGER.isInfoEnabled() && singleValuedResTriples.size() + resTriples.size()
+            + litTriples.size() > 0) {
+            singleValuedResTriples.forEach(OWLRDFConsumer::printTriple);
+            resTriples.forEach(OWLRDFConsumer::printTriple);
+            litTriples.forEach(OWLRDFConsumer::printTriple);
         }
     }
 
@@ -1503,10 +1491,11 @@ public class OWLRDFConsumer
         listRestTripleMap.clear();
         // XXX clean new members
         translatorAccessor.cleanup();
-        resTriplesBySubject.clear();
-        litTriplesBySubject.clear();
-        singleValuedLitTriplesByPredicate.clear();
-        singleValuedResTriplesByPredicate.clear();
+        resTriples.clear();
+        litTriples.clear();
+        singleValuedResTriples.clear();
+        tripleIRIs.clear();
+        tripleLiterals.clear();
         guessedDeclarations.clear();
     }
 
@@ -1872,14 +1861,8 @@ public class OWLRDFConsumer
      */
     protected Set<IRI> getPredicatesBySubject(IRI subject) {
         Set<IRI> iris = createLinkedSet();
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            iris.addAll(predObjMap.keySet());
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMapLit = litTriplesBySubject.get(subject);
-        if (predObjMapLit != null) {
-            iris.addAll(predObjMapLit.keySet());
-        }
+        resTriples.getPredicates(subject, iris);
+        litTriples.getPredicates(subject, iris);
         return iris;
     }
 
@@ -1906,32 +1889,10 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected IRI getResourceObject(IRI subject, IRI predicate, boolean consume) {
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
+        if (singleValuedResPredicates.contains(predicate)) {
+            return singleValuedResTriples.getFirst(subject, predicate, consume);
         }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                IRI object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                    if (predObjMap.isEmpty()) {
-                        resTriplesBySubject.remove(subject);
-                    }
-                }
-                return object;
-            }
-        }
-        return null;
+        return resTriples.getFirst(subject, predicate, consume);
     }
 
     /**
@@ -1943,20 +1904,10 @@ public class OWLRDFConsumer
      */
     protected Set<IRI> getResourceObjects(IRI subject, IRI predicate) {
         Set<IRI> result = createLinkedSet();
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
+        if (singleValuedResPredicates.contains(predicate)) {
+            singleValuedResTriples.getObjects(subject, predicate, result);
         }
+        resTriples.getObjects(subject, predicate, result);
         return result;
     }
 
@@ -1984,29 +1935,7 @@ public class OWLRDFConsumer
      */
     @Nullable
     protected OWLLiteral getLiteralObject(IRI subject, IRI predicate, boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && !objects.isEmpty()) {
-                OWLLiteral object = objects.iterator().next();
-                if (consume) {
-                    objects.remove(object);
-                }
-                if (objects.isEmpty()) {
-                    predObjMap.remove(predicate);
-                }
-                return object;
-            }
-        }
-        return null;
+        return litTriples.getFirst(subject, predicate, consume);
     }
 
     /**
@@ -2018,20 +1947,7 @@ public class OWLRDFConsumer
      */
     protected Set<OWLLiteral> getLiteralObjects(IRI subject, IRI predicate) {
         Set<OWLLiteral> result = createLinkedSet();
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (obj != null) {
-                result.add(obj);
-            }
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null) {
-                result.addAll(objects);
-            }
-        }
+        litTriples.getObjects(subject, predicate, result);
         return result;
     }
 
@@ -2045,31 +1961,10 @@ public class OWLRDFConsumer
      * @return true, if is triple present
      */
     protected boolean isTriplePresent(IRI subject, IRI predicate, IRI object, boolean consume) {
-        Map<IRI, IRI> subjPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            IRI obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<IRI>> predObjMap = resTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<IRI> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            resTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
+        if (singleValuedResPredicates.contains(predicate)) {
+            return singleValuedResTriples.getFirst(subject, predicate, consume) != null;
         }
-        return false;
+        return resTriples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -2083,31 +1978,7 @@ public class OWLRDFConsumer
      */
     protected boolean isTriplePresent(IRI subject, IRI predicate, OWLLiteral object,
         boolean consume) {
-        Map<IRI, OWLLiteral> subjPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjPredMap != null) {
-            OWLLiteral obj = subjPredMap.get(subject);
-            if (consume) {
-                subjPredMap.remove(subject);
-            }
-            return obj != null;
-        }
-        Map<IRI, Collection<OWLLiteral>> predObjMap = litTriplesBySubject.get(subject);
-        if (predObjMap != null) {
-            Collection<OWLLiteral> objects = predObjMap.get(predicate);
-            if (objects != null && objects.contains(object)) {
-                if (consume) {
-                    objects.remove(object);
-                    if (objects.isEmpty()) {
-                        predObjMap.remove(predicate);
-                        if (predObjMap.isEmpty()) {
-                            litTriplesBySubject.remove(subject);
-                        }
-                    }
-                }
-                return true;
-            }
-        }
-        return false;
+        return litTriples.contains(subject, predicate, object, consume);
     }
 
     /**
@@ -2118,23 +1989,11 @@ public class OWLRDFConsumer
      * @return true, if successful
      */
     protected boolean hasPredicate(IRI subject, IRI predicate) {
-        Map<IRI, IRI> resPredMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (resPredMap != null) {
-            return resPredMap.containsKey(subject);
+        if (singleValuedResPredicates.contains(predicate)) {
+            return singleValuedResTriples.hasPredicate(subject, predicate);
         }
-        Map<IRI, OWLLiteral> litPredMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (litPredMap != null) {
-            return litPredMap.containsKey(subject);
-        }
-        Map<IRI, Collection<IRI>> resPredObjMap = resTriplesBySubject.get(subject);
-        if (resPredObjMap != null && resPredObjMap.containsKey(predicate)) {
-            return true;
-        }
-        Map<IRI, Collection<OWLLiteral>> litPredObjMap = litTriplesBySubject.get(subject);
-        if (litPredObjMap != null) {
-            return litPredObjMap.containsKey(predicate);
-        }
-        return false;
+        return resTriples.hasPredicate(subject, predicate)
+            || litTriples.hasPredicate(subject, predicate);
     }
 
     /**
@@ -2260,8 +2119,8 @@ public class OWLRDFConsumer
     }
 
     protected boolean isAxiomIRI(IRI s) {
-        return contains(resTriplesBySubject, s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
-            OWLRDFVocabulary.OWL_AXIOM.getIRI());
+        return resTriples.contains(s, OWLRDFVocabulary.RDF_TYPE.getIRI(),
+            OWLRDFVocabulary.OWL_AXIOM.getIRI(), false);
     }
 
     /**
@@ -2287,9 +2146,7 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateResources(ResourceTripleIterator iterator) {
-        new ArrayList<>(resTriplesBySubject.entrySet()).forEach(
-            e -> new ArrayList<>(e.getValue().entrySet()).forEach(p -> new ArrayList<>(p.getValue())
-                .forEach(object -> iterator.handleResourceTriple(e.getKey(), p.getKey(), object))));
+        resTriples.forEach(iterator::handleResourceTriple);
     }
 
     /**
@@ -2298,9 +2155,7 @@ public class OWLRDFConsumer
      * @param iterator the iterator
      */
     protected void iterateLiterals(LiteralTripleIterator iterator) {
-        new ArrayList<>(litTriplesBySubject.entrySet()).forEach(
-            e -> new ArrayList<>(e.getValue().entrySet()).forEach(p -> new ArrayList<>(p.getValue())
-                .forEach(object -> iterator.handleLiteralTriple(e.getKey(), p.getKey(), object))));
+        litTriples.forEach(iterator::handleLiteralTriple);
     }
 
     @Override
@@ -2327,22 +2182,14 @@ public class OWLRDFConsumer
     }
 
     protected void addTriple(IRI subject, IRI predicate, IRI object) {
-        Map<IRI, IRI> subjObjMap = singleValuedResTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, object);
+        if (singleValuedResPredicates.contains(predicate)) {
+            singleValuedResTriples.put(subject, predicate, object);
         } else {
-            resTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                .computeIfAbsent(predicate, x -> createLinkedSet()).add(object);
+            resTriples.add(subject, predicate, object);
         }
     }
 
     protected void addTriple(IRI subject, IRI predicate, OWLLiteral con) {
-        Map<IRI, OWLLiteral> subjObjMap = singleValuedLitTriplesByPredicate.get(predicate);
-        if (subjObjMap != null) {
-            subjObjMap.put(subject, con);
-        } else {
-            litTriplesBySubject.computeIfAbsent(subject, x -> createMap())
-                .computeIfAbsent(predicate, x -> createLinkedSet()).add(con);
-        }
+        litTriples.add(subject, predicate, con);
     }
 }
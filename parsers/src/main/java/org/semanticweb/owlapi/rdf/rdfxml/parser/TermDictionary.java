@@ -0,0 +1,133 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import java.util.Arrays;
+
+/**
+ * Assigns dense int ids to RDF terms, in order of first appearance. Terms are kept in a single
+ * array indexed by id, and looked up through an open addressing table of ids, so that an entry
+ * costs an array slot, a cached hash code and two table slots rather than a map entry. Entries are
+ * only removed all at once.
+ *
+ * @param <T> term type
+ */
+final class TermDictionary<T> {
+
+    static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 256;
+    private Object[] terms;
+    private int[] hashes;
+    private int[] slots;
+    private int size;
+
+    TermDictionary() {
+        clear();
+    }
+
+    /**
+     * @param term term to look up or add
+     * @return id for the term
+     */
+    int intern(T term) {
+        int h = term.hashCode();
+        int mask = slots.length - 1;
+        int slot = mix(h) & mask;
+        for (int id = slots[slot]; id != NONE; id = slots[slot]) {
+            if (hashes[id] == h && term.equals(terms[id])) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int id = size++;
+        if (id == terms.length) {
+            terms = Arrays.copyOf(terms, id * 2);
+            hashes = Arrays.copyOf(hashes, id * 2);
+        }
+        terms[id] = term;
+        hashes[id] = h;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        } else {
+            slots[slot] = id;
+        }
+        return id;
+    }
+
+    /**
+     * @param term term to look up
+     * @return id for the term, or {@link #NONE} if the term has no id
+     */
+    int find(T term) {
+        int h = term.hashCode();
+        int mask = slots.length - 1;
+        int slot = mix(h) & mask;
+        for (int id = slots[slot]; id != NONE; id = slots[slot]) {
+            if (hashes[id] == h && term.equals(terms[id])) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * @param id term id
+     * @return term with the id
+     */
+    @SuppressWarnings("unchecked")
+    T get(int id) {
+        return (T) terms[id];
+    }
+
+    /**
+     * @return number of terms
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all terms; ids are reused from zero afterwards.
+     */
+    void clear() {
+        terms = new Object[INITIAL_CAPACITY];
+        hashes = new int[INITIAL_CAPACITY];
+        slots = emptySlots(INITIAL_CAPACITY * 2);
+        size = 0;
+    }
+
+    private void rehash(int n) {
+        int[] newSlots = emptySlots(n);
+        int mask = n - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(hashes[id]) & mask;
+            while (newSlots[slot] != NONE) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id;
+        }
+        slots = newSlots;
+    }
+
+    static int[] emptySlots(int n) {
+        int[] toReturn = new int[n];
+        Arrays.fill(toReturn, NONE);
+        return toReturn;
+    }
+
+    static int mix(int h) {
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+}
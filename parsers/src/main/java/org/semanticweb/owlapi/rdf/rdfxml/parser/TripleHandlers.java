@@ -730,6 +730,21 @@ public class TripleHandlers {
             return consumer.isAnonymousNode(node);
         }
 
+        /**
+         * @param node node to check
+         * @return true if the node is named and already typed as an entity, and has not been seen
+         *         as an ontology, a reified axiom or an annotation; triples about such a node can be
+         *         translated without waiting for the rest of the document
+         */
+        protected boolean isTypedEntity(IRI node) {
+            if (isAnon(node) || consumer.isOntology(node) || consumer.isAxiom(node)
+                || consumer.isAnnotation(node)) {
+                return false;
+            }
+            return isCe(node) || isDr(node) || isOpLax(node) || isDPLax(node) || isApLax(node)
+                || consumer.isIndividual(node);
+        }
+
         protected boolean isResourcePresent(IRI mainNode, OWLRDFVocabulary p) {
             return getResourceObject(mainNode, p) != null;
         }
@@ -939,7 +954,9 @@ public class TripleHandlers {
 
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, OWLLiteral o) {
-            return false;
+            // once a property is known to be an annotation property, a literal value is always
+            // translated as an annotation
+            return !isStrict() && isApLax(p) && isTypedEntity(s);
         }
 
         @Override
@@ -981,7 +998,10 @@ public class TripleHandlers {
 
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, IRI o) {
-            return false;
+            // declaring a property as object property later on would turn the triple into an
+            // object property assertion, so only built in annotation properties are safe
+            return !isStrict() && BUILT_IN_AP_IRIS.contains(p) && !isOpLax(p) && !isAnon(o)
+                && isTypedEntity(s);
         }
 
         @Override
@@ -1086,7 +1106,9 @@ public class TripleHandlers {
 
         @Override
         public boolean canHandleStreaming(IRI s, IRI p, IRI o) {
-            return false;
+            // a property known to be an object property stays one; assertions between named
+            // individuals need no look ahead
+            return !isStrict() && isOpLax(p) && !isAnon(s) && !isAnon(o);
         }
 
         @Override
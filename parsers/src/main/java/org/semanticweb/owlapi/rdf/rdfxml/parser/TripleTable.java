@@ -0,0 +1,524 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import static org.semanticweb.owlapi.rdf.rdfxml.parser.TermDictionary.NONE;
+import static org.semanticweb.owlapi.rdf.rdfxml.parser.TermDictionary.emptySlots;
+import static org.semanticweb.owlapi.rdf.rdfxml.parser.TermDictionary.mix;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.model.IRI;
+
+/**
+ * Triples with IRI subjects and predicates, stored as int ids from {@link TermDictionary}
+ * instances in primitive arrays. Each subject and predicate pair has an entry, which heads a linked
+ * list of the objects in insertion order; each subject links its entries in insertion order.
+ * Entries and triples are found through open addressing tables, so that all lookups take constant
+ * time. Consumed triples are marked rather than unlinked; once they outnumber the triples left, and
+ * no visit is running, the table is rebuilt with the remaining triples only, so that the space
+ * taken by a parse shrinks as the consumer translates triples.
+ *
+ * @param <O> object type
+ */
+final class TripleTable<O> {
+
+    private static final int INITIAL_CAPACITY = 256;
+    // consumed triples that are always tolerated, so that small tables are not rebuilt repeatedly
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+    private final TermDictionary<IRI> iris;
+    private final TermDictionary<O> objects;
+    // subject and predicate pairs
+    private int[] entrySubject;
+    private int[] entryPredicate;
+    private int[] entryHead;
+    private int[] entryTail;
+    private int[] entrySize;
+    private int[] entryNext;
+    private int[] entrySlots;
+    private int entries;
+    // subjects, indexed by IRI id
+    private int[] subjectFirst;
+    private int[] subjectLast;
+    private int[] subjectOrder;
+    private int subjects;
+    // triples; the object of a consumed triple is stored as its complement
+    private int[] tripleEntry;
+    private int[] tripleObject;
+    private int[] tripleNext;
+    private int[] tripleSlots;
+    private int triples;
+    private int live;
+    // number of visits in progress; entry and triple ids must not change while it is positive
+    private int visiting;
+
+    /**
+     * @param iris dictionary for subjects and predicates
+     * @param objects dictionary for objects
+     */
+    TripleTable(TermDictionary<IRI> iris, TermDictionary<O> objects) {
+        this.iris = iris;
+        this.objects = objects;
+        clear();
+    }
+
+    /**
+     * Visitor for the triples in a table.
+     *
+     * @param <O> object type
+     */
+    @FunctionalInterface
+    interface TripleVisitor<O> {
+
+        /**
+         * @param subject subject
+         * @param predicate predicate
+         * @param object object
+         */
+        void visit(IRI subject, IRI predicate, O object);
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     * @return true if the triple was not in the table
+     */
+    boolean add(IRI subject, IRI predicate, O object) {
+        int e = entry(iris.intern(subject), iris.intern(predicate));
+        return add(e, objects.intern(object));
+    }
+
+    /**
+     * Adds a triple, replacing all triples with the same subject and predicate.
+     *
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     */
+    void put(IRI subject, IRI predicate, O object) {
+        int e = entry(iris.intern(subject), iris.intern(predicate));
+        for (int t = entryHead[e]; t != NONE; t = tripleNext[t]) {
+            if (tripleObject[t] >= 0) {
+                remove(t);
+            }
+        }
+        add(e, objects.intern(object));
+        compactIfNeeded();
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param consume true if the triple returned should be removed
+     * @return object of the first triple with the subject and predicate, or null if there is none
+     */
+    @Nullable
+    O getFirst(IRI subject, IRI predicate, boolean consume) {
+        int e = findEntry(subject, predicate);
+        if (e == NONE || entrySize[e] == 0) {
+            return null;
+        }
+        int t = entryHead[e];
+        O object = objects.get(tripleObject[t]);
+        if (consume) {
+            remove(t);
+            compactIfNeeded();
+        }
+        return object;
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param into collection to add the objects to, in insertion order
+     */
+    void getObjects(IRI subject, IRI predicate, Collection<? super O> into) {
+        int e = findEntry(subject, predicate);
+        if (e == NONE) {
+            return;
+        }
+        for (int t = entryHead[e]; t != NONE; t = tripleNext[t]) {
+            if (tripleObject[t] >= 0) {
+                into.add(objects.get(tripleObject[t]));
+            }
+        }
+    }
+
+    /**
+     * @param subject subject
+     * @param into collection to add the predicates of the subject to, in insertion order
+     */
+    void getPredicates(IRI subject, Collection<? super IRI> into) {
+        int s = iris.find(subject);
+        if (s == NONE || s >= subjectFirst.length) {
+            return;
+        }
+        for (int e = subjectFirst[s]; e != NONE; e = entryNext[e]) {
+            if (entrySize[e] > 0) {
+                into.add(iris.get(entryPredicate[e]));
+            }
+        }
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @return true if there are triples with the subject and predicate
+     */
+    boolean hasPredicate(IRI subject, IRI predicate) {
+        int e = findEntry(subject, predicate);
+        return e != NONE && entrySize[e] > 0;
+    }
+
+    /**
+     * @param subject subject
+     * @param predicate predicate
+     * @param object object
+     * @param consume true if the triple should be removed
+     * @return true if the triple is in the table
+     */
+    boolean contains(IRI subject, IRI predicate, O object, boolean consume) {
+        int e = findEntry(subject, predicate);
+        if (e == NONE || entrySize[e] == 0) {
+            return false;
+        }
+        int o = objects.find(object);
+        if (o == NONE) {
+            return false;
+        }
+        int t = tripleSlots[findTripleSlot(e, o)];
+        if (t == NONE || tripleObject[t] < 0) {
+            return false;
+        }
+        if (consume) {
+            remove(t);
+            compactIfNeeded();
+        }
+        return true;
+    }
+
+    /**
+     * Visits the triples in the table, in insertion order. The visitor can consume triples; the
+     * subjects to visit are fixed when the visit starts, the predicates of a subject when the
+     * subject is reached, and the objects for a predicate when the predicate is reached.
+     *
+     * @param visitor visitor
+     */
+    void forEach(TripleVisitor<O> visitor) {
+        int[] toVisit = new int[subjects];
+        int n = 0;
+        for (int i = 0; i < subjects; i++) {
+            int s = subjectOrder[i];
+            for (int e = subjectFirst[s]; e != NONE; e = entryNext[e]) {
+                if (entrySize[e] > 0) {
+                    toVisit[n++] = s;
+                    break;
+                }
+            }
+        }
+        visiting++;
+        try {
+            for (int i = 0; i < n; i++) {
+                int s = toVisit[i];
+                IRI subject = iris.get(s);
+                for (int e : liveEntries(s)) {
+                    IRI predicate = iris.get(entryPredicate[e]);
+                    for (int o : liveObjects(e)) {
+                        visitor.visit(subject, predicate, objects.get(o));
+                    }
+                }
+            }
+        } finally {
+            visiting--;
+        }
+        compactIfNeeded();
+    }
+
+    private int[] liveEntries(int s) {
+        int n = 0;
+        for (int e = subjectFirst[s]; e != NONE; e = entryNext[e]) {
+            if (entrySize[e] > 0) {
+                n++;
+            }
+        }
+        int[] toReturn = new int[n];
+        n = 0;
+        for (int e = subjectFirst[s]; e != NONE; e = entryNext[e]) {
+            if (entrySize[e] > 0) {
+                toReturn[n++] = e;
+            }
+        }
+        return toReturn;
+    }
+
+    private int[] liveObjects(int e) {
+        int[] toReturn = new int[entrySize[e]];
+        int n = 0;
+        for (int t = entryHead[e]; t != NONE; t = tripleNext[t]) {
+            if (tripleObject[t] >= 0) {
+                toReturn[n++] = tripleObject[t];
+            }
+        }
+        return toReturn;
+    }
+
+    /**
+     * @return number of triples in the table
+     */
+    int size() {
+        return live;
+    }
+
+    /**
+     * @return true if the table has no triples
+     */
+    boolean isEmpty() {
+        return live == 0;
+    }
+
+    /**
+     * @return number of triples the table has room for; used by tests to check that space is
+     *         reclaimed
+     */
+    int capacity() {
+        return tripleEntry.length;
+    }
+
+    /**
+     * Rebuilds the table without consumed triples if they outnumber the triples left. Entry and
+     * triple ids change, so this is only called at the end of public methods, and never during a
+     * visit.
+     */
+    private void compactIfNeeded() {
+        int dead = triples - live;
+        if (visiting > 0 || dead < MIN_DEAD_TO_COMPACT || dead <= live) {
+            return;
+        }
+        int[] oldSubjectOrder = subjectOrder;
+        int oldSubjects = subjects;
+        int[] oldSubjectFirst = subjectFirst;
+        int[] oldEntryPredicate = entryPredicate;
+        int[] oldEntryHead = entryHead;
+        int[] oldEntrySize = entrySize;
+        int[] oldEntryNext = entryNext;
+        int[] oldTripleObject = tripleObject;
+        int[] oldTripleNext = tripleNext;
+        clear();
+        for (int i = 0; i < oldSubjects; i++) {
+            int s = oldSubjectOrder[i];
+            for (int e = oldSubjectFirst[s]; e != NONE; e = oldEntryNext[e]) {
+                if (oldEntrySize[e] == 0) {
+                    continue;
+                }
+                int newEntry = entry(s, oldEntryPredicate[e]);
+                for (int t = oldEntryHead[e]; t != NONE; t = oldTripleNext[t]) {
+                    if (oldTripleObject[t] >= 0) {
+                        add(newEntry, oldTripleObject[t]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all triples. The dictionaries are not cleared.
+     */
+    void clear() {
+        entrySubject = new int[INITIAL_CAPACITY];
+        entryPredicate = new int[INITIAL_CAPACITY];
+        entryHead = new int[INITIAL_CAPACITY];
+        entryTail = new int[INITIAL_CAPACITY];
+        entrySize = new int[INITIAL_CAPACITY];
+        entryNext = new int[INITIAL_CAPACITY];
+        entrySlots = emptySlots(INITIAL_CAPACITY * 2);
+        entries = 0;
+        subjectFirst = emptySlots(INITIAL_CAPACITY);
+        subjectLast = emptySlots(INITIAL_CAPACITY);
+        subjectOrder = new int[INITIAL_CAPACITY];
+        subjects = 0;
+        tripleEntry = new int[INITIAL_CAPACITY];
+        tripleObject = new int[INITIAL_CAPACITY];
+        tripleNext = new int[INITIAL_CAPACITY];
+        tripleSlots = emptySlots(INITIAL_CAPACITY * 2);
+        triples = 0;
+        live = 0;
+    }
+
+    private int findEntry(IRI subject, IRI predicate) {
+        int s = iris.find(subject);
+        if (s == NONE) {
+            return NONE;
+        }
+        int p = iris.find(predicate);
+        if (p == NONE) {
+            return NONE;
+        }
+        return entrySlots[findEntrySlot(s, p)];
+    }
+
+    private int findEntrySlot(int s, int p) {
+        int mask = entrySlots.length - 1;
+        int slot = mix(s * 31 + p) & mask;
+        for (int e = entrySlots[slot]; e != NONE; e = entrySlots[slot]) {
+            if (entrySubject[e] == s && entryPredicate[e] == p) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int entry(int s, int p) {
+        int slot = findEntrySlot(s, p);
+        if (entrySlots[slot] != NONE) {
+            return entrySlots[slot];
+        }
+        int e = entries++;
+        if (e == entrySubject.length) {
+            int n = e * 2;
+            entrySubject = Arrays.copyOf(entrySubject, n);
+            entryPredicate = Arrays.copyOf(entryPredicate, n);
+            entryHead = Arrays.copyOf(entryHead, n);
+            entryTail = Arrays.copyOf(entryTail, n);
+            entrySize = Arrays.copyOf(entrySize, n);
+            entryNext = Arrays.copyOf(entryNext, n);
+        }
+        entrySubject[e] = s;
+        entryPredicate[e] = p;
+        entryHead[e] = NONE;
+        entryTail[e] = NONE;
+        entrySize[e] = 0;
+        entryNext[e] = NONE;
+        entrySlots[slot] = e;
+        if (entries * 2 > entrySlots.length) {
+            rehashEntries(entrySlots.length * 2);
+        }
+        linkToSubject(s, e);
+        return e;
+    }
+
+    private void linkToSubject(int s, int e) {
+        if (s >= subjectFirst.length) {
+            int n = Math.max(subjectFirst.length * 2, iris.size());
+            int old = subjectFirst.length;
+            subjectFirst = Arrays.copyOf(subjectFirst, n);
+            subjectLast = Arrays.copyOf(subjectLast, n);
+            Arrays.fill(subjectFirst, old, n, NONE);
+            Arrays.fill(subjectLast, old, n, NONE);
+        }
+        if (subjectFirst[s] == NONE) {
+            subjectFirst[s] = e;
+            if (subjects == subjectOrder.length) {
+                subjectOrder = Arrays.copyOf(subjectOrder, subjects * 2);
+            }
+            subjectOrder[subjects++] = s;
+        } else {
+            entryNext[subjectLast[s]] = e;
+        }
+        subjectLast[s] = e;
+    }
+
+    private void rehashEntries(int n) {
+        int[] newSlots = emptySlots(n);
+        int mask = n - 1;
+        for (int e = 0; e < entries; e++) {
+            int slot = mix(entrySubject[e] * 31 + entryPredicate[e]) & mask;
+            while (newSlots[slot] != NONE) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = e;
+        }
+        entrySlots = newSlots;
+    }
+
+    private int findTripleSlot(int e, int o) {
+        int mask = tripleSlots.length - 1;
+        int slot = mix(e * 31 + o) & mask;
+        for (int t = tripleSlots[slot]; t != NONE; t = tripleSlots[slot]) {
+            if (tripleEntry[t] == e && (tripleObject[t] == o || tripleObject[t] == ~o)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean add(int e, int o) {
+        int slot = findTripleSlot(e, o);
+        int existing = tripleSlots[slot];
+        if (existing != NONE && tripleObject[existing] >= 0) {
+            return false;
+        }
+        int t = triples++;
+        if (t == tripleEntry.length) {
+            int n = t * 2;
+            tripleEntry = Arrays.copyOf(tripleEntry, n);
+            tripleObject = Arrays.copyOf(tripleObject, n);
+            tripleNext = Arrays.copyOf(tripleNext, n);
+        }
+        tripleEntry[t] = e;
+        tripleObject[t] = o;
+        tripleNext[t] = NONE;
+        // a consumed triple added again goes to the end of the list, as a new triple
+        tripleSlots[slot] = t;
+        if (existing == NONE && triples * 2 > tripleSlots.length) {
+            rehashTriples(tripleSlots.length * 2);
+        }
+        if (entryTail[e] == NONE) {
+            entryHead[e] = t;
+        } else {
+            tripleNext[entryTail[e]] = t;
+        }
+        entryTail[e] = t;
+        entrySize[e]++;
+        live++;
+        return true;
+    }
+
+    private void rehashTriples(int n) {
+        int[] newSlots = emptySlots(n);
+        int mask = n - 1;
+        for (int t : tripleSlots) {
+            if (t != NONE) {
+                int o = tripleObject[t] < 0 ? ~tripleObject[t] : tripleObject[t];
+                int slot = mix(tripleEntry[t] * 31 + o) & mask;
+                while (newSlots[slot] != NONE) {
+                    slot = (slot + 1) & mask;
+                }
+                newSlots[slot] = t;
+            }
+        }
+        tripleSlots = newSlots;
+    }
+
+    private void remove(int t) {
+        int e = tripleEntry[t];
+        tripleObject[t] = ~tripleObject[t];
+        live--;
+        if (--entrySize[e] == 0) {
+            // drop the list of consumed triples
+            entryHead[e] = NONE;
+            entryTail[e] = NONE;
+        } else if (entryHead[e] == t) {
+            int head = tripleNext[t];
+            while (tripleObject[head] < 0) {
+                head = tripleNext[head];
+            }
+            entryHead[e] = head;
+        }
+    }
+}
@@ -244,6 +244,40 @@ public class XMLWriterImpl implements XMLWriter {
         }
     }
 
+    /**
+     * Creates a writer for a part of the content of the current element. The part is written to
+     * its own writer, with the namespaces, base and indentation of this writer, and added to the
+     * document with {@link #writePart(String)}. Parts of the same element can be written by
+     * different threads, as long as this writer is not used until they are added.
+     *
+     * @param partWriter writer for the part
+     * @return writer for the part
+     */
+    public XMLWriterImpl partWriter(PrintWriter partWriter) {
+        XMLWriterImpl part =
+            new XMLWriterImpl(partWriter, xmlWriterNamespaceManager, xmlBase, xmlPreferences);
+        part.preambleWritten = true;
+        for (int i = 0; i < elementStack.size(); i++) {
+            // the enclosing elements are written by this writer
+            XMLElement element = part.new XMLElement(null, i);
+            element.startWritten = true;
+            part.elementStack.push(element);
+        }
+        return part;
+    }
+
+    /**
+     * @param part the output of a writer created by {@link #partWriter(PrintWriter)} for the
+     *        current element
+     */
+    public void writePart(String part) {
+        XMLElement topElement = elementStack.peek();
+        if (topElement != null) {
+            topElement.writeElementStart(false);
+        }
+        writer.write(part);
+    }
+
     @Override
     public void endDocument() {
         // Pop of each element
@@ -0,0 +1,86 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormatFactory;
+import org.semanticweb.owlapi.io.AbstractOWLParser;
+import org.semanticweb.owlapi.io.DocumentSources;
+import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
+import org.semanticweb.owlapi.io.OWLOntologyInputSourceException;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
+import org.semanticweb.owlapi.model.OWLDocumentFormatFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyBulkLoader;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.SetOntologyID;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+
+/**
+ * Reads binary snapshots written by {@link BinarySnapshotStorer}. Axioms are added through a
+ * {@link OWLOntologyBulkLoader}, so that the ontology indexes are built in bulk.
+ */
+public class BinarySnapshotParser extends AbstractOWLParser {
+
+    @Override
+    public OWLDocumentFormatFactory getSupportedFormat() {
+        return new BinarySnapshotDocumentFormatFactory();
+    }
+
+    @Override
+    public OWLDocumentFormat parse(OWLOntologyDocumentSource source, OWLOntology ontology,
+        OWLOntologyLoaderConfiguration config) {
+        OWLOntologyManager manager = ontology.getOWLOntologyManager();
+        OWLDataFactory df = manager.getOWLDataFactory();
+        try (InputStream in = DocumentSources.wrapInput(source, config)) {
+            SnapshotReader reader = new SnapshotReader(in, df,
+                new RemappingIndividualProvider(manager.getOntologyConfigurator(), df));
+            reader.readDictionary();
+            IRI ontologyIRI = reader.optionalIRI();
+            IRI versionIRI = reader.optionalIRI();
+            manager.applyChange(
+                new SetOntologyID(ontology, new OWLOntologyID(ontologyIRI, versionIRI)));
+            for (IRI iri : reader.list(IRI.class)) {
+                OWLImportsDeclaration declaration = df.getOWLImportsDeclaration(iri);
+                manager.applyChange(new AddImport(ontology, declaration));
+                manager.makeLoadImportRequest(declaration, config);
+            }
+            for (OWLAnnotation annotation : reader.list(OWLAnnotation.class)) {
+                manager.applyChange(new AddOntologyAnnotation(ontology, annotation));
+            }
+            try (OWLOntologyBulkLoader loader = ontology.bulkLoader()) {
+                for (int type = reader.varint(); type > 0; type = reader.varint()) {
+                    int count = reader.length("axiom count");
+                    for (int i = 0; i < count; i++) {
+                        loader.add(reader.axiom(type - 1));
+                    }
+                }
+            }
+            return new BinarySnapshotDocumentFormat();
+        } catch (IOException | OWLOntologyInputSourceException e) {
+            throw new OWLParserException(e);
+        }
+    }
+}
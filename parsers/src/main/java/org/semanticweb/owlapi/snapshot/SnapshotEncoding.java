@@ -0,0 +1,40 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot;
+
+import java.nio.charset.StandardCharsets;
+
+import org.semanticweb.owlapi.formats.BinarySnapshotDocumentFormat;
+import org.semanticweb.owlapi.io.BinaryOWLObjectWriter;
+
+/**
+ * Layout shared by the binary snapshot reader and writer. A snapshot is:
+ * <ol>
+ * <li>the ASCII bytes of {@link BinarySnapshotDocumentFormat#MAGIC} and the format version;</li>
+ * <li>the string table: a count, then each string as its UTF-8 length and bytes;</li>
+ * <li>the IRI table: a count, then each IRI as the string ids of its namespace and remainder;</li>
+ * <li>the ontology IRI and version IRI, as IRI id plus one, zero when absent;</li>
+ * <li>the imports, as a count of IRI ids, and the ontology annotations;</li>
+ * <li>one section per axiom type present: the axiom type index plus one, the number of axioms and
+ * the axioms, written without their type code; a zero ends the sections.</li>
+ * </ol>
+ * Numbers and objects are encoded as described in {@link BinaryOWLObjectWriter}.
+ */
+final class SnapshotEncoding {
+
+    static final byte[] MAGIC =
+        BinarySnapshotDocumentFormat.MAGIC.getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+
+    private SnapshotEncoding() {}
+}
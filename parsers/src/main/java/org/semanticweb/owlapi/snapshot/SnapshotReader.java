@@ -0,0 +1,190 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import org.semanticweb.owlapi.io.BinaryOWLObjectCodes;
+import org.semanticweb.owlapi.io.BinaryOWLObjectReader;
+import org.semanticweb.owlapi.io.OWLParserException;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnonymousIndividual;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.util.RemappingIndividualProvider;
+
+/**
+ * Decodes a snapshot written by {@link SnapshotWriter}. The reader keeps its own buffer, so that
+ * reading single bytes does not go through the synchronized methods of buffered streams, and reuses
+ * one entity instance per IRI and entity type. Lengths and dictionary ids are checked as they are
+ * read; errors report the offset in the snapshot where the problem was found.
+ */
+class SnapshotReader extends BinaryOWLObjectReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private final InputStream in;
+    private final RemappingIndividualProvider anonProvider;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    // bytes read before the start of the buffer
+    private long consumed = 0;
+    private String[] strings = new String[0];
+    private IRI[] iris = new IRI[0];
+    private final OWLEntity[][] entities = new OWLEntity[BinaryOWLObjectCodes.size()][];
+
+    /**
+     * @param in stream to read
+     * @param df data factory to build objects with
+     * @param anonProvider provider for anonymous individuals
+     */
+    SnapshotReader(InputStream in, OWLDataFactory df, RemappingIndividualProvider anonProvider) {
+        super(df);
+        this.in = in;
+        this.anonProvider = anonProvider;
+    }
+
+    /**
+     * Reads the magic number, the version and the dictionary.
+     *
+     * @throws IOException if the stream cannot be read
+     * @throws OWLParserException if the stream does not start with a supported snapshot
+     */
+    void readDictionary() throws IOException {
+        for (byte b : SnapshotEncoding.MAGIC) {
+            // a document shorter than the magic number is not a truncated snapshot
+            if (!fill() || readByte() != b) {
+                throw new OWLParserException("Not an ontology snapshot");
+            }
+        }
+        int version = varint();
+        if (version != SnapshotEncoding.VERSION) {
+            throw error("Unsupported ontology snapshot version: " + version);
+        }
+        strings = new String[length("string count")];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = utf8(length("string length"));
+        }
+        iris = new IRI[length("IRI count")];
+        for (int i = 0; i < iris.length; i++) {
+            String namespace = string(varint());
+            iris[i] = IRI.create(namespace, string(varint()));
+        }
+    }
+
+    /**
+     * @return an IRI written as id plus one, or null if absent
+     * @throws IOException if the stream cannot be read
+     */
+    @Nullable
+    IRI optionalIRI() throws IOException {
+        int id = varint();
+        return id == 0 ? null : iri(id - 1);
+    }
+
+    @Override
+    protected String string(int id) {
+        if (id < 0 || id >= strings.length) {
+            throw error("String id out of range: " + id);
+        }
+        return strings[id];
+    }
+
+    @Override
+    protected IRI iri(int id) {
+        if (id < 0 || id >= iris.length) {
+            throw error("IRI id out of range: " + id);
+        }
+        return iris[id];
+    }
+
+    @Override
+    protected OWLParserException error(String message) {
+        return new OWLParserException(message + " at offset " + (consumed + position));
+    }
+
+    @Override
+    protected OWLAnonymousIndividual anonymousIndividual(String id) {
+        return anonProvider.getOWLAnonymousIndividual(id);
+    }
+
+    @Override
+    protected OWLEntity entity(int typeIndex, EntityType<?> type, int id) {
+        // checks the id
+        iri(id);
+        int code = BinaryOWLObjectCodes.code(typeIndex);
+        OWLEntity[] cache = entities[code];
+        if (cache == null) {
+            cache = new OWLEntity[iris.length];
+            entities[code] = cache;
+        }
+        OWLEntity e = cache[id];
+        if (e == null) {
+            e = df.getOWLEntity(type, iris[id]);
+            cache[id] = e;
+        }
+        return e;
+    }
+
+    private boolean fill() throws IOException {
+        if (position == limit) {
+            consumed += limit;
+            limit = Math.max(0, in.read(buffer, 0, buffer.length));
+            position = 0;
+        }
+        return position < limit;
+    }
+
+    @Override
+    protected int readByte() throws IOException {
+        if (!fill()) {
+            throw new EOFException("Ontology snapshot is truncated at offset " + consumed);
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private String utf8(int length) throws IOException {
+        if (length <= limit - position) {
+            String s = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return s;
+        }
+        long start = consumed + position;
+        // grown as bytes arrive, so that a corrupted length fails as truncated, not out of memory
+        byte[] bytes = new byte[Math.min(length, BUFFER_SIZE * 2)];
+        int buffered = limit - position;
+        System.arraycopy(buffer, position, bytes, 0, buffered);
+        position = limit;
+        int copied = buffered;
+        while (copied < length) {
+            if (copied == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int read = in.read(bytes, copied, bytes.length - copied);
+            if (read < 0) {
+                throw new EOFException("Ontology snapshot is truncated at offset " + (start + copied));
+            }
+            copied += read;
+        }
+        // the bytes read past the buffer are consumed, as if they had been buffered
+        consumed += length - buffered;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
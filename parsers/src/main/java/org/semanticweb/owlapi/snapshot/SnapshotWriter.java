@@ -0,0 +1,77 @@
+/* This file is part of the OWL API.
+ * The contents of this file are subject to the LGPL License, Version 3.0.
+ * Copyright 2014, The University of Manchester
+ * 
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program.  If not, see http://www.gnu.org/licenses/.
+ *
+ * Alternatively, the contents of this file may be used under the terms of the Apache License, Version 2.0 in which case, the provisions of the Apache License Version 2.0 are applicable instead of those above.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License. You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions and limitations under the License. */
+package org.semanticweb.owlapi.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.semanticweb.owlapi.io.BinaryOWLObjectWriter;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+
+/**
+ * Encodes an ontology as described in {@link SnapshotEncoding}. The dictionary is only complete once
+ * all axioms have been visited, so the axioms are encoded in memory first and written after the
+ * dictionary.
+ */
+class SnapshotWriter {
+
+    private final BinaryOWLObjectWriter body = new BinaryOWLObjectWriter();
+
+    /**
+     * @param ontology ontology to write
+     * @param out stream to write to; not closed
+     * @throws IOException if the stream cannot be written
+     */
+    void write(OWLOntology ontology, OutputStream out) throws IOException {
+        OWLOntologyID id = ontology.getOntologyID();
+        optionalIRI(id.getOntologyIRI());
+        optionalIRI(id.getVersionIRI());
+        body.component(ontology.importsDeclarations().map(i -> i.getIRI()));
+        body.component(ontology.annotations());
+        for (AxiomType<?> type : AxiomType.AXIOM_TYPES) {
+            int count = ontology.getAxiomCount(type);
+            if (count > 0) {
+                body.varint(type.getIndex() + 1);
+                body.varint(count);
+                ontology.axioms(type).forEach(body::components);
+            }
+        }
+        body.varint(0);
+        // the head only uses the buffer of a second writer, not its dictionary
+        BinaryOWLObjectWriter head = new BinaryOWLObjectWriter();
+        head.bytes(SnapshotEncoding.MAGIC);
+        head.varint(SnapshotEncoding.VERSION);
+        head.varint(body.getStrings().size());
+        for (String s : body.getStrings()) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            head.varint(utf8.length);
+            head.bytes(utf8);
+        }
+        head.varint(body.getIRICount());
+        for (int i = 0; i < body.getIRICount(); i++) {
+            head.varint(body.getNamespaceId(i));
+            head.varint(body.getRemainderId(i));
+        }
+        head.writeTo(out);
+        body.writeTo(out);
+    }
+
+    private void optionalIRI(Optional<IRI> iri) {
+        body.varint(iri.isPresent() ? body.iriId(iri.get()) + 1 : 0);
+    }
+}
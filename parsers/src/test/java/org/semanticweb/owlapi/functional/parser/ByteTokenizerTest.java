@@ -0,0 +1,79 @@
+package org.semanticweb.owlapi.functional.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.StringReader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+@SuppressWarnings("javadoc")
+public class ByteTokenizerTest {
+
+    private static final String TEXT = "Prefix(:=<urn:t#>)\n"
+        + "Prefix(xsd:=<http://www.w3.org/2001/XMLSchema#>)\nOntology(<urn:o>\n# comment (\n"
+        + "Declaration(Class(:A))\tSubClassOf(:A ObjectMinCardinality(12 :p :B))\r\n"
+        + "AnnotationAssertion(rdfs:label :A \"caf\u00e9 \\\"\u2603\\\" \\\\\n2\"@en)\n"
+        + "DataPropertyAssertion(:d _:x \"1\"^^xsd:integer)\n"
+        + "DatatypeRestriction(xsd:decimal fractionDigits \"2\"^^xsd:integer)\n"
+        + "ClassAssertion(<urn:t#\u00e9> <urn:t#\u00e9>) ^x ^\u00e9 \"bad\\escape\" <unterminated";
+
+    private static List<Token> tokens(TokenManager tokenizer) {
+        List<Token> tokens = new ArrayList<>();
+        for (Token t = tokenizer.getNextToken(); t.kind != 0; t = tokenizer.getNextToken()) {
+            tokens.add(t);
+        }
+        return tokens;
+    }
+
+    private static ByteBuffer bytes(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldProduceSameTokensAsCustomTokenizer() {
+        List<Token> expected = tokens(new CustomTokenizer(new StringReader(TEXT)));
+        List<Token> actual = tokens(new ByteTokenizer(bytes(TEXT)));
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Token e = expected.get(i);
+            Token a = actual.get(i);
+            assertEquals(e.image, e.kind, a.kind);
+            assertEquals(e.image, a.image);
+            assertEquals(e.image, e.beginLine, a.beginLine);
+        }
+    }
+
+    @Test
+    public void shouldReadDirectBuffersAndSkipByteOrderMark() {
+        byte[] content = ("\uFEFF" + TEXT).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(content.length);
+        direct.put(content);
+        // cast, so that the Java 8 runtime finds Buffer.flip()
+        ((Buffer) direct).flip();
+        List<Token> expected = tokens(new ByteTokenizer(bytes(TEXT)));
+        List<Token> actual = tokens(new ByteTokenizer(direct));
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).image, actual.get(i).image);
+        }
+    }
+
+    @Test
+    public void shouldShareNamesAndResolveIRIs() {
+        List<Token> tokens =
+            tokens(new ByteTokenizer(bytes("SubClassOf(:A <urn:t#B>) :A <urn:t#B>")));
+        assertSame(tokens.get(2).image, tokens.get(5).image);
+        Object iri = tokens.get(3).getValue();
+        assertEquals(IRI.create("urn:t#B"), iri);
+        assertSame(iri, tokens.get(6).getValue());
+        assertNull(tokens.get(2).getValue());
+    }
+}
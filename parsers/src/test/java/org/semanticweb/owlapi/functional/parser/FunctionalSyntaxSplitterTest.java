@@ -0,0 +1,43 @@
+package org.semanticweb.owlapi.functional.parser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class FunctionalSyntaxSplitterTest {
+
+    private static final String HEADER =
+        "Prefix(:=<urn:t#>)\nOntology(<urn:o> Import(<urn:i>)\nAnnotation(:p \"(\")\n";
+
+    @Test
+    public void shouldSplitAtAxioms() {
+        String text = HEADER + "SubClassOf(:A :B)\nSubClassOf(:B :C)\n)";
+        int first = HEADER.length();
+        int second = text.indexOf("\nSubClassOf(:B");
+        assertArrayEquals(new int[] {first, second, text.length() - 1},
+            FunctionalSyntaxSplitter.split(text, 1));
+        assertArrayEquals(new int[] {first, text.length() - 1},
+            FunctionalSyntaxSplitter.split(text, 1000));
+    }
+
+    @Test
+    public void shouldSkipLiteralsIRIsAndComments() {
+        String axiom = "AnnotationAssertion(:p :A \"a)\\\")\") # x)\n";
+        String iri = "SubClassOf(<urn:t#(> :B)";
+        String text = HEADER + axiom + iri + ")\n# )\n";
+        assertArrayEquals(
+            new int[] {HEADER.length(), HEADER.length() + axiom.length() - 6,
+                text.indexOf(")\n# )")},
+            FunctionalSyntaxSplitter.split(text, 1));
+    }
+
+    @Test
+    public void shouldNotSplitUnexpectedStructure() {
+        assertNull(FunctionalSyntaxSplitter.split(HEADER + ")", 1));
+        assertNull(FunctionalSyntaxSplitter.split(HEADER + "SubClassOf(:A :B)", 1));
+        assertNull(FunctionalSyntaxSplitter.split(HEADER + "SubClassOf(:A :B))) x", 1));
+        assertNull(FunctionalSyntaxSplitter.split(HEADER + "SubClassOf(:A \"B)", 1));
+    }
+}
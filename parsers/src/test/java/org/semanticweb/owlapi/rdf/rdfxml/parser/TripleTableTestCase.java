@@ -0,0 +1,134 @@
+package org.semanticweb.owlapi.rdf.rdfxml.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+
+@SuppressWarnings("javadoc")
+public class TripleTableTestCase {
+
+    private final TermDictionary<IRI> iris = new TermDictionary<>();
+    private final TripleTable<IRI> table = new TripleTable<>(iris, iris);
+    private final IRI s = iri("s");
+    private final IRI t = iri("t");
+    private final IRI p = iri("p");
+    private final IRI q = iri("q");
+
+    private static IRI iri(String name) {
+        return IRI.create("urn:test:", name);
+    }
+
+    private List<IRI> objects(IRI subject, IRI predicate) {
+        List<IRI> list = new ArrayList<>();
+        table.getObjects(subject, predicate, list);
+        return list;
+    }
+
+    @Test
+    public void shouldKeepInsertionOrderAndIgnoreDuplicates() {
+        assertTrue(table.add(s, p, iri("c")));
+        assertTrue(table.add(s, p, iri("a")));
+        assertTrue(table.add(s, q, iri("b")));
+        assertFalse(table.add(s, p, iri("c")));
+        assertEquals(3, table.size());
+        assertEquals(Arrays.asList(iri("c"), iri("a")), objects(s, p));
+        List<IRI> predicates = new ArrayList<>();
+        table.getPredicates(s, predicates);
+        assertEquals(Arrays.asList(p, q), predicates);
+        assertTrue(objects(t, p).isEmpty());
+    }
+
+    @Test
+    public void shouldConsumeTriples() {
+        table.add(s, p, iri("a"));
+        table.add(s, p, iri("b"));
+        table.add(s, p, iri("c"));
+        assertTrue(table.contains(s, p, iri("b"), true));
+        assertFalse(table.contains(s, p, iri("b"), false));
+        assertEquals(iri("a"), table.getFirst(s, p, true));
+        assertEquals(iri("c"), table.getFirst(s, p, false));
+        assertTrue(table.hasPredicate(s, p));
+        assertEquals(iri("c"), table.getFirst(s, p, true));
+        assertNull(table.getFirst(s, p, true));
+        assertFalse(table.hasPredicate(s, p));
+        assertTrue(table.isEmpty());
+        List<IRI> predicates = new ArrayList<>();
+        table.getPredicates(s, predicates);
+        assertTrue(predicates.isEmpty());
+        // a consumed triple can be added again
+        assertTrue(table.add(s, p, iri("b")));
+        assertEquals(Arrays.asList(iri("b")), objects(s, p));
+    }
+
+    @Test
+    public void shouldReplaceSingleValues() {
+        table.put(s, p, iri("a"));
+        table.put(s, p, iri("b"));
+        assertEquals(1, table.size());
+        assertEquals(Arrays.asList(iri("b")), objects(s, p));
+    }
+
+    @Test
+    public void shouldVisitRemainingTriplesWhileConsuming() {
+        table.add(s, p, iri("a"));
+        table.add(s, q, iri("b"));
+        table.add(t, p, iri("c"));
+        List<String> visited = new ArrayList<>();
+        table.forEach((x, y, z) -> {
+            visited.add(z.getRemainder().get());
+            // consuming a triple not visited yet means it is skipped
+            table.contains(t, p, iri("c"), true);
+        });
+        assertEquals(Arrays.asList("a", "b"), visited);
+    }
+
+    @Test
+    public void shouldGrowPastInitialCapacity() {
+        for (int i = 0; i < 10000; i++) {
+            table.add(iri("s" + i % 100), iri("p" + i % 7), iri("o" + i));
+        }
+        assertEquals(10000, table.size());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(table.contains(iri("s" + i % 100), iri("p" + i % 7), iri("o" + i), true));
+        }
+        assertTrue(table.isEmpty());
+        table.clear();
+        iris.clear();
+        assertEquals(0, iris.size());
+        assertNull(table.getFirst(s, p, false));
+    }
+
+    @Test
+    public void shouldReclaimConsumedTriples() {
+        int n = 10000;
+        for (int i = 0; i < n; i++) {
+            table.add(iri("s" + i % 100), iri("p" + i % 7), iri("o" + i));
+        }
+        int full = table.capacity();
+        for (int i = 0; i < n; i++) {
+            if (i % 10 != 0) {
+                assertTrue(table.contains(iri("s" + i % 100), iri("p" + i % 7), iri("o" + i), true));
+            }
+        }
+        assertEquals(n / 10, table.size());
+        assertTrue(table.capacity() < full / 4);
+        for (int i = 0; i < n; i += 10) {
+            assertTrue(table.contains(iri("s" + i % 100), iri("p" + i % 7), iri("o" + i), false));
+        }
+        List<IRI> expected = new ArrayList<>();
+        for (int i = 0; i < n; i += 10) {
+            if (i % 100 == 0 && i % 7 == 0) {
+                expected.add(iri("o" + i));
+            }
+        }
+        assertEquals(expected, objects(iri("s0"), iri("p0")));
+    }
+}
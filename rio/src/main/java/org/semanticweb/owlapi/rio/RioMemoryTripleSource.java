@@ -40,6 +40,7 @@ import static org.semanticweb.owlapi.util.OWLAPIPreconditions.checkNotNull;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.eclipse.rdf4j.RDF4JException;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
@@ -47,8 +48,10 @@ import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Namespace;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.util.Namespaces;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
 import org.semanticweb.owlapi.io.OWLOntologyDocumentSource;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
 
 /**
  * An implementation of the OWLOntologyDocumentSource interface that does not
@@ -64,6 +67,7 @@ public class RioMemoryTripleSource implements OWLOntologyDocumentSource {
     private final Map<String, String> namespaces = new LinkedHashMap<>();
     private final Iterator<Statement> statementIterator;
     private final IRI documentIRI;
+    private OWLDocumentFormat format = new NTriplesDocumentFormat();
     /**
      * Creates a RioMemoryTripleSource using an {@link Iterable} of
      * {@link Statement} objects.
@@ -141,6 +145,23 @@ public class RioMemoryTripleSource implements OWLOntologyDocumentSource {
         return documentIRI;
     }
 
+    /**
+     * The statements are passed one at a time to the consumer, whatever the format; the format
+     * only selects the parser, and is reported as the format of the loaded ontology. N-Triples by
+     * default.
+     */
+    @Override
+    public Optional<OWLDocumentFormat> getFormat() {
+        return Optional.of(format);
+    }
+
+    /**
+     * @param format format to report for the statements; must be supported by a Rio parser
+     */
+    public void setFormat(OWLDocumentFormat format) {
+        this.format = checkNotNull(format, "format cannot be null");
+    }
+
     @Override
     public boolean hasAlredyFailedOnStreams() {
         return false;
@@ -42,10 +42,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.net.MalformedURLException;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -265,7 +263,8 @@ public class RioParserImpl extends AbstractOWLParser implements RioParser {
 
         private static final Logger LOG = LoggerFactory.getLogger(RioParserRDFHandler.class);
         private final RDFHandler consumer;
-        private final Set<Resource> typedLists = new HashSet<>();
+        @Nullable
+        private Resource lastTypedList;
         private final ValueFactory vf = SimpleValueFactory.getInstance();
         private long owlParseStart;
 
@@ -309,10 +308,12 @@ public class RioParserImpl extends AbstractOWLParser implements RioParser {
         public void handleStatement(@Nullable Statement nextStatement) {
             checkNotNull(nextStatement);
             assert nextStatement != null;
-            if (nextStatement.getPredicate().equals(RDF.FIRST)
-                || nextStatement.getPredicate().equals(RDF.REST)) {
-                if (!typedLists.contains(nextStatement.getSubject())) {
-                    typedLists.add(nextStatement.getSubject());
+            // list nodes are typed when their rdf:first triple is seen; only the last typed node is
+            // remembered, so that memory use does not grow with the document. Duplicate rdf:List
+            // types are harmless, as they carry no information for the consumer
+            if (nextStatement.getPredicate().equals(RDF.FIRST)) {
+                if (!nextStatement.getSubject().equals(lastTypedList)) {
+                    lastTypedList = nextStatement.getSubject();
                     try {
                         consumer.handleStatement(
                             vf.createStatement(nextStatement.getSubject(), RDF.TYPE, RDF.LIST));
@@ -323,12 +324,8 @@ public class RioParserImpl extends AbstractOWLParser implements RioParser {
                 }
             } else if (nextStatement.getPredicate().equals(RDF.TYPE)
                 && nextStatement.getObject().equals(RDF.LIST)) {
-                if (!typedLists.contains(nextStatement.getSubject())) {
-                    LOG.debug("Explicit list type found={}", nextStatement);
-                    typedLists.add(nextStatement.getSubject());
-                } else {
-                    LOG.debug("duplicate rdf:type rdf:List statements found={}", nextStatement);
-                }
+                LOG.debug("Explicit list type found={}", nextStatement);
+                lastTypedList = nextStatement.getSubject();
             }
             try {
                 consumer.handleStatement(nextStatement);
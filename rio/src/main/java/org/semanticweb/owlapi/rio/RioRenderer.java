@@ -142,6 +142,12 @@ public class RioRenderer extends RDFRendererBase {
         writeComment("");
     }
 
+    @Override
+    protected void releaseRenderedState() {
+        super.releaseRenderedState();
+        renderedStatements.clear();
+    }
+
     @Override
     protected void writeAnnotationPropertyComment(OWLAnnotationProperty prop) {
         writeComment(prop.getIRI().toString());